@@ -1,11 +1,12 @@
 package com.APP.Project.UserCoreLogic.Container;
 
-import com.APP.Project.UserCoreLogic.UserCoreLogic;
+import com.APP.Project.UserCoreLogic.GameContext;
 import com.APP.Project.UserCoreLogic.game_entities.Continent;
 import com.APP.Project.UserCoreLogic.exceptions.EntityNotFoundException;
+import com.APP.Project.UserCoreLogic.map_features.MapEditorEngine;
 
+import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * This class search for the Continent entity.
@@ -14,6 +15,39 @@ import java.util.stream.Collectors;
  * @version 1.0
  */
 public class ContinentContainer {
+    /**
+     * Game context to search in. If it is null, the game context in use at the time of the search is used.
+     */
+    private final GameContext d_gameContext;
+
+    /**
+     * Creates the repository which searches the game context in use at the time of the search.
+     */
+    public ContinentContainer() {
+        this(null);
+    }
+
+    /**
+     * Creates the repository bound to the game context.
+     *
+     * @param p_gameContext Game context to search in.
+     */
+    public ContinentContainer(GameContext p_gameContext) {
+        d_gameContext = p_gameContext;
+    }
+
+    /**
+     * Gets the engine of the game context this repository searches in.
+     *
+     * @return Value of the engine.
+     */
+    private MapEditorEngine getMapEditorEngine() {
+        if (d_gameContext != null) {
+            return d_gameContext.getMapEditorEngine();
+        }
+        return GameContext.current().getMapEditorEngine();
+    }
+
     /**
      * Finds the continent using it's continent name.
      *
@@ -21,9 +55,11 @@ public class ContinentContainer {
      * @return Value of the list of matched continents.
      */
     public List<Continent> findByContinentName(String p_continentName) {
-        return UserCoreLogic.getGameEngine().getMapEditorEngine().getContinentList().stream().filter(p_continent ->
-                p_continent.getContinentName().equals(p_continentName)
-        ).collect(Collectors.toList());
+        Continent l_continent = this.getMapEditorEngine().findContinentByName(p_continentName);
+        if (l_continent != null) {
+            return Collections.singletonList(l_continent);
+        }
+        return Collections.emptyList();
     }
 
     /**
@@ -34,9 +70,9 @@ public class ContinentContainer {
      * @throws EntityNotFoundException Throws If no continent with the specified name can be found.
      */
     public Continent findFirstByContinentName(String p_continentName) throws EntityNotFoundException {
-        List<Continent> l_continentList = this.findByContinentName(p_continentName);
-        if (l_continentList.size() > 0)
-            return l_continentList.get(0);
+        Continent l_continent = this.getMapEditorEngine().findContinentByName(p_continentName);
+        if (l_continent != null)
+            return l_continent;
         throw new EntityNotFoundException(String.format("'%s' continent not found", p_continentName));
     }
 
@@ -48,11 +84,9 @@ public class ContinentContainer {
      * @throws EntityNotFoundException Throws If no continent with the given ID can be located.
      */
     public Continent findByContinentId(Integer p_continentId) throws EntityNotFoundException {
-        List<Continent> l_continentList = UserCoreLogic.getGameEngine().getMapEditorEngine().getContinentList().stream().filter(p_continent ->
-                p_continent.getContinentId().equals(p_continentId)
-        ).collect(Collectors.toList());
-        if (!l_continentList.isEmpty()) {
-            return l_continentList.get(0);
+        Continent l_continent = this.getMapEditorEngine().findContinentById(p_continentId);
+        if (l_continent != null) {
+            return l_continent;
         }
         throw new EntityNotFoundException(String.format("Continent with %s id not found!", p_continentId));
     }
@@ -1,9 +1,11 @@
 package com.APP.Project.UserCoreLogic.Container;
 
-import com.APP.Project.UserCoreLogic.UserCoreLogic;
+import com.APP.Project.UserCoreLogic.GameContext;
 import com.APP.Project.UserCoreLogic.game_entities.Country;
 import com.APP.Project.UserCoreLogic.exceptions.EntityNotFoundException;
+import com.APP.Project.UserCoreLogic.map_features.MapEditorEngine;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -14,6 +16,39 @@ import java.util.stream.Collectors;
  * @version 1.0
  */
 public class CountryContainer {
+    /**
+     * Game context to search in. If it is null, the game context in use at the time of the search is used.
+     */
+    private final GameContext d_gameContext;
+
+    /**
+     * Creates the repository which searches the game context in use at the time of the search.
+     */
+    public CountryContainer() {
+        this(null);
+    }
+
+    /**
+     * Creates the repository bound to the game context.
+     *
+     * @param p_gameContext Game context to search in.
+     */
+    public CountryContainer(GameContext p_gameContext) {
+        d_gameContext = p_gameContext;
+    }
+
+    /**
+     * Gets the engine of the game context this repository searches in.
+     *
+     * @return Value of the engine.
+     */
+    private MapEditorEngine getMapEditorEngine() {
+        if (d_gameContext != null) {
+            return d_gameContext.getMapEditorEngine();
+        }
+        return GameContext.current().getMapEditorEngine();
+    }
+
     /**
      * Searches for countries based on their names. This method retrieves a list of countries that match the provided name,
      * accommodating instances where multiple countries may share similar or identical names or when partial matches are considered.
@@ -22,9 +57,11 @@ public class CountryContainer {
      * @return A list of countries that match the given name.
      */
     public List<Country> findByCountryName(String p_countryName) {
-        return UserCoreLogic.getGameEngine().getMapEditorEngine().getCountryList().stream().filter(p_country ->
-                p_country.getCountryName().equals(p_countryName)
-        ).collect(Collectors.toList());
+        Country l_country = this.getMapEditorEngine().findCountryByName(p_countryName);
+        if (l_country != null) {
+            return Collections.singletonList(l_country);
+        }
+        return Collections.emptyList();
     }
 
     /**
@@ -37,9 +74,9 @@ public class CountryContainer {
      *
      */
     public Country findFirstByCountryName(String p_countryName) throws EntityNotFoundException {
-        List<Country> l_countryList = this.findByCountryName(p_countryName);
-        if (l_countryList.size() > 0)
-            return l_countryList.get(0);
+        Country l_country = this.getMapEditorEngine().findCountryByName(p_countryName);
+        if (l_country != null)
+            return l_country;
 
         throw new EntityNotFoundException(String.format("'%s' country not found", p_countryName));
     }
@@ -51,14 +88,7 @@ public class CountryContainer {
      * @return The country corresponding to the specified ID.
      */
     public Country findByCountryId(Integer p_countryId) {
-        List<Country> l_countries = UserCoreLogic.getGameEngine().getMapEditorEngine().getCountryList().stream().filter(p_country ->
-                p_country.getCountryId().equals(p_countryId)
-        ).collect(Collectors.toList());
-        if (!l_countries.isEmpty()) {
-            return l_countries.get(0);
-        } else {
-            return null;
-        }
+        return this.getMapEditorEngine().findCountryById(p_countryId);
     }
 
     /**
@@ -68,7 +98,7 @@ public class CountryContainer {
      * @return A list of countries that border the specified country.
      */
     public List<Country> findByNeighbourOfCountries(Country p_country) {
-        return UserCoreLogic.getGameEngine().getMapEditorEngine().getCountryList().stream().filter(p_l_country ->
+        return this.getMapEditorEngine().getCountryList().stream().filter(p_l_country ->
                 !p_l_country.equals(p_country) && p_l_country.getNeighbourCountries().contains(p_country)
         ).collect(Collectors.toList());
     }
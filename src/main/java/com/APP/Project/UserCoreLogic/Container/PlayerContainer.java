@@ -1,11 +1,9 @@
 package com.APP.Project.UserCoreLogic.Container;
 
-import com.APP.Project.UserCoreLogic.UserCoreLogic;
+import com.APP.Project.UserCoreLogic.GameContext;
 import com.APP.Project.UserCoreLogic.game_entities.Player;
 import com.APP.Project.UserCoreLogic.exceptions.EntityNotFoundException;
-
-import java.util.List;
-import java.util.stream.Collectors;
+import com.APP.Project.UserCoreLogic.gamePlay.GamePlayEngine;
 
 /**
  * This class finds the <code>Player</code> entity from the runtime engine.
@@ -14,6 +12,39 @@ import java.util.stream.Collectors;
  * @version 1.0
  */
 public class PlayerContainer {
+    /**
+     * Game context to search in. If it is null, the game context in use at the time of the search is used.
+     */
+    private final GameContext d_gameContext;
+
+    /**
+     * Creates the repository which searches the game context in use at the time of the search.
+     */
+    public PlayerContainer() {
+        this(null);
+    }
+
+    /**
+     * Creates the repository bound to the game context.
+     *
+     * @param p_gameContext Game context to search in.
+     */
+    public PlayerContainer(GameContext p_gameContext) {
+        d_gameContext = p_gameContext;
+    }
+
+    /**
+     * Gets the engine of the game context this repository searches in.
+     *
+     * @return Value of the engine.
+     */
+    private GamePlayEngine getGamePlayEngine() {
+        if (d_gameContext != null) {
+            return d_gameContext.getGamePlayEngine();
+        }
+        return GameContext.current().getGamePlayEngine();
+    }
+
     /**
      * Retrieves a specific <code>Player</code> based on their name.
      *
@@ -22,11 +53,9 @@ public class PlayerContainer {
      * @throws EntityNotFoundException Throws If no player with the given name can be found.
      */
     public Player findByPlayerName(String p_playerName) throws EntityNotFoundException {
-        List<Player> l_filteredPlayerList = UserCoreLogic.getGameEngine().getGamePlayEngine().getPlayerList().stream().filter(p_player ->
-                p_player.getName().equals(p_playerName)
-        ).collect(Collectors.toList());
-        if (l_filteredPlayerList.size() > 0)
-            return l_filteredPlayerList.get(0);
+        Player l_player = this.getGamePlayEngine().findPlayerByName(p_playerName);
+        if (l_player != null)
+            return l_player;
         throw new EntityNotFoundException(String.format("'%s' player not found", p_playerName));
     }
 
@@ -37,8 +66,6 @@ public class PlayerContainer {
      * @return True if a player with the same name exists; otherwise, false.
      */
     public boolean existByPlayerName(String p_playerName) {
-        return UserCoreLogic.getGameEngine().getGamePlayEngine().getPlayerList().stream().filter(p_player ->
-                p_player.getName().equals(p_playerName)
-        ).count() == 1;
+        return this.getGamePlayEngine().findPlayerByName(p_playerName) != null;
     }
 }
@@ -0,0 +1,173 @@
+package com.APP.Project.UserCoreLogic;
+
+import com.APP.Project.UserCoreLogic.gamePlay.GamePlayEngine;
+import com.APP.Project.UserCoreLogic.logger.LogEntryBuffer;
+import com.APP.Project.UserCoreLogic.map_features.MapEditorEngine;
+
+/**
+ * Holds everything a single game needs at runtime: its <code>GameEngine</code>, the logger the game writes to and the
+ * tournament it is part of.
+ * <p>
+ * The application runs in the application context. A context can be bound to a thread, in which case the engines,
+ * repositories, orders and strategies used on that thread resolve this context instead. This lets more than one game
+ * advance in the same JVM without interfering with each other.
+ * </p>
+ *
+ * @author Jayati Thakkar
+ * @version 1.0
+ */
+public class GameContext {
+    /**
+     * Context of the application. Used by the threads which do not have any context bound.
+     */
+    private static final GameContext d_ApplicationContext = new GameContext(null);
+
+    /**
+     * Context bound to the current thread.
+     */
+    private static final ThreadLocal<GameContext> d_BoundContext = new ThreadLocal<>();
+
+    /**
+     * Game engine of this context.
+     */
+    private volatile GameEngine d_gameEngine;
+
+    /**
+     * Logger used by the game of this context.
+     */
+    private final LogEntryBuffer d_logEntryBuffer;
+
+    /**
+     * Tournament this game is part of. The tournament engine of the application is used if it is not set.
+     */
+    private final TournamentEngine d_tournamentEngine;
+
+    /**
+     * Creates the context for the game engine using the logger of the application.
+     *
+     * @param p_gameEngine Value of the game engine.
+     */
+    public GameContext(GameEngine p_gameEngine) {
+        this(p_gameEngine, LogEntryBuffer.getApplicationLogger(), null);
+    }
+
+    /**
+     * Creates the context for the game engine.
+     *
+     * @param p_gameEngine       Value of the game engine.
+     * @param p_logEntryBuffer   Logger used by the game.
+     * @param p_tournamentEngine Tournament the game is part of; null to use the tournament engine of the application.
+     */
+    public GameContext(GameEngine p_gameEngine, LogEntryBuffer p_logEntryBuffer, TournamentEngine p_tournamentEngine) {
+        d_gameEngine = p_gameEngine;
+        d_logEntryBuffer = p_logEntryBuffer;
+        d_tournamentEngine = p_tournamentEngine;
+    }
+
+    /**
+     * Gets the context bound to the current thread. If no context is bound, the context of the application is returned.
+     *
+     * @return Value of the context.
+     */
+    public static GameContext current() {
+        GameContext l_boundContext = d_BoundContext.get();
+        if (l_boundContext != null) {
+            return l_boundContext;
+        }
+        return d_ApplicationContext;
+    }
+
+    /**
+     * Gets the context of the application.
+     *
+     * @return Value of the context.
+     */
+    public static GameContext getApplicationContext() {
+        return d_ApplicationContext;
+    }
+
+    /**
+     * Binds this context to the current thread.
+     */
+    public void bind() {
+        d_BoundContext.set(this);
+    }
+
+    /**
+     * Removes the context bound to the current thread. The thread uses the context of the application afterwards.
+     */
+    public static void unbind() {
+        d_BoundContext.remove();
+    }
+
+    /**
+     * Binds the context again after another context was bound for a while. The thread is left without a bound
+     * context if the context was the one of the application.
+     *
+     * @param p_previousContext Context returned by <code>current()</code> before the other context was bound.
+     */
+    public static void restore(GameContext p_previousContext) {
+        if (p_previousContext == d_ApplicationContext) {
+            unbind();
+        } else {
+            p_previousContext.bind();
+        }
+    }
+
+    /**
+     * Gets the game engine of this context.
+     *
+     * @return Value of the game engine.
+     */
+    public GameEngine getGameEngine() {
+        return d_gameEngine;
+    }
+
+    /**
+     * Sets the game engine of this context.
+     *
+     * @param p_gameEngine Value of the game engine.
+     */
+    public void setGameEngine(GameEngine p_gameEngine) {
+        d_gameEngine = p_gameEngine;
+    }
+
+    /**
+     * Gets the map-editor engine of the game engine of this context.
+     *
+     * @return Value of the map-editor engine.
+     */
+    public MapEditorEngine getMapEditorEngine() {
+        return d_gameEngine.getMapEditorEngine();
+    }
+
+    /**
+     * Gets the game-play engine of the game engine of this context.
+     *
+     * @return Value of the game-play engine.
+     */
+    public GamePlayEngine getGamePlayEngine() {
+        return d_gameEngine.getGamePlayEngine();
+    }
+
+    /**
+     * Gets the logger used by the game of this context.
+     *
+     * @return Value of the logger.
+     */
+    public LogEntryBuffer getLogger() {
+        return d_logEntryBuffer;
+    }
+
+    /**
+     * Gets the tournament the game of this context is part of.
+     *
+     * @return Value of the tournament engine.
+     */
+    public TournamentEngine getTournamentEngine() {
+        if (d_tournamentEngine != null) {
+            return d_tournamentEngine;
+        }
+        return TournamentEngine.getInstance();
+    }
+}
@@ -1,5 +1,6 @@
 package com.APP.Project.UserCoreLogic;
 
+import com.APP.Project.UserCoreLogic.common.services.AutosaveWriter;
 import com.APP.Project.UserCoreLogic.constants.interfaces.JSONable;
 import com.APP.Project.UserCoreLogic.exceptions.InvalidGameException;
 import com.APP.Project.UserCoreLogic.exceptions.ResourceNotFoundException;
@@ -8,9 +9,13 @@ import com.APP.Project.UserCoreLogic.logger.LogEntryBuffer;
 import com.APP.Project.UserCoreLogic.logger.LogWriter;
 import com.APP.Project.UserCoreLogic.map_features.MapEditorEngine;
 import com.APP.Project.UserCoreLogic.phases.*;
+import com.APP.Project.UserCoreLogic.Utility.JSONStreamReader;
+import com.APP.Project.UserCoreLogic.Utility.JSONStreamWriter;
 import org.json.JSONException;
 import org.json.JSONObject;
 
+import java.io.IOException;
+
 /**
  * This Game Engine creates an environment for the entire game for the user to play.
  *
@@ -35,6 +40,11 @@ public class GameEngine  implements JSONable {
 
     private boolean d_isTournamentModeOn = false;
 
+    /**
+     * Autosave of the game at the end of each turn; null if the game is not autosaved.
+     */
+    private AutosaveWriter d_autosave;
+
     /**
      * Gets the instance of the <code>GameEngine</code> class.
      *
@@ -74,15 +84,19 @@ public class GameEngine  implements JSONable {
     public void shutdown() {
         d_mapEditorEngine.shutdown();
         d_gamePlayEngine.shutdown();
+        this.setAutosave(null);
     }
 
     /**
-     * Sets new phase for the game.
+     * Sets new phase for the game and records the change in the journal of the game, if any.
      *
      * @param p_gamePhase New value of the game phase.
      */
     public void setGamePhase(Phase p_gamePhase) {
         d_gameState = p_gamePhase;
+        if (d_gamePlayEngine != null && d_gamePlayEngine.getJournal() != null) {
+            d_gamePlayEngine.getJournal().phaseChanged(d_gamePlayEngine.getExecutionIndex(), p_gamePhase.getClass().getSimpleName());
+        }
     }
 
     /**
@@ -131,6 +145,31 @@ public class GameEngine  implements JSONable {
         d_gamePlayEngine = p_gamePlayEngine;
     }
 
+    /**
+     * Gets the autosave of the game.
+     *
+     * @return Value of the autosave; null if the game is not autosaved.
+     */
+    public AutosaveWriter getAutosave() {
+        return d_autosave;
+    }
+
+    /**
+     * Sets the autosave of the game, closing the previous one.
+     *
+     * @param p_autosave Value of the autosave; null to stop autosaving.
+     */
+    public void setAutosave(AutosaveWriter p_autosave) {
+        if (d_autosave != null && d_autosave != p_autosave) {
+            try {
+                d_autosave.close();
+            } catch (IOException p_ioException) {
+                // The autosave has already written its records.
+            }
+        }
+        d_autosave = p_autosave;
+    }
+
     /**
      * Check if the tournament mode is on.
      *
@@ -161,6 +200,20 @@ public class GameEngine  implements JSONable {
         return l_gameEngineJSON;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeJSON(JSONStreamWriter p_writer) throws IOException {
+        p_writer.beginObject();
+        p_writer.name("map_editor");
+        this.getMapEditorEngine().writeJSON(p_writer);
+        p_writer.name("game_pay");
+        this.getGamePlayEngine().writeJSON(p_writer);
+        p_writer.name("phase").value(this.getGamePhase().getClass().getSimpleName());
+        p_writer.endObject();
+    }
+
     public static GameEngine fromJSON(JSONObject p_jsonObject) throws InvalidGameException {
         try {
             // Create and load GameEngine.
@@ -170,22 +223,91 @@ public class GameEngine  implements JSONable {
             MapEditorEngine.fromJSON(p_jsonObject.getJSONObject("map_editor"), l_gameEngine);
             GamePlayEngine l_gamePlayEngine = GamePlayEngine.fromJSON(p_jsonObject.getJSONObject("game_pay"), l_gameEngine);
 
-            // Set the game phase.
-            // The phase can be only from the following.
-            String l_phaseString = p_jsonObject.getString("phase");
-            if (l_phaseString.equals(Preload.class.getSimpleName())) {
-                l_gameEngine.setGamePhase(new Preload(l_gameEngine));
-            } else if (l_phaseString.equals(PostLoad.class.getSimpleName())) {
-                l_gameEngine.setGamePhase(new PostLoad(l_gameEngine));
-            } else if (l_phaseString.equals(PlaySetup.class.getSimpleName())) {
-                l_gameEngine.setGamePhase(new PlaySetup(l_gameEngine));
-            } else if (l_phaseString.equals(IssueOrder.class.getSimpleName())) {
-                l_gameEngine.setGamePhase(new IssueOrder(l_gameEngine));
-                l_gamePlayEngine.startGameLoop();
+            restoreGamePhase(l_gameEngine, l_gamePlayEngine, p_jsonObject.getString("phase"));
+            return l_gameEngine;
+        } catch (JSONException p_jsonException) {
+            throw new InvalidGameException("Missing values or the corrupted game file!");
+        }
+    }
+
+    /**
+     * Creates the game from the saved document, reading it member by member instead of building the
+     * <code>JSONObject</code> of the whole game first. The countries and players are found through the indexes of the
+     * engines, so the game is loaded in time linear in the size of the document.
+     *
+     * @param p_reader Reader positioned before the document of the game.
+     * @return Created game engine.
+     * @throws InvalidGameException If the document is corrupted or misses values.
+     * @throws IOException          If the document can not be read.
+     */
+    public static GameEngine readJSON(JSONStreamReader p_reader) throws InvalidGameException, IOException {
+        try {
+            // Create and load GameEngine.
+            GameEngine l_gameEngine = new GameEngine();
+            UserCoreLogic.setGameEngine(l_gameEngine);
+
+            boolean l_isMapRead = false;
+            // The players refer to the countries, so the game play read before the map waits for it.
+            JSONObject l_pendingGamePlayJSON = null;
+            GamePlayEngine l_gamePlayEngine = null;
+            String l_phaseString = null;
+            p_reader.beginObject();
+            while (p_reader.hasNext()) {
+                String l_name = p_reader.nextName();
+                if (l_name.equals("map_editor")) {
+                    MapEditorEngine.readJSON(p_reader, l_gameEngine);
+                    l_isMapRead = true;
+                } else if (l_name.equals("game_pay") && l_isMapRead) {
+                    l_gamePlayEngine = GamePlayEngine.readJSON(p_reader, l_gameEngine);
+                } else if (l_name.equals("game_pay")) {
+                    Object l_gamePlayJSON = p_reader.nextValue();
+                    if (!(l_gamePlayJSON instanceof JSONObject)) {
+                        throw new JSONException("game_pay is not an object");
+                    }
+                    l_pendingGamePlayJSON = (JSONObject) l_gamePlayJSON;
+                } else if (l_name.equals("phase")) {
+                    l_phaseString = p_reader.nextString();
+                } else {
+                    p_reader.skipValue();
+                }
+            }
+            p_reader.endObject();
+
+            if (!l_isMapRead || l_phaseString == null || (l_gamePlayEngine == null && l_pendingGamePlayJSON == null)) {
+                throw new JSONException("Missing section of the game");
+            }
+            if (l_gamePlayEngine == null) {
+                l_gamePlayEngine = GamePlayEngine.fromJSON(l_pendingGamePlayJSON, l_gameEngine);
             }
+            restoreGamePhase(l_gameEngine, l_gamePlayEngine, l_phaseString);
             return l_gameEngine;
         } catch (JSONException p_jsonException) {
             throw new InvalidGameException("Missing values or the corrupted game file!");
         }
     }
+
+    /**
+     * Sets the phase of the loaded game, and starts the game loop if the game was saved while issuing the orders.
+     *
+     * @param p_gameEngine     Loaded game engine.
+     * @param p_gamePlayEngine Loaded game play engine.
+     * @param p_phaseString    Name of the saved phase.
+     */
+    public static void restoreGamePhase(GameEngine p_gameEngine, GamePlayEngine p_gamePlayEngine, String p_phaseString) {
+        // The phase can be only from the following.
+        if (p_phaseString.equals(Preload.class.getSimpleName())) {
+            p_gameEngine.setGamePhase(new Preload(p_gameEngine));
+        } else if (p_phaseString.equals(PostLoad.class.getSimpleName())) {
+            p_gameEngine.setGamePhase(new PostLoad(p_gameEngine));
+        } else if (p_phaseString.equals(PlaySetup.class.getSimpleName())) {
+            p_gameEngine.setGamePhase(new PlaySetup(p_gameEngine));
+        } else if (p_phaseString.equals(IssueOrder.class.getSimpleName())) {
+            p_gameEngine.setGamePhase(new IssueOrder(p_gameEngine));
+            p_gamePlayEngine.startGameLoop();
+        } else if (p_phaseString.equals(Reinforcement.class.getSimpleName())) {
+            // Autosaved at the end of a turn.
+            p_gameEngine.setGamePhase(new Reinforcement(p_gameEngine));
+            p_gamePlayEngine.startGameLoop();
+        }
+    }
 }
\ No newline at end of file
@@ -2,20 +2,34 @@ package com.APP.Project.UserCoreLogic;
 
 import com.APP.Project.UserCoreLogic.GameEngine;
 import com.APP.Project.UserCoreLogic.UserCoreLogic;
+import com.APP.Project.UserCoreLogic.constants.enums.LogCategory;
+import com.APP.Project.UserCoreLogic.constants.enums.LogLevel;
+import com.APP.Project.UserCoreLogic.exceptions.GameLoopIllegalStateException;
+import com.APP.Project.UserCoreLogic.exceptions.ResourceNotFoundException;
 import com.APP.Project.UserCoreLogic.exceptions.UserCoreLogicException;
 import com.jakewharton.fliptables.FlipTable;
 import com.APP.Project.UserCoreLogic.game_entities.Player;
+import com.APP.Project.UserCoreLogic.logger.EventJournal;
 import com.APP.Project.UserCoreLogic.logger.LogEntryBuffer;
+import com.APP.Project.UserCoreLogic.logger.LogWriter;
 import com.APP.Project.UserCoreLogic.gamePlay.GameLoop;
 import com.APP.Project.UserCoreLogic.gamePlay.GamePlayEngine;
+import com.APP.Project.UserCoreLogic.gamePlay.GameRandom;
 import com.APP.Project.UserCoreLogic.game_entities.GameResult;
 import com.APP.Project.UserCoreLogic.gamePlay.services.CountryDistributionService;
 import com.APP.Project.UserCoreLogic.map_features.MapEditorEngine;
+import com.APP.Project.UserCoreLogic.map_features.MapTemplate;
+import com.APP.Project.UserCoreLogic.map_features.MapTemplateCache;
 import com.APP.Project.UserCoreLogic.map_features.adapters.EditMapService;
 import com.APP.Project.UserCoreLogic.phases.PlaySetup;
 import com.APP.Project.UserCoreLogic.Utility.FindFilePathUtil;
 
+import java.io.File;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * This engine will be used when user has entered `tournament` command.
@@ -54,7 +68,22 @@ public class TournamentEngine {
      */
     private int d_maxNumberOfTurns;
 
-    private LogEntryBuffer d_logEntryBuffer = LogEntryBuffer.getLogger();
+    /**
+     * Number of worker threads used to play the games. The games are played one after another if it is one.
+     */
+    private int d_numberOfThreads = 1;
+
+    /**
+     * Seed of the random numbers of the tournament; null to draw a seed when the tournament starts.
+     */
+    private Long d_seed;
+
+    /**
+     * Seed the last tournament was played with. It is shown with the results so the tournament can be played again.
+     */
+    private long d_playedSeed;
+
+    private LogEntryBuffer d_logEntryBuffer = LogEntryBuffer.getApplicationLogger();
 
     /**
      * Main game loop.
@@ -81,6 +110,8 @@ public class TournamentEngine {
         d_mapFileList = new ArrayList<>();
         d_players = new ArrayList<>();
         d_playedGameEngineMappings = new HashMap<>();
+        d_numberOfThreads = 1;
+        d_seed = null;
     }
 
     /**
@@ -134,6 +165,43 @@ public class TournamentEngine {
         d_maxNumberOfTurns = p_maxNumberOfTurns;
     }
 
+    /**
+     * Gets the number of worker threads used to play the games of this tournament.
+     *
+     * @return Value of the number of threads.
+     */
+    public int getNumberOfThreads() {
+        return d_numberOfThreads;
+    }
+
+    /**
+     * Sets the number of worker threads used to play the games of this tournament.
+     *
+     * @param p_numberOfThreads Number of threads. Games are played one after another if it is one.
+     */
+    public void setNumberOfThreads(int p_numberOfThreads) {
+        d_numberOfThreads = p_numberOfThreads;
+    }
+
+    /**
+     * Gets the seed of the random numbers of this tournament.
+     *
+     * @return Value of the seed; null if a seed is drawn when the tournament starts.
+     */
+    public Long getSeed() {
+        return d_seed;
+    }
+
+    /**
+     * Sets the seed of the random numbers of this tournament. Each game gets a source of its own split from the seed in
+     * the order of the games, so the tournament is played the same way again whatever the number of threads.
+     *
+     * @param p_seed Value of the seed; null to draw a seed when the tournament starts.
+     */
+    public void setSeed(Long p_seed) {
+        d_seed = p_seed;
+    }
+
     /**
      * Sets the List of Players this tournament can have.
      *
@@ -161,6 +229,15 @@ public class TournamentEngine {
         d_mapFileList = p_mapFileList;
     }
 
+    /**
+     * Gets the played <code>GameEngine</code>s of this tournament mapped to their game index.
+     *
+     * @return Map of the game index and the engines played for each map.
+     */
+    public Map<Integer, List<GameEngine>> getPlayedGameEngineMappings() {
+        return d_playedGameEngineMappings;
+    }
+
     /**
      * Clones the player for the current iteration of tournament.
      *
@@ -178,6 +255,10 @@ public class TournamentEngine {
      * Starts the tournament. This will create a <code>GameEngine</code> using MapEditor and GamePlay engines. It will
      * also record the <code>GameEngine</code> to the list.
      * <p>
+     * If the number of threads is more than one, the games are played on a pool of worker threads, each game bound to
+     * its own <code>GameEngine</code>. The engines are recorded in the same order as the sequential run.
+     * </p>
+     * <p>
      * If any error occurred while the game is in the loop, it will set the game result as interrupted.
      * </p>
      *
@@ -185,39 +266,200 @@ public class TournamentEngine {
      * @throws UserCoreLogicException If any exception while executing the tournament.
      */
     public void onStart(boolean p_ignorePath) throws UserCoreLogicException {
-        for (int d_currentGameIndex = 0; d_currentGameIndex < d_numberOfGames; d_currentGameIndex++) {
-            for (String l_mapFilePath : d_mapFileList) {
-                GamePlayEngine l_gamePlayEngine = new GamePlayEngine();
-                GameEngine l_gameEngine = new GameEngine(new MapEditorEngine(), l_gamePlayEngine);
-                // Prepare GameEngine for this tournament round.
-                UserCoreLogic.setGameEngine(l_gameEngine);
-
-                EditMapService l_editMapService = new EditMapService();
+        GameRandom l_tournamentRandom = d_seed == null ? GameRandom.unseeded() : new GameRandom(d_seed);
+        d_playedSeed = l_tournamentRandom.getSeed();
+        if (d_numberOfThreads > 1) {
+            this.playInParallel(p_ignorePath, l_tournamentRandom);
+        } else {
+            for (int d_currentGameIndex = 0; d_currentGameIndex < d_numberOfGames; d_currentGameIndex++) {
+                for (int l_mapIndex = 0; l_mapIndex < d_mapFileList.size(); l_mapIndex++) {
+                    String l_mapFilePath = d_mapFileList.get(l_mapIndex);
+                    EventJournal l_journal = this.openJournal(String.format("game%d_map%d", d_currentGameIndex + 1, l_mapIndex + 1));
+                    try {
+                        GameEngine l_gameEngine = this.prepareGameEngine(l_mapFilePath, p_ignorePath, d_logEntryBuffer,
+                                l_journal, l_tournamentRandom.split());
+                        this.recordGameEngine(d_currentGameIndex, l_gameEngine);
+                        d_gameLoop = new GameLoop(l_gameEngine.getGamePlayEngine());
+                        d_gameLoop.run();
+                    } finally {
+                        if (l_journal != null) {
+                            l_journal.close();
+                        }
+                    }
+                }
+            }
+        }
+        this.onComplete();
+    }
 
-                // Loading the map data will first remove the old at EditMapService
-                l_editMapService.handleLoadMap(p_ignorePath ? l_mapFilePath : FindFilePathUtil.resolveFilePath(l_mapFilePath), false);
+    /**
+     * Plays all the games of the tournament on a bounded pool of worker threads. Each worker binds the
+     * <code>GameEngine</code> of its game to itself, so the games do not share the map, players or execution index.
+     * Each game writes its log to a channel and a file of its own.
+     *
+     * @param p_ignorePath       Ignore adding the user-data-directory path.
+     * @param p_tournamentRandom Random numbers of the tournament, split for each game in the order of the games.
+     * @throws UserCoreLogicException If any exception while preparing or playing a game.
+     */
+    private void playInParallel(boolean p_ignorePath, GameRandom p_tournamentRandom) throws UserCoreLogicException {
+        int l_numberOfJobs = d_numberOfGames * d_mapFileList.size();
+        if (l_numberOfJobs == 0) {
+            return;
+        }
+        ExecutorService l_executor = Executors.newFixedThreadPool(Math.min(d_numberOfThreads, l_numberOfJobs));
+        List<Future<GameEngine>> l_playedGames = new ArrayList<>();
+        try {
+            for (int l_gameIndex = 0; l_gameIndex < d_numberOfGames; l_gameIndex++) {
+                for (int l_mapIndex = 0; l_mapIndex < d_mapFileList.size(); l_mapIndex++) {
+                    String l_mapFilePath = d_mapFileList.get(l_mapIndex);
+                    String l_channelName = String.format("game%d_map%d", l_gameIndex + 1, l_mapIndex + 1);
+                    GameRandom l_gameRandom = p_tournamentRandom.split();
+                    l_playedGames.add(l_executor.submit(() -> this.playGame(l_mapFilePath, p_ignorePath, l_channelName, l_gameRandom)));
+                }
+            }
+            // Futures are in the order of submission, hence the engines are recorded as the sequential run does.
+            int l_futureIndex = 0;
+            for (int l_gameIndex = 0; l_gameIndex < d_numberOfGames; l_gameIndex++) {
+                for (int l_mapIndex = 0; l_mapIndex < d_mapFileList.size(); l_mapIndex++) {
+                    this.recordGameEngine(l_gameIndex, l_playedGames.get(l_futureIndex++).get());
+                }
+            }
+        } catch (ExecutionException p_executionException) {
+            if (p_executionException.getCause() instanceof UserCoreLogicException) {
+                throw (UserCoreLogicException) p_executionException.getCause();
+            }
+            throw new GameLoopIllegalStateException("Tournament game failed!", p_executionException.getCause());
+        } catch (InterruptedException p_interruptedException) {
+            Thread.currentThread().interrupt();
+            throw new GameLoopIllegalStateException("Tournament interrupted!", p_interruptedException);
+        } finally {
+            l_executor.shutdownNow();
+        }
+    }
 
-                l_gamePlayEngine.setPlayerList(this.getPlayers());
+    /**
+     * Prepares and plays a single game on the calling worker thread. The game logs to a channel of its own, written to
+     * its own file until the game is over, and records its events to a journal of its own.
+     *
+     * @param p_mapFilePath Path of the map file for this game.
+     * @param p_ignorePath  Ignore adding the user-data-directory path.
+     * @param p_channelName Name of the log channel of this game.
+     * @param p_random      Random numbers of this game.
+     * @return Value of the played game engine.
+     * @throws UserCoreLogicException If any exception while preparing the game.
+     */
+    private GameEngine playGame(String p_mapFilePath, boolean p_ignorePath, String p_channelName, GameRandom p_random)
+            throws UserCoreLogicException {
+        LogEntryBuffer l_logChannel = LogEntryBuffer.newChannel(p_channelName);
+        LogWriter l_logWriter = null;
+        try {
+            l_logWriter = new LogWriter(l_logChannel);
+        } catch (ResourceNotFoundException p_e) {
+            // The game is played without writing its log.
+            UserCoreLogic.getInstance().stderr(String.format("Log file of %s can not be created!", p_channelName));
+        }
+        EventJournal l_journal = this.openJournal(p_channelName);
+        try {
+            GameEngine l_gameEngine = this.prepareGameEngine(p_mapFilePath, p_ignorePath, l_logChannel, l_journal, p_random);
+            new GameLoop(l_gameEngine.getGamePlayEngine()).run();
+            return l_gameEngine;
+        } finally {
+            GameContext.unbind();
+            if (l_logWriter != null) {
+                l_logWriter.close();
+            }
+            if (l_journal != null) {
+                l_journal.close();
+            }
+        }
+    }
 
-                CountryDistributionService l_distributeCountriesService = new CountryDistributionService();
-                l_distributeCountriesService.execute(new ArrayList<>());
+    /**
+     * Creates the journal of a game in the log directory.
+     *
+     * @param p_name Name of the game.
+     * @return Value of the journal; null if the journal file can not be created.
+     */
+    private EventJournal openJournal(String p_name) {
+        try {
+            return EventJournal.create(p_name);
+        } catch (ResourceNotFoundException p_e) {
+            // The game is played without a journal.
+            UserCoreLogic.getInstance().stderr(String.format("Journal of %s can not be created!", p_name));
+            return null;
+        }
+    }
 
-                // Tournament will start from PlaySetup phase.
-                l_gameEngine.setGamePhase(new PlaySetup(l_gameEngine));
+    /**
+     * Creates the <code>GameEngine</code> for one round of the tournament, loads the map and distributes the countries.
+     * The engine is bound to the calling thread if the games are played in parallel; otherwise it is set as the game
+     * engine of the application.
+     *
+     * @param p_mapFilePath Path of the map file for this game.
+     * @param p_ignorePath  Ignore adding the user-data-directory path.
+     * @param p_logChannel  Log channel of the game if it is played in parallel.
+     * @param p_journal     Journal of the game; null if the game is not journaled.
+     * @param p_random      Random numbers of the game.
+     * @return Value of the prepared game engine.
+     * @throws UserCoreLogicException If any exception while loading the map or distributing the countries.
+     */
+    private GameEngine prepareGameEngine(String p_mapFilePath, boolean p_ignorePath, LogEntryBuffer p_logChannel,
+                                         EventJournal p_journal, GameRandom p_random) throws UserCoreLogicException {
+        synchronized (MapEditorEngine.getMapLoadingLock()) {
+            GamePlayEngine l_gamePlayEngine = new GamePlayEngine();
+            l_gamePlayEngine.setRandom(p_random);
+            GameEngine l_gameEngine = new GameEngine(new MapEditorEngine(), l_gamePlayEngine);
+            // Prepare GameEngine for this tournament round.
+            if (d_numberOfThreads > 1) {
+                new GameContext(l_gameEngine, p_logChannel, this).bind();
+            } else {
+                UserCoreLogic.setGameEngine(l_gameEngine);
+            }
+            l_gamePlayEngine.setJournal(p_journal);
+
+            // Loading the map data will first remove the old at EditMapService
+            String l_mapFilePath = p_ignorePath ? p_mapFilePath : FindFilePathUtil.resolveFilePath(p_mapFilePath);
+            File l_mapFile = new File(l_mapFilePath);
+            MapTemplate l_mapTemplate = MapTemplateCache.getInstance().get(l_mapFile);
+            if (l_mapTemplate != null) {
+                // The map was parsed for an earlier game; its countries are copied without owners and armies.
+                l_mapTemplate.createMap(l_gameEngine.getMapEditorEngine());
+            } else {
+                EditMapService l_editMapService = new EditMapService();
+                l_editMapService.handleLoadMap(l_mapFilePath, false);
+                MapTemplateCache.getInstance().put(l_mapFile, new MapTemplate(l_gameEngine.getMapEditorEngine()));
+            }
 
-                // If the game index exists, it will add the GameEngine to the list; otherwise it will create a singleton list.
-                if (d_playedGameEngineMappings.containsKey(d_currentGameIndex)) {
-                    d_playedGameEngineMappings.get(d_currentGameIndex).add(l_gameEngine);
-                } else {
-                    List<GameEngine> l_gameEngineList = new ArrayList<>();
-                    l_gameEngineList.add(l_gameEngine);
-                    d_playedGameEngineMappings.put(d_currentGameIndex, l_gameEngineList);
-                }
-                d_gameLoop = new GameLoop(l_gamePlayEngine);
-                d_gameLoop.run();
+            l_gamePlayEngine.setPlayerList(this.getPlayers());
+            if (p_journal != null) {
+                p_journal.mapLoaded(l_mapFilePath);
+                p_journal.playersJoined(l_gamePlayEngine.getPlayerList());
             }
+
+            CountryDistributionService l_distributeCountriesService = new CountryDistributionService();
+            l_distributeCountriesService.execute(new ArrayList<>());
+
+            // Tournament will start from PlaySetup phase.
+            l_gameEngine.setGamePhase(new PlaySetup(l_gameEngine));
+            return l_gameEngine;
+        }
+    }
+
+    /**
+     * Records the played <code>GameEngine</code> against its game index.
+     *
+     * @param p_gameIndex  Index of the game.
+     * @param p_gameEngine Value of the game engine.
+     */
+    private void recordGameEngine(int p_gameIndex, GameEngine p_gameEngine) {
+        // If the game index exists, it will add the GameEngine to the list; otherwise it will create a singleton list.
+        if (d_playedGameEngineMappings.containsKey(p_gameIndex)) {
+            d_playedGameEngineMappings.get(p_gameIndex).add(p_gameEngine);
+        } else {
+            List<GameEngine> l_gameEngineList = new ArrayList<>();
+            l_gameEngineList.add(p_gameEngine);
+            d_playedGameEngineMappings.put(p_gameIndex, l_gameEngineList);
         }
-        this.onComplete();
     }
 
     /**
@@ -238,6 +480,7 @@ public class TournamentEngine {
         l_builder.append("P: " + l_playerNames.toString() + "\n");
         l_builder.append("G: " + this.getNumberOfGames() + "\n");
         l_builder.append("D: " + this.getMaxNumberOfTurns() + "\n");
+        l_builder.append("S: " + d_playedSeed + "\n");
 
         for (int l_row = 0; l_row < d_mapFileList.size(); l_row++) {
             l_gameResultMatrix[l_row][0] = String.format("%s", d_mapFileList.get(l_row));
@@ -271,7 +514,7 @@ public class TournamentEngine {
         }
 
         String l_tournamentData = l_builder + FlipTable.of(l_gameHeader, l_gameResultMatrix);
-        d_logEntryBuffer.dataChanged("tournament", l_tournamentData);
+        d_logEntryBuffer.dataChanged(LogLevel.INFO, LogCategory.TOURNAMENT, "tournament", () -> l_tournamentData);
 
         UserCoreLogic.getInstance().stdout(l_tournamentData);
     }
@@ -19,8 +19,6 @@ import java.util.concurrent.Future;
 public class UserCoreLogic {
     private static UserCoreLogic d_Instance;
 
-    private static GameEngine d_gameEngine;
-
     private InterfaceCoreMiddleware d_userInterfaceMiddleware;
 
     private final ExecutorService d_executor = Executors.newFixedThreadPool(10);
@@ -33,9 +31,12 @@ public class UserCoreLogic {
      * @return the instance of the same class
      */
     public static UserCoreLogic newInstance() {
+        if (d_Instance != null && d_Instance.d_logWriter != null) {
+            d_Instance.d_logWriter.close();
+        }
         d_Instance = new UserCoreLogic();
-        d_gameEngine = new GameEngine();
-        d_Instance.d_logEntryBuffer = LogEntryBuffer.getLogger();
+        GameContext.getApplicationContext().setGameEngine(new GameEngine());
+        d_Instance.d_logEntryBuffer = LogEntryBuffer.getApplicationLogger();
         try {
             d_Instance.d_logWriter = new LogWriter(d_Instance.d_logEntryBuffer);
         } catch (ResourceNotFoundException p_e) {
@@ -59,6 +60,9 @@ public class UserCoreLogic {
         getGameEngine().shutdown();
         TOURNAMENT_ENGINE().shutdown();
         UserCoreLogic.getInstance().stdout("Shutting down...");
+        if (UserCoreLogic.getInstance().d_logWriter != null) {
+            UserCoreLogic.getInstance().d_logWriter.close();
+        }
     }
 
     /**
@@ -69,6 +73,15 @@ public class UserCoreLogic {
         d_userInterfaceMiddleware = p_userInterfaceMiddleware;
     }
 
+    /**
+     * Gets the writer of the application log, to set the levels and categories written to the file.
+     *
+     * @return Value of the log writer; null if the log file could not be created.
+     */
+    public LogWriter getLogWriter() {
+        return d_logWriter;
+    }
+
     /**
      * it returns an instance of <code>UserCoreLogic</code> class we created earlier.
      * @return the instance
@@ -82,21 +95,21 @@ public class UserCoreLogic {
     }
 
     /**
-     * Sets the game engine to store runtime information of the game.
+     * Sets the game engine of the game context in use.
      *
      * @param p_gameEngine Value of the game engine.
      */
     public static void setGameEngine(GameEngine p_gameEngine) {
-        d_gameEngine = p_gameEngine;
+        GameContext.current().setGameEngine(p_gameEngine);
     }
 
     /**
-     * Gets game engine to store runtime information of the game.
+     * Gets game engine of the game context in use to store runtime information of the game.
      *
      * @return Value of the game engine.
      */
     public static GameEngine getGameEngine() {
-        return d_gameEngine;
+        return GameContext.current().getGameEngine();
     }
 
     /**
@@ -105,7 +118,7 @@ public class UserCoreLogic {
      * @return Value of the game engine.
      */
     public static TournamentEngine TOURNAMENT_ENGINE() {
-        return TournamentEngine.getInstance();
+        return GameContext.current().getTournamentEngine();
     }
 
     /**
@@ -114,7 +127,7 @@ public class UserCoreLogic {
      * @return Value of the game state
      */
     public static Phase getGamePhase() {
-        return d_gameEngine.getGamePhase();
+        return getGameEngine().getGamePhase();
     }
 
     public Future<String> askForUserInput(String p_message) {
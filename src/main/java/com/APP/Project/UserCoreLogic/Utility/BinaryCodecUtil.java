@@ -0,0 +1,193 @@
+package com.APP.Project.UserCoreLogic.Utility;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * This class writes and reads the numbers and texts of the binary files of the game: the saved games, the autosaves
+ * and the journals.
+ * <p>
+ * Counts and ids are written as unsigned varints: seven bits per byte, the highest bit set if more bytes follow. Other
+ * numbers which may be negative are written as zigzag varints, so small negative numbers stay small. Texts are written
+ * as their UTF-8 length and bytes, and fixed-size numbers as their bytes, the most significant first.
+ * </p>
+ *
+ * @author Rikin Dipakkumar Chauhan
+ * @version 1.0
+ */
+public class BinaryCodecUtil {
+    /**
+     * Instance can not be created outside the class. (private)
+     */
+    private BinaryCodecUtil() {
+    }
+
+    /**
+     * Writes the number as an unsigned varint.
+     *
+     * @param p_outputStream Stream receiving the number.
+     * @param p_value        Number to write; must not be negative.
+     * @throws IOException If the number can not be written.
+     */
+    public static void writeVarint(OutputStream p_outputStream, int p_value) throws IOException {
+        int l_value = p_value;
+        while ((l_value & ~0x7F) != 0) {
+            p_outputStream.write((l_value & 0x7F) | 0x80);
+            l_value >>>= 7;
+        }
+        p_outputStream.write(l_value);
+    }
+
+    /**
+     * Writes the number as a zigzag varint.
+     *
+     * @param p_outputStream Stream receiving the number.
+     * @param p_value        Number to write.
+     * @throws IOException If the number can not be written.
+     */
+    public static void writeSignedVarint(OutputStream p_outputStream, int p_value) throws IOException {
+        writeVarint(p_outputStream, (p_value << 1) ^ (p_value >> 31));
+    }
+
+    /**
+     * Writes the text as its UTF-8 length and bytes.
+     *
+     * @param p_outputStream Stream receiving the text.
+     * @param p_value        Text to write.
+     * @throws IOException If the text can not be written.
+     */
+    public static void writeString(OutputStream p_outputStream, String p_value) throws IOException {
+        byte[] l_bytes = p_value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(p_outputStream, l_bytes.length);
+        p_outputStream.write(l_bytes);
+    }
+
+    /**
+     * Writes the number as four bytes.
+     *
+     * @param p_outputStream Stream receiving the number.
+     * @param p_value        Number to write.
+     * @throws IOException If the number can not be written.
+     */
+    public static void writeInt(OutputStream p_outputStream, int p_value) throws IOException {
+        p_outputStream.write(p_value >>> 24);
+        p_outputStream.write(p_value >>> 16);
+        p_outputStream.write(p_value >>> 8);
+        p_outputStream.write(p_value);
+    }
+
+    /**
+     * Writes the number as eight bytes.
+     *
+     * @param p_outputStream Stream receiving the number.
+     * @param p_value        Number to write.
+     * @throws IOException If the number can not be written.
+     */
+    public static void writeLong(OutputStream p_outputStream, long p_value) throws IOException {
+        writeInt(p_outputStream, (int) (p_value >>> 32));
+        writeInt(p_outputStream, (int) p_value);
+    }
+
+    /**
+     * Reads an unsigned varint.
+     *
+     * @param p_inputStream Stream of the number.
+     * @return Value of the number.
+     * @throws IOException If the stream can not be read or ends.
+     */
+    public static int readVarint(InputStream p_inputStream) throws IOException {
+        int l_value = 0;
+        int l_shift = 0;
+        int l_byte;
+        do {
+            l_byte = readByte(p_inputStream);
+            l_value |= (l_byte & 0x7F) << l_shift;
+            l_shift += 7;
+        } while ((l_byte & 0x80) != 0 && l_shift < 35);
+        return l_value;
+    }
+
+    /**
+     * Reads a zigzag varint.
+     *
+     * @param p_inputStream Stream of the number.
+     * @return Value of the number.
+     * @throws IOException If the stream can not be read or ends.
+     */
+    public static int readSignedVarint(InputStream p_inputStream) throws IOException {
+        int l_value = readVarint(p_inputStream);
+        return (l_value >>> 1) ^ -(l_value & 1);
+    }
+
+    /**
+     * Reads a text written as its UTF-8 length and bytes.
+     *
+     * @param p_inputStream Stream of the text.
+     * @return Value of the text.
+     * @throws IOException If the stream can not be read or ends.
+     */
+    public static String readString(InputStream p_inputStream) throws IOException {
+        byte[] l_bytes = new byte[readVarint(p_inputStream)];
+        readFully(p_inputStream, l_bytes);
+        return new String(l_bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a number written as four bytes.
+     *
+     * @param p_inputStream Stream of the number.
+     * @return Value of the number.
+     * @throws IOException If the stream can not be read or ends.
+     */
+    public static int readInt(InputStream p_inputStream) throws IOException {
+        return (readByte(p_inputStream) << 24) | (readByte(p_inputStream) << 16)
+                | (readByte(p_inputStream) << 8) | readByte(p_inputStream);
+    }
+
+    /**
+     * Reads a number written as eight bytes.
+     *
+     * @param p_inputStream Stream of the number.
+     * @return Value of the number.
+     * @throws IOException If the stream can not be read or ends.
+     */
+    public static long readLong(InputStream p_inputStream) throws IOException {
+        return ((long) readInt(p_inputStream) << 32) | (readInt(p_inputStream) & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Reads bytes until the array is full.
+     *
+     * @param p_inputStream Stream of the bytes.
+     * @param p_bytes       Array receiving the bytes.
+     * @throws IOException If the stream can not be read or ends.
+     */
+    public static void readFully(InputStream p_inputStream, byte[] p_bytes) throws IOException {
+        int l_offset = 0;
+        while (l_offset < p_bytes.length) {
+            int l_count = p_inputStream.read(p_bytes, l_offset, p_bytes.length - l_offset);
+            if (l_count < 0) {
+                throw new EOFException();
+            }
+            l_offset += l_count;
+        }
+    }
+
+    /**
+     * Reads a byte.
+     *
+     * @param p_inputStream Stream of the byte.
+     * @return Value of the byte, from 0 to 255.
+     * @throws IOException If the stream can not be read or ends.
+     */
+    public static int readByte(InputStream p_inputStream) throws IOException {
+        int l_byte = p_inputStream.read();
+        if (l_byte < 0) {
+            throw new EOFException();
+        }
+        return l_byte;
+    }
+}
@@ -0,0 +1,543 @@
+package com.APP.Project.UserCoreLogic.Utility;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Reads a JSON document token by token from a <code>Reader</code>, without reading the whole document into a text or a
+ * <code>JSONObject</code> first.
+ * <p>
+ * The members of an object are read with <code>nextName</code> followed by the method reading the value; the values
+ * of an array are read while <code>hasNext</code> is true. A malformed document throws <code>JSONException</code>,
+ * like <code>JSONObject</code> does.
+ * </p>
+ *
+ * @author Rikin Dipakkumar Chauhan
+ * @version 1.0
+ */
+public class JSONStreamReader implements Closeable {
+    private static final int d_BUFFER_SIZE = 8 * 1024;
+
+    private final Reader d_reader;
+    private final char[] d_buffer = new char[d_BUFFER_SIZE];
+    private int d_position = 0;
+    private int d_limit = 0;
+
+    /**
+     * Number of characters read before the buffer, for the messages of the errors.
+     */
+    private long d_offset = 0;
+
+    /**
+     * Closing bracket of each open object or array.
+     */
+    private final Deque<Character> d_scopes = new ArrayDeque<>();
+
+    /**
+     * True at the start of an object or array and after a comma, until the next value.
+     */
+    private boolean d_isSeparated = true;
+
+    /**
+     * True after the name of a member, until its value is read.
+     */
+    private boolean d_isNameRead = false;
+
+    private final StringBuilder d_textBuilder = new StringBuilder();
+
+    /**
+     * Creates the reader.
+     *
+     * @param p_reader Source of the document; it is closed when this reader is closed.
+     */
+    public JSONStreamReader(Reader p_reader) {
+        d_reader = p_reader;
+    }
+
+    /**
+     * Starts an object.
+     *
+     * @return This reader.
+     * @throws IOException If the source can not be read.
+     */
+    public JSONStreamReader beginObject() throws IOException {
+        return this.open('{', '}');
+    }
+
+    /**
+     * Ends the object started last.
+     *
+     * @return This reader.
+     * @throws IOException If the source can not be read.
+     */
+    public JSONStreamReader endObject() throws IOException {
+        return this.close('}');
+    }
+
+    /**
+     * Starts an array.
+     *
+     * @return This reader.
+     * @throws IOException If the source can not be read.
+     */
+    public JSONStreamReader beginArray() throws IOException {
+        return this.open('[', ']');
+    }
+
+    /**
+     * Ends the array started last.
+     *
+     * @return This reader.
+     * @throws IOException If the source can not be read.
+     */
+    public JSONStreamReader endArray() throws IOException {
+        return this.close(']');
+    }
+
+    /**
+     * Checks if the object or array started last has another member or value.
+     *
+     * @return True if there is another member or value; false at the end.
+     * @throws IOException If the source can not be read.
+     */
+    public boolean hasNext() throws IOException {
+        int l_char = this.peek();
+        return l_char != '}' && l_char != ']' && l_char != -1;
+    }
+
+    /**
+     * Reads the name of the next member of the object.
+     *
+     * @return Name of the member.
+     * @throws IOException If the source can not be read.
+     */
+    public String nextName() throws IOException {
+        if (d_scopes.isEmpty() || d_scopes.peek() != '}' || d_isNameRead) {
+            throw this.syntaxError("Unexpected name");
+        }
+        this.checkSeparated();
+        this.expect('"');
+        String l_name = this.readText();
+        this.expect(':');
+        d_isNameRead = true;
+        return l_name;
+    }
+
+    /**
+     * Reads a text.
+     *
+     * @return Value of the text.
+     * @throws IOException If the source can not be read.
+     */
+    public String nextString() throws IOException {
+        this.beforeValue();
+        this.expect('"');
+        String l_text = this.readText();
+        this.afterValue();
+        return l_text;
+    }
+
+    /**
+     * Reads a number which has no fraction. A number written as a text is read as <code>JSONObject#getLong</code>
+     * does.
+     *
+     * @return Value of the number.
+     * @throws IOException If the source can not be read.
+     */
+    public long nextLong() throws IOException {
+        this.beforeValue();
+        String l_token;
+        if (this.peek() == '"') {
+            this.expect('"');
+            l_token = this.readText();
+        } else {
+            l_token = this.readLiteral();
+        }
+        this.afterValue();
+        try {
+            return Long.parseLong(l_token);
+        } catch (NumberFormatException p_numberFormatException) {
+            try {
+                return new BigDecimal(l_token).longValueExact();
+            } catch (NumberFormatException | ArithmeticException p_exception) {
+                throw this.syntaxError(String.format("Expected a whole number instead of '%s'", l_token));
+            }
+        }
+    }
+
+    /**
+     * Reads a number which has no fraction and fits in an <code>int</code>.
+     *
+     * @return Value of the number.
+     * @throws IOException If the source can not be read.
+     */
+    public int nextInt() throws IOException {
+        long l_value = this.nextLong();
+        if (l_value < Integer.MIN_VALUE || l_value > Integer.MAX_VALUE) {
+            throw this.syntaxError(String.format("Number %d is out of range", l_value));
+        }
+        return (int) l_value;
+    }
+
+    /**
+     * Reads a boolean.
+     *
+     * @return Value of the boolean.
+     * @throws IOException If the source can not be read.
+     */
+    public boolean nextBoolean() throws IOException {
+        this.beforeValue();
+        String l_token = this.readLiteral();
+        this.afterValue();
+        if (l_token.equals("true")) {
+            return true;
+        }
+        if (l_token.equals("false")) {
+            return false;
+        }
+        throw this.syntaxError(String.format("Expected a boolean instead of '%s'", l_token));
+    }
+
+    /**
+     * Reads the next value as an <code>org.json</code> tree, for the small parts of a document which are read as a
+     * tree.
+     *
+     * @return Value read: a <code>JSONObject</code>, <code>JSONArray</code>, text, number, boolean or
+     * <code>JSONObject.NULL</code>.
+     * @throws IOException If the source can not be read.
+     */
+    public Object nextValue() throws IOException {
+        int l_char = this.peek();
+        if (l_char == '{') {
+            JSONObject l_object = new JSONObject();
+            this.beginObject();
+            while (this.hasNext()) {
+                String l_name = this.nextName();
+                l_object.put(l_name, this.nextValue());
+            }
+            this.endObject();
+            return l_object;
+        }
+        if (l_char == '[') {
+            JSONArray l_array = new JSONArray();
+            this.beginArray();
+            while (this.hasNext()) {
+                l_array.put(this.nextValue());
+            }
+            this.endArray();
+            return l_array;
+        }
+        if (l_char == '"') {
+            return this.nextString();
+        }
+        this.beforeValue();
+        String l_token = this.readLiteral();
+        this.afterValue();
+        return this.toValue(l_token);
+    }
+
+    /**
+     * Skips the next value, for the members the reading code does not know.
+     *
+     * @throws IOException If the source can not be read.
+     */
+    public void skipValue() throws IOException {
+        int l_char = this.peek();
+        if (l_char == '{') {
+            this.beginObject();
+            while (this.hasNext()) {
+                this.nextName();
+                this.skipValue();
+            }
+            this.endObject();
+        } else if (l_char == '[') {
+            this.beginArray();
+            while (this.hasNext()) {
+                this.skipValue();
+            }
+            this.endArray();
+        } else if (l_char == '"') {
+            this.nextString();
+        } else {
+            this.beforeValue();
+            this.readLiteral();
+            this.afterValue();
+        }
+    }
+
+    /**
+     * Closes the source.
+     *
+     * @throws IOException If the source can not be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        d_reader.close();
+    }
+
+    /**
+     * Starts an object or array.
+     *
+     * @param p_openingBracket Opening bracket.
+     * @param p_closingBracket Closing bracket.
+     * @return This reader.
+     * @throws IOException If the source can not be read.
+     */
+    private JSONStreamReader open(char p_openingBracket, char p_closingBracket) throws IOException {
+        this.beforeValue();
+        this.expect(p_openingBracket);
+        d_scopes.push(p_closingBracket);
+        d_isSeparated = true;
+        return this;
+    }
+
+    /**
+     * Ends an object or array.
+     *
+     * @param p_closingBracket Closing bracket.
+     * @return This reader.
+     * @throws IOException If the source can not be read.
+     */
+    private JSONStreamReader close(char p_closingBracket) throws IOException {
+        if (d_scopes.isEmpty() || d_scopes.peek() != p_closingBracket || d_isNameRead) {
+            throw this.syntaxError(String.format("Unexpected '%c'", p_closingBracket));
+        }
+        this.expect(p_closingBracket);
+        d_scopes.pop();
+        this.afterValue();
+        return this;
+    }
+
+    /**
+     * Checks that a value is expected at this place of the document.
+     */
+    private void beforeValue() {
+        if (d_isNameRead) {
+            d_isNameRead = false;
+            return;
+        }
+        if (!d_scopes.isEmpty() && d_scopes.peek() == '}') {
+            throw this.syntaxError("Expected a name");
+        }
+        this.checkSeparated();
+    }
+
+    /**
+     * Reads the comma after a value, if there is one.
+     *
+     * @throws IOException If the source can not be read.
+     */
+    private void afterValue() throws IOException {
+        if (d_scopes.isEmpty()) {
+            return;
+        }
+        d_isSeparated = this.peek() == ',';
+        if (d_isSeparated) {
+            d_position++;
+        }
+    }
+
+    /**
+     * Checks that a value inside an object or array follows the start or a comma.
+     */
+    private void checkSeparated() {
+        if (!d_scopes.isEmpty() && !d_isSeparated) {
+            throw this.syntaxError(String.format("Expected ',' or '%c'", d_scopes.peek()));
+        }
+    }
+
+    /**
+     * Skips the whitespace and reads the next character without consuming it.
+     *
+     * @return Value of the character; -1 at the end of the document.
+     * @throws IOException If the source can not be read.
+     */
+    private int peek() throws IOException {
+        while (true) {
+            if (d_position == d_limit && !this.fill()) {
+                return -1;
+            }
+            char l_char = d_buffer[d_position];
+            if (l_char != ' ' && l_char != '\n' && l_char != '\r' && l_char != '\t') {
+                return l_char;
+            }
+            d_position++;
+        }
+    }
+
+    /**
+     * Consumes the next character, which must be the expected one.
+     *
+     * @param p_expected Expected character.
+     * @throws IOException If the source can not be read.
+     */
+    private void expect(char p_expected) throws IOException {
+        if (this.peek() != p_expected) {
+            throw this.syntaxError(String.format("Expected '%c'", p_expected));
+        }
+        d_position++;
+    }
+
+    /**
+     * Reads the rest of a text after its opening quote, resolving the escapes.
+     *
+     * @return Value of the text.
+     * @throws IOException If the source can not be read.
+     */
+    private String readText() throws IOException {
+        d_textBuilder.setLength(0);
+        while (true) {
+            char l_char = this.readChar();
+            if (l_char == '"') {
+                return d_textBuilder.toString();
+            }
+            if (l_char == '\n' || l_char == '\r') {
+                throw this.syntaxError("Unterminated string");
+            }
+            if (l_char != '\\') {
+                d_textBuilder.append(l_char);
+                continue;
+            }
+            char l_escaped = this.readChar();
+            switch (l_escaped) {
+                case 'b':
+                    d_textBuilder.append('\b');
+                    break;
+                case 't':
+                    d_textBuilder.append('\t');
+                    break;
+                case 'n':
+                    d_textBuilder.append('\n');
+                    break;
+                case 'f':
+                    d_textBuilder.append('\f');
+                    break;
+                case 'r':
+                    d_textBuilder.append('\r');
+                    break;
+                case 'u':
+                    char[] l_digits = {this.readChar(), this.readChar(), this.readChar(), this.readChar()};
+                    try {
+                        d_textBuilder.append((char) Integer.parseInt(new String(l_digits), 16));
+                    } catch (NumberFormatException p_numberFormatException) {
+                        throw this.syntaxError("Illegal escape");
+                    }
+                    break;
+                case '"':
+                case '\'':
+                case '\\':
+                case '/':
+                    d_textBuilder.append(l_escaped);
+                    break;
+                default:
+                    throw this.syntaxError("Illegal escape");
+            }
+        }
+    }
+
+    /**
+     * Reads a number, <code>true</code>, <code>false</code> or <code>null</code>.
+     *
+     * @return Characters of the literal.
+     * @throws IOException If the source can not be read.
+     */
+    private String readLiteral() throws IOException {
+        d_textBuilder.setLength(0);
+        this.peek();
+        while (d_position < d_limit || this.fill()) {
+            char l_char = d_buffer[d_position];
+            if (",:]}/\\\"[{;=# \n\r\t".indexOf(l_char) >= 0) {
+                break;
+            }
+            d_textBuilder.append(l_char);
+            d_position++;
+        }
+        if (d_textBuilder.length() == 0) {
+            throw this.syntaxError("Expected a value");
+        }
+        return d_textBuilder.toString();
+    }
+
+    /**
+     * Converts a literal to its value, as <code>JSONObject</code> does.
+     *
+     * @param p_token Characters of the literal.
+     * @return Value of the literal.
+     */
+    private Object toValue(String p_token) {
+        if (p_token.equals("true")) {
+            return Boolean.TRUE;
+        }
+        if (p_token.equals("false")) {
+            return Boolean.FALSE;
+        }
+        if (p_token.equals("null")) {
+            return JSONObject.NULL;
+        }
+        try {
+            BigDecimal l_number = new BigDecimal(p_token);
+            if (p_token.indexOf('.') < 0 && p_token.indexOf('e') < 0 && p_token.indexOf('E') < 0) {
+                long l_value = l_number.longValueExact();
+                if (l_value == (int) l_value) {
+                    return (int) l_value;
+                }
+                return l_value;
+            }
+            return l_number;
+        } catch (NumberFormatException | ArithmeticException p_exception) {
+            throw this.syntaxError(String.format("Unexpected '%s'", p_token));
+        }
+    }
+
+    /**
+     * Consumes the next character, whitespace included.
+     *
+     * @return Value of the character.
+     * @throws IOException If the source can not be read.
+     */
+    private char readChar() throws IOException {
+        if (d_position == d_limit && !this.fill()) {
+            throw this.syntaxError("Unexpected end of the document");
+        }
+        return d_buffer[d_position++];
+    }
+
+    /**
+     * Reads the next characters of the source into the buffer.
+     *
+     * @return True if characters were read; false at the end of the source.
+     * @throws IOException If the source can not be read.
+     */
+    private boolean fill() throws IOException {
+        d_offset += d_limit;
+        d_position = 0;
+        d_limit = 0;
+        int l_count;
+        do {
+            l_count = d_reader.read(d_buffer, 0, d_buffer.length);
+        } while (l_count == 0);
+        if (l_count < 0) {
+            return false;
+        }
+        d_limit = l_count;
+        return true;
+    }
+
+    /**
+     * Creates the error of a malformed document.
+     *
+     * @param p_message Description of the error.
+     * @return Value of the error.
+     */
+    private JSONException syntaxError(String p_message) {
+        return new JSONException(String.format("%s at character %d", p_message, d_offset + d_position));
+    }
+}
@@ -0,0 +1,320 @@
+package com.APP.Project.UserCoreLogic.Utility;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Writes a JSON document token by token to a <code>Writer</code>, without building a <code>JSONObject</code> of the
+ * whole document first.
+ * <p>
+ * The document is indented with four spaces, like <code>JSONObject#toString(4)</code>, and the strings are escaped the
+ * same way, so it is read back by <code>JSONObject</code>. Each value of an object is written after its
+ * <code>name</code>.
+ * </p>
+ *
+ * @author Rikin Dipakkumar Chauhan
+ * @version 1.0
+ */
+public class JSONStreamWriter implements Closeable, Flushable {
+    private static final String d_INDENT = "    ";
+
+    private final Writer d_writer;
+
+    /**
+     * For each open object or array, true while nothing has been written in it.
+     */
+    private final Deque<Boolean> d_isEmpty = new ArrayDeque<>();
+
+    /**
+     * True after the name of a member, until its value is written.
+     */
+    private boolean d_isNameWritten = false;
+
+    /**
+     * Creates the writer. The target should be buffered.
+     *
+     * @param p_writer Target of the document; it is closed when this writer is closed.
+     */
+    public JSONStreamWriter(Writer p_writer) {
+        d_writer = p_writer;
+    }
+
+    /**
+     * Starts an object.
+     *
+     * @return This writer.
+     * @throws IOException If the target can not be written.
+     */
+    public JSONStreamWriter beginObject() throws IOException {
+        return this.open('{');
+    }
+
+    /**
+     * Ends the object started last.
+     *
+     * @return This writer.
+     * @throws IOException If the target can not be written.
+     */
+    public JSONStreamWriter endObject() throws IOException {
+        return this.close('}');
+    }
+
+    /**
+     * Starts an array.
+     *
+     * @return This writer.
+     * @throws IOException If the target can not be written.
+     */
+    public JSONStreamWriter beginArray() throws IOException {
+        return this.open('[');
+    }
+
+    /**
+     * Ends the array started last.
+     *
+     * @return This writer.
+     * @throws IOException If the target can not be written.
+     */
+    public JSONStreamWriter endArray() throws IOException {
+        return this.close(']');
+    }
+
+    /**
+     * Writes the name of the next member of the object.
+     *
+     * @param p_name Name of the member.
+     * @return This writer.
+     * @throws IOException If the target can not be written.
+     */
+    public JSONStreamWriter name(String p_name) throws IOException {
+        this.beforeValue();
+        this.quote(p_name);
+        d_writer.write(": ");
+        d_isNameWritten = true;
+        return this;
+    }
+
+    /**
+     * Writes a text.
+     *
+     * @param p_value Value of the text; null is written as <code>null</code>.
+     * @return This writer.
+     * @throws IOException If the target can not be written.
+     */
+    public JSONStreamWriter value(String p_value) throws IOException {
+        this.beforeValue();
+        if (p_value == null) {
+            d_writer.write("null");
+        } else {
+            this.quote(p_value);
+        }
+        return this;
+    }
+
+    /**
+     * Writes a number.
+     *
+     * @param p_value Value of the number.
+     * @return This writer.
+     * @throws IOException If the target can not be written.
+     */
+    public JSONStreamWriter value(long p_value) throws IOException {
+        this.beforeValue();
+        d_writer.write(Long.toString(p_value));
+        return this;
+    }
+
+    /**
+     * Writes a boolean.
+     *
+     * @param p_value Value of the boolean.
+     * @return This writer.
+     * @throws IOException If the target can not be written.
+     */
+    public JSONStreamWriter value(boolean p_value) throws IOException {
+        this.beforeValue();
+        d_writer.write(p_value ? "true" : "false");
+        return this;
+    }
+
+    /**
+     * Writes a value of an <code>org.json</code> tree, for the parts of a document which are built as a tree.
+     *
+     * @param p_value Value to write: a <code>JSONObject</code>, <code>JSONArray</code>, text, number or boolean.
+     * @return This writer.
+     * @throws IOException If the target can not be written.
+     */
+    public JSONStreamWriter value(Object p_value) throws IOException {
+        if (p_value instanceof JSONObject) {
+            JSONObject l_object = (JSONObject) p_value;
+            this.beginObject();
+            for (String l_key : l_object.keySet()) {
+                this.name(l_key).value(l_object.get(l_key));
+            }
+            return this.endObject();
+        }
+        if (p_value instanceof JSONArray) {
+            JSONArray l_array = (JSONArray) p_value;
+            this.beginArray();
+            for (int l_index = 0; l_index < l_array.length(); l_index++) {
+                this.value(l_array.get(l_index));
+            }
+            return this.endArray();
+        }
+        if (p_value instanceof Boolean) {
+            return this.value(((Boolean) p_value).booleanValue());
+        }
+        if (p_value instanceof Integer || p_value instanceof Long || p_value instanceof Short || p_value instanceof Byte) {
+            return this.value(((Number) p_value).longValue());
+        }
+        if (p_value == null || p_value == JSONObject.NULL) {
+            return this.value((String) null);
+        }
+        if (p_value instanceof Number) {
+            this.beforeValue();
+            d_writer.write(p_value.toString());
+            return this;
+        }
+        return this.value(p_value.toString());
+    }
+
+    /**
+     * Flushes the target.
+     *
+     * @throws IOException If the target can not be written.
+     */
+    @Override
+    public void flush() throws IOException {
+        d_writer.flush();
+    }
+
+    /**
+     * Closes the target.
+     *
+     * @throws IOException If the target can not be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        d_writer.close();
+    }
+
+    /**
+     * Starts an object or array.
+     *
+     * @param p_bracket Opening bracket.
+     * @return This writer.
+     * @throws IOException If the target can not be written.
+     */
+    private JSONStreamWriter open(char p_bracket) throws IOException {
+        this.beforeValue();
+        d_writer.write(p_bracket);
+        d_isEmpty.push(true);
+        return this;
+    }
+
+    /**
+     * Ends an object or array; an empty one is closed on the same line.
+     *
+     * @param p_bracket Closing bracket.
+     * @return This writer.
+     * @throws IOException If the target can not be written.
+     */
+    private JSONStreamWriter close(char p_bracket) throws IOException {
+        if (d_isEmpty.isEmpty()) {
+            throw new IllegalStateException("Nothing to close in the JSON document!");
+        }
+        if (!d_isEmpty.pop()) {
+            this.newLine();
+        }
+        d_writer.write(p_bracket);
+        return this;
+    }
+
+    /**
+     * Writes the separator and the indentation before a value, unless the value follows its name.
+     *
+     * @throws IOException If the target can not be written.
+     */
+    private void beforeValue() throws IOException {
+        if (d_isNameWritten) {
+            d_isNameWritten = false;
+            return;
+        }
+        if (!d_isEmpty.isEmpty()) {
+            if (!d_isEmpty.pop()) {
+                d_writer.write(',');
+            }
+            d_isEmpty.push(false);
+            this.newLine();
+        }
+    }
+
+    /**
+     * Starts a line indented to the depth of the document.
+     *
+     * @throws IOException If the target can not be written.
+     */
+    private void newLine() throws IOException {
+        d_writer.write('\n');
+        for (int l_depth = 0; l_depth < d_isEmpty.size(); l_depth++) {
+            d_writer.write(d_INDENT);
+        }
+    }
+
+    /**
+     * Writes the text in quotes, escaped as <code>JSONObject#quote</code> does.
+     *
+     * @param p_text Text to write.
+     * @throws IOException If the target can not be written.
+     */
+    private void quote(String p_text) throws IOException {
+        d_writer.write('"');
+        char l_previous = 0;
+        for (int l_index = 0; l_index < p_text.length(); l_index++) {
+            char l_char = p_text.charAt(l_index);
+            switch (l_char) {
+                case '\\':
+                case '"':
+                    d_writer.write('\\');
+                    d_writer.write(l_char);
+                    break;
+                case '/':
+                    if (l_previous == '<') {
+                        d_writer.write('\\');
+                    }
+                    d_writer.write(l_char);
+                    break;
+                case '\b':
+                    d_writer.write("\\b");
+                    break;
+                case '\t':
+                    d_writer.write("\\t");
+                    break;
+                case '\n':
+                    d_writer.write("\\n");
+                    break;
+                case '\f':
+                    d_writer.write("\\f");
+                    break;
+                case '\r':
+                    d_writer.write("\\r");
+                    break;
+                default:
+                    if (l_char < ' ' || (l_char >= '\u0080' && l_char < '\u00a0') || (l_char >= '\u2000' && l_char < '\u2100')) {
+                        d_writer.write(String.format("\\u%04x", (int) l_char));
+                    } else {
+                        d_writer.write(l_char);
+                    }
+            }
+            l_previous = l_char;
+        }
+        d_writer.write('"');
+    }
+}
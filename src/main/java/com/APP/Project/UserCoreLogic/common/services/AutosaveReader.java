@@ -0,0 +1,263 @@
+package com.APP.Project.UserCoreLogic.common.services;
+
+import com.APP.Project.UserCoreLogic.GameEngine;
+import com.APP.Project.UserCoreLogic.constants.enums.CardType;
+import com.APP.Project.UserCoreLogic.exceptions.InvalidGameException;
+import com.APP.Project.UserCoreLogic.game_entities.Country;
+import com.APP.Project.UserCoreLogic.game_entities.Player;
+import com.APP.Project.UserCoreLogic.gamePlay.GamePlayEngine;
+import com.APP.Project.UserCoreLogic.gamePlay.OwnershipLedger;
+import com.APP.Project.UserCoreLogic.mappers.OrderMapper;
+import com.APP.Project.UserCoreLogic.Utility.BinaryCodecUtil;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Rebuilds a game from an autosave written by <code>AutosaveWriter</code>: the last snapshot of the file is read, then
+ * the deltas after it are applied in order. A record cut short by a crash ends the autosave; the game is rebuilt up to
+ * the record before it.
+ *
+ * @author Rikin Dipakkumar Chauhan
+ * @version 1.0
+ */
+public class AutosaveReader implements Closeable {
+    private static final CardType[] d_CARD_TYPES = CardType.values();
+    private static final OrderMapper d_ORDER_MAPPER = new OrderMapper();
+
+    private final InputStream d_inputStream;
+    private String d_phaseName;
+    private int d_deltaCount = 0;
+
+    /**
+     * Creates the reader and checks the header of the autosave.
+     *
+     * @param p_inputStream Stream of the autosave; it is closed when the reader is closed.
+     * @throws IOException          If the stream can not be read.
+     * @throws InvalidGameException If the stream is not an autosave or has an unknown version.
+     */
+    public AutosaveReader(InputStream p_inputStream) throws IOException, InvalidGameException {
+        d_inputStream = new BufferedInputStream(p_inputStream);
+        try {
+            int l_magic = BinaryCodecUtil.readInt(d_inputStream);
+            if (l_magic != AutosaveWriter.MAGIC) {
+                throw new InvalidGameException("Not an autosave file!");
+            }
+            int l_version = BinaryCodecUtil.readByte(d_inputStream);
+            if (l_version != AutosaveWriter.VERSION) {
+                throw new InvalidGameException(String.format("Autosave version %d is not supported!", l_version));
+            }
+        } catch (EOFException p_eofException) {
+            throw new InvalidGameException("Not an autosave file!");
+        }
+    }
+
+    /**
+     * Rebuilds the game saved in the autosave file.
+     *
+     * @param p_file Autosave file.
+     * @return Rebuilt game engine; its phase is not restored yet.
+     * @throws IOException          If the file can not be read.
+     * @throws InvalidGameException If the file is not an autosave or is corrupted.
+     */
+    public static GameEngine recover(File p_file) throws IOException, InvalidGameException {
+        try (AutosaveReader l_reader = new AutosaveReader(new FileInputStream(p_file))) {
+            return l_reader.recover();
+        }
+    }
+
+    /**
+     * Rebuilds the game from the last snapshot and the deltas after it, and makes it the game of the application. The
+     * phase of the game is not restored; its name is given by <code>getPhaseName</code>.
+     *
+     * @return Rebuilt game engine.
+     * @throws IOException          If the stream can not be read.
+     * @throws InvalidGameException If the autosave has no snapshot or is corrupted.
+     */
+    public GameEngine recover() throws IOException, InvalidGameException {
+        byte[] l_snapshot = null;
+        List<byte[]> l_deltas = new ArrayList<>();
+        try {
+            int l_type;
+            while ((l_type = d_inputStream.read()) >= 0) {
+                byte[] l_content = this.readContent();
+                if (l_type == AutosaveWriter.d_SNAPSHOT) {
+                    l_snapshot = l_content;
+                    l_deltas.clear();
+                } else if (l_type == AutosaveWriter.d_DELTA) {
+                    l_deltas.add(l_content);
+                } else {
+                    throw new InvalidGameException(String.format("Unknown autosave record %d!", l_type));
+                }
+            }
+        } catch (EOFException p_eofException) {
+            // The last record was cut short; it is ignored.
+        }
+        if (l_snapshot == null) {
+            throw new InvalidGameException("The autosave has no snapshot!");
+        }
+
+        BinaryGameReader l_snapshotReader = new BinaryGameReader(new ByteArrayInputStream(l_snapshot));
+        GameEngine l_gameEngine = l_snapshotReader.readState();
+        d_phaseName = l_snapshotReader.getPhaseName();
+        try {
+            for (byte[] l_delta : l_deltas) {
+                this.applyDelta(l_gameEngine, l_snapshotReader.getCountries(), l_snapshotReader.getPlayers(),
+                        new ByteArrayInputStream(l_delta));
+                d_deltaCount++;
+            }
+        } catch (EOFException | JSONException p_exception) {
+            throw new InvalidGameException("Missing values or the corrupted autosave file!");
+        }
+        return l_gameEngine;
+    }
+
+    /**
+     * Gets the name of the phase of the rebuilt game.
+     *
+     * @return Name of the phase; null before the game is rebuilt.
+     */
+    public String getPhaseName() {
+        return d_phaseName;
+    }
+
+    /**
+     * Gets the number of deltas applied to the last snapshot.
+     *
+     * @return Number of the deltas.
+     */
+    public int getDeltaCount() {
+        return d_deltaCount;
+    }
+
+    /**
+     * Closes the stream.
+     *
+     * @throws IOException If the stream can not be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        d_inputStream.close();
+    }
+
+    /**
+     * Applies the changes of a turn to the game.
+     *
+     * @param p_gameEngine Game being rebuilt.
+     * @param p_countries  Countries by their ids.
+     * @param p_players    Players by their ids.
+     * @param p_delta      Content of the delta.
+     * @throws IOException          If the delta ends.
+     * @throws InvalidGameException If the delta refers to an unknown country, player or type.
+     */
+    private void applyDelta(GameEngine p_gameEngine, List<Country> p_countries, List<Player> p_players,
+                            InputStream p_delta) throws IOException, InvalidGameException {
+        GamePlayEngine l_gamePlayEngine = p_gameEngine.getGamePlayEngine();
+        int l_executionIndex = BinaryCodecUtil.readSignedVarint(p_delta);
+        while (l_gamePlayEngine.getExecutionIndex() < l_executionIndex) {
+            l_gamePlayEngine.incrementExecutionIndex();
+        }
+        l_gamePlayEngine.setCurrentPlayerForIssuePhase(BinaryCodecUtil.readSignedVarint(p_delta));
+        l_gamePlayEngine.setCurrentPlayerForExecutionPhase(BinaryCodecUtil.readSignedVarint(p_delta));
+        l_gamePlayEngine.getRandom().setState(BinaryCodecUtil.readLong(p_delta));
+
+        OwnershipLedger l_ownershipLedger = l_gamePlayEngine.getOwnershipLedger();
+        int l_changedCountryCount = BinaryCodecUtil.readVarint(p_delta);
+        // The released countries are removed before the others are transferred, as in a turn where countries are
+        // blockaded before others are conquered, so that the assigned countries keep the order of the game.
+        List<Country> l_transferredCountries = new ArrayList<>();
+        List<Player> l_newOwners = new ArrayList<>();
+        for (int l_index = 0; l_index < l_changedCountryCount; l_index++) {
+            Country l_country = getEntity(p_countries, BinaryCodecUtil.readVarint(p_delta), "country");
+            int l_owner = BinaryCodecUtil.readVarint(p_delta);
+            if (l_owner == AutosaveWriter.d_NONE) {
+                l_ownershipLedger.release(l_country);
+            } else {
+                l_transferredCountries.add(l_country);
+                l_newOwners.add(getEntity(p_players, l_owner - 1, "player"));
+            }
+            l_country.setNumberOfArmies(BinaryCodecUtil.readSignedVarint(p_delta));
+        }
+        for (int l_index = 0; l_index < l_transferredCountries.size(); l_index++) {
+            l_ownershipLedger.transfer(l_transferredCountries.get(l_index), l_newOwners.get(l_index));
+        }
+
+        for (Player l_player : p_players) {
+            l_player.setReinforcementCount(BinaryCodecUtil.readSignedVarint(p_delta));
+            l_player.setRemainingReinforcementCount(BinaryCodecUtil.readSignedVarint(p_delta));
+            l_player.getCards().clear();
+            int l_cardCount = BinaryCodecUtil.readVarint(p_delta);
+            for (int l_index = 0; l_index < l_cardCount; l_index++) {
+                l_player.addCard(CardService.createCard(getEntity(d_CARD_TYPES, BinaryCodecUtil.readVarint(p_delta), "card")));
+            }
+            l_player.getFriendPlayers().clear();
+            int l_friendCount = BinaryCodecUtil.readVarint(p_delta);
+            for (int l_index = 0; l_index < l_friendCount; l_index++) {
+                l_player.addNegotiatePlayer(getEntity(p_players, BinaryCodecUtil.readVarint(p_delta), "player"));
+            }
+            l_player.getOrders().clear();
+            int l_orderCount = BinaryCodecUtil.readVarint(p_delta);
+            for (int l_index = 0; l_index < l_orderCount; l_index++) {
+                l_player.addOrder(d_ORDER_MAPPER.toOrder(new JSONObject(BinaryCodecUtil.readString(p_delta)), l_player));
+            }
+        }
+        l_gamePlayEngine.refreshPlayerStatus();
+    }
+
+    /**
+     * Reads the length and the content of a record.
+     *
+     * @return Content of the record.
+     * @throws IOException If the stream can not be read or ends.
+     */
+    private byte[] readContent() throws IOException {
+        byte[] l_content = new byte[BinaryCodecUtil.readVarint(d_inputStream)];
+        BinaryCodecUtil.readFully(d_inputStream, l_content);
+        return l_content;
+    }
+
+    /**
+     * Gets the entity with the id.
+     *
+     * @param p_entities Entities by their ids.
+     * @param p_id       Id read from the autosave.
+     * @param p_entity   Kind of the entity, for the error message.
+     * @param <T>        Type of the entity.
+     * @return Value of the entity.
+     * @throws InvalidGameException If there is no entity with the id.
+     */
+    private static <T> T getEntity(List<T> p_entities, int p_id, String p_entity) throws InvalidGameException {
+        if (p_id < 0 || p_id >= p_entities.size()) {
+            throw new InvalidGameException(String.format("Unknown %s id %d in autosave!", p_entity, p_id));
+        }
+        return p_entities.get(p_id);
+    }
+
+    /**
+     * Gets the constant of the enum with the ordinal.
+     *
+     * @param p_values  Constants of the enum.
+     * @param p_ordinal Ordinal read from the autosave.
+     * @param p_entity  Kind of the constant, for the error message.
+     * @param <T>       Type of the enum.
+     * @return Value of the constant.
+     * @throws InvalidGameException If there is no constant with the ordinal.
+     */
+    private static <T extends Enum<T>> T getEntity(T[] p_values, int p_ordinal, String p_entity)
+            throws InvalidGameException {
+        if (p_ordinal >= p_values.length) {
+            throw new InvalidGameException(String.format("Unknown %s type %d in autosave!", p_entity, p_ordinal));
+        }
+        return p_values[p_ordinal];
+    }
+}
@@ -0,0 +1,53 @@
+package com.APP.Project.UserCoreLogic.common.services;
+
+import com.APP.Project.UserCoreLogic.GameEngine;
+import com.APP.Project.UserCoreLogic.UserCoreLogic;
+import com.APP.Project.UserCoreLogic.Utility.FindFilePathUtil;
+import com.APP.Project.UserCoreLogic.constants.interfaces.StandaloneCommand;
+import com.APP.Project.UserCoreLogic.exceptions.InvalidCommandException;
+import com.APP.Project.UserCoreLogic.exceptions.UserCoreLogicException;
+import com.APP.Project.UserCoreLogic.logger.LogEntryBuffer;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Starts to autosave the game in a file of the user data directory. The game is written at once, then at the end of
+ * each turn by <code>AutosaveWriter</code>.
+ *
+ * @author Rikin Dipakkumar Chauhan
+ * @version 1.0
+ */
+public class AutosaveService implements StandaloneCommand {
+    private final LogEntryBuffer d_logEntryBuffer = LogEntryBuffer.getLogger();
+
+    /**
+     * Executes the autosave command.
+     *
+     * @param p_commandValues List of command values, expects the file name without extension.
+     * @return Success message if the autosave is started.
+     * @throws UserCoreLogicException If the autosave file can not be written.
+     */
+    @Override
+    public String execute(List<String> p_commandValues) throws UserCoreLogicException {
+        if (p_commandValues.size() <= 0) {
+            throw new InvalidCommandException("Please provide the file name!");
+        }
+        File l_targetFile = new File(FindFilePathUtil.resolveFilePath(
+                p_commandValues.get(0).concat(AutosaveWriter.FILE_EXTENSION)));
+
+        GameEngine l_gameEngine = UserCoreLogic.getGameEngine();
+        // The autosave writing to the file is closed before the file is replaced.
+        l_gameEngine.setAutosave(null);
+        try {
+            AutosaveWriter l_autosave = AutosaveWriter.create(l_targetFile);
+            l_autosave.writeSnapshot(l_gameEngine);
+            l_gameEngine.setAutosave(l_autosave);
+        } catch (IOException p_ioException) {
+            throw new UserCoreLogicException("Error in autosave file creation!");
+        }
+        d_logEntryBuffer.dataChanged("autosave", "Game autosaved to file: " + l_targetFile.getName());
+        return "Game will be saved at the end of each turn!";
+    }
+}
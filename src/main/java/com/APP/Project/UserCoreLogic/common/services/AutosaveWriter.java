@@ -0,0 +1,372 @@
+package com.APP.Project.UserCoreLogic.common.services;
+
+import com.APP.Project.UserCoreLogic.GameEngine;
+import com.APP.Project.UserCoreLogic.constants.interfaces.Card;
+import com.APP.Project.UserCoreLogic.constants.interfaces.Order;
+import com.APP.Project.UserCoreLogic.game_entities.Continent;
+import com.APP.Project.UserCoreLogic.game_entities.Country;
+import com.APP.Project.UserCoreLogic.game_entities.Player;
+import com.APP.Project.UserCoreLogic.gamePlay.GamePlayEngine;
+import com.APP.Project.UserCoreLogic.logger.LogEntryBuffer;
+import com.APP.Project.UserCoreLogic.map_features.MapEditorEngine;
+import com.APP.Project.UserCoreLogic.Utility.BinaryCodecUtil;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Saves a game at the end of each turn by appending records to an autosave file.
+ * <p>
+ * The file starts with <code>MAGIC</code> and <code>VERSION</code>. Each record is its type, the length of its
+ * content as an unsigned varint and the content. A <code>SNAPSHOT</code> holds the whole game in the encoding of
+ * <code>BinaryGameWriter</code>. A <code>DELTA</code> holds what changed since the record before it: the execution
+ * index, the current players and the state of the random source; the countries whose owner or armies changed; and for
+ * each player the reinforcements, cards, friends and pending orders. Countries and players are referred to by their
+ * ids in the last snapshot; an absent owner is written as 0, any other id as id + 1.
+ * </p>
+ * <p>
+ * A snapshot is written every <code>DEFAULT_SNAPSHOT_INTERVAL</code> turns, and whenever the map or the players are
+ * no longer those of the last snapshot. <code>AutosaveReader</code> rebuilds the game from the last snapshot and the
+ * deltas after it. If the file can not be written, the autosave stops instead of interrupting the game.
+ * </p>
+ *
+ * @author Rikin Dipakkumar Chauhan
+ * @version 1.0
+ */
+public class AutosaveWriter implements Closeable {
+    /**
+     * First four bytes of an autosave: <code>WZA1</code>.
+     */
+    public static final int MAGIC = 0x575A4131;
+
+    /**
+     * Version of the format written by this class.
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * Extension of the autosave files.
+     */
+    public static final String FILE_EXTENSION = ".wza";
+
+    /**
+     * Number of turns between two snapshots.
+     */
+    public static final int DEFAULT_SNAPSHOT_INTERVAL = 10;
+
+    /**
+     * Type of a record holding the whole game.
+     */
+    static final int d_SNAPSHOT = 0;
+
+    /**
+     * Type of a record holding the changes of a turn.
+     */
+    static final int d_DELTA = 1;
+
+    /**
+     * Value written in place of an absent owner.
+     */
+    static final int d_NONE = 0;
+
+    private final OutputStream d_outputStream;
+    private final int d_snapshotInterval;
+    private final LogEntryBuffer d_logEntryBuffer = LogEntryBuffer.getLogger();
+    private int d_turnsSinceSnapshot = 0;
+    private boolean d_hasFailed = false;
+
+    /**
+     * Engines of the game of the last snapshot.
+     */
+    private MapEditorEngine d_mapEditorEngine;
+    private GamePlayEngine d_gamePlayEngine;
+
+    private final List<Country> d_countries = new ArrayList<>();
+    private final List<Player> d_players = new ArrayList<>();
+    private final Map<Player, Integer> d_playerIds = new IdentityHashMap<>();
+
+    /**
+     * Owner and armies of each country as last written, by the id of the country.
+     */
+    private int[] d_ownerIds = new int[0];
+    private int[] d_armies = new int[0];
+
+    /**
+     * Creates the autosave writing to the stream and writes the header.
+     *
+     * @param p_outputStream     Stream receiving the autosave; it is closed when the autosave is closed.
+     * @param p_snapshotInterval Number of turns between two snapshots.
+     * @throws IOException If the header can not be written.
+     */
+    public AutosaveWriter(OutputStream p_outputStream, int p_snapshotInterval) throws IOException {
+        this(p_outputStream, p_snapshotInterval, true);
+    }
+
+    /**
+     * Creates the autosave writing to the stream.
+     *
+     * @param p_outputStream     Stream receiving the autosave; it is closed when the autosave is closed.
+     * @param p_snapshotInterval Number of turns between two snapshots.
+     * @param p_writesHeader     True to write the header; false if the stream appends to an existing autosave.
+     * @throws IOException If the header can not be written.
+     */
+    private AutosaveWriter(OutputStream p_outputStream, int p_snapshotInterval, boolean p_writesHeader) throws IOException {
+        d_outputStream = p_outputStream;
+        d_snapshotInterval = Math.max(1, p_snapshotInterval);
+        if (p_writesHeader) {
+            BinaryCodecUtil.writeInt(d_outputStream, MAGIC);
+            d_outputStream.write(VERSION);
+            d_outputStream.flush();
+        }
+    }
+
+    /**
+     * Creates the autosave in the file, replacing the file if it exists.
+     *
+     * @param p_file File of the autosave.
+     * @return Value of the autosave.
+     * @throws IOException If the file can not be created.
+     */
+    public static AutosaveWriter create(File p_file) throws IOException {
+        return new AutosaveWriter(new FileOutputStream(p_file), DEFAULT_SNAPSHOT_INTERVAL);
+    }
+
+    /**
+     * Replaces the autosave in the file by a single snapshot of the game, then goes on appending to the file. The
+     * snapshot is written to a temporary file moved over the file, so the file is never left without a complete game.
+     *
+     * @param p_file       File of the autosave.
+     * @param p_gameEngine Game to save.
+     * @param p_phaseName  Name of the phase of the game.
+     * @return Value of the autosave.
+     * @throws IOException If the snapshot can not be written; the file is left unchanged.
+     */
+    public static AutosaveWriter rewrite(File p_file, GameEngine p_gameEngine, String p_phaseName) throws IOException {
+        File l_directory = p_file.getAbsoluteFile().getParentFile();
+        File l_temporaryFile = File.createTempFile(p_file.getName(), ".tmp", l_directory);
+        try {
+            try (AutosaveWriter l_snapshotWriter = create(l_temporaryFile)) {
+                l_snapshotWriter.writeSnapshot(p_gameEngine, p_phaseName);
+            }
+            try {
+                Files.move(l_temporaryFile.toPath(), p_file.toPath(), StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException p_atomicMoveNotSupportedException) {
+                Files.move(l_temporaryFile.toPath(), p_file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(l_temporaryFile.toPath());
+        }
+
+        AutosaveWriter l_autosave = new AutosaveWriter(new FileOutputStream(p_file, true), DEFAULT_SNAPSHOT_INTERVAL, false);
+        l_autosave.takeReference(p_gameEngine);
+        return l_autosave;
+    }
+
+    /**
+     * Saves the game at the end of a turn: a snapshot if one is due, the changes of the turn otherwise.
+     *
+     * @param p_gameEngine Game to save.
+     */
+    public synchronized void turnEnded(GameEngine p_gameEngine) {
+        if (d_hasFailed) {
+            return;
+        }
+        try {
+            if (this.isSnapshotDue(p_gameEngine)) {
+                this.writeSnapshot(p_gameEngine);
+            } else {
+                this.writeDelta(p_gameEngine);
+            }
+        } catch (IOException | IllegalStateException p_exception) {
+            // A player unknown to the last snapshot can not be written either; the game goes on without autosave.
+            d_hasFailed = true;
+            d_logEntryBuffer.dataChanged("autosave", "Autosave stopped: " + p_exception.getMessage());
+        }
+    }
+
+    /**
+     * Writes the whole game, and takes its countries and players as the reference of the next deltas.
+     *
+     * @param p_gameEngine Game to save.
+     * @throws IOException If the snapshot can not be written.
+     */
+    public synchronized void writeSnapshot(GameEngine p_gameEngine) throws IOException {
+        this.writeSnapshot(p_gameEngine, p_gameEngine.getGamePhase().getClass().getSimpleName());
+    }
+
+    /**
+     * Writes the whole game as if it was in the phase with the name, for a game whose phase is not restored yet.
+     *
+     * @param p_gameEngine Game to save.
+     * @param p_phaseName  Name of the phase of the game.
+     * @throws IOException If the snapshot can not be written.
+     */
+    public synchronized void writeSnapshot(GameEngine p_gameEngine, String p_phaseName) throws IOException {
+        ByteArrayOutputStream l_content = new ByteArrayOutputStream();
+        try (BinaryGameWriter l_writer = new BinaryGameWriter(l_content, false)) {
+            l_writer.write(p_gameEngine, p_phaseName);
+        }
+        this.writeRecord(d_SNAPSHOT, l_content);
+        this.takeReference(p_gameEngine);
+    }
+
+    /**
+     * Takes the countries and players of the game, as just written in a snapshot, as the reference of the next deltas.
+     *
+     * @param p_gameEngine Game of the snapshot.
+     */
+    private void takeReference(GameEngine p_gameEngine) {
+        d_mapEditorEngine = p_gameEngine.getMapEditorEngine();
+        d_gamePlayEngine = p_gameEngine.getGamePlayEngine();
+        d_countries.clear();
+        // The ids are given in the order of BinaryGameWriter.
+        for (Continent l_continent : d_mapEditorEngine.getContinentList()) {
+            d_countries.addAll(l_continent.getCountryList());
+        }
+        d_players.clear();
+        d_players.addAll(d_gamePlayEngine.getPlayerList());
+        d_playerIds.clear();
+        for (Player l_player : d_players) {
+            d_playerIds.put(l_player, d_playerIds.size());
+        }
+        d_ownerIds = new int[d_countries.size()];
+        d_armies = new int[d_countries.size()];
+        for (int l_countryId = 0; l_countryId < d_countries.size(); l_countryId++) {
+            d_ownerIds[l_countryId] = this.getOwnerId(d_countries.get(l_countryId));
+            d_armies[l_countryId] = d_countries.get(l_countryId).getNumberOfArmies();
+        }
+        d_turnsSinceSnapshot = 0;
+    }
+
+    /**
+     * Closes the stream.
+     *
+     * @throws IOException If the stream can not be closed.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        d_outputStream.close();
+    }
+
+    /**
+     * Checks if the next record must be a snapshot.
+     *
+     * @param p_gameEngine Game to save.
+     * @return True if a snapshot is due; false if a delta can be written.
+     */
+    private boolean isSnapshotDue(GameEngine p_gameEngine) {
+        return d_turnsSinceSnapshot + 1 >= d_snapshotInterval
+                || p_gameEngine.getMapEditorEngine() != d_mapEditorEngine
+                || p_gameEngine.getGamePlayEngine() != d_gamePlayEngine
+                || p_gameEngine.getMapEditorEngine().getCountryList().size() != d_countries.size()
+                || !p_gameEngine.getGamePlayEngine().getPlayerList().equals(d_players);
+    }
+
+    /**
+     * Writes the changes of the game since the last record.
+     *
+     * @param p_gameEngine Game to save.
+     * @throws IOException If the delta can not be written.
+     */
+    private void writeDelta(GameEngine p_gameEngine) throws IOException {
+        GamePlayEngine l_gamePlayEngine = p_gameEngine.getGamePlayEngine();
+        ByteArrayOutputStream l_content = new ByteArrayOutputStream();
+        BinaryCodecUtil.writeSignedVarint(l_content, l_gamePlayEngine.getExecutionIndex());
+        BinaryCodecUtil.writeSignedVarint(l_content, l_gamePlayEngine.getCurrentPlayerForIssuePhase());
+        BinaryCodecUtil.writeSignedVarint(l_content, l_gamePlayEngine.getCurrentPlayerForExecutionPhase());
+        BinaryCodecUtil.writeLong(l_content, l_gamePlayEngine.getRandom().getState());
+
+        List<Integer> l_changedCountryIds = new ArrayList<>();
+        for (int l_countryId = 0; l_countryId < d_countries.size(); l_countryId++) {
+            Country l_country = d_countries.get(l_countryId);
+            if (this.getOwnerId(l_country) != d_ownerIds[l_countryId] || l_country.getNumberOfArmies() != d_armies[l_countryId]) {
+                l_changedCountryIds.add(l_countryId);
+            }
+        }
+        BinaryCodecUtil.writeVarint(l_content, l_changedCountryIds.size());
+        for (int l_countryId : l_changedCountryIds) {
+            Country l_country = d_countries.get(l_countryId);
+            d_ownerIds[l_countryId] = this.getOwnerId(l_country);
+            d_armies[l_countryId] = l_country.getNumberOfArmies();
+            BinaryCodecUtil.writeVarint(l_content, l_countryId);
+            BinaryCodecUtil.writeVarint(l_content, d_ownerIds[l_countryId]);
+            BinaryCodecUtil.writeSignedVarint(l_content, d_armies[l_countryId]);
+        }
+
+        for (Player l_player : d_players) {
+            BinaryCodecUtil.writeSignedVarint(l_content, l_player.getReinforcementCount());
+            BinaryCodecUtil.writeSignedVarint(l_content, l_player.getRemainingReinforcementCount());
+            BinaryCodecUtil.writeVarint(l_content, l_player.getCards().size());
+            for (Card l_card : l_player.getCards()) {
+                BinaryCodecUtil.writeVarint(l_content, l_card.getType().ordinal());
+            }
+            BinaryCodecUtil.writeVarint(l_content, l_player.getFriendPlayers().size());
+            for (Player l_friendPlayer : l_player.getFriendPlayers()) {
+                BinaryCodecUtil.writeVarint(l_content, this.getPlayerId(l_friendPlayer) - 1);
+            }
+            // Few orders are pending at the end of a turn, they are written in their JSON form.
+            BinaryCodecUtil.writeVarint(l_content, l_player.getOrders().size());
+            for (Order l_order : l_player.getOrders()) {
+                BinaryCodecUtil.writeString(l_content, l_order.toJSON().toString());
+            }
+        }
+        this.writeRecord(d_DELTA, l_content);
+        d_turnsSinceSnapshot++;
+    }
+
+    /**
+     * Writes the record and flushes it to the file, so a crash loses at most the record being written.
+     *
+     * @param p_type    Type of the record.
+     * @param p_content Content of the record.
+     * @throws IOException If the record can not be written.
+     */
+    private void writeRecord(int p_type, ByteArrayOutputStream p_content) throws IOException {
+        ByteArrayOutputStream l_record = new ByteArrayOutputStream(p_content.size() + 6);
+        l_record.write(p_type);
+        BinaryCodecUtil.writeVarint(l_record, p_content.size());
+        p_content.writeTo(l_record);
+        l_record.writeTo(d_outputStream);
+        d_outputStream.flush();
+    }
+
+    /**
+     * Gets the value written for the owner of the country. A released country, such as a blockaded one, keeps its
+     * last owner in <code>Country#getOwnedBy</code> but is no longer assigned to that player, so it is written without
+     * an owner.
+     *
+     * @param p_country Country.
+     * @return Id of the owner + 1; <code>d_NONE</code> if the country is assigned to no player.
+     * @throws IllegalStateException If the owner is not a player of the last snapshot.
+     */
+    private int getOwnerId(Country p_country) {
+        Player l_owner = p_country.getOwnedBy();
+        return l_owner == null || !l_owner.hasAssignedCountry(p_country) ? d_NONE : this.getPlayerId(l_owner);
+    }
+
+    /**
+     * Gets the value written for the player.
+     *
+     * @param p_player Player of the last snapshot.
+     * @return Id of the player + 1.
+     * @throws IllegalStateException If the player is not a player of the last snapshot.
+     */
+    private int getPlayerId(Player p_player) {
+        Integer l_id = d_playerIds.get(p_player);
+        if (l_id == null) {
+            throw new IllegalStateException(String.format("Player %s is not in the autosave!", p_player.getName()));
+        }
+        return l_id + 1;
+    }
+}
@@ -0,0 +1,324 @@
+package com.APP.Project.UserCoreLogic.common.services;
+
+import com.APP.Project.UserCoreLogic.GameEngine;
+import com.APP.Project.UserCoreLogic.UserCoreLogic;
+import com.APP.Project.UserCoreLogic.constants.enums.CardType;
+import com.APP.Project.UserCoreLogic.constants.enums.OrderTypes;
+import com.APP.Project.UserCoreLogic.constants.enums.StrategyType;
+import com.APP.Project.UserCoreLogic.exceptions.InvalidGameException;
+import com.APP.Project.UserCoreLogic.game_entities.Continent;
+import com.APP.Project.UserCoreLogic.game_entities.Country;
+import com.APP.Project.UserCoreLogic.game_entities.Player;
+import com.APP.Project.UserCoreLogic.gamePlay.GamePlayEngine;
+import com.APP.Project.UserCoreLogic.gamePlay.GameRandom;
+import com.APP.Project.UserCoreLogic.map_features.MapEditorEngine;
+import com.APP.Project.UserCoreLogic.mappers.OrderMapper;
+import com.APP.Project.UserCoreLogic.Utility.BinaryCodecUtil;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Reads a game written by <code>BinaryGameWriter</code>. The countries and players are kept in lists by their ids, so
+ * each reference is resolved in constant time.
+ *
+ * @author Rikin Dipakkumar Chauhan
+ * @version 1.0
+ */
+public class BinaryGameReader implements Closeable {
+    private static final StrategyType[] d_STRATEGY_TYPES = StrategyType.values();
+    private static final OrderTypes[] d_ORDER_TYPES = OrderTypes.values();
+    private static final CardType[] d_CARD_TYPES = CardType.values();
+    private static final OrderMapper d_ORDER_MAPPER = new OrderMapper();
+
+    private final InputStream d_inputStream;
+    private final List<Country> d_countries = new ArrayList<>();
+    private final List<Player> d_players = new ArrayList<>();
+    private String d_phaseName;
+
+    /**
+     * Creates the reader and checks the header of the game.
+     *
+     * @param p_inputStream Stream of the game; it is closed when the reader is closed.
+     * @throws IOException          If the stream can not be read.
+     * @throws InvalidGameException If the stream is not a binary game or has an unknown version.
+     */
+    public BinaryGameReader(InputStream p_inputStream) throws IOException, InvalidGameException {
+        InputStream l_inputStream = p_inputStream instanceof BufferedInputStream ?
+                p_inputStream : new BufferedInputStream(p_inputStream);
+        int l_flags;
+        try {
+            if (BinaryCodecUtil.readInt(l_inputStream) != BinaryGameWriter.MAGIC) {
+                throw new InvalidGameException("Not a binary game file!");
+            }
+            int l_version = BinaryCodecUtil.readByte(l_inputStream);
+            if (l_version != BinaryGameWriter.VERSION) {
+                throw new InvalidGameException(String.format("Game file version %d is not supported!", l_version));
+            }
+            l_flags = BinaryCodecUtil.readByte(l_inputStream);
+        } catch (EOFException p_eofException) {
+            throw new InvalidGameException("Not a binary game file!");
+        }
+        d_inputStream = (l_flags & BinaryGameWriter.d_COMPRESSED) != 0 ?
+                new InflaterInputStream(l_inputStream) : l_inputStream;
+    }
+
+    /**
+     * Checks if the stream starts with the header of a binary game, without consuming it.
+     *
+     * @param p_inputStream Stream of the game; must support <code>mark</code>.
+     * @return True if the stream holds a binary game; false otherwise.
+     * @throws IOException If the stream can not be read.
+     */
+    public static boolean hasHeader(InputStream p_inputStream) throws IOException {
+        p_inputStream.mark(4);
+        try {
+            return BinaryCodecUtil.readInt(p_inputStream) == BinaryGameWriter.MAGIC;
+        } catch (EOFException p_eofException) {
+            return false;
+        } finally {
+            p_inputStream.reset();
+        }
+    }
+
+    /**
+     * Reads the game and makes it the game of the application, in the phase it was saved in.
+     *
+     * @return Read game engine.
+     * @throws InvalidGameException If the game is corrupted or misses values.
+     * @throws IOException          If the stream can not be read.
+     */
+    public GameEngine read() throws InvalidGameException, IOException {
+        GameEngine l_gameEngine = this.readState();
+        GameEngine.restoreGamePhase(l_gameEngine, l_gameEngine.getGamePlayEngine(), d_phaseName);
+        return l_gameEngine;
+    }
+
+    /**
+     * Reads the game and makes it the game of the application, without restoring its phase. The name of the saved
+     * phase is then given by <code>getPhaseName</code>.
+     *
+     * @return Read game engine.
+     * @throws InvalidGameException If the game is corrupted or misses values.
+     * @throws IOException          If the stream can not be read.
+     */
+    public GameEngine readState() throws InvalidGameException, IOException {
+        try {
+            GameEngine l_gameEngine = new GameEngine();
+            UserCoreLogic.setGameEngine(l_gameEngine);
+
+            d_phaseName = BinaryCodecUtil.readString(d_inputStream);
+            this.readMap(l_gameEngine);
+            this.readGamePlay(l_gameEngine);
+            return l_gameEngine;
+        } catch (EOFException | JSONException p_exception) {
+            throw new InvalidGameException("Missing values or the corrupted game file!");
+        }
+    }
+
+    /**
+     * Gets the name of the phase the game was saved in.
+     *
+     * @return Name of the phase; null before the game is read.
+     */
+    public String getPhaseName() {
+        return d_phaseName;
+    }
+
+    /**
+     * Gets the countries of the game read, in the order of their ids.
+     *
+     * @return List of the countries.
+     */
+    List<Country> getCountries() {
+        return d_countries;
+    }
+
+    /**
+     * Gets the players of the game read, in the order of their ids.
+     *
+     * @return List of the players.
+     */
+    List<Player> getPlayers() {
+        return d_players;
+    }
+
+    /**
+     * Closes the stream.
+     *
+     * @throws IOException If the stream can not be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        d_inputStream.close();
+    }
+
+    /**
+     * Reads the continents, countries and neighbours.
+     *
+     * @param p_gameEngine Game being read.
+     * @throws InvalidGameException If a neighbour is not on the map.
+     * @throws IOException          If the stream can not be read or ends.
+     */
+    private void readMap(GameEngine p_gameEngine) throws InvalidGameException, IOException {
+        MapEditorEngine l_mapEditorEngine = new MapEditorEngine();
+        p_gameEngine.setMapEditorEngine(l_mapEditorEngine);
+
+        int l_continentCount = BinaryCodecUtil.readVarint(d_inputStream);
+        for (int l_continentIndex = 0; l_continentIndex < l_continentCount; l_continentIndex++) {
+            Continent l_continent = new Continent();
+            l_continent.setContinentName(BinaryCodecUtil.readString(d_inputStream));
+            l_continent.setContinentControlValue(BinaryCodecUtil.readSignedVarint(d_inputStream));
+            int l_countryCount = BinaryCodecUtil.readVarint(d_inputStream);
+            for (int l_countryIndex = 0; l_countryIndex < l_countryCount; l_countryIndex++) {
+                Country l_country = new Country();
+                l_country.setCountryName(BinaryCodecUtil.readString(d_inputStream));
+                l_country.setNumberOfArmies(BinaryCodecUtil.readSignedVarint(d_inputStream));
+                l_country.setContinent(l_continent);
+                l_continent.addCountry(l_country);
+                d_countries.add(l_country);
+            }
+            l_mapEditorEngine.addContinent(l_continent);
+        }
+        for (Country l_country : d_countries) {
+            int l_neighbourCount = BinaryCodecUtil.readVarint(d_inputStream);
+            for (int l_neighbourIndex = 0; l_neighbourIndex < l_neighbourCount; l_neighbourIndex++) {
+                l_country.addNeighbourCountry(this.getCountry(BinaryCodecUtil.readVarint(d_inputStream)));
+            }
+        }
+    }
+
+    /**
+     * Reads the state of the game play and its players.
+     *
+     * @param p_gameEngine Game being read.
+     * @return Read game play engine.
+     * @throws InvalidGameException If a reference or type is not valid.
+     * @throws IOException          If the stream can not be read or ends.
+     */
+    private GamePlayEngine readGamePlay(GameEngine p_gameEngine) throws InvalidGameException, IOException {
+        GamePlayEngine l_gamePlayEngine = new GamePlayEngine(BinaryCodecUtil.readSignedVarint(d_inputStream));
+        p_gameEngine.setGamePlayEngine(l_gamePlayEngine);
+        int l_currentPlayerForIssuePhase = BinaryCodecUtil.readSignedVarint(d_inputStream);
+        int l_currentPlayerForExecutionPhase = BinaryCodecUtil.readSignedVarint(d_inputStream);
+        GameRandom l_random = new GameRandom(BinaryCodecUtil.readLong(d_inputStream));
+        l_random.setState(BinaryCodecUtil.readLong(d_inputStream));
+        l_gamePlayEngine.setRandom(l_random);
+
+        int l_playerCount = BinaryCodecUtil.readVarint(d_inputStream);
+        for (int l_playerIndex = 0; l_playerIndex < l_playerCount; l_playerIndex++) {
+            String l_playerName = BinaryCodecUtil.readString(d_inputStream);
+            Player l_player = new Player(l_playerName, getType(d_STRATEGY_TYPES, BinaryCodecUtil.readVarint(d_inputStream), "strategy"));
+            int l_assignedCountryCount = BinaryCodecUtil.readVarint(d_inputStream);
+            for (int l_countryIndex = 0; l_countryIndex < l_assignedCountryCount; l_countryIndex++) {
+                Country l_country = this.getCountry(BinaryCodecUtil.readVarint(d_inputStream));
+                l_country.setOwnedBy(l_player);
+                l_player.addAssignedCountries(l_country);
+            }
+            l_player.setReinforcementCount(BinaryCodecUtil.readSignedVarint(d_inputStream));
+            l_player.setRemainingReinforcementCount(BinaryCodecUtil.readSignedVarint(d_inputStream));
+            int l_cardCount = BinaryCodecUtil.readVarint(d_inputStream);
+            for (int l_cardIndex = 0; l_cardIndex < l_cardCount; l_cardIndex++) {
+                l_player.addCard(CardService.createCard(getType(d_CARD_TYPES, BinaryCodecUtil.readVarint(d_inputStream), "card")));
+            }
+            d_players.add(l_player);
+            l_gamePlayEngine.addPlayer(l_player);
+        }
+
+        for (Player l_player : d_players) {
+            int l_friendCount = BinaryCodecUtil.readVarint(d_inputStream);
+            for (int l_friendIndex = 0; l_friendIndex < l_friendCount; l_friendIndex++) {
+                l_player.addNegotiatePlayer(this.getPlayer(BinaryCodecUtil.readVarint(d_inputStream)));
+            }
+            int l_orderCount = BinaryCodecUtil.readVarint(d_inputStream);
+            for (int l_orderIndex = 0; l_orderIndex < l_orderCount; l_orderIndex++) {
+                l_player.addOrder(d_ORDER_MAPPER.toOrder(this.readOrder(), l_player));
+            }
+        }
+
+        l_gamePlayEngine.setCurrentPlayerForIssuePhase(l_currentPlayerForIssuePhase);
+        l_gamePlayEngine.setCurrentPlayerForExecutionPhase(l_currentPlayerForExecutionPhase);
+        l_gamePlayEngine.refreshPlayerStatus();
+        return l_gamePlayEngine;
+    }
+
+    /**
+     * Reads an order into the <code>JSONObject</code> understood by <code>OrderMapper</code>.
+     *
+     * @return Value of the order.
+     * @throws InvalidGameException If a reference or type is not valid.
+     * @throws IOException          If the stream can not be read or ends.
+     */
+    private JSONObject readOrder() throws InvalidGameException, IOException {
+        JSONObject l_orderJSON = new JSONObject();
+        l_orderJSON.put("type", getType(d_ORDER_TYPES, BinaryCodecUtil.readVarint(d_inputStream), "order").name());
+        int l_source = BinaryCodecUtil.readVarint(d_inputStream);
+        if (l_source != BinaryGameWriter.d_NONE) {
+            l_orderJSON.put("source", this.getCountry(l_source - 1).getCountryName());
+        }
+        int l_target = BinaryCodecUtil.readVarint(d_inputStream);
+        if (l_target != BinaryGameWriter.d_NONE) {
+            l_orderJSON.put("target", this.getCountry(l_target - 1).getCountryName());
+        }
+        l_orderJSON.put("numOfArmies", BinaryCodecUtil.readSignedVarint(d_inputStream));
+        int l_otherPlayer = BinaryCodecUtil.readVarint(d_inputStream);
+        if (l_otherPlayer != BinaryGameWriter.d_NONE) {
+            l_orderJSON.put("other_player", this.getPlayer(l_otherPlayer - 1).getName());
+        }
+        return l_orderJSON;
+    }
+
+    /**
+     * Gets the country with the id.
+     *
+     * @param p_id Id of the country.
+     * @return Value of the country.
+     * @throws InvalidGameException If there is no country with the id.
+     */
+    private Country getCountry(int p_id) throws InvalidGameException {
+        if (p_id < 0 || p_id >= d_countries.size()) {
+            throw new InvalidGameException(String.format("Unknown country id %d in game file!", p_id));
+        }
+        return d_countries.get(p_id);
+    }
+
+    /**
+     * Gets the player with the id.
+     *
+     * @param p_id Id of the player.
+     * @return Value of the player.
+     * @throws InvalidGameException If there is no player with the id.
+     */
+    private Player getPlayer(int p_id) throws InvalidGameException {
+        if (p_id < 0 || p_id >= d_players.size()) {
+            throw new InvalidGameException(String.format("Unknown player id %d in game file!", p_id));
+        }
+        return d_players.get(p_id);
+    }
+
+    /**
+     * Gets the constant of the enum with the ordinal.
+     *
+     * @param p_values  Constants of the enum.
+     * @param p_ordinal Ordinal read from the game file.
+     * @param p_entity  Kind of the constant, for the error message.
+     * @param <T>       Type of the enum.
+     * @return Value of the constant.
+     * @throws InvalidGameException If there is no constant with the ordinal.
+     */
+    private static <T extends Enum<T>> T getType(T[] p_values, int p_ordinal, String p_entity)
+            throws InvalidGameException {
+        if (p_ordinal >= p_values.length) {
+            throw new InvalidGameException(String.format("Unknown %s type %d in game file!", p_entity, p_ordinal));
+        }
+        return p_values[p_ordinal];
+    }
+}
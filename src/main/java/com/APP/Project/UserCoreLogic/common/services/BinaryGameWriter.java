@@ -0,0 +1,236 @@
+package com.APP.Project.UserCoreLogic.common.services;
+
+import com.APP.Project.UserCoreLogic.GameEngine;
+import com.APP.Project.UserCoreLogic.constants.enums.OrderTypes;
+import com.APP.Project.UserCoreLogic.constants.interfaces.Card;
+import com.APP.Project.UserCoreLogic.constants.interfaces.Order;
+import com.APP.Project.UserCoreLogic.game_entities.Continent;
+import com.APP.Project.UserCoreLogic.game_entities.Country;
+import com.APP.Project.UserCoreLogic.game_entities.Player;
+import com.APP.Project.UserCoreLogic.gamePlay.GamePlayEngine;
+import com.APP.Project.UserCoreLogic.map_features.MapEditorEngine;
+import com.APP.Project.UserCoreLogic.Utility.BinaryCodecUtil;
+import org.json.JSONObject;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Writes a game in the binary encoding of the <code>.warzone</code> files.
+ * <p>
+ * The file starts with <code>MAGIC</code>, <code>VERSION</code> and a byte of flags telling if the rest of the file is
+ * compressed with deflate. Each name is written once, where its continent, country or player is defined; the countries
+ * and players are then referred to by their dense ids, in the order of their definition. Counts and ids are written as
+ * unsigned varints, the other numbers as zigzag varints, and texts as their UTF-8 length and bytes. An absent country
+ * or player is written as 0, any other id as id + 1. <code>BinaryGameReader</code> reads the game back.
+ * </p>
+ * <p>
+ * The game is written in this order: the phase; the continents with their countries and armies; the neighbours of
+ * each country; the execution index, the current players and the random source; the players with their countries,
+ * reinforcements and cards; the friends and orders of each player.
+ * </p>
+ *
+ * @author Rikin Dipakkumar Chauhan
+ * @version 1.0
+ */
+public class BinaryGameWriter implements Closeable {
+    /**
+     * First four bytes of a binary game: <code>WZG1</code>.
+     */
+    public static final int MAGIC = 0x575A4731;
+
+    /**
+     * Version of the format written by this class.
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * Flag set if the content after the header is compressed.
+     */
+    static final int d_COMPRESSED = 1;
+
+    /**
+     * Value written in place of an absent country or player.
+     */
+    static final int d_NONE = 0;
+
+    private static final int d_BUFFER_SIZE = 1 << 16;
+
+    private final OutputStream d_outputStream;
+    private final Map<String, Integer> d_countryIds = new HashMap<>();
+    private final Map<String, Integer> d_playerIds = new HashMap<>();
+
+    /**
+     * Creates the writer and writes the header.
+     *
+     * @param p_outputStream Stream receiving the game; it is closed when the writer is closed.
+     * @param p_isCompressed True to compress the game after the header.
+     * @throws IOException If the header can not be written.
+     */
+    public BinaryGameWriter(OutputStream p_outputStream, boolean p_isCompressed) throws IOException {
+        OutputStream l_outputStream = new BufferedOutputStream(p_outputStream, d_BUFFER_SIZE);
+        BinaryCodecUtil.writeInt(l_outputStream, MAGIC);
+        l_outputStream.write(VERSION);
+        l_outputStream.write(p_isCompressed ? d_COMPRESSED : 0);
+        d_outputStream = p_isCompressed ? new DeflaterOutputStream(l_outputStream, true) : l_outputStream;
+    }
+
+    /**
+     * Writes the game.
+     *
+     * @param p_gameEngine Game to write.
+     * @throws IOException If the game can not be written.
+     */
+    public void write(GameEngine p_gameEngine) throws IOException {
+        this.write(p_gameEngine, p_gameEngine.getGamePhase().getClass().getSimpleName());
+    }
+
+    /**
+     * Writes the game as if it was in the phase with the name, for a game whose phase is not restored yet.
+     *
+     * @param p_gameEngine Game to write.
+     * @param p_phaseName  Name of the phase of the game.
+     * @throws IOException If the game can not be written.
+     */
+    public void write(GameEngine p_gameEngine, String p_phaseName) throws IOException {
+        BinaryCodecUtil.writeString(d_outputStream, p_phaseName);
+        this.writeMap(p_gameEngine.getMapEditorEngine());
+        this.writeGamePlay(p_gameEngine.getGamePlayEngine());
+        d_outputStream.flush();
+    }
+
+    /**
+     * Finishes the compression, if any, and closes the stream.
+     *
+     * @throws IOException If the stream can not be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        d_outputStream.close();
+    }
+
+    /**
+     * Writes the continents, countries and neighbours, giving each country its id.
+     *
+     * @param p_mapEditorEngine Map of the game.
+     * @throws IOException If the map can not be written.
+     */
+    private void writeMap(MapEditorEngine p_mapEditorEngine) throws IOException {
+        List<Country> l_countries = new ArrayList<>();
+        List<Continent> l_continents = p_mapEditorEngine.getContinentList();
+        BinaryCodecUtil.writeVarint(d_outputStream, l_continents.size());
+        for (Continent l_continent : l_continents) {
+            BinaryCodecUtil.writeString(d_outputStream, l_continent.getContinentName());
+            BinaryCodecUtil.writeSignedVarint(d_outputStream, l_continent.getContinentControlValue());
+            BinaryCodecUtil.writeVarint(d_outputStream, l_continent.getCountryList().size());
+            for (Country l_country : l_continent.getCountryList()) {
+                d_countryIds.put(l_country.getCountryName(), l_countries.size());
+                l_countries.add(l_country);
+                BinaryCodecUtil.writeString(d_outputStream, l_country.getCountryName());
+                BinaryCodecUtil.writeSignedVarint(d_outputStream, l_country.getNumberOfArmies());
+            }
+        }
+        for (Country l_country : l_countries) {
+            BinaryCodecUtil.writeVarint(d_outputStream, l_country.getNeighbourCountries().size());
+            for (Country l_neighbourCountry : l_country.getNeighbourCountries()) {
+                BinaryCodecUtil.writeVarint(d_outputStream, this.getCountryId(l_neighbourCountry.getCountryName()));
+            }
+        }
+    }
+
+    /**
+     * Writes the state of the game play and its players.
+     *
+     * @param p_gamePlayEngine Game play of the game.
+     * @throws IOException If the game play can not be written.
+     */
+    private void writeGamePlay(GamePlayEngine p_gamePlayEngine) throws IOException {
+        BinaryCodecUtil.writeSignedVarint(d_outputStream, p_gamePlayEngine.getExecutionIndex());
+        BinaryCodecUtil.writeSignedVarint(d_outputStream, p_gamePlayEngine.getCurrentPlayerForIssuePhase());
+        BinaryCodecUtil.writeSignedVarint(d_outputStream, p_gamePlayEngine.getCurrentPlayerForExecutionPhase());
+        BinaryCodecUtil.writeLong(d_outputStream, p_gamePlayEngine.getRandom().getSeed());
+        BinaryCodecUtil.writeLong(d_outputStream, p_gamePlayEngine.getRandom().getState());
+
+        List<Player> l_players = p_gamePlayEngine.getPlayerList();
+        BinaryCodecUtil.writeVarint(d_outputStream, l_players.size());
+        for (Player l_player : l_players) {
+            d_playerIds.put(l_player.getName(), d_playerIds.size());
+            BinaryCodecUtil.writeString(d_outputStream, l_player.getName());
+            BinaryCodecUtil.writeVarint(d_outputStream, l_player.getPlayerStrategyType().ordinal());
+            BinaryCodecUtil.writeVarint(d_outputStream, l_player.getAssignedCountries().size());
+            for (Country l_country : l_player.getAssignedCountries()) {
+                BinaryCodecUtil.writeVarint(d_outputStream, this.getCountryId(l_country.getCountryName()));
+            }
+            BinaryCodecUtil.writeSignedVarint(d_outputStream, l_player.getReinforcementCount());
+            BinaryCodecUtil.writeSignedVarint(d_outputStream, l_player.getRemainingReinforcementCount());
+            BinaryCodecUtil.writeVarint(d_outputStream, l_player.getCards().size());
+            for (Card l_card : l_player.getCards()) {
+                BinaryCodecUtil.writeVarint(d_outputStream, l_card.getType().ordinal());
+            }
+        }
+
+        // Friends and orders may refer to any player, so they follow the definitions of all the players.
+        for (Player l_player : l_players) {
+            BinaryCodecUtil.writeVarint(d_outputStream, l_player.getFriendPlayers().size());
+            for (Player l_friendPlayer : l_player.getFriendPlayers()) {
+                BinaryCodecUtil.writeVarint(d_outputStream, this.getPlayerId(l_friendPlayer.getName()));
+            }
+            BinaryCodecUtil.writeVarint(d_outputStream, l_player.getOrders().size());
+            for (Order l_order : l_player.getOrders()) {
+                this.writeOrder(l_order);
+            }
+        }
+    }
+
+    /**
+     * Writes the order as its type, source, target, armies and other player.
+     *
+     * @param p_order Order to write.
+     * @throws IOException If the order can not be written.
+     */
+    private void writeOrder(Order p_order) throws IOException {
+        JSONObject l_orderJSON = p_order.toJSON();
+        BinaryCodecUtil.writeVarint(d_outputStream, l_orderJSON.getEnum(OrderTypes.class, "type").ordinal());
+        BinaryCodecUtil.writeVarint(d_outputStream, l_orderJSON.has("source") ? this.getCountryId(l_orderJSON.getString("source")) + 1 : d_NONE);
+        BinaryCodecUtil.writeVarint(d_outputStream, l_orderJSON.has("target") ? this.getCountryId(l_orderJSON.getString("target")) + 1 : d_NONE);
+        BinaryCodecUtil.writeSignedVarint(d_outputStream, l_orderJSON.optInt("numOfArmies", 0));
+        BinaryCodecUtil.writeVarint(d_outputStream, l_orderJSON.has("other_player") ? this.getPlayerId(l_orderJSON.getString("other_player")) + 1 : d_NONE);
+    }
+
+    /**
+     * Gets the id of the country.
+     *
+     * @param p_countryName Name of the country.
+     * @return Value of the id.
+     * @throws IOException If the country is not on the map.
+     */
+    private int getCountryId(String p_countryName) throws IOException {
+        Integer l_id = d_countryIds.get(p_countryName);
+        if (l_id == null) {
+            throw new IOException(String.format("Country %s is not on the map!", p_countryName));
+        }
+        return l_id;
+    }
+
+    /**
+     * Gets the id of the player.
+     *
+     * @param p_playerName Name of the player.
+     * @return Value of the id.
+     * @throws IOException If the player is not in the game.
+     */
+    private int getPlayerId(String p_playerName) throws IOException {
+        Integer l_id = d_playerIds.get(p_playerName);
+        if (l_id == null) {
+            throw new IOException(String.format("Player %s is not in the game!", p_playerName));
+        }
+        return l_id;
+    }
+}
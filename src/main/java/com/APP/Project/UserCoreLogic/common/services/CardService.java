@@ -1,7 +1,10 @@
 package com.APP.Project.UserCoreLogic.common.services;
 
+import com.APP.Project.UserCoreLogic.GameContext;
 import com.APP.Project.UserCoreLogic.constants.enums.CardType;
 import com.APP.Project.UserCoreLogic.constants.interfaces.Card;
+import com.APP.Project.UserCoreLogic.gamePlay.GamePlayEngine;
+import com.APP.Project.UserCoreLogic.game_entities.Player;
 import com.APP.Project.UserCoreLogic.game_entities.cards.*;
 
 import java.util.List;
@@ -21,14 +24,39 @@ public class CardService {
     public static List<CardType> d_CardList = CardType.usableCardList();
 
     /**
-     * Generates a random card.
+     * Generates a random card using the source of random numbers of the game in use.
      *
      * @return A randomly generated card.
      */
     public static Card randomCard() {
-        Random rand = new Random();
+        return randomCard(GameContext.current().getGamePlayEngine().getRandom());
+    }
+
+    /**
+     * Generates a random card.
+     *
+     * @param p_random The source of random numbers.
+     * @return A randomly generated card.
+     */
+    public static Card randomCard(Random p_random) {
         // Getting a card-type using random index and creating a card using the type.
-        return createCard(d_CardList.get(rand.nextInt(d_CardList.size())));
+        return createCard(d_CardList.get(p_random.nextInt(d_CardList.size())));
+    }
+
+    /**
+     * Awards a random card to the player and records it in the journal of the game.
+     *
+     * @param p_player         The player who is awarded the card.
+     * @param p_gamePlayEngine The game-play engine of the game, giving its random numbers and journal.
+     * @return The awarded card.
+     */
+    public static Card awardRandomCard(Player p_player, GamePlayEngine p_gamePlayEngine) {
+        Card l_card = randomCard(p_gamePlayEngine.getRandom());
+        p_player.addCard(l_card);
+        if (p_gamePlayEngine.getJournal() != null) {
+            p_gamePlayEngine.getJournal().cardAwarded(p_player, l_card.getType());
+        }
+        return l_card;
     }
 
     /**
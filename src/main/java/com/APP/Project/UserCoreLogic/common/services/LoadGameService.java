@@ -3,16 +3,18 @@ package com.APP.Project.UserCoreLogic.common.services;
 import com.APP.Project.UserCoreLogic.GameEngine;
 import com.APP.Project.UserCoreLogic.Utility.FileValidationUtil;
 import com.APP.Project.UserCoreLogic.Utility.FindFilePathUtil;
+import com.APP.Project.UserCoreLogic.Utility.JSONStreamReader;
 import com.APP.Project.UserCoreLogic.constants.enums.FileType;
 import com.APP.Project.UserCoreLogic.constants.interfaces.StandaloneCommand;
 import com.APP.Project.UserCoreLogic.exceptions.UserCoreLogicException;
 import com.APP.Project.UserCoreLogic.logger.LogEntryBuffer;
 import org.json.JSONObject;
 
-import java.io.BufferedReader;
+import java.io.BufferedInputStream;
 import java.io.File;
-import java.io.FileReader;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.util.List;
 
 /**
@@ -22,6 +24,11 @@ import java.util.List;
  * @version 3.0
  */
 public class LoadGameService implements StandaloneCommand {
+    /**
+     * Size of the buffer of the loaded file, in bytes.
+     */
+    private static final int d_BUFFER_SIZE = 64 * 1024;
+
     private LogEntryBuffer d_logEntryBuffer = LogEntryBuffer.getLogger();
 
     /**
@@ -36,6 +43,32 @@ public class LoadGameService implements StandaloneCommand {
         return "Game loaded successfully";
     }
 
+    /**
+     * Loads the game state from the document read by the reader.
+     *
+     * @param p_reader The reader positioned before the document of the game state.
+     * @return A string indicating the success of the operation.
+     * @throws UserCoreLogicException If there is an error during the game loading process.
+     * @throws IOException            If the document can not be read.
+     */
+    public String loadGameState(JSONStreamReader p_reader) throws UserCoreLogicException, IOException {
+        GameEngine.readJSON(p_reader);
+        return "Game loaded successfully";
+    }
+
+    /**
+     * Loads the game state from the binary game read by the reader.
+     *
+     * @param p_reader The reader positioned after the header of the game.
+     * @return A string indicating the success of the operation.
+     * @throws UserCoreLogicException If there is an error during the game loading process.
+     * @throws IOException            If the game can not be read.
+     */
+    public String loadGameState(BinaryGameReader p_reader) throws UserCoreLogicException, IOException {
+        p_reader.read();
+        return "Game loaded successfully";
+    }
+
     @Override
     public String execute(List<String> p_commandValues) throws UserCoreLogicException {
         // Check if the file has the required extension
@@ -46,23 +79,17 @@ public class LoadGameService implements StandaloneCommand {
                 FindFilePathUtil.resolveFilePath(
                         p_commandValues.get(0)
                 ));
-        StringBuilder l_fileContentBuilder = new StringBuilder();
-        try (BufferedReader l_bufferedReader = new BufferedReader(new FileReader(l_targetFile))) {
-            String l_currentLine;
-            // Read the file content
-            while ((l_currentLine = l_bufferedReader.readLine()) != null) {
-                l_fileContentBuilder.append(l_currentLine);
+        // The encoding is found from the start of the file; a JSON game is read member by member.
+        try (BufferedInputStream l_inputStream = new BufferedInputStream(new FileInputStream(l_targetFile), d_BUFFER_SIZE)) {
+            // Log the event
+            d_logEntryBuffer.dataChanged("loadgame", "Game loaded from file: " + p_commandValues.get(0));
+
+            if (BinaryGameReader.hasHeader(l_inputStream)) {
+                return this.loadGameState(new BinaryGameReader(l_inputStream));
             }
+            return this.loadGameState(new JSONStreamReader(new InputStreamReader(l_inputStream)));
         } catch (IOException p_ioException) {
             throw new UserCoreLogicException(String.format("Error while loading the game file %s!", p_commandValues.get(0)));
         }
-
-        // Log the event
-        d_logEntryBuffer.dataChanged("loadgame", "Game loaded from file: " + p_commandValues.get(0));
-
-        // Load the game state from the file content
-        return this.loadGameState(new JSONObject(l_fileContentBuilder.toString()));
-
-
     }
 }
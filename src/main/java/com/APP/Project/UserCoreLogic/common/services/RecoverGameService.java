@@ -0,0 +1,67 @@
+package com.APP.Project.UserCoreLogic.common.services;
+
+import com.APP.Project.UserCoreLogic.GameEngine;
+import com.APP.Project.UserCoreLogic.UserCoreLogic;
+import com.APP.Project.UserCoreLogic.Utility.FindFilePathUtil;
+import com.APP.Project.UserCoreLogic.constants.interfaces.StandaloneCommand;
+import com.APP.Project.UserCoreLogic.exceptions.InvalidCommandException;
+import com.APP.Project.UserCoreLogic.exceptions.ResourceNotFoundException;
+import com.APP.Project.UserCoreLogic.exceptions.UserCoreLogicException;
+import com.APP.Project.UserCoreLogic.logger.LogEntryBuffer;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Recovers the game autosaved by <code>AutosaveService</code>: the game is rebuilt from the last snapshot and the
+ * deltas after it, autosaved again to the same file, and resumed from its phase.
+ *
+ * @author Rikin Dipakkumar Chauhan
+ * @version 1.0
+ */
+public class RecoverGameService implements StandaloneCommand {
+    private final LogEntryBuffer d_logEntryBuffer = LogEntryBuffer.getLogger();
+
+    /**
+     * Executes the recover game command.
+     *
+     * @param p_commandValues List of command values, expects the file name given to the autosave command.
+     * @return Success message if the game is recovered.
+     * @throws UserCoreLogicException If the autosave can not be read or is corrupted.
+     */
+    @Override
+    public String execute(List<String> p_commandValues) throws UserCoreLogicException {
+        if (p_commandValues.size() <= 0) {
+            throw new InvalidCommandException("Please provide the file name!");
+        }
+        String l_fileName = p_commandValues.get(0);
+        File l_targetFile = new File(FindFilePathUtil.resolveFilePath(l_fileName.endsWith(AutosaveWriter.FILE_EXTENSION)
+                ? l_fileName : l_fileName.concat(AutosaveWriter.FILE_EXTENSION)));
+        if (!l_targetFile.exists()) {
+            throw new ResourceNotFoundException("Autosave file not found!");
+        }
+
+        // The game being replaced stops writing to the file.
+        UserCoreLogic.getGameEngine().setAutosave(null);
+        GameEngine l_gameEngine;
+        String l_phaseName;
+        try (AutosaveReader l_reader = new AutosaveReader(new FileInputStream(l_targetFile))) {
+            l_gameEngine = l_reader.recover();
+            l_phaseName = l_reader.getPhaseName();
+        } catch (IOException p_ioException) {
+            throw new UserCoreLogicException(String.format("Error while reading the autosave %s!", l_fileName));
+        }
+
+        // The file is replaced by a single snapshot before the game goes on; it is kept as it was if that fails.
+        try {
+            l_gameEngine.setAutosave(AutosaveWriter.rewrite(l_targetFile, l_gameEngine, l_phaseName));
+        } catch (IOException p_ioException) {
+            d_logEntryBuffer.dataChanged("autosave", "Autosave stopped: " + p_ioException.getMessage());
+        }
+        d_logEntryBuffer.dataChanged("recovergame", "Game recovered from file: " + l_targetFile.getName());
+        GameEngine.restoreGamePhase(l_gameEngine, l_gameEngine.getGamePlayEngine(), l_phaseName);
+        return "Game recovered successfully";
+    }
+}
@@ -1,18 +1,21 @@
 package com.APP.Project.UserCoreLogic.common.services;
 
 import com.APP.Project.UserCoreLogic.UserCoreLogic;
+import com.APP.Project.UserCoreLogic.constants.enums.SaveGameFormat;
 import com.APP.Project.UserCoreLogic.constants.interfaces.StandaloneCommand;
 import com.APP.Project.UserCoreLogic.Utility.FileValidationUtil;
 import com.APP.Project.UserCoreLogic.exceptions.InvalidCommandException;
 import com.APP.Project.UserCoreLogic.exceptions.UserCoreLogicException;
 import com.APP.Project.UserCoreLogic.logger.LogEntryBuffer;
 import com.APP.Project.UserCoreLogic.Utility.FindFilePathUtil;
+import com.APP.Project.UserCoreLogic.Utility.JSONStreamWriter;
 import org.json.JSONObject;
 
+import java.io.BufferedWriter;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.FileWriter;
 import java.io.IOException;
-import java.io.Writer;
 import java.util.List;
 
 /**
@@ -23,19 +26,36 @@ import java.util.List;
  * @version 3.0
  */
 public class SaveGameService implements StandaloneCommand {
+    /**
+     * Size of the buffer of the saved file, in characters.
+     */
+    private static final int d_BUFFER_SIZE = 64 * 1024;
+
     private JSONObject d_currentGameEngine;
     private final LogEntryBuffer d_logEntryBuffer;
+    private final SaveGameFormat d_format;
 
     /**
-     * Constructs a SaveGameService object initializing the log entry buffer.
+     * Constructs a SaveGameService object initializing the log entry buffer. The game is saved as JSON.
      */
     public SaveGameService() {
+        this(SaveGameFormat.JSON);
+    }
+
+    /**
+     * Constructs a SaveGameService object saving the game in the given encoding. <code>LoadGameService</code> finds
+     * the encoding from the saved file.
+     *
+     * @param p_format Encoding of the saved file.
+     */
+    public SaveGameService(SaveGameFormat p_format) {
         d_currentGameEngine = new JSONObject();
         d_logEntryBuffer = LogEntryBuffer.getLogger();
+        d_format = p_format;
     }
 
     /**
-     * Converts the game state to JSON.
+     * Converts the game state to JSON. The saved file is written without it, by <code>GameEngine#writeJSON</code>.
      */
     public void toJSON() {
         d_currentGameEngine = UserCoreLogic.getGameEngine().toJSON();
@@ -62,15 +82,23 @@ public class SaveGameService implements StandaloneCommand {
         if (p_commandValues.size() <= 0) {
             throw new InvalidCommandException("Please provide the file name!");
         }
-        this.toJSON();
-
         File l_targetFile = FileValidationUtil.retrieveGameFile(
                 FindFilePathUtil.resolveFilePath(
                         p_commandValues.get(0).concat(".").concat(FileValidationUtil.getGameExtension())
                 ));
 
-        try (Writer l_writer = new FileWriter(l_targetFile)) {
-            l_writer.write(this.getGameEngineJSONData().toString(4));
+        try {
+            if (d_format == SaveGameFormat.JSON) {
+                // The game is written member by member, without building the JSONObject of the whole game.
+                try (JSONStreamWriter l_writer = new JSONStreamWriter(new BufferedWriter(new FileWriter(l_targetFile), d_BUFFER_SIZE))) {
+                    UserCoreLogic.getGameEngine().writeJSON(l_writer);
+                }
+            } else {
+                try (BinaryGameWriter l_writer = new BinaryGameWriter(new FileOutputStream(l_targetFile),
+                        d_format == SaveGameFormat.COMPRESSED_BINARY)) {
+                    l_writer.write(UserCoreLogic.getGameEngine());
+                }
+            }
             d_logEntryBuffer.dataChanged("savegame", "Game saved successfully with filename: "+p_commandValues.get(0));
             return "Game saved successfully!";
         } catch (IOException p_ioException) {
@@ -0,0 +1,118 @@
+package com.APP.Project.UserCoreLogic.common.services;
+
+import com.APP.Project.UserCoreLogic.Utility.FindFilePathUtil;
+import com.APP.Project.UserCoreLogic.constants.enums.JournalEventType;
+import com.APP.Project.UserCoreLogic.exceptions.InvalidArgumentException;
+import com.APP.Project.UserCoreLogic.exceptions.InvalidCommandException;
+import com.APP.Project.UserCoreLogic.exceptions.ResourceNotFoundException;
+import com.APP.Project.UserCoreLogic.exceptions.UserCoreLogicException;
+import com.APP.Project.UserCoreLogic.logger.EventJournal;
+import com.APP.Project.UserCoreLogic.logger.JournalEvent;
+import com.APP.Project.UserCoreLogic.logger.JournalReader;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * This class shows the events of a game journal written by <code>EventJournal</code>, one event per line.
+ * <p>
+ * The journal is given with the <code>file</code> key, relative to the log directory unless it is an absolute path.
+ * The events can be filtered by their <code>type</code>, by a <code>player</code> and by a <code>turn</code>.
+ * </p>
+ *
+ * @author Rikin Dipakkumar Chauhan
+ * @version 1.0
+ */
+public class ShowJournalService {
+    /**
+     * Shows the events of the journal accepted by the filters.
+     *
+     * @param p_arguments List of the argument keys and their values.
+     * @return The events, one per line.
+     * @throws UserCoreLogicException If the arguments are invalid or the journal can not be read.
+     */
+    public String execute(List<Map<String, List<String>>> p_arguments) throws UserCoreLogicException {
+        String l_filePath = null;
+        Predicate<JournalEvent> l_filter = p_event -> true;
+        for (Map<String, List<String>> l_argument : p_arguments) {
+            if (l_argument.containsKey("file")) {
+                l_filePath = l_argument.get("file").get(0);
+            } else if (l_argument.containsKey("type")) {
+                JournalEventType l_type = parseType(l_argument.get("type").get(0));
+                l_filter = l_filter.and(p_event -> p_event.getType() == l_type);
+            } else if (l_argument.containsKey("player")) {
+                String l_playerName = l_argument.get("player").get(0);
+                l_filter = l_filter.and(p_event -> p_event.involvesPlayer(l_playerName));
+            } else if (l_argument.containsKey("turn")) {
+                int l_turn = parseTurn(l_argument.get("turn").get(0));
+                l_filter = l_filter.and(p_event -> p_event.getExecutionIndex() == l_turn);
+            }
+        }
+        if (l_filePath == null) {
+            throw new InvalidCommandException("Please provide the journal file!");
+        }
+
+        File l_journalFile = resolveJournalFile(l_filePath);
+        try {
+            StringBuilder l_builder = new StringBuilder();
+            for (JournalEvent l_event : JournalReader.readAll(l_journalFile, l_filter)) {
+                l_builder.append(l_event).append("\n");
+            }
+            return l_builder.length() == 0 ? "No events found!" : l_builder.toString();
+        } catch (IOException p_ioException) {
+            throw new ResourceNotFoundException(String.format("Error while reading the journal %s!", l_filePath));
+        }
+    }
+
+    /**
+     * Finds the journal file, adding the extension if it is missing.
+     *
+     * @param p_filePath Path of the journal, absolute or relative to the log directory.
+     * @return Value of the file.
+     * @throws ResourceNotFoundException If the file does not exist.
+     */
+    private static File resolveJournalFile(String p_filePath) throws ResourceNotFoundException {
+        String l_fileName = p_filePath.endsWith(EventJournal.FILE_EXTENSION) ? p_filePath : p_filePath.concat(EventJournal.FILE_EXTENSION);
+        File l_file = new File(l_fileName);
+        if (!l_file.isAbsolute()) {
+            l_file = new File(FindFilePathUtil.resolveLogPath(l_fileName));
+        }
+        if (!l_file.isFile()) {
+            throw new ResourceNotFoundException(String.format("Journal %s not found!", p_filePath));
+        }
+        return l_file;
+    }
+
+    /**
+     * Parses the type of the events to show.
+     *
+     * @param p_type Name of the type, for example <code>order_executed</code>.
+     * @return Value of the type.
+     * @throws InvalidArgumentException If there is no such type.
+     */
+    private static JournalEventType parseType(String p_type) throws InvalidArgumentException {
+        try {
+            return JournalEventType.valueOf(p_type.toUpperCase());
+        } catch (IllegalArgumentException p_e) {
+            throw new InvalidArgumentException("Journal event type is invalid!");
+        }
+    }
+
+    /**
+     * Parses the turn of the events to show.
+     *
+     * @param p_turn Index of the turn.
+     * @return Value of the index.
+     * @throws InvalidArgumentException If the index is not a number.
+     */
+    private static int parseTurn(String p_turn) throws InvalidArgumentException {
+        try {
+            return Integer.parseInt(p_turn);
+        } catch (NumberFormatException p_e) {
+            throw new InvalidArgumentException("Turn is in invalid format!");
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.APP.Project.UserCoreLogic.constants.enums;
+
+/**
+ * This enum lists the kinds of events recorded in the event journal of a game. The ordinal of the type is written to
+ * the journal, hence new types must be added at the end.
+ *
+ * @author Rikin Dipakkumar Chauhan
+ * @version 1.0
+ */
+public enum JournalEventType {
+    /**
+     * A map file has been loaded for the game.
+     */
+    MAP_LOADED,
+    /**
+     * A player has been given its id in the journal.
+     */
+    PLAYER_DEFINED,
+    /**
+     * A country has been given its id in the journal.
+     */
+    COUNTRY_DEFINED,
+    /**
+     * The game has moved to another phase.
+     */
+    PHASE_CHANGED,
+    /**
+     * An order has been executed, or rejected while being executed.
+     */
+    ORDER_EXECUTED,
+    /**
+     * A country has been assigned to another player, or released by its owner.
+     */
+    OWNERSHIP_CHANGED,
+    /**
+     * A player has been awarded a card.
+     */
+    CARD_AWARDED,
+    /**
+     * The number of armies of a country has been set outside an order.
+     */
+    ARMIES_CHANGED
+}
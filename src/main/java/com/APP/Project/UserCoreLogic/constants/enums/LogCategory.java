@@ -0,0 +1,30 @@
+package com.APP.Project.UserCoreLogic.constants.enums;
+
+/**
+ * This enum lists the parts of the game a log message can come from.
+ *
+ * @author Rikin Dipakkumar Chauhan
+ * @version 1.0
+ */
+public enum LogCategory {
+    /**
+     * Messages not assigned to any other category.
+     */
+    GENERAL,
+    /**
+     * Messages of the map editor commands.
+     */
+    MAP_EDITOR,
+    /**
+     * Messages of the game play commands and phases.
+     */
+    GAME_PLAY,
+    /**
+     * Messages of the issued and executed orders.
+     */
+    ORDER,
+    /**
+     * Messages of the tournament.
+     */
+    TOURNAMENT
+}
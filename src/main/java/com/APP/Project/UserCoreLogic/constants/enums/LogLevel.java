@@ -0,0 +1,36 @@
+package com.APP.Project.UserCoreLogic.constants.enums;
+
+/**
+ * This enum lists the levels of the log messages, from the most detailed to the most severe.
+ *
+ * @author Rikin Dipakkumar Chauhan
+ * @version 1.0
+ */
+public enum LogLevel {
+    /**
+     * Detailed messages, only useful while looking into a problem.
+     */
+    DEBUG,
+    /**
+     * Messages describing the progress of the game.
+     */
+    INFO,
+    /**
+     * Messages about something unexpected which did not stop the game.
+     */
+    WARNING,
+    /**
+     * Messages about an input or an order which could not be performed.
+     */
+    ERROR;
+
+    /**
+     * Checks if this level is the same as or more severe than the other level.
+     *
+     * @param p_level Level to compare with.
+     * @return True if this level is at least as severe.
+     */
+    public boolean isAtLeast(LogLevel p_level) {
+        return this.ordinal() >= p_level.ordinal();
+    }
+}
@@ -0,0 +1,23 @@
+package com.APP.Project.UserCoreLogic.constants.enums;
+
+/**
+ * This enum lists the encodings in which a game can be saved. The encoding of a saved game is found from the start of
+ * its file when it is loaded.
+ *
+ * @author Bhoomiben Bhatt
+ * @version 1.0
+ */
+public enum SaveGameFormat {
+    /**
+     * Indented JSON document, readable by the user.
+     */
+    JSON,
+    /**
+     * Binary encoding written by <code>BinaryGameWriter</code>.
+     */
+    BINARY,
+    /**
+     * Binary encoding written by <code>BinaryGameWriter</code>, compressed with deflate.
+     */
+    COMPRESSED_BINARY
+}
@@ -1,8 +1,11 @@
 package com.APP.Project.UserCoreLogic.constants.interfaces;
 
 import com.APP.Project.UserCoreLogic.exceptions.InvalidGameException;
+import com.APP.Project.UserCoreLogic.Utility.JSONStreamWriter;
 import org.json.JSONObject;
 
+import java.io.IOException;
+
 /**
  * * Defines methods for returning a <code>JSONObject</code> or assigning values to data members from a
  * <code>JSONObject</code>. This interface facilitates JSON-based data interchange.
@@ -18,6 +21,17 @@ public interface JSONable {
      */
     JSONObject toJSON();
 
+    /**
+     * Writes the same JSON as <code>toJSON</code> to the stream. Classes with large data write their members one by one
+     * instead of building the <code>JSONObject</code>.
+     *
+     * @param p_writer Writer of the JSON document.
+     * @throws IOException If the document can not be written.
+     */
+    default void writeJSON(JSONStreamWriter p_writer) throws IOException {
+        p_writer.value(this.toJSON());
+    }
+
     /**
      * Instantiates this class and populates its fields with values from a <code>JSONObject</code>.
      *
@@ -1,10 +1,11 @@
 package com.APP.Project.UserCoreLogic.constants.interfaces;
 
 import com.APP.Project.UserCoreLogic.constants.enums.OrderTypes;
-import com.APP.Project.UserCoreLogic.UserCoreLogic;
-import com.APP.Project.UserCoreLogic.gamePlay.GamePlayEngine;
+import com.APP.Project.UserCoreLogic.GameContext;
+import com.APP.Project.UserCoreLogic.game_entities.Country;
 import com.APP.Project.UserCoreLogic.game_entities.Player;
 import com.APP.Project.UserCoreLogic.exceptions.CardNotFoundException;
+import com.APP.Project.UserCoreLogic.exceptions.InvalidArgumentException;
 import com.APP.Project.UserCoreLogic.exceptions.InvalidOrderException;
 
 /**
@@ -23,23 +24,79 @@ public abstract class Order implements JSONable {
      */
     private int d_expiryIndex = -1;
     private final Player d_owner;
+    /**
+     * Game context in which this order has been issued.
+     */
+    private final GameContext d_gameContext;
 
     /**
-     * Initializes a new instance of the class with the specified player as the issuer of the order.
+     * Initializes a new instance of the class with the specified player as the issuer of the order. The order belongs to
+     * the game context in use.
      *
      * @param p_player The player issuing this order.
      */
     public Order(Player p_player) {
+        this(p_player, GameContext.current());
+    }
+
+    /**
+     * Initializes a new instance of the class with the specified player as the issuer of the order.
+     *
+     * @param p_player      The player issuing this order.
+     * @param p_gameContext The game context in which the order is issued.
+     */
+    public Order(Player p_player, GameContext p_gameContext) {
         d_owner = p_player;
+        d_gameContext = p_gameContext;
+        int l_currentExecutionIndex = d_gameContext.getGamePlayEngine().getExecutionIndex();
         if (this.getType() == OrderTypes.negotiate) {
-            d_executionIndex = GamePlayEngine.getCurrentExecutionIndex() + 1;
+            d_executionIndex = l_currentExecutionIndex + 1;
             d_expiryIndex = d_executionIndex + 1;
-            UserCoreLogic.getGameEngine().getGamePlayEngine().addFutureOrder(this);
+            d_gameContext.getGamePlayEngine().addFutureOrder(this);
         } else {
-            d_executionIndex = GamePlayEngine.getCurrentExecutionIndex();
+            d_executionIndex = l_currentExecutionIndex;
         }
     }
 
+    /**
+     * Parses the number of armies of an order given by the user or read from a saved game.
+     *
+     * @param p_numOfArmies Number of armies as text.
+     * @return Value of the number of armies.
+     * @throws InvalidArgumentException If the text is not a number or the number is negative.
+     */
+    protected static int parseNumberOfArmies(String p_numOfArmies) throws InvalidArgumentException {
+        try {
+            return checkNumberOfArmies(Integer.parseInt(p_numOfArmies));
+        } catch (NumberFormatException p_e) {
+            throw new InvalidArgumentException("Number of reinforcements is not a number.");
+        }
+    }
+
+    /**
+     * Checks the number of armies of an order.
+     *
+     * @param p_numOfArmies Number of armies.
+     * @return Value of the number of armies.
+     * @throws InvalidArgumentException If the number is negative.
+     */
+    protected static int checkNumberOfArmies(int p_numOfArmies) throws InvalidArgumentException {
+        // Checks if the number of armies is less than zero (negative).
+        if (p_numOfArmies < 0) {
+            throw new InvalidArgumentException("Number of armies can not be negative.");
+        }
+        return p_numOfArmies;
+    }
+
+    /**
+     * Retrieves the game context in which this order has been issued.
+     *
+     * @return The game context of this order.
+     */
+    public GameContext getGameContext() {
+        return d_gameContext;
+    }
+
     /**
      * Carries out the order in the <code>GameLoopState#EXECUTE_ORDER</code> phase of the game loop.
      *
@@ -65,6 +122,42 @@ public abstract class Order implements JSONable {
         return d_owner;
     }
 
+    /**
+     * Retrieves the country the armies of this order are taken from.
+     *
+     * @return The source country; null if the order has none.
+     */
+    public Country getSourceCountry() {
+        return null;
+    }
+
+    /**
+     * Retrieves the country this order is applied to.
+     *
+     * @return The target country; null if the order has none.
+     */
+    public Country getTargetCountry() {
+        return null;
+    }
+
+    /**
+     * Retrieves the number of armies of this order.
+     *
+     * @return The number of armies; 0 if the order moves no armies.
+     */
+    public int getNumberOfArmies() {
+        return 0;
+    }
+
+    /**
+     * Retrieves the player this order is applied to, other than its owner.
+     *
+     * @return The target player; null if the order has none.
+     */
+    public Player getTargetPlayer() {
+        return null;
+    }
+
     /**
      * Retrieves the execution sequence number for this order.
      *
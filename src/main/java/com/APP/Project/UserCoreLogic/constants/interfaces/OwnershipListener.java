@@ -0,0 +1,21 @@
+package com.APP.Project.UserCoreLogic.constants.interfaces;
+
+import com.APP.Project.UserCoreLogic.game_entities.Country;
+import com.APP.Project.UserCoreLogic.game_entities.Player;
+
+/**
+ * Receives the changes of the owners of the countries made through the <code>OwnershipLedger</code>.
+ *
+ * @author Rupal Kapoor
+ * @version 1.0
+ */
+public interface OwnershipListener {
+    /**
+     * Called after the country has been removed from the previous owner and assigned to the new owner.
+     *
+     * @param p_country       Country whose owner changed.
+     * @param p_previousOwner Player who owned the country; null if the country was not assigned.
+     * @param p_newOwner      Player who owns the country now; null if the country is not assigned to any player.
+     */
+    void ownershipChanged(Country p_country, Player p_previousOwner, Player p_newOwner);
+}
@@ -0,0 +1,114 @@
+package com.APP.Project.UserCoreLogic.gamePlay;
+
+import com.APP.Project.UserCoreLogic.constants.interfaces.Order;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Keeps the orders which are executed in a later iteration of the game loop, e.g. the negotiate orders.
+ * <p>
+ * The orders are kept in buckets by their execution index and by their expiry index, so the orders due in an iteration
+ * and the orders expired by an iteration are found without going through all the future orders.
+ * </p>
+ *
+ * @author Rupal Kapoor
+ * @version 1.0
+ */
+public class FutureOrderScheduler {
+    /**
+     * Future orders by their execution index, in the order they were scheduled.
+     */
+    private final Map<Integer, List<Order>> d_ordersByExecutionIndex = new HashMap<>();
+
+    /**
+     * Future orders by their expiry index, in the order they were scheduled.
+     */
+    private final NavigableMap<Integer, List<Order>> d_ordersByExpiryIndex = new TreeMap<>();
+
+    /**
+     * Number of future orders scheduled and not yet removed.
+     */
+    private int d_size = 0;
+
+    /**
+     * Adds the order to be executed at its execution index.
+     *
+     * @param p_order Order to be added.
+     */
+    public void schedule(Order p_order) {
+        d_ordersByExecutionIndex.computeIfAbsent(p_order.getExecutionIndex(), l_index -> new ArrayList<>()).add(p_order);
+        d_ordersByExpiryIndex.computeIfAbsent(p_order.getExpiryIndex(), l_index -> new ArrayList<>()).add(p_order);
+        d_size++;
+    }
+
+    /**
+     * Removes the order. It is called once the order has expired.
+     *
+     * @param p_order Order to be removed.
+     */
+    public void remove(Order p_order) {
+        if (removeFromBucket(d_ordersByExecutionIndex, p_order.getExecutionIndex(), p_order)) {
+            removeFromBucket(d_ordersByExpiryIndex, p_order.getExpiryIndex(), p_order);
+            d_size--;
+        }
+    }
+
+    /**
+     * Gets the orders to be executed at the execution index.
+     *
+     * @param p_executionIndex Current execution index.
+     * @return List of the due orders.
+     */
+    public List<Order> getDueOrders(int p_executionIndex) {
+        List<Order> l_dueOrders = d_ordersByExecutionIndex.get(p_executionIndex);
+        return l_dueOrders == null ? Collections.emptyList() : new ArrayList<>(l_dueOrders);
+    }
+
+    /**
+     * Gets the orders whose expiry index is not after the execution index.
+     *
+     * @param p_executionIndex Current execution index.
+     * @return List of the expired orders.
+     */
+    public List<Order> getExpiredOrders(int p_executionIndex) {
+        List<Order> l_expiredOrders = new ArrayList<>();
+        for (List<Order> l_orders : d_ordersByExpiryIndex.headMap(p_executionIndex, true).values()) {
+            l_expiredOrders.addAll(l_orders);
+        }
+        return l_expiredOrders;
+    }
+
+    /**
+     * Gets the number of scheduled orders.
+     *
+     * @return Value of the count.
+     */
+    public int size() {
+        return d_size;
+    }
+
+    /**
+     * Removes the order from the bucket of the index. The bucket is dropped once it is empty.
+     *
+     * @param p_buckets Buckets of the orders.
+     * @param p_index   Index of the bucket.
+     * @param p_order   Order to be removed.
+     * @return True if the order was in the bucket.
+     */
+    private static boolean removeFromBucket(Map<Integer, List<Order>> p_buckets, int p_index, Order p_order) {
+        List<Order> l_orders = p_buckets.get(p_index);
+        if (l_orders == null || !l_orders.remove(p_order)) {
+            return false;
+        }
+        if (l_orders.isEmpty()) {
+            p_buckets.remove(p_index);
+        }
+        return true;
+    }
+}
@@ -35,6 +35,8 @@ public class GameLoop {
                 l_gameEngine.getGamePhase().nextState();
             } else if (l_gameEngine.getGamePhase().getClass().equals(IssueOrder.class)) {
                 // When the game is loaded and it was in IssueOrder when saved.
+            } else if (l_gameEngine.getGamePhase().getClass().equals(Reinforcement.class)) {
+                // When the game is recovered from its autosave, at the start of a turn.
             } else {
                 throw new GameLoopIllegalStateException("Illegal state transition!");
             }
@@ -1,23 +1,31 @@
 
 package com.APP.Project.UserCoreLogic.gamePlay;
 
-import com.APP.Project.UserCoreLogic.TournamentEngine;
+import com.APP.Project.UserCoreLogic.GameContext;
 import com.APP.Project.UserCoreLogic.UserCoreLogic;
 import com.APP.Project.UserCoreLogic.constants.interfaces.Engine;
 import com.APP.Project.UserCoreLogic.constants.interfaces.JSONable;
 import com.APP.Project.UserCoreLogic.constants.interfaces.Order;
 import com.APP.Project.UserCoreLogic.exceptions.InvalidGameException;
 import com.APP.Project.UserCoreLogic.Container.PlayerContainer;
+import com.APP.Project.UserCoreLogic.game_entities.Country;
 import com.APP.Project.UserCoreLogic.game_entities.GameResult;
 import com.APP.Project.UserCoreLogic.game_entities.Player;
+import com.APP.Project.UserCoreLogic.logger.EventJournal;
 import com.APP.Project.UserCoreLogic.exceptions.EntityNotFoundException;
+import com.APP.Project.UserCoreLogic.Utility.JSONStreamReader;
+import com.APP.Project.UserCoreLogic.Utility.JSONStreamWriter;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * Manages players and their orders runtime information; Responsible for executing orders in round-robin fashion.
@@ -31,6 +39,11 @@ public class GamePlayEngine implements Engine, JSONable {
      */
     private List<Player> d_playerList;
 
+    /**
+     * This is the index of the players by their names.
+     */
+    private final Map<String, Player> d_playerByName = new HashMap<>();
+
     /**
      * Denotes the current turn of the player for issuing the order.
      */
@@ -59,13 +72,14 @@ public class GamePlayEngine implements Engine, JSONable {
 
     /**
      * This metric keeps track of the execution-index, i.e. it helps to decide order of execution and expiration phase.
+     * It is kept per engine so that the games running in parallel do not share their turn count.
      */
-    private static int d_currentExecutionIndex = 0;
+    private int d_currentExecutionIndex = 0;
 
     /**
-     * This captures the list of the future orders which are supposed to be executed later in the iterations.
+     * This schedules the future orders which are supposed to be executed later in the iterations.
      */
-    private final List<Order> d_futurePhaseOrders = new ArrayList<>();
+    private final FutureOrderScheduler d_futurePhaseOrders = new FutureOrderScheduler();
 
     /**
      * This attribute captures the result of the game.
@@ -73,6 +87,31 @@ public class GamePlayEngine implements Engine, JSONable {
      */
     private GameResult d_gameResult;
 
+    /**
+     * This ledger performs every change of the owners of the countries.
+     */
+    private final OwnershipLedger d_ownershipLedger = new OwnershipLedger();
+
+    /**
+     * This journal records the events of the game; null if the game is not journaled.
+     */
+    private EventJournal d_journal;
+
+    /**
+     * This is the source of the random numbers of the game. Its seed and state are saved with the game.
+     */
+    private GameRandom d_random = GameRandom.unseeded();
+
+    /**
+     * These are the players who have lost all their countries. They are skipped when the players take their turns.
+     */
+    private final Set<Player> d_eliminatedPlayers = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * This is the player who owns all the countries; null while nobody does.
+     */
+    private Player d_winner;
+
     private final static PlayerContainer d_PLAYER_REPOSITORY = new PlayerContainer();
 
     /**
@@ -80,6 +119,7 @@ public class GamePlayEngine implements Engine, JSONable {
      */
     public GamePlayEngine() {
         this.initialise();
+        d_ownershipLedger.addListener(this::updatePlayerStatus);
     }
 
     /**
@@ -89,6 +129,7 @@ public class GamePlayEngine implements Engine, JSONable {
      */
     public GamePlayEngine(int p_offset) {
         this.initialise();
+        d_ownershipLedger.addListener(this::updatePlayerStatus);
         d_currentExecutionIndex = p_offset;
     }
 
@@ -98,6 +139,9 @@ public class GamePlayEngine implements Engine, JSONable {
     @Override
     public void initialise() {
         d_playerList = new ArrayList<>();
+        d_playerByName.clear();
+        d_eliminatedPlayers.clear();
+        d_winner = null;
     }
 
     /**
@@ -107,6 +151,7 @@ public class GamePlayEngine implements Engine, JSONable {
      */
     public void addPlayer(Player p_player) {
         d_playerList.add(p_player);
+        d_playerByName.putIfAbsent(p_player.getName(), p_player);
     }
 
     /**
@@ -116,6 +161,80 @@ public class GamePlayEngine implements Engine, JSONable {
      */
     public void removePlayer(Player p_player) {
         d_playerList.remove(p_player);
+        d_eliminatedPlayers.remove(p_player);
+        this.rebuildPlayerIndex();
+    }
+
+    /**
+     * This method finds the player using the name.
+     *
+     * @param p_playerName This denotes the name of the player.
+     * @return the value of the player; null if there is no player with the name.
+     */
+    public Player findPlayerByName(String p_playerName) {
+        return d_playerByName.get(p_playerName);
+    }
+
+    /**
+     * This method rebuilds the index of the players from the list of the players.
+     */
+    private void rebuildPlayerIndex() {
+        d_playerByName.clear();
+        for (Player l_player : d_playerList) {
+            d_playerByName.putIfAbsent(l_player.getName(), l_player);
+        }
+    }
+
+    /**
+     * This method gets the ledger used to change the owners of the countries.
+     *
+     * @return the value of the ledger.
+     */
+    public OwnershipLedger getOwnershipLedger() {
+        return d_ownershipLedger;
+    }
+
+    /**
+     * This method sets the journal recording the events of the game. The journal is notified of the changes of the
+     * owners of the countries.
+     *
+     * @param p_journal the value of the journal; null to stop journaling.
+     */
+    public void setJournal(EventJournal p_journal) {
+        if (d_journal != null) {
+            d_ownershipLedger.removeListener(d_journal);
+        }
+        d_journal = p_journal;
+        if (d_journal != null) {
+            d_ownershipLedger.addListener(d_journal);
+        }
+    }
+
+    /**
+     * This method gets the journal recording the events of the game.
+     *
+     * @return the value of the journal; null if the game is not journaled.
+     */
+    public EventJournal getJournal() {
+        return d_journal;
+    }
+
+    /**
+     * This method gets the source of the random numbers of the game.
+     *
+     * @return the value of the source.
+     */
+    public GameRandom getRandom() {
+        return d_random;
+    }
+
+    /**
+     * This method sets the source of the random numbers of the game, e.g. to play it again with the same seed.
+     *
+     * @param p_random the value of the source.
+     */
+    public void setRandom(GameRandom p_random) {
+        d_random = p_random;
     }
 
     /**
@@ -134,6 +253,77 @@ public class GamePlayEngine implements Engine, JSONable {
      */
     public void setPlayerList(List<Player> p_playerList) {
         d_playerList = p_playerList;
+        this.rebuildPlayerIndex();
+        this.refreshPlayerStatus();
+    }
+
+    /**
+     * This method updates the winner and the eliminated players after the owner of a country changed.
+     *
+     * @param p_country       This is the country whose owner changed.
+     * @param p_previousOwner This is the player who owned the country.
+     * @param p_newOwner      This is the player who owns the country now.
+     */
+    private void updatePlayerStatus(Country p_country, Player p_previousOwner, Player p_newOwner) {
+        if (p_previousOwner != null && p_previousOwner.getAssignedCountries().isEmpty()) {
+            this.eliminatePlayer(p_previousOwner);
+        }
+        if (p_newOwner != null) {
+            d_eliminatedPlayers.remove(p_newOwner);
+            if (p_newOwner.isWon()) {
+                d_winner = p_newOwner;
+            }
+        }
+        if (d_winner != null && d_winner != p_newOwner && !d_winner.isWon()) {
+            d_winner = null;
+        }
+    }
+
+    /**
+     * This method finds the winner and the eliminated players by going through all the players. It is used when the
+     * countries were assigned without the ownership ledger, e.g. while loading a game.
+     */
+    public void refreshPlayerStatus() {
+        d_eliminatedPlayers.clear();
+        d_winner = null;
+        boolean l_areCountriesAssigned = d_playerList.stream().anyMatch(l_player -> !l_player.getAssignedCountries().isEmpty());
+        for (Player l_player : d_playerList) {
+            if (l_areCountriesAssigned && l_player.getAssignedCountries().isEmpty()) {
+                d_eliminatedPlayers.add(l_player);
+            } else if (d_winner == null && l_areCountriesAssigned && l_player.isWon()) {
+                d_winner = l_player;
+            }
+        }
+    }
+
+    /**
+     * This method removes the player from the turns of the players. The orders not executed yet are discarded.
+     *
+     * @param p_player This is the player who lost all the countries.
+     */
+    private void eliminatePlayer(Player p_player) {
+        if (d_eliminatedPlayers.add(p_player)) {
+            p_player.getOrders().clear();
+        }
+    }
+
+    /**
+     * This method checks if the player has lost all the countries.
+     *
+     * @param p_player This is the player to check.
+     * @return True if the player is out of the game.
+     */
+    public boolean isEliminated(Player p_player) {
+        return d_eliminatedPlayers.contains(p_player);
+    }
+
+    /**
+     * This method gets the number of players who have not been eliminated.
+     *
+     * @return Value of the count.
+     */
+    public int getActivePlayerCount() {
+        return d_playerList.size() - d_eliminatedPlayers.size();
     }
 
     /**
@@ -142,12 +332,17 @@ public class GamePlayEngine implements Engine, JSONable {
      * @return Player object of the player which will issue the order.
      */
     public Player getCurrentPlayer() {
-        Player l_currentPlayer = d_playerList.get(d_currentPlayerTurn);
-        d_currentPlayerTurn++;
-        // Round-robin fashion
-        if (d_currentPlayerTurn >= d_playerList.size()) {
-            d_currentPlayerTurn = 0;
-        }
+        Player l_currentPlayer;
+        int l_skippedPlayers = 0;
+        do {
+            l_currentPlayer = d_playerList.get(d_currentPlayerTurn);
+            d_currentPlayerTurn++;
+            // Round-robin fashion
+            if (d_currentPlayerTurn >= d_playerList.size()) {
+                d_currentPlayerTurn = 0;
+            }
+            // Eliminated players do not take turns.
+        } while (d_eliminatedPlayers.contains(l_currentPlayer) && ++l_skippedPlayers < d_playerList.size());
         return l_currentPlayer;
     }
 
@@ -206,12 +401,21 @@ public class GamePlayEngine implements Engine, JSONable {
     }
 
     /**
-     * This method gets the current execution index. This index helps to keep track of orders, some of which should be executed and
-     * others should be expired during this loop iteration.
+     * This method gets the current execution index of the game engine in use. This index helps to keep track of orders,
+     * some of which should be executed and others should be expired during this loop iteration.
      *
      * @return The integer value of the index.
      */
     public static int getCurrentExecutionIndex() {
+        return GameContext.current().getGamePlayEngine().getExecutionIndex();
+    }
+
+    /**
+     * This method gets the execution index of this engine.
+     *
+     * @return The integer value of the index.
+     */
+    public int getExecutionIndex() {
         return d_currentExecutionIndex;
     }
 
@@ -221,9 +425,7 @@ public class GamePlayEngine implements Engine, JSONable {
      * @return The value of the list of orders.
      */
     public List<Order> getCurrentFutureOrders() {
-        return d_futurePhaseOrders.stream().filter(p_futureOrder ->
-                p_futureOrder.getExecutionIndex() == d_currentExecutionIndex
-        ).collect(Collectors.toList());
+        return d_futurePhaseOrders.getDueOrders(d_currentExecutionIndex);
     }
 
     /**
@@ -232,9 +434,7 @@ public class GamePlayEngine implements Engine, JSONable {
      * @return The value of the list of orders.
      */
     public List<Order> getExpiredFutureOrders() {
-        return d_futurePhaseOrders.stream().filter(p_futureOrder ->
-                p_futureOrder.getExpiryIndex() <= d_currentExecutionIndex
-        ).collect(Collectors.toList());
+        return d_futurePhaseOrders.getExpiredOrders(d_currentExecutionIndex);
     }
 
     /**
@@ -243,7 +443,7 @@ public class GamePlayEngine implements Engine, JSONable {
      * @param p_futureOrder The value of the order to be added.
      */
     public void addFutureOrder(Order p_futureOrder) {
-        this.d_futurePhaseOrders.add(p_futureOrder);
+        this.d_futurePhaseOrders.schedule(p_futureOrder);
     }
 
     /**
@@ -256,9 +456,16 @@ public class GamePlayEngine implements Engine, JSONable {
     }
 
     /**
-     * This method is responsible for incrementing the current execution index.
+     * This method is responsible for incrementing the current execution index of the game engine in use.
      */
     public static void incrementEngineIndex() {
+        GameContext.current().getGamePlayEngine().incrementExecutionIndex();
+    }
+
+    /**
+     * This method is responsible for incrementing the execution index of this engine.
+     */
+    public void incrementExecutionIndex() {
         d_currentExecutionIndex++;
     }
 
@@ -274,7 +481,9 @@ public class GamePlayEngine implements Engine, JSONable {
         if (d_LoopThread != null && d_LoopThread.isAlive()) {
             d_LoopThread.interrupt();
         }
+        GameContext l_gameContext = GameContext.current();
         d_LoopThread = new Thread(() -> {
+            l_gameContext.bind();
             d_gameLoop.run();
         });
         d_LoopThread.start();
@@ -296,14 +505,19 @@ public class GamePlayEngine implements Engine, JSONable {
      * @return The value True is returned if the game is over, else false is returned.
      */
     public boolean checkIfGameIsOver() {
-        if (UserCoreLogic.getGameEngine().isTournamentModeOn() && d_currentExecutionIndex > TournamentEngine.getInstance().getMaxNumberOfTurns()) {
+        GameContext l_gameContext = GameContext.current();
+        if (l_gameContext.getGameEngine().isTournamentModeOn() && d_currentExecutionIndex > l_gameContext.getTournamentEngine().getMaxNumberOfTurns()) {
             d_gameResult = new GameResult(true, null);
             return true;
         }
-        List<Player> l_playerWhoWonTheGame =
-                UserCoreLogic.getGameEngine().getGamePlayEngine().getPlayerList().stream().filter(Player::isWon).collect(Collectors.toList());
-        if (l_playerWhoWonTheGame.size() > 0) {
-            d_gameResult = new GameResult(false, l_playerWhoWonTheGame.get(0));
+        // The winner is kept up to date by the ownership ledger.
+        if (d_winner != null) {
+            d_gameResult = new GameResult(false, d_winner);
+            return true;
+        }
+        // The last player who has not been eliminated wins.
+        if (!d_eliminatedPlayers.isEmpty() && this.getActivePlayerCount() == 1) {
+            d_gameResult = new GameResult(false, d_playerList.stream().filter(l_player -> !this.isEliminated(l_player)).findFirst().get());
             return true;
         }
         return false;
@@ -359,10 +573,45 @@ public class GamePlayEngine implements Engine, JSONable {
         l_gamePlayEngineJSON.put("friendPlayerMappings", l_friendPlayerJSON);
         l_gamePlayEngineJSON.put("currentPlayerForIssuePhase", getCurrentPlayerForIssuePhase());
         l_gamePlayEngineJSON.put("currentPlayerForExecutionPhase", getCurrentPlayerForExecutionPhase());
-        l_gamePlayEngineJSON.put("currentExecutionIndex", getCurrentExecutionIndex());
+        l_gamePlayEngineJSON.put("currentExecutionIndex", getExecutionIndex());
+        l_gamePlayEngineJSON.put("randomSeed", d_random.getSeed());
+        l_gamePlayEngineJSON.put("randomState", d_random.getState());
         return l_gamePlayEngineJSON;
     }
 
+    /**
+     * This method writes the runtime information to the stream, with the same content as <code>toJSON</code>. The
+     * players and their orders are written one by one.
+     *
+     * @param p_writer This is the writer of the JSON document.
+     * @throws IOException It is thrown if the document can not be written.
+     */
+    @Override
+    public void writeJSON(JSONStreamWriter p_writer) throws IOException {
+        p_writer.beginObject();
+        p_writer.name("players").beginArray();
+        for (Player l_player : getPlayerList()) {
+            l_player.writeJSON(p_writer);
+        }
+        p_writer.endArray();
+
+        p_writer.name("friendPlayerMappings").beginObject();
+        for (Player l_player : getPlayerList()) {
+            p_writer.name(l_player.getName()).beginArray();
+            for (Player l_friendPlayer : l_player.getFriendPlayers()) {
+                p_writer.value(l_friendPlayer.getName());
+            }
+            p_writer.endArray();
+        }
+        p_writer.endObject();
+        p_writer.name("currentPlayerForIssuePhase").value(getCurrentPlayerForIssuePhase());
+        p_writer.name("currentPlayerForExecutionPhase").value(getCurrentPlayerForExecutionPhase());
+        p_writer.name("currentExecutionIndex").value(getExecutionIndex());
+        p_writer.name("randomSeed").value(d_random.getSeed());
+        p_writer.name("randomState").value(d_random.getState());
+        p_writer.endObject();
+    }
+
     /**
      * This method is used to assign the data members of the concrete class using the values inside the JSONObject
      *
@@ -401,6 +650,104 @@ public class GamePlayEngine implements Engine, JSONable {
 
         l_gamePlayEngine.setCurrentPlayerForIssuePhase(p_jsonObject.getInt("currentPlayerForIssuePhase"));
         l_gamePlayEngine.setCurrentPlayerForExecutionPhase(p_jsonObject.getInt("currentPlayerForExecutionPhase"));
+        // Games saved before the seed was recorded continue with a new source.
+        if (p_jsonObject.has("randomSeed")) {
+            GameRandom l_random = new GameRandom(p_jsonObject.getLong("randomSeed"));
+            l_random.setState(p_jsonObject.optLong("randomState", l_random.getState()));
+            l_gamePlayEngine.setRandom(l_random);
+        }
+        l_gamePlayEngine.refreshPlayerStatus();
+        return l_gamePlayEngine;
+    }
+
+    /**
+     * This method creates the instance of this class from the next object of the document, without reading the object
+     * into a JSONObject. The players are found by their names in the index of the players.
+     *
+     * @param p_reader     This is the reader positioned before the object of the game play.
+     * @param p_gameEngine This is the instance of target GameEngine, whose map is already read.
+     * @return This returns the created instance of this class.
+     * @throws InvalidGameException It is thrown in case the information cannot be used due to being corrupted or missing
+     *                              the values.
+     * @throws IOException          It is thrown in case the document can not be read.
+     */
+    public static GamePlayEngine readJSON(JSONStreamReader p_reader, com.APP.Project.UserCoreLogic.GameEngine p_gameEngine)
+            throws InvalidGameException, IOException {
+        GamePlayEngine l_gamePlayEngine = new GamePlayEngine();
+        p_gameEngine.setGamePlayEngine(l_gamePlayEngine);
+
+        Map<String, List<String>> l_friendPlayerNames = new HashMap<>();
+        Long l_randomSeed = null;
+        Long l_randomState = null;
+        p_reader.beginObject();
+        while (p_reader.hasNext()) {
+            String l_name = p_reader.nextName();
+            switch (l_name) {
+                case "players":
+                    p_reader.beginArray();
+                    while (p_reader.hasNext()) {
+                        l_gamePlayEngine.addPlayer(Player.readJSON(p_reader, p_gameEngine.getMapEditorEngine()));
+                    }
+                    p_reader.endArray();
+                    break;
+                case "friendPlayerMappings":
+                    // Players may be listed after the mappings, so the names are resolved at the end.
+                    p_reader.beginObject();
+                    while (p_reader.hasNext()) {
+                        List<String> l_names = new ArrayList<>();
+                        l_friendPlayerNames.put(p_reader.nextName(), l_names);
+                        p_reader.beginArray();
+                        while (p_reader.hasNext()) {
+                            l_names.add(p_reader.nextString());
+                        }
+                        p_reader.endArray();
+                    }
+                    p_reader.endObject();
+                    break;
+                case "currentPlayerForIssuePhase":
+                    l_gamePlayEngine.setCurrentPlayerForIssuePhase(p_reader.nextInt());
+                    break;
+                case "currentPlayerForExecutionPhase":
+                    l_gamePlayEngine.setCurrentPlayerForExecutionPhase(p_reader.nextInt());
+                    break;
+                case "currentExecutionIndex":
+                    l_gamePlayEngine.d_currentExecutionIndex = p_reader.nextInt();
+                    break;
+                case "randomSeed":
+                    l_randomSeed = p_reader.nextLong();
+                    break;
+                case "randomState":
+                    l_randomState = p_reader.nextLong();
+                    break;
+                default:
+                    p_reader.skipValue();
+            }
+        }
+        p_reader.endObject();
+
+        for (Map.Entry<String, List<String>> l_entry : l_friendPlayerNames.entrySet()) {
+            Player l_player = l_gamePlayEngine.findPlayerByName(l_entry.getKey());
+            if (l_player == null) {
+                throw new InvalidGameException();
+            }
+            for (String l_friendPlayerName : l_entry.getValue()) {
+                Player l_friendPlayer = l_gamePlayEngine.findPlayerByName(l_friendPlayerName);
+                if (l_friendPlayer == null) {
+                    throw new InvalidGameException();
+                }
+                l_player.addNegotiatePlayer(l_friendPlayer);
+            }
+        }
+
+        // Games saved before the seed was recorded continue with a new source.
+        if (l_randomSeed != null) {
+            GameRandom l_random = new GameRandom(l_randomSeed);
+            if (l_randomState != null) {
+                l_random.setState(l_randomState);
+            }
+            l_gamePlayEngine.setRandom(l_random);
+        }
+        l_gamePlayEngine.refreshPlayerStatus();
         return l_gamePlayEngine;
     }
 }
@@ -0,0 +1,145 @@
+package com.APP.Project.UserCoreLogic.gamePlay;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Source of the random numbers of a game: the cards awarded and the choices of the random players.
+ * <p>
+ * The numbers are generated by the SplitMix64 algorithm from a 64-bit state, so a game started with the same seed makes
+ * the same choices. <code>split</code> creates the source of another game whose numbers are independent of this one,
+ * which lets a tournament give each of its games a reproducible source even if the games are played in parallel. The
+ * state can be saved and restored with the game.
+ * </p>
+ * <p>
+ * A source is used by one game at a time and is not thread-safe.
+ * </p>
+ *
+ * @author Rupal Kapoor
+ * @version 1.0
+ */
+public class GameRandom extends Random {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Increment of the state for each number; the odd constant of SplitMix64.
+     */
+    private static final long d_GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    /**
+     * Seed the source was created with.
+     */
+    private long d_seed;
+
+    /**
+     * State of the generator.
+     */
+    private long d_state;
+
+    /**
+     * Creates the source with the seed.
+     *
+     * @param p_seed Value of the seed.
+     */
+    public GameRandom(long p_seed) {
+        super(p_seed);
+    }
+
+    /**
+     * Creates the source with a seed drawn at random. The seed can be read with <code>getSeed</code> to play the game
+     * again.
+     *
+     * @return Value of the source.
+     */
+    public static GameRandom unseeded() {
+        return new GameRandom(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Creates the source of another game. The numbers of the new source are independent of the numbers of this source;
+     * this source moves one number forward.
+     *
+     * @return Value of the new source.
+     */
+    public GameRandom split() {
+        return new GameRandom(mix(this.nextState()));
+    }
+
+    /**
+     * Sets the seed and restarts the generator from it.
+     *
+     * @param p_seed Value of the seed.
+     */
+    @Override
+    public synchronized void setSeed(long p_seed) {
+        super.setSeed(p_seed);
+        d_seed = p_seed;
+        d_state = p_seed;
+    }
+
+    /**
+     * Gets the seed the source was created with.
+     *
+     * @return Value of the seed.
+     */
+    public long getSeed() {
+        return d_seed;
+    }
+
+    /**
+     * Gets the state of the generator, to be saved with the game.
+     *
+     * @return Value of the state.
+     */
+    public long getState() {
+        return d_state;
+    }
+
+    /**
+     * Continues the generator from a saved state.
+     *
+     * @param p_state Value of the state.
+     */
+    public void setState(long p_state) {
+        d_state = p_state;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected int next(int p_bits) {
+        return (int) (this.nextLong() >>> (64 - p_bits));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long nextLong() {
+        return mix(this.nextState());
+    }
+
+    /**
+     * Moves the state forward.
+     *
+     * @return Value of the new state.
+     */
+    private long nextState() {
+        d_state += d_GOLDEN_GAMMA;
+        return d_state;
+    }
+
+    /**
+     * Scrambles the state into a number, as the finaliser of SplitMix64.
+     *
+     * @param p_state Value of the state.
+     * @return Value of the number.
+     */
+    private static long mix(long p_state) {
+        long l_value = p_state;
+        l_value = (l_value ^ (l_value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        l_value = (l_value ^ (l_value >>> 27)) * 0x94D049BB133111EBL;
+        return l_value ^ (l_value >>> 31);
+    }
+}
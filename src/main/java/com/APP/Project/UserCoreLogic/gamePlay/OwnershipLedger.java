@@ -0,0 +1,92 @@
+package com.APP.Project.UserCoreLogic.gamePlay;
+
+import com.APP.Project.UserCoreLogic.constants.interfaces.OwnershipListener;
+import com.APP.Project.UserCoreLogic.game_entities.Country;
+import com.APP.Project.UserCoreLogic.game_entities.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Changes the owners of the countries of a game and notifies the listeners of each change.
+ * <p>
+ * A transfer updates the owner of the country and the assigned countries of both players together, so the country
+ * counts kept by the players stay consistent. Any information derived from the owners can be kept up to date by
+ * registering an <code>OwnershipListener</code> instead of reading the whole map every turn.
+ * </p>
+ *
+ * @author Rupal Kapoor
+ * @version 1.0
+ */
+public class OwnershipLedger {
+    /**
+     * Listeners notified after each change.
+     */
+    private final List<OwnershipListener> d_listeners = new ArrayList<>();
+
+    /**
+     * Adds the listener to be notified of the changes.
+     *
+     * @param p_listener Listener to be added.
+     */
+    public void addListener(OwnershipListener p_listener) {
+        d_listeners.add(p_listener);
+    }
+
+    /**
+     * Removes the listener.
+     *
+     * @param p_listener Listener to be removed.
+     */
+    public void removeListener(OwnershipListener p_listener) {
+        d_listeners.remove(p_listener);
+    }
+
+    /**
+     * Transfers the country to the player. The country is removed from the assigned countries of its previous owner
+     * and added to the assigned countries of the new owner.
+     *
+     * @param p_country  Country to be transferred.
+     * @param p_newOwner Player to own the country.
+     */
+    public void transfer(Country p_country, Player p_newOwner) {
+        Player l_previousOwner = p_country.getOwnedBy();
+        if (l_previousOwner == p_newOwner && p_newOwner.hasAssignedCountry(p_country)) {
+            return;
+        }
+        if (l_previousOwner != null && l_previousOwner != p_newOwner) {
+            l_previousOwner.removeCountry(p_country);
+        }
+        p_country.setOwnedBy(p_newOwner);
+        p_newOwner.addAssignedCountries(p_country);
+        this.publish(p_country, l_previousOwner, p_newOwner);
+    }
+
+    /**
+     * Removes the country from the assigned countries of its owner, as a blockade does. The country keeps the player it
+     * was owned by, but is no longer counted as one of the player's countries.
+     *
+     * @param p_country Country to be released.
+     */
+    public void release(Country p_country) {
+        Player l_previousOwner = p_country.getOwnedBy();
+        if (l_previousOwner == null || !l_previousOwner.hasAssignedCountry(p_country)) {
+            return;
+        }
+        l_previousOwner.removeCountry(p_country);
+        this.publish(p_country, l_previousOwner, null);
+    }
+
+    /**
+     * Notifies the listeners of the change.
+     *
+     * @param p_country       Country whose owner changed.
+     * @param p_previousOwner Previous owner of the country.
+     * @param p_newOwner      New owner of the country.
+     */
+    private void publish(Country p_country, Player p_previousOwner, Player p_newOwner) {
+        for (OwnershipListener l_listener : new ArrayList<>(d_listeners)) {
+            l_listener.ownershipChanged(p_country, p_previousOwner, p_newOwner);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.APP.Project.UserCoreLogic.gamePlay.compact;
+
+/**
+ * Plays the turns of a game between computer players on a <code>CompactGameState</code>.
+ * <p>
+ * A turn follows the phases of <code>GamePlayEngine</code>: the reinforcements are assigned, each player issues its
+ * orders, then the future orders and the orders of the players are executed one order of each player at a time. The
+ * player starting the issue and execute phases moves to the next player after every turn.
+ * </p>
+ *
+ * @author Rupal Kapoor
+ * @version 1.0
+ */
+public class CompactGameLoop {
+    /**
+     * Minimum number of reinforcements assigned to a player.
+     */
+    public static final int MINIMUM_REINFORCEMENTS = 3;
+
+    /**
+     * Value returned when the game ends in a draw.
+     */
+    public static final int DRAW = -1;
+
+    private final CompactGameState d_state;
+    private final CompactOrderExecutor d_executor;
+    private final CompactStrategy d_strategy;
+    private final CompactOrderBuffer d_orders;
+
+    private int d_issueStartPlayer = 0;
+    private int d_executionStartPlayer = 0;
+
+    /**
+     * Creates the loop playing on the state.
+     *
+     * @param p_state State of the game.
+     */
+    public CompactGameLoop(CompactGameState p_state) {
+        d_state = p_state;
+        d_executor = new CompactOrderExecutor(p_state);
+        d_strategy = new CompactStrategy(p_state, d_executor);
+        d_orders = new CompactOrderBuffer(p_state.getPlayerCount());
+    }
+
+    /**
+     * Plays turns until a player owns all the countries or the maximum number of turns has been played.
+     *
+     * @param p_maxTurns Maximum number of turns of the game.
+     * @return Index of the winner; <code>DRAW</code> if no player has won.
+     */
+    public int run(int p_maxTurns) {
+        int l_winner = this.findWinner();
+        while (l_winner == DRAW && d_state.getExecutionIndex() <= p_maxTurns) {
+            this.playTurn();
+            l_winner = this.findWinner();
+        }
+        return l_winner;
+    }
+
+    /**
+     * Plays one turn of the game.
+     */
+    public void playTurn() {
+        this.assignReinforcements();
+        this.issueOrders();
+        this.executeOrders();
+        d_state.incrementExecutionIndex();
+    }
+
+    /**
+     * Assigns the reinforcements to the players: one army for every three countries with a minimum of three, and the
+     * control value of each continent fully owned by the player.
+     */
+    public void assignReinforcements() {
+        for (int l_player = 0; l_player < d_state.getPlayerCount(); l_player++) {
+            int l_reinforcements = Math.max(MINIMUM_REINFORCEMENTS, d_state.getOwnedCountryCount(l_player) / 3);
+            for (int l_continent = 0; l_continent < d_state.getContinentCount(); l_continent++) {
+                int l_countryCount = d_state.getContinentCountryCount(l_continent);
+                if (l_countryCount > 0 && d_state.getOwnedCountryCount(l_player, l_continent) == l_countryCount) {
+                    l_reinforcements += d_state.getContinentControlValue(l_continent);
+                }
+            }
+            d_state.setReinforcements(l_player, l_reinforcements);
+        }
+    }
+
+    /**
+     * Lets each player issue its orders, starting from the player after the one who started in the previous turn.
+     */
+    public void issueOrders() {
+        d_orders.clear();
+        int l_playerCount = d_state.getPlayerCount();
+        for (int l_turn = 0; l_turn < l_playerCount; l_turn++) {
+            d_strategy.issueOrders((d_issueStartPlayer + l_turn) % l_playerCount, d_orders);
+        }
+        d_issueStartPlayer = (d_issueStartPlayer + 1) % l_playerCount;
+    }
+
+    /**
+     * Executes the future orders due in this turn, then one order of each player at a time until all the orders have
+     * been executed.
+     */
+    public void executeOrders() {
+        d_executor.executeFutureOrders();
+        int l_playerCount = d_state.getPlayerCount();
+        boolean l_hasOrders = true;
+        while (l_hasOrders) {
+            l_hasOrders = false;
+            for (int l_turn = 0; l_turn < l_playerCount; l_turn++) {
+                int l_order = d_orders.nextOrder((d_executionStartPlayer + l_turn) % l_playerCount);
+                if (l_order >= 0) {
+                    d_executor.execute(d_orders, l_order);
+                    l_hasOrders = true;
+                }
+            }
+        }
+        d_executionStartPlayer = (d_executionStartPlayer + 1) % l_playerCount;
+    }
+
+    /**
+     * Finds the player who owns all the countries.
+     *
+     * @return Index of the player; <code>DRAW</code> if no player owns all the countries.
+     */
+    public int findWinner() {
+        for (int l_player = 0; l_player < d_state.getPlayerCount(); l_player++) {
+            if (d_state.getOwnedCountryCount(l_player) == d_state.getCountryCount()) {
+                return l_player;
+            }
+        }
+        return DRAW;
+    }
+
+    /**
+     * Gets the executor used by this loop.
+     *
+     * @return Value of the executor.
+     */
+    public CompactOrderExecutor getExecutor() {
+        return d_executor;
+    }
+}
@@ -0,0 +1,781 @@
+package com.APP.Project.UserCoreLogic.gamePlay.compact;
+
+import com.APP.Project.UserCoreLogic.GameEngine;
+import com.APP.Project.UserCoreLogic.common.services.CardService;
+import com.APP.Project.UserCoreLogic.constants.enums.CardType;
+import com.APP.Project.UserCoreLogic.constants.enums.StrategyType;
+import com.APP.Project.UserCoreLogic.constants.interfaces.Card;
+import com.APP.Project.UserCoreLogic.exceptions.InvalidGameException;
+import com.APP.Project.UserCoreLogic.gamePlay.GamePlayEngine;
+import com.APP.Project.UserCoreLogic.gamePlay.GameRandom;
+import com.APP.Project.UserCoreLogic.game_entities.Continent;
+import com.APP.Project.UserCoreLogic.game_entities.Country;
+import com.APP.Project.UserCoreLogic.game_entities.Player;
+import com.APP.Project.UserCoreLogic.map_features.MapEditorEngine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Compact representation of the runtime state of a game, used to simulate games between the computer players in high
+ * volume.
+ * <p>
+ * Countries, continents and players are identified by dense indexes. The neighbours of the countries are stored as
+ * adjacency arrays in compressed sparse row form: the neighbours of country <code>c</code> are
+ * <code>getNeighbour(i)</code> for <code>i</code> from <code>getNeighbourStart(c)</code> to
+ * <code>getNeighbourEnd(c)</code>. The owner and army count of the countries, as well as the reinforcements and cards of
+ * the players, are held in <code>int</code> arrays.
+ * </p>
+ * <p>
+ * The state is created from a <code>GameEngine</code> using {@link #fromGameEngine(GameEngine)} and written back using
+ * {@link #applyTo(GameEngine)}, so saving, loading and the command line interface keep using the object model.
+ * </p>
+ *
+ * @author Rupal Kapoor
+ * @version 1.0
+ */
+public class CompactGameState {
+    /**
+     * Owner index of a country which is not owned by any player, either not assigned yet or blockaded.
+     */
+    public static final int NEUTRAL = -1;
+
+    /**
+     * Card types the players can hold, indexed by their position in this array.
+     */
+    static final CardType[] d_CARD_TYPES = CardType.usableCardList().toArray(new CardType[0]);
+
+    private final String[] d_countryNames;
+    private final Map<String, Integer> d_countryIndex = new HashMap<>();
+    private final int[] d_continentOfCountry;
+    private final int[] d_neighbourStart;
+    private final int[] d_neighbours;
+    private final int[] d_incomingStart;
+    private final int[] d_incoming;
+    private final int[] d_owner;
+    private final int[] d_armies;
+
+    private final String[] d_continentNames;
+    private final int[] d_continentControlValues;
+    private final int[] d_continentCountryCounts;
+
+    private final String[] d_playerNames;
+    private final StrategyType[] d_playerStrategies;
+    private final int[] d_reinforcements;
+    private final int[] d_remainingReinforcements;
+    private final int[] d_ownedCountryCounts;
+    /**
+     * Number of countries owned by each player in each continent, at <code>player * continents + continent</code>.
+     */
+    private final int[] d_ownedInContinent;
+    /**
+     * Number of cards of each type held by each player, at <code>player * card types + card type</code>.
+     */
+    private final int[] d_cardCounts;
+    /**
+     * Number of active negotiations between each pair of players, at <code>player * players + other player</code>.
+     */
+    private final int[] d_negotiations;
+
+    private final boolean d_isTournamentModeOn;
+    private int d_executionIndex;
+    private Random d_random;
+
+    /**
+     * Creates the state with the provided map. All the countries are neutral and have no armies.
+     *
+     * @param p_countryNames          Names of the countries.
+     * @param p_continentOfCountry    Continent index of each country.
+     * @param p_neighbourStart        Start of the neighbours of each country in the neighbour array, followed by the
+     *                                length of the neighbour array.
+     * @param p_neighbours            Neighbour array.
+     * @param p_continentNames        Names of the continents.
+     * @param p_continentControlValues Control values of the continents.
+     * @param p_playerNames           Names of the players.
+     * @param p_playerStrategies      Strategies of the players.
+     * @param p_isTournamentModeOn    True if the game is a tournament game.
+     */
+    public CompactGameState(String[] p_countryNames,
+                            int[] p_continentOfCountry,
+                            int[] p_neighbourStart,
+                            int[] p_neighbours,
+                            String[] p_continentNames,
+                            int[] p_continentControlValues,
+                            String[] p_playerNames,
+                            StrategyType[] p_playerStrategies,
+                            boolean p_isTournamentModeOn) {
+        int l_countryCount = p_countryNames.length;
+        int l_playerCount = p_playerNames.length;
+        int l_continentCount = p_continentNames.length;
+
+        d_countryNames = p_countryNames;
+        for (int l_country = 0; l_country < l_countryCount; l_country++) {
+            d_countryIndex.putIfAbsent(p_countryNames[l_country], l_country);
+        }
+        d_continentOfCountry = p_continentOfCountry;
+        d_neighbourStart = p_neighbourStart;
+        d_neighbours = p_neighbours;
+        d_owner = new int[l_countryCount];
+        d_armies = new int[l_countryCount];
+        Arrays.fill(d_owner, NEUTRAL);
+
+        // Countries having each country as their neighbour, used when a neighbour list is not mirrored.
+        d_incomingStart = new int[l_countryCount + 1];
+        d_incoming = new int[p_neighbours.length];
+        for (int l_neighbour : p_neighbours) {
+            d_incomingStart[l_neighbour + 1]++;
+        }
+        for (int l_country = 0; l_country < l_countryCount; l_country++) {
+            d_incomingStart[l_country + 1] += d_incomingStart[l_country];
+        }
+        int[] l_nextIncoming = Arrays.copyOf(d_incomingStart, l_countryCount);
+        for (int l_country = 0; l_country < l_countryCount; l_country++) {
+            for (int l_index = p_neighbourStart[l_country]; l_index < p_neighbourStart[l_country + 1]; l_index++) {
+                d_incoming[l_nextIncoming[p_neighbours[l_index]]++] = l_country;
+            }
+        }
+
+        d_continentNames = p_continentNames;
+        d_continentControlValues = p_continentControlValues;
+        d_continentCountryCounts = new int[l_continentCount];
+        for (int l_continent : p_continentOfCountry) {
+            d_continentCountryCounts[l_continent]++;
+        }
+
+        d_playerNames = p_playerNames;
+        d_playerStrategies = p_playerStrategies;
+        d_reinforcements = new int[l_playerCount];
+        d_remainingReinforcements = new int[l_playerCount];
+        d_ownedCountryCounts = new int[l_playerCount];
+        d_ownedInContinent = new int[l_playerCount * l_continentCount];
+        d_cardCounts = new int[l_playerCount * d_CARD_TYPES.length];
+        d_negotiations = new int[l_playerCount * l_playerCount];
+
+        d_isTournamentModeOn = p_isTournamentModeOn;
+        d_random = GameRandom.unseeded();
+    }
+
+    /**
+     * Creates the compact state from the runtime information of the game engine.
+     * <p>
+     * A country is owned by the player whose assigned countries contain it. A country which is not assigned to any
+     * player, e.g. after a blockade, is neutral.
+     * </p>
+     *
+     * @param p_gameEngine Game engine to read.
+     * @return Value of the created state.
+     * @throws InvalidGameException If a player of the game is controlled by the user, or a country is not in any
+     *                              continent.
+     */
+    public static CompactGameState fromGameEngine(GameEngine p_gameEngine) throws InvalidGameException {
+        MapEditorEngine l_mapEditorEngine = p_gameEngine.getMapEditorEngine();
+        GamePlayEngine l_gamePlayEngine = p_gameEngine.getGamePlayEngine();
+
+        List<Continent> l_continentList = l_mapEditorEngine.getContinentList();
+        // The continent of each country is found from the countries of the continents, which are set by every reader.
+        Map<Country, Integer> l_continentIndex = new IdentityHashMap<>();
+        String[] l_continentNames = new String[l_continentList.size()];
+        int[] l_continentControlValues = new int[l_continentList.size()];
+        for (int l_continent = 0; l_continent < l_continentList.size(); l_continent++) {
+            Continent l_continentObject = l_continentList.get(l_continent);
+            for (Country l_countryObject : l_continentObject.getCountryList()) {
+                l_continentIndex.put(l_countryObject, l_continent);
+            }
+            l_continentNames[l_continent] = l_continentObject.getContinentName();
+            l_continentControlValues[l_continent] = l_continentObject.getContinentControlValue();
+        }
+
+        List<Country> l_countryList = l_mapEditorEngine.getCountryList();
+        int l_countryCount = l_countryList.size();
+        Map<Country, Integer> l_countryIndex = new IdentityHashMap<>();
+        String[] l_countryNames = new String[l_countryCount];
+        int[] l_continentOfCountry = new int[l_countryCount];
+        int[] l_neighbourStart = new int[l_countryCount + 1];
+        for (int l_country = 0; l_country < l_countryCount; l_country++) {
+            Country l_countryObject = l_countryList.get(l_country);
+            l_countryIndex.put(l_countryObject, l_country);
+            l_countryNames[l_country] = l_countryObject.getCountryName();
+            Integer l_continent = l_continentIndex.get(l_countryObject);
+            if (l_continent == null) {
+                throw new InvalidGameException(String.format("%s is not in any continent!", l_countryNames[l_country]));
+            }
+            l_continentOfCountry[l_country] = l_continent;
+            l_neighbourStart[l_country + 1] = l_neighbourStart[l_country] + l_countryObject.getNeighbourCountries().size();
+        }
+        int[] l_neighbours = new int[l_neighbourStart[l_countryCount]];
+        int l_neighbourCount = 0;
+        for (int l_country = 0; l_country < l_countryCount; l_country++) {
+            for (Country l_neighbour : l_countryList.get(l_country).getNeighbourCountries()) {
+                Integer l_neighbourIndex = l_countryIndex.get(l_neighbour);
+                if (l_neighbourIndex == null) {
+                    throw new InvalidGameException(String.format("Neighbour %s of %s is not on the map!",
+                            l_neighbour.getCountryName(), l_countryNames[l_country]));
+                }
+                l_neighbours[l_neighbourCount++] = l_neighbourIndex;
+            }
+        }
+
+        List<Player> l_playerList = l_gamePlayEngine.getPlayerList();
+        int l_playerCount = l_playerList.size();
+        Map<Player, Integer> l_playerIndex = new HashMap<>();
+        String[] l_playerNames = new String[l_playerCount];
+        StrategyType[] l_playerStrategies = new StrategyType[l_playerCount];
+        for (int l_player = 0; l_player < l_playerCount; l_player++) {
+            Player l_playerObject = l_playerList.get(l_player);
+            if (l_playerObject.getPlayerStrategyType() == StrategyType.HUMAN) {
+                throw new InvalidGameException(String.format("%s is a human player and can not be simulated!", l_playerObject.getName()));
+            }
+            l_playerIndex.put(l_playerObject, l_player);
+            l_playerNames[l_player] = l_playerObject.getName();
+            l_playerStrategies[l_player] = l_playerObject.getPlayerStrategyType();
+        }
+
+        CompactGameState l_state = new CompactGameState(l_countryNames,
+                l_continentOfCountry,
+                l_neighbourStart,
+                l_neighbours,
+                l_continentNames,
+                l_continentControlValues,
+                l_playerNames,
+                l_playerStrategies,
+                p_gameEngine.isTournamentModeOn());
+
+        for (int l_country = 0; l_country < l_countryCount; l_country++) {
+            l_state.d_armies[l_country] = l_countryList.get(l_country).getNumberOfArmies();
+        }
+        for (int l_player = 0; l_player < l_playerCount; l_player++) {
+            Player l_playerObject = l_playerList.get(l_player);
+            for (Country l_assignedCountry : l_playerObject.getAssignedCountries()) {
+                Integer l_country = l_countryIndex.get(l_assignedCountry);
+                if (l_country != null && l_state.d_owner[l_country] == NEUTRAL) {
+                    l_state.transferCountry(l_country, l_player);
+                }
+            }
+            l_state.d_reinforcements[l_player] = l_playerObject.getReinforcementCount();
+            l_state.d_remainingReinforcements[l_player] = l_playerObject.getRemainingReinforcementCount();
+            for (Card l_card : l_playerObject.getCards()) {
+                int l_cardType = cardTypeIndex(l_card.getType());
+                if (l_cardType >= 0) {
+                    l_state.d_cardCounts[l_player * d_CARD_TYPES.length + l_cardType]++;
+                }
+            }
+            for (Player l_friendPlayer : l_playerObject.getFriendPlayers()) {
+                Integer l_otherPlayer = l_playerIndex.get(l_friendPlayer);
+                if (l_otherPlayer != null) {
+                    l_state.d_negotiations[l_player * l_playerCount + l_otherPlayer]++;
+                }
+            }
+        }
+        l_state.d_executionIndex = l_gamePlayEngine.getExecutionIndex();
+        // The simulation draws from a stream of its own, split from the random numbers of the game.
+        l_state.d_random = l_gamePlayEngine.getRandom().split();
+        return l_state;
+    }
+
+    /**
+     * Writes the owners, armies, reinforcements and cards of this state to the game engine it was created from. The
+     * execution index of the engine is moved forward to the index of this state.
+     * <p>
+     * A neutral country is removed from the assigned countries of all the players but keeps the player it was owned
+     * by, the same way a blockade does in the object model. Negotiations last for a single turn and are not written
+     * back.
+     * </p>
+     *
+     * @param p_gameEngine Game engine to update.
+     * @throws InvalidGameException If the map or the players of the engine are not the ones of this state.
+     */
+    public void applyTo(GameEngine p_gameEngine) throws InvalidGameException {
+        MapEditorEngine l_mapEditorEngine = p_gameEngine.getMapEditorEngine();
+        GamePlayEngine l_gamePlayEngine = p_gameEngine.getGamePlayEngine();
+        if (l_mapEditorEngine.getCountryList().size() != getCountryCount()
+                || l_gamePlayEngine.getPlayerList().size() != getPlayerCount()) {
+            throw new InvalidGameException("Game engine does not match the simulated game!");
+        }
+
+        Player[] l_players = new Player[getPlayerCount()];
+        for (int l_player = 0; l_player < getPlayerCount(); l_player++) {
+            l_players[l_player] = l_gamePlayEngine.findPlayerByName(d_playerNames[l_player]);
+            if (l_players[l_player] == null) {
+                throw new InvalidGameException(String.format("Player %s not found!", d_playerNames[l_player]));
+            }
+            l_players[l_player].setAssignedCountries(new ArrayList<>());
+        }
+        for (int l_country = 0; l_country < getCountryCount(); l_country++) {
+            Country l_countryObject = l_mapEditorEngine.findCountryByName(d_countryNames[l_country]);
+            if (l_countryObject == null) {
+                throw new InvalidGameException(String.format("Country with name %s not found!", d_countryNames[l_country]));
+            }
+            l_countryObject.setNumberOfArmies(d_armies[l_country]);
+            if (d_owner[l_country] != NEUTRAL) {
+                l_countryObject.setOwnedBy(l_players[d_owner[l_country]]);
+                l_players[d_owner[l_country]].addAssignedCountries(l_countryObject);
+            }
+        }
+        for (int l_player = 0; l_player < getPlayerCount(); l_player++) {
+            Player l_playerObject = l_players[l_player];
+            l_playerObject.setReinforcementCount(d_reinforcements[l_player]);
+            l_playerObject.setRemainingReinforcementCount(d_remainingReinforcements[l_player]);
+            l_playerObject.getCards().clear();
+            for (int l_cardType = 0; l_cardType < d_CARD_TYPES.length; l_cardType++) {
+                for (int l_card = 0; l_card < getCardCount(l_player, l_cardType); l_card++) {
+                    l_playerObject.addCard(CardService.createCard(d_CARD_TYPES[l_cardType]));
+                }
+            }
+        }
+        while (l_gamePlayEngine.getExecutionIndex() < d_executionIndex) {
+            l_gamePlayEngine.incrementExecutionIndex();
+        }
+        l_gamePlayEngine.refreshPlayerStatus();
+    }
+
+    /**
+     * Transfers the country to the player and updates the country counts of the previous and the new owner.
+     *
+     * @param p_country Index of the country.
+     * @param p_player  Index of the new owner; <code>NEUTRAL</code> to make the country neutral.
+     */
+    public void transferCountry(int p_country, int p_player) {
+        int l_previousOwner = d_owner[p_country];
+        if (l_previousOwner == p_player) {
+            return;
+        }
+        int l_continent = d_continentOfCountry[p_country];
+        if (l_previousOwner != NEUTRAL) {
+            d_ownedCountryCounts[l_previousOwner]--;
+            d_ownedInContinent[l_previousOwner * getContinentCount() + l_continent]--;
+        }
+        if (p_player != NEUTRAL) {
+            d_ownedCountryCounts[p_player]++;
+            d_ownedInContinent[p_player * getContinentCount() + l_continent]++;
+        }
+        d_owner[p_country] = p_player;
+    }
+
+    /**
+     * Gets the index of the card type in the card arrays of this state.
+     *
+     * @param p_cardType Type of the card.
+     * @return Value of the index; -1 if the card type can not be held by the players.
+     */
+    static int cardTypeIndex(CardType p_cardType) {
+        for (int l_cardType = 0; l_cardType < d_CARD_TYPES.length; l_cardType++) {
+            if (d_CARD_TYPES[l_cardType] == p_cardType) {
+                return l_cardType;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the number of countries.
+     *
+     * @return Value of the count.
+     */
+    public int getCountryCount() {
+        return d_countryNames.length;
+    }
+
+    /**
+     * Gets the number of continents.
+     *
+     * @return Value of the count.
+     */
+    public int getContinentCount() {
+        return d_continentNames.length;
+    }
+
+    /**
+     * Gets the number of players.
+     *
+     * @return Value of the count.
+     */
+    public int getPlayerCount() {
+        return d_playerNames.length;
+    }
+
+    /**
+     * Gets the name of the country.
+     *
+     * @param p_country Index of the country.
+     * @return Value of the name.
+     */
+    public String getCountryName(int p_country) {
+        return d_countryNames[p_country];
+    }
+
+    /**
+     * Gets the index of the country using its name.
+     *
+     * @param p_countryName Name of the country.
+     * @return Value of the index; -1 if there is no country with the name.
+     */
+    public int findCountry(String p_countryName) {
+        Integer l_country = d_countryIndex.get(p_countryName);
+        if (l_country != null) {
+            return l_country;
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the continent of the country.
+     *
+     * @param p_country Index of the country.
+     * @return Index of the continent.
+     */
+    public int getContinent(int p_country) {
+        return d_continentOfCountry[p_country];
+    }
+
+    /**
+     * Gets the position of the first neighbour of the country in the neighbour array.
+     *
+     * @param p_country Index of the country.
+     * @return Value of the position.
+     */
+    public int getNeighbourStart(int p_country) {
+        return d_neighbourStart[p_country];
+    }
+
+    /**
+     * Gets the position after the last neighbour of the country in the neighbour array.
+     *
+     * @param p_country Index of the country.
+     * @return Value of the position.
+     */
+    public int getNeighbourEnd(int p_country) {
+        return d_neighbourStart[p_country + 1];
+    }
+
+    /**
+     * Gets the neighbour at the position in the neighbour array.
+     *
+     * @param p_position Position in the neighbour array.
+     * @return Index of the neighbour country.
+     */
+    public int getNeighbour(int p_position) {
+        return d_neighbours[p_position];
+    }
+
+    /**
+     * Checks if the other country is a neighbour of the country.
+     *
+     * @param p_country      Index of the country.
+     * @param p_otherCountry Index of the other country.
+     * @return True if the other country is a neighbour.
+     */
+    public boolean isNeighbour(int p_country, int p_otherCountry) {
+        for (int l_position = d_neighbourStart[p_country]; l_position < d_neighbourStart[p_country + 1]; l_position++) {
+            if (d_neighbours[l_position] == p_otherCountry) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if the country is a neighbour of any of the countries owned by the player.
+     *
+     * @param p_player  Index of the player.
+     * @param p_country Index of the country.
+     * @return True if the player owns a country having this country as a neighbour.
+     */
+    public boolean isNeighbourOfPlayer(int p_player, int p_country) {
+        for (int l_position = d_incomingStart[p_country]; l_position < d_incomingStart[p_country + 1]; l_position++) {
+            if (d_owner[d_incoming[l_position]] == p_player) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the owner of the country.
+     *
+     * @param p_country Index of the country.
+     * @return Index of the player; <code>NEUTRAL</code> if the country is not owned.
+     */
+    public int getOwner(int p_country) {
+        return d_owner[p_country];
+    }
+
+    /**
+     * Gets the number of armies in the country.
+     *
+     * @param p_country Index of the country.
+     * @return Value of the army count.
+     */
+    public int getArmies(int p_country) {
+        return d_armies[p_country];
+    }
+
+    /**
+     * Sets the number of armies in the country.
+     *
+     * @param p_country Index of the country.
+     * @param p_armies  Value of the army count.
+     */
+    public void setArmies(int p_country, int p_armies) {
+        d_armies[p_country] = p_armies;
+    }
+
+    /**
+     * Gets the name of the continent.
+     *
+     * @param p_continent Index of the continent.
+     * @return Value of the name.
+     */
+    public String getContinentName(int p_continent) {
+        return d_continentNames[p_continent];
+    }
+
+    /**
+     * Gets the control value of the continent.
+     *
+     * @param p_continent Index of the continent.
+     * @return Value of the control value.
+     */
+    public int getContinentControlValue(int p_continent) {
+        return d_continentControlValues[p_continent];
+    }
+
+    /**
+     * Gets the number of countries in the continent.
+     *
+     * @param p_continent Index of the continent.
+     * @return Value of the count.
+     */
+    public int getContinentCountryCount(int p_continent) {
+        return d_continentCountryCounts[p_continent];
+    }
+
+    /**
+     * Gets the name of the player.
+     *
+     * @param p_player Index of the player.
+     * @return Value of the name.
+     */
+    public String getPlayerName(int p_player) {
+        return d_playerNames[p_player];
+    }
+
+    /**
+     * Gets the strategy of the player.
+     *
+     * @param p_player Index of the player.
+     * @return Value of the strategy.
+     */
+    public StrategyType getPlayerStrategy(int p_player) {
+        return d_playerStrategies[p_player];
+    }
+
+    /**
+     * Gets the number of countries owned by the player.
+     *
+     * @param p_player Index of the player.
+     * @return Value of the count.
+     */
+    public int getOwnedCountryCount(int p_player) {
+        return d_ownedCountryCounts[p_player];
+    }
+
+    /**
+     * Gets the number of countries of the continent owned by the player.
+     *
+     * @param p_player    Index of the player.
+     * @param p_continent Index of the continent.
+     * @return Value of the count.
+     */
+    public int getOwnedCountryCount(int p_player, int p_continent) {
+        return d_ownedInContinent[p_player * getContinentCount() + p_continent];
+    }
+
+    /**
+     * Gets the reinforcements of the player for this turn.
+     *
+     * @param p_player Index of the player.
+     * @return Value of the reinforcements.
+     */
+    public int getReinforcements(int p_player) {
+        return d_reinforcements[p_player];
+    }
+
+    /**
+     * Sets the reinforcements of the player for this turn. The remaining reinforcements are set as well.
+     *
+     * @param p_player         Index of the player.
+     * @param p_reinforcements Value of the reinforcements.
+     */
+    public void setReinforcements(int p_player, int p_reinforcements) {
+        d_reinforcements[p_player] = p_reinforcements;
+        d_remainingReinforcements[p_player] = p_reinforcements;
+    }
+
+    /**
+     * Gets the reinforcements of the player which are not deployed yet.
+     *
+     * @param p_player Index of the player.
+     * @return Value of the reinforcements.
+     */
+    public int getRemainingReinforcements(int p_player) {
+        return d_remainingReinforcements[p_player];
+    }
+
+    /**
+     * Sets the reinforcements of the player which are not deployed yet.
+     *
+     * @param p_player                  Index of the player.
+     * @param p_remainingReinforcements Value of the reinforcements.
+     */
+    public void setRemainingReinforcements(int p_player, int p_remainingReinforcements) {
+        d_remainingReinforcements[p_player] = p_remainingReinforcements;
+    }
+
+    /**
+     * Gets the number of cards of the type held by the player.
+     *
+     * @param p_player   Index of the player.
+     * @param p_cardType Index of the card type.
+     * @return Value of the count.
+     */
+    public int getCardCount(int p_player, int p_cardType) {
+        return d_cardCounts[p_player * d_CARD_TYPES.length + p_cardType];
+    }
+
+    /**
+     * Gets the number of cards held by the player.
+     *
+     * @param p_player Index of the player.
+     * @return Value of the count.
+     */
+    public int getCardCount(int p_player) {
+        int l_cardCount = 0;
+        for (int l_cardType = 0; l_cardType < d_CARD_TYPES.length; l_cardType++) {
+            l_cardCount += getCardCount(p_player, l_cardType);
+        }
+        return l_cardCount;
+    }
+
+    /**
+     * Checks if the player holds a card of the type.
+     *
+     * @param p_player   Index of the player.
+     * @param p_cardType Type of the card.
+     * @return True if the player has the card.
+     */
+    public boolean hasCard(int p_player, CardType p_cardType) {
+        int l_cardType = cardTypeIndex(p_cardType);
+        return l_cardType >= 0 && getCardCount(p_player, l_cardType) > 0;
+    }
+
+    /**
+     * Adds a card of the type to the cards of the player.
+     *
+     * @param p_player   Index of the player.
+     * @param p_cardType Index of the card type.
+     */
+    public void addCard(int p_player, int p_cardType) {
+        d_cardCounts[p_player * d_CARD_TYPES.length + p_cardType]++;
+    }
+
+    /**
+     * Removes a card of the type from the cards of the player.
+     *
+     * @param p_player   Index of the player.
+     * @param p_cardType Type of the card.
+     * @return True if the player had the card.
+     */
+    public boolean removeCard(int p_player, CardType p_cardType) {
+        int l_cardType = cardTypeIndex(p_cardType);
+        if (l_cardType < 0 || getCardCount(p_player, l_cardType) == 0) {
+            return false;
+        }
+        d_cardCounts[p_player * d_CARD_TYPES.length + l_cardType]--;
+        return true;
+    }
+
+    /**
+     * Checks whether the players have not negotiated with each other. A neutral country has no treaty with anyone.
+     *
+     * @param p_player      Index of the player.
+     * @param p_otherPlayer Index of the other player; may be <code>NEUTRAL</code>.
+     * @return True if the players have no peace treaty signed.
+     */
+    public boolean isNotNegotiation(int p_player, int p_otherPlayer) {
+        return p_otherPlayer == NEUTRAL || d_negotiations[p_player * getPlayerCount() + p_otherPlayer] == 0;
+    }
+
+    /**
+     * Signs a peace treaty between the players.
+     *
+     * @param p_player      Index of the player.
+     * @param p_otherPlayer Index of the other player.
+     */
+    public void addNegotiation(int p_player, int p_otherPlayer) {
+        d_negotiations[p_player * getPlayerCount() + p_otherPlayer]++;
+        d_negotiations[p_otherPlayer * getPlayerCount() + p_player]++;
+    }
+
+    /**
+     * Ends a peace treaty between the players.
+     *
+     * @param p_player      Index of the player.
+     * @param p_otherPlayer Index of the other player.
+     */
+    public void removeNegotiation(int p_player, int p_otherPlayer) {
+        if (d_negotiations[p_player * getPlayerCount() + p_otherPlayer] > 0) {
+            d_negotiations[p_player * getPlayerCount() + p_otherPlayer]--;
+        }
+        if (d_negotiations[p_otherPlayer * getPlayerCount() + p_player] > 0) {
+            d_negotiations[p_otherPlayer * getPlayerCount() + p_player]--;
+        }
+    }
+
+    /**
+     * Checks if the game is a tournament game.
+     *
+     * @return True if the tournament mode is on.
+     */
+    public boolean isTournamentModeOn() {
+        return d_isTournamentModeOn;
+    }
+
+    /**
+     * Gets the execution index, i.e. the number of the turn being played.
+     *
+     * @return Value of the index.
+     */
+    public int getExecutionIndex() {
+        return d_executionIndex;
+    }
+
+    /**
+     * Moves the execution index to the next turn.
+     */
+    public void incrementExecutionIndex() {
+        d_executionIndex++;
+    }
+
+    /**
+     * Gets the random number generator used by the computer players and the battles of this game.
+     *
+     * @return Value of the generator.
+     */
+    public Random getRandom() {
+        return d_random;
+    }
+
+    /**
+     * Sets the random number generator used by the computer players and the battles of this game.
+     *
+     * @param p_random Value of the generator.
+     */
+    public void setRandom(Random p_random) {
+        d_random = p_random;
+    }
+}
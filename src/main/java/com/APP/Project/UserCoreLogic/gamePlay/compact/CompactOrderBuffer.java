@@ -0,0 +1,172 @@
+package com.APP.Project.UserCoreLogic.gamePlay.compact;
+
+import com.APP.Project.UserCoreLogic.constants.enums.OrderTypes;
+
+import java.util.Arrays;
+
+/**
+ * Orders issued by the players of a <code>CompactGameState</code> during one issue phase.
+ * <p>
+ * The orders are kept in parallel <code>int</code> arrays and each player's orders are linked in the order they were
+ * issued, so that the execute phase can take the next order of a player in constant time. The buffer is cleared and
+ * reused for each turn.
+ * </p>
+ *
+ * @author Rupal Kapoor
+ * @version 1.0
+ */
+public class CompactOrderBuffer {
+    private static final OrderTypes[] d_ORDER_TYPES = OrderTypes.values();
+    private static final int d_END = -1;
+
+    private int[] d_types = new int[16];
+    private int[] d_players = new int[16];
+    private int[] d_sources = new int[16];
+    private int[] d_targets = new int[16];
+    private int[] d_armies = new int[16];
+    private int[] d_nextOfPlayer = new int[16];
+    private int d_size = 0;
+
+    private final int[] d_firstOfPlayer;
+    private final int[] d_lastOfPlayer;
+
+    /**
+     * Creates the buffer for the players of a game.
+     *
+     * @param p_playerCount Number of players.
+     */
+    public CompactOrderBuffer(int p_playerCount) {
+        d_firstOfPlayer = new int[p_playerCount];
+        d_lastOfPlayer = new int[p_playerCount];
+        this.clear();
+    }
+
+    /**
+     * Removes all the orders.
+     */
+    public void clear() {
+        d_size = 0;
+        Arrays.fill(d_firstOfPlayer, d_END);
+        Arrays.fill(d_lastOfPlayer, d_END);
+    }
+
+    /**
+     * Adds the order to the end of the player's orders.
+     *
+     * @param p_type    Type of the order.
+     * @param p_player  Index of the player issuing the order.
+     * @param p_source  Index of the source country; the index of the other player for a negotiate order; -1 if not used.
+     * @param p_target  Index of the target country; -1 if not used.
+     * @param p_armies  Number of armies; 0 if not used.
+     */
+    public void add(OrderTypes p_type, int p_player, int p_source, int p_target, int p_armies) {
+        if (d_size == d_types.length) {
+            int l_capacity = d_size * 2;
+            d_types = Arrays.copyOf(d_types, l_capacity);
+            d_players = Arrays.copyOf(d_players, l_capacity);
+            d_sources = Arrays.copyOf(d_sources, l_capacity);
+            d_targets = Arrays.copyOf(d_targets, l_capacity);
+            d_armies = Arrays.copyOf(d_armies, l_capacity);
+            d_nextOfPlayer = Arrays.copyOf(d_nextOfPlayer, l_capacity);
+        }
+        int l_order = d_size++;
+        d_types[l_order] = p_type.ordinal();
+        d_players[l_order] = p_player;
+        d_sources[l_order] = p_source;
+        d_targets[l_order] = p_target;
+        d_armies[l_order] = p_armies;
+        d_nextOfPlayer[l_order] = d_END;
+        if (d_lastOfPlayer[p_player] == d_END) {
+            d_firstOfPlayer[p_player] = l_order;
+        } else {
+            d_nextOfPlayer[d_lastOfPlayer[p_player]] = l_order;
+        }
+        d_lastOfPlayer[p_player] = l_order;
+    }
+
+    /**
+     * Checks if the player has any order left.
+     *
+     * @param p_player Index of the player.
+     * @return True if the player has one or more orders.
+     */
+    public boolean hasOrders(int p_player) {
+        return d_firstOfPlayer[p_player] != d_END;
+    }
+
+    /**
+     * Gets the first order of the player and removes it from the player's orders.
+     *
+     * @param p_player Index of the player.
+     * @return Index of the order in this buffer; -1 if the player has no order left.
+     */
+    public int nextOrder(int p_player) {
+        int l_order = d_firstOfPlayer[p_player];
+        if (l_order != d_END) {
+            d_firstOfPlayer[p_player] = d_nextOfPlayer[l_order];
+            if (d_firstOfPlayer[p_player] == d_END) {
+                d_lastOfPlayer[p_player] = d_END;
+            }
+        }
+        return l_order;
+    }
+
+    /**
+     * Gets the number of orders added since the buffer was cleared.
+     *
+     * @return Value of the count.
+     */
+    public int size() {
+        return d_size;
+    }
+
+    /**
+     * Gets the type of the order.
+     *
+     * @param p_order Index of the order.
+     * @return Value of the type.
+     */
+    public OrderTypes getType(int p_order) {
+        return d_ORDER_TYPES[d_types[p_order]];
+    }
+
+    /**
+     * Gets the player who issued the order.
+     *
+     * @param p_order Index of the order.
+     * @return Index of the player.
+     */
+    public int getPlayer(int p_order) {
+        return d_players[p_order];
+    }
+
+    /**
+     * Gets the source of the order.
+     *
+     * @param p_order Index of the order.
+     * @return Index of the source country, or of the other player for a negotiate order.
+     */
+    public int getSource(int p_order) {
+        return d_sources[p_order];
+    }
+
+    /**
+     * Gets the target country of the order.
+     *
+     * @param p_order Index of the order.
+     * @return Index of the target country.
+     */
+    public int getTarget(int p_order) {
+        return d_targets[p_order];
+    }
+
+    /**
+     * Gets the number of armies of the order.
+     *
+     * @param p_order Index of the order.
+     * @return Value of the army count.
+     */
+    public int getArmies(int p_order) {
+        return d_armies[p_order];
+    }
+}
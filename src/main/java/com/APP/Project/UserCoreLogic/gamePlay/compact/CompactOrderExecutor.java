@@ -0,0 +1,254 @@
+package com.APP.Project.UserCoreLogic.gamePlay.compact;
+
+import com.APP.Project.UserCoreLogic.constants.enums.CardType;
+
+import java.util.Arrays;
+
+import static java.lang.Math.round;
+
+/**
+ * Executes the orders of the players on a <code>CompactGameState</code>.
+ * <p>
+ * The rules are the ones of the order classes in <code>game_entities.orders</code>. An order which the order class
+ * would reject with <code>InvalidOrderException</code> or <code>CardNotFoundException</code> is skipped and reported by
+ * returning false, as the execute phase does after logging the exception.
+ * </p>
+ * <p>
+ * A blockaded country becomes neutral. In the object model it keeps its owner but is no longer in the owner's
+ * assigned countries, which has the same effect on the orders.
+ * </p>
+ *
+ * @author Rupal Kapoor
+ * @version 1.0
+ */
+public class CompactOrderExecutor {
+    /**
+     * Multiplier of the armies of a blockaded country.
+     */
+    public static final int BLOCKADE_MULTIPLIER = 3;
+
+    private final CompactGameState d_state;
+
+    /**
+     * Number of values stored for each future negotiation: player, other player, execution index, expiry index and 1
+     * if it has been executed.
+     */
+    private static final int d_NEGOTIATION_FIELDS = 5;
+
+    /**
+     * Negotiations issued in an earlier turn.
+     */
+    private int[] d_futureNegotiations = new int[d_NEGOTIATION_FIELDS * 4];
+    private int d_futureNegotiationCount = 0;
+
+    /**
+     * Creates the executor for the state.
+     *
+     * @param p_state State to be changed by the orders.
+     */
+    public CompactOrderExecutor(CompactGameState p_state) {
+        d_state = p_state;
+    }
+
+    /**
+     * Executes the order from the buffer.
+     *
+     * @param p_orders Buffer holding the order.
+     * @param p_order  Index of the order.
+     * @return True if the order has been executed.
+     */
+    public boolean execute(CompactOrderBuffer p_orders, int p_order) {
+        int l_player = p_orders.getPlayer(p_order);
+        switch (p_orders.getType(p_order)) {
+            case deploy:
+                return deploy(l_player, p_orders.getTarget(p_order), p_orders.getArmies(p_order));
+            case advance:
+                return advance(l_player, p_orders.getSource(p_order), p_orders.getTarget(p_order), p_orders.getArmies(p_order));
+            case airlift:
+                return airlift(l_player, p_orders.getSource(p_order), p_orders.getTarget(p_order), p_orders.getArmies(p_order));
+            case bomb:
+                return bomb(l_player, p_orders.getTarget(p_order));
+            case blockade:
+                return blockade(l_player, p_orders.getTarget(p_order));
+            default:
+                // Negotiate orders are scheduled when issued and executed as future orders.
+                return false;
+        }
+    }
+
+    /**
+     * Deploys the reinforcements of the player to a country owned by the player.
+     *
+     * @param p_player  Index of the player.
+     * @param p_country Index of the target country.
+     * @param p_armies  Number of armies to deploy.
+     * @return True if the order has been executed.
+     */
+    public boolean deploy(int p_player, int p_country, int p_armies) {
+        if (d_state.getOwner(p_country) != p_player) {
+            return false;
+        }
+        int l_remainingReinforcements = d_state.getRemainingReinforcements(p_player) - p_armies;
+        if (l_remainingReinforcements < 0) {
+            return false;
+        }
+        d_state.setRemainingReinforcements(p_player, l_remainingReinforcements);
+        d_state.setArmies(p_country, d_state.getArmies(p_country) + p_armies);
+        return true;
+    }
+
+    /**
+     * Moves the armies to a neighbour country. If the neighbour country is not owned by the player, the armies attack
+     * it: the attackers kill 60% of the defenders and the defenders kill 70% of the attackers.
+     *
+     * @param p_player      Index of the player.
+     * @param p_countryFrom Index of the source country.
+     * @param p_countryTo   Index of the destination country.
+     * @param p_armies      Number of armies to move.
+     * @return True if the order has been executed.
+     */
+    public boolean advance(int p_player, int p_countryFrom, int p_countryTo, int p_armies) {
+        if (d_state.getOwner(p_countryFrom) != p_player || !d_state.isNeighbour(p_countryFrom, p_countryTo)) {
+            return false;
+        }
+        int l_defender = d_state.getOwner(p_countryTo);
+        if (!d_state.isNotNegotiation(p_player, l_defender)) {
+            return true;
+        }
+        int l_armiesFrom = d_state.getArmies(p_countryFrom);
+        int l_movedArmies = Math.min(p_armies, l_armiesFrom);
+        if (l_defender == p_player) {
+            d_state.setArmies(p_countryFrom, l_armiesFrom - l_movedArmies);
+            d_state.setArmies(p_countryTo, d_state.getArmies(p_countryTo) + l_movedArmies);
+            return true;
+        }
+
+        int l_defendingArmies = d_state.getArmies(p_countryTo);
+        d_state.setArmies(p_countryFrom, l_armiesFrom - l_movedArmies);
+        int l_attackersKilled = (int) round(l_defendingArmies * 0.7);
+        int l_defendersKilled = (int) round(l_movedArmies * 0.6);
+
+        // As in AdvanceOrder, the attack is cancelled after the armies left if the source country is left empty.
+        if (d_state.getArmies(p_countryFrom) <= 0) {
+            return false;
+        }
+
+        if (l_defendersKilled >= l_defendingArmies) {
+            d_state.transferCountry(p_countryTo, p_player);
+            d_state.setArmies(p_countryTo, l_movedArmies - l_attackersKilled);
+            d_state.addCard(p_player, d_state.getRandom().nextInt(CompactGameState.d_CARD_TYPES.length));
+        } else {
+            d_state.setArmies(p_countryFrom, d_state.getArmies(p_countryFrom) + l_movedArmies - l_attackersKilled);
+            d_state.setArmies(p_countryTo, l_defendingArmies - l_defendersKilled);
+        }
+        return true;
+    }
+
+    /**
+     * Moves the armies between two countries of the player using the airlift card.
+     *
+     * @param p_player        Index of the player.
+     * @param p_sourceCountry Index of the source country.
+     * @param p_targetCountry Index of the target country.
+     * @param p_armies        Number of armies to move.
+     * @return True if the order has been executed.
+     */
+    public boolean airlift(int p_player, int p_sourceCountry, int p_targetCountry, int p_armies) {
+        if (d_state.getOwner(p_sourceCountry) != p_player || d_state.getOwner(p_targetCountry) != p_player) {
+            return false;
+        }
+        if (!d_state.hasCard(p_player, CardType.AIRLIFT) || d_state.getArmies(p_sourceCountry) < p_armies) {
+            return false;
+        }
+        d_state.setArmies(p_sourceCountry, d_state.getArmies(p_sourceCountry) - p_armies);
+        d_state.setArmies(p_targetCountry, d_state.getArmies(p_targetCountry) + p_armies);
+        d_state.removeCard(p_player, CardType.AIRLIFT);
+        return true;
+    }
+
+    /**
+     * Halves the armies of an opponent country neighbouring a country of the player using the bomb card.
+     *
+     * @param p_player  Index of the player.
+     * @param p_country Index of the target country.
+     * @return True if the order has been executed.
+     */
+    public boolean bomb(int p_player, int p_country) {
+        int l_owner = d_state.getOwner(p_country);
+        if (l_owner == p_player || !d_state.hasCard(p_player, CardType.BOMB)) {
+            return false;
+        }
+        if (!d_state.isNotNegotiation(p_player, l_owner)) {
+            return true;
+        }
+        if (!d_state.isNeighbourOfPlayer(p_player, p_country)) {
+            return false;
+        }
+        d_state.setArmies(p_country, d_state.getArmies(p_country) / 2);
+        d_state.removeCard(p_player, CardType.BOMB);
+        return true;
+    }
+
+    /**
+     * Triples the armies of a country of the player and makes it neutral using the blockade card.
+     *
+     * @param p_player  Index of the player.
+     * @param p_country Index of the target country.
+     * @return True if the order has been executed.
+     */
+    public boolean blockade(int p_player, int p_country) {
+        if (d_state.getOwner(p_country) != p_player || !d_state.hasCard(p_player, CardType.BLOCKADE)) {
+            return false;
+        }
+        d_state.setArmies(p_country, d_state.getArmies(p_country) * BLOCKADE_MULTIPLIER);
+        d_state.transferCountry(p_country, CompactGameState.NEUTRAL);
+        d_state.removeCard(p_player, CardType.BLOCKADE);
+        return true;
+    }
+
+    /**
+     * Schedules the negotiation between the players. As <code>NegotiateOrder</code> does, it is executed in the next
+     * turn and expires in the turn after.
+     *
+     * @param p_player      Index of the player.
+     * @param p_otherPlayer Index of the other player.
+     */
+    public void negotiate(int p_player, int p_otherPlayer) {
+        if (d_futureNegotiationCount * d_NEGOTIATION_FIELDS == d_futureNegotiations.length) {
+            d_futureNegotiations = Arrays.copyOf(d_futureNegotiations, d_futureNegotiations.length * 2);
+        }
+        int l_executionIndex = d_state.getExecutionIndex() + 1;
+        int l_offset = d_futureNegotiationCount++ * d_NEGOTIATION_FIELDS;
+        d_futureNegotiations[l_offset] = p_player;
+        d_futureNegotiations[l_offset + 1] = p_otherPlayer;
+        d_futureNegotiations[l_offset + 2] = l_executionIndex;
+        d_futureNegotiations[l_offset + 3] = l_executionIndex + 1;
+        d_futureNegotiations[l_offset + 4] = 0;
+    }
+
+    /**
+     * Executes the negotiations scheduled for the current turn and ends the ones which have expired. The diplomacy card
+     * is used when the negotiation is executed.
+     */
+    public void executeFutureOrders() {
+        int l_executionIndex = d_state.getExecutionIndex();
+        for (int l_negotiation = 0; l_negotiation < d_futureNegotiationCount; l_negotiation++) {
+            int l_offset = l_negotiation * d_NEGOTIATION_FIELDS;
+            if (d_futureNegotiations[l_offset + 2] == l_executionIndex
+                    && d_state.removeCard(d_futureNegotiations[l_offset], CardType.DIPLOMACY)) {
+                d_state.addNegotiation(d_futureNegotiations[l_offset], d_futureNegotiations[l_offset + 1]);
+                d_futureNegotiations[l_offset + 4] = 1;
+            }
+        }
+        int l_keptCount = 0;
+        for (int l_negotiation = 0; l_negotiation < d_futureNegotiationCount; l_negotiation++) {
+            int l_offset = l_negotiation * d_NEGOTIATION_FIELDS;
+            if (d_futureNegotiations[l_offset + 3] > l_executionIndex) {
+                System.arraycopy(d_futureNegotiations, l_offset, d_futureNegotiations, l_keptCount++ * d_NEGOTIATION_FIELDS, d_NEGOTIATION_FIELDS);
+            } else if (d_futureNegotiations[l_offset + 4] == 1) {
+                d_state.removeNegotiation(d_futureNegotiations[l_offset], d_futureNegotiations[l_offset + 1]);
+            }
+        }
+        d_futureNegotiationCount = l_keptCount;
+    }
+}
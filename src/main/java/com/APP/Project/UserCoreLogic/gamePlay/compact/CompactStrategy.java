@@ -0,0 +1,289 @@
+package com.APP.Project.UserCoreLogic.gamePlay.compact;
+
+import com.APP.Project.UserCoreLogic.constants.enums.CardType;
+import com.APP.Project.UserCoreLogic.constants.enums.OrderTypes;
+import com.APP.Project.UserCoreLogic.constants.enums.StrategyType;
+
+import java.util.Random;
+
+/**
+ * Issues the orders of the computer players of a <code>CompactGameState</code>.
+ * <p>
+ * Each strategy follows the corresponding class in <code>game_entities.strategy</code>. The countries of a player are
+ * visited in the order of their indexes, and the countries chosen by a strategy are chosen again for every turn rather
+ * than kept from the previous turn.
+ * </p>
+ *
+ * @author Sushant Sinha
+ * @version 1.0
+ */
+public class CompactStrategy {
+    private final CompactGameState d_state;
+    private final CompactOrderExecutor d_executor;
+
+    /**
+     * Countries owned by the player whose orders are being issued.
+     */
+    private final int[] d_ownedCountries;
+    private int d_ownedCountryCount;
+
+    /**
+     * Creates the strategies playing on the state.
+     *
+     * @param p_state    State of the game.
+     * @param p_executor Executor used to schedule the negotiations.
+     */
+    public CompactStrategy(CompactGameState p_state, CompactOrderExecutor p_executor) {
+        d_state = p_state;
+        d_executor = p_executor;
+        d_ownedCountries = new int[p_state.getCountryCount()];
+    }
+
+    /**
+     * Issues the orders of the player for this turn using the player's strategy.
+     *
+     * @param p_player Index of the player.
+     * @param p_orders Buffer to add the orders to.
+     */
+    public void issueOrders(int p_player, CompactOrderBuffer p_orders) {
+        this.collectOwnedCountries(p_player);
+        StrategyType l_strategy = d_state.getPlayerStrategy(p_player);
+        if (l_strategy == StrategyType.AGGRESSIVE) {
+            this.issueAggressiveOrders(p_player, p_orders);
+        } else if (l_strategy == StrategyType.BENEVOLENT) {
+            this.deployEvenly(p_player, p_orders);
+        } else if (l_strategy == StrategyType.CHEATER) {
+            this.issueCheaterOrders(p_player, p_orders);
+        } else if (l_strategy == StrategyType.RANDOM) {
+            this.issueRandomOrders(p_player, p_orders);
+        }
+    }
+
+    /**
+     * Deploys on the strongest country bordering an opponent, uses a card and attacks the opponent with all the armies.
+     *
+     * @param p_player Index of the player.
+     * @param p_orders Buffer to add the orders to.
+     */
+    private void issueAggressiveOrders(int p_player, CompactOrderBuffer p_orders) {
+        int l_attackingCountry = -1;
+        int l_oppositionCountry = -1;
+        int l_currentArmies = 0;
+        // Try to find the strongest country.
+        for (int l_index = 0; l_index < d_ownedCountryCount; l_index++) {
+            int l_ownedCountry = d_ownedCountries[l_index];
+            for (int l_position = d_state.getNeighbourStart(l_ownedCountry); l_position < d_state.getNeighbourEnd(l_ownedCountry); l_position++) {
+                int l_neighbour = d_state.getNeighbour(l_position);
+                if (d_state.getArmies(l_ownedCountry) > l_currentArmies && d_state.getOwner(l_neighbour) != p_player) {
+                    l_currentArmies = d_state.getArmies(l_ownedCountry);
+                    l_attackingCountry = l_ownedCountry;
+                    l_oppositionCountry = l_neighbour;
+                }
+            }
+        }
+        if (l_attackingCountry < 0) {
+            // Use the last country that has a neighbour country owned by another player.
+            for (int l_index = 0; l_index < d_ownedCountryCount; l_index++) {
+                int l_ownedCountry = d_ownedCountries[l_index];
+                int l_opponent = this.findOpponentNeighbour(p_player, l_ownedCountry);
+                if (l_opponent >= 0) {
+                    l_attackingCountry = l_ownedCountry;
+                    l_oppositionCountry = l_opponent;
+                }
+            }
+        }
+        if (l_attackingCountry < 0) {
+            return;
+        }
+
+        int l_remainingReinforcements = d_state.getRemainingReinforcements(p_player);
+        if (d_state.isTournamentModeOn() && l_remainingReinforcements > 0) {
+            p_orders.add(OrderTypes.deploy, p_player, -1, l_attackingCountry, l_remainingReinforcements);
+        }
+
+        if (d_state.hasCard(p_player, CardType.BOMB)) {
+            p_orders.add(OrderTypes.bomb, p_player, -1, l_oppositionCountry, 0);
+        } else if (d_state.hasCard(p_player, CardType.BLOCKADE)) {
+            // Blockade the country bordering the strongest opponent country.
+            int l_maximumArmies = 0;
+            int l_targetCountry = -1;
+            for (int l_index = 0; l_index < d_ownedCountryCount; l_index++) {
+                int l_ownedCountry = d_ownedCountries[l_index];
+                for (int l_position = d_state.getNeighbourStart(l_ownedCountry); l_position < d_state.getNeighbourEnd(l_ownedCountry); l_position++) {
+                    int l_neighbour = d_state.getNeighbour(l_position);
+                    if (d_state.getOwner(l_neighbour) != p_player && d_state.getArmies(l_neighbour) > l_maximumArmies) {
+                        l_maximumArmies = d_state.getArmies(l_neighbour);
+                        l_targetCountry = l_ownedCountry;
+                    }
+                }
+            }
+            if (l_targetCountry >= 0) {
+                p_orders.add(OrderTypes.blockade, p_player, -1, l_targetCountry, 0);
+            }
+        } else if (d_state.hasCard(p_player, CardType.AIRLIFT)) {
+            // Airlift the armies of the strongest other country to the attacking country.
+            int l_maximumArmies = 0;
+            int l_sourceCountry = -1;
+            for (int l_index = 0; l_index < d_ownedCountryCount; l_index++) {
+                int l_ownedCountry = d_ownedCountries[l_index];
+                if (d_state.getArmies(l_ownedCountry) > l_maximumArmies && l_ownedCountry != l_attackingCountry) {
+                    l_maximumArmies = d_state.getArmies(l_ownedCountry);
+                    l_sourceCountry = l_ownedCountry;
+                }
+            }
+            if (l_sourceCountry >= 0) {
+                p_orders.add(OrderTypes.airlift, p_player, l_sourceCountry, l_attackingCountry, d_state.getArmies(l_sourceCountry) - 1);
+            }
+        } else if (d_state.hasCard(p_player, CardType.DIPLOMACY)) {
+            int l_opponent = this.findOpponentNeighbour(p_player, l_attackingCountry);
+            if (l_opponent >= 0 && d_state.getOwner(l_opponent) != CompactGameState.NEUTRAL) {
+                d_executor.negotiate(p_player, d_state.getOwner(l_opponent));
+            }
+        }
+
+        p_orders.add(OrderTypes.advance, p_player, l_attackingCountry, l_oppositionCountry,
+                d_state.getArmies(l_attackingCountry) + l_remainingReinforcements - 1);
+    }
+
+    /**
+     * Deploys during the tournament, conquers every opponent country bordering the player and doubles the armies of
+     * the countries bordering an opponent.
+     *
+     * @param p_player Index of the player.
+     * @param p_orders Buffer to add the orders to.
+     */
+    private void issueCheaterOrders(int p_player, CompactOrderBuffer p_orders) {
+        if (d_state.isTournamentModeOn() && d_state.getRemainingReinforcements(p_player) > 0) {
+            this.deployEvenly(p_player, p_orders);
+        }
+
+        // Find all the neighbour countries owned by other players before taking any of them.
+        int[] l_conqueredCountries = new int[d_state.getCountryCount()];
+        boolean[] l_isConquered = new boolean[d_state.getCountryCount()];
+        int l_conqueredCount = 0;
+        for (int l_index = 0; l_index < d_ownedCountryCount; l_index++) {
+            int l_ownedCountry = d_ownedCountries[l_index];
+            for (int l_position = d_state.getNeighbourStart(l_ownedCountry); l_position < d_state.getNeighbourEnd(l_ownedCountry); l_position++) {
+                int l_neighbour = d_state.getNeighbour(l_position);
+                if (d_state.getOwner(l_neighbour) != p_player && !l_isConquered[l_neighbour]) {
+                    l_isConquered[l_neighbour] = true;
+                    l_conqueredCountries[l_conqueredCount++] = l_neighbour;
+                }
+            }
+        }
+        for (int l_index = 0; l_index < l_conqueredCount; l_index++) {
+            d_state.transferCountry(l_conqueredCountries[l_index], p_player);
+        }
+
+        this.collectOwnedCountries(p_player);
+        for (int l_index = 0; l_index < d_ownedCountryCount; l_index++) {
+            int l_ownedCountry = d_ownedCountries[l_index];
+            if (this.findOpponentNeighbour(p_player, l_ownedCountry) >= 0) {
+                d_state.setArmies(l_ownedCountry, d_state.getArmies(l_ownedCountry) * 2);
+            }
+        }
+    }
+
+    /**
+     * Deploys on a random country, uses a random card and attacks a neighbour opponent from that country.
+     *
+     * @param p_player Index of the player.
+     * @param p_orders Buffer to add the orders to.
+     */
+    private void issueRandomOrders(int p_player, CompactOrderBuffer p_orders) {
+        if (d_ownedCountryCount <= 0) {
+            return;
+        }
+        Random l_random = d_state.getRandom();
+        int l_randomCountry = d_ownedCountries[l_random.nextInt(d_ownedCountryCount)];
+        int l_oppositeCountry = this.findOpponentNeighbour(p_player, l_randomCountry);
+        int l_remainingReinforcements = d_state.getRemainingReinforcements(p_player);
+        if (d_state.isTournamentModeOn() && l_remainingReinforcements > 0) {
+            p_orders.add(OrderTypes.deploy, p_player, -1, l_randomCountry, l_remainingReinforcements);
+        }
+        if (l_oppositeCountry < 0) {
+            return;
+        }
+
+        int l_cardCount = d_state.getCardCount(p_player);
+        if (l_cardCount > 0) {
+            // Pick one of the cards held, each card being equally likely.
+            int l_card = l_random.nextInt(l_cardCount);
+            int l_cardType = 0;
+            while (l_card >= d_state.getCardCount(p_player, l_cardType)) {
+                l_card -= d_state.getCardCount(p_player, l_cardType);
+                l_cardType++;
+            }
+            CardType l_type = CompactGameState.d_CARD_TYPES[l_cardType];
+            if (l_type == CardType.BOMB) {
+                p_orders.add(OrderTypes.bomb, p_player, -1, l_oppositeCountry, 0);
+            } else if (l_type == CardType.AIRLIFT) {
+                int l_targetCountry = d_ownedCountries[l_random.nextInt(d_ownedCountryCount)];
+                p_orders.add(OrderTypes.airlift, p_player, l_randomCountry, l_targetCountry, d_state.getArmies(l_randomCountry) - 1);
+            } else if (l_type == CardType.BLOCKADE) {
+                p_orders.add(OrderTypes.blockade, p_player, -1, l_oppositeCountry, 0);
+            } else if (l_type == CardType.DIPLOMACY && d_state.getOwner(l_oppositeCountry) != CompactGameState.NEUTRAL) {
+                d_executor.negotiate(p_player, d_state.getOwner(l_oppositeCountry));
+            }
+        }
+
+        p_orders.add(OrderTypes.advance, p_player, l_randomCountry, l_oppositeCountry,
+                d_state.getArmies(l_randomCountry) + l_remainingReinforcements - 1);
+    }
+
+    /**
+     * Deploys the remaining reinforcements evenly on the countries of the player, as the benevolent player does.
+     *
+     * @param p_player Index of the player.
+     * @param p_orders Buffer to add the orders to.
+     */
+    private void deployEvenly(int p_player, CompactOrderBuffer p_orders) {
+        int l_remainingReinforcements = d_state.getRemainingReinforcements(p_player);
+        if (d_ownedCountryCount == 0) {
+            return;
+        }
+        if (d_ownedCountryCount > l_remainingReinforcements) {
+            for (int l_index = 0; l_index < l_remainingReinforcements; l_index++) {
+                p_orders.add(OrderTypes.deploy, p_player, -1, d_ownedCountries[l_index], 1);
+            }
+        } else {
+            int l_assignedReinforcements = l_remainingReinforcements / d_ownedCountryCount;
+            for (int l_index = 0; l_index < d_ownedCountryCount - 1; l_index++) {
+                p_orders.add(OrderTypes.deploy, p_player, -1, d_ownedCountries[l_index], l_assignedReinforcements);
+                l_remainingReinforcements -= l_assignedReinforcements;
+            }
+            p_orders.add(OrderTypes.deploy, p_player, -1, d_ownedCountries[d_ownedCountryCount - 1], l_remainingReinforcements);
+        }
+    }
+
+    /**
+     * Finds the first neighbour of the country which is not owned by the player.
+     *
+     * @param p_player  Index of the player.
+     * @param p_country Index of the country.
+     * @return Index of the neighbour; -1 if all the neighbours are owned by the player.
+     */
+    private int findOpponentNeighbour(int p_player, int p_country) {
+        for (int l_position = d_state.getNeighbourStart(p_country); l_position < d_state.getNeighbourEnd(p_country); l_position++) {
+            int l_neighbour = d_state.getNeighbour(l_position);
+            if (d_state.getOwner(l_neighbour) != p_player) {
+                return l_neighbour;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Collects the countries owned by the player, in the order of their indexes.
+     *
+     * @param p_player Index of the player.
+     */
+    private void collectOwnedCountries(int p_player) {
+        d_ownedCountryCount = 0;
+        for (int l_country = 0; l_country < d_state.getCountryCount(); l_country++) {
+            if (d_state.getOwner(l_country) == p_player) {
+                d_ownedCountries[d_ownedCountryCount++] = l_country;
+            }
+        }
+    }
+}
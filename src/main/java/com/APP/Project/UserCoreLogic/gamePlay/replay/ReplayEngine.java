@@ -0,0 +1,556 @@
+package com.APP.Project.UserCoreLogic.gamePlay.replay;
+
+import com.APP.Project.UserCoreLogic.GameContext;
+import com.APP.Project.UserCoreLogic.GameEngine;
+import com.APP.Project.UserCoreLogic.common.services.CardService;
+import com.APP.Project.UserCoreLogic.constants.enums.CardType;
+import com.APP.Project.UserCoreLogic.constants.enums.JournalEventType;
+import com.APP.Project.UserCoreLogic.constants.enums.OrderTypes;
+import com.APP.Project.UserCoreLogic.constants.enums.StrategyType;
+import com.APP.Project.UserCoreLogic.constants.interfaces.Card;
+import com.APP.Project.UserCoreLogic.constants.interfaces.Order;
+import com.APP.Project.UserCoreLogic.exceptions.CardNotFoundException;
+import com.APP.Project.UserCoreLogic.exceptions.InvalidArgumentException;
+import com.APP.Project.UserCoreLogic.exceptions.InvalidGameException;
+import com.APP.Project.UserCoreLogic.exceptions.InvalidOrderException;
+import com.APP.Project.UserCoreLogic.exceptions.UserCoreLogicException;
+import com.APP.Project.UserCoreLogic.gamePlay.GamePlayEngine;
+import com.APP.Project.UserCoreLogic.gamePlay.services.ReinforcementService;
+import com.APP.Project.UserCoreLogic.game_entities.Country;
+import com.APP.Project.UserCoreLogic.game_entities.Player;
+import com.APP.Project.UserCoreLogic.game_entities.orders.AdvanceOrder;
+import com.APP.Project.UserCoreLogic.game_entities.orders.AirliftOrder;
+import com.APP.Project.UserCoreLogic.game_entities.orders.BlockadeOrder;
+import com.APP.Project.UserCoreLogic.game_entities.orders.BombOrder;
+import com.APP.Project.UserCoreLogic.game_entities.orders.DeployOrder;
+import com.APP.Project.UserCoreLogic.game_entities.orders.NegotiateOrder;
+import com.APP.Project.UserCoreLogic.logger.JournalEvent;
+import com.APP.Project.UserCoreLogic.logger.JournalReader;
+import com.APP.Project.UserCoreLogic.logger.LogEntryBuffer;
+import com.APP.Project.UserCoreLogic.map_features.MapEditorEngine;
+import com.APP.Project.UserCoreLogic.map_features.adapters.EditMapService;
+import com.APP.Project.UserCoreLogic.phases.Execute;
+import com.APP.Project.UserCoreLogic.phases.Reinforcement;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Replays a game from its journal written by <code>EventJournal</code>.
+ * <p>
+ * The engine loads the map of the journal, creates its players and applies the initial distribution of the countries.
+ * The orders are then created again and carried out with <code>Order#execute</code> on a game engine of the replay,
+ * without the game loop, the user interface or a log file. The reinforcements are given at each reinforcement phase,
+ * and the cards awarded by the game are the cards of the journal. The changes made outside the orders, such as the
+ * countries taken by a cheating player, are applied as they were recorded.
+ * </p>
+ * <p>
+ * A snapshot of the game is kept at the start of every few turns, so <code>seek</code> can move to any turn, also
+ * backwards, by replaying from the nearest snapshot. An order whose outcome differs from the journal is counted as a
+ * divergence.
+ * </p>
+ *
+ * @author Rupal Kapoor
+ * @version 1.0
+ */
+public class ReplayEngine {
+    /**
+     * Number of turns between two snapshots if none is given.
+     */
+    public static final int DEFAULT_SNAPSHOT_INTERVAL = 10;
+
+    private final List<JournalEvent> d_events;
+    private final int d_snapshotInterval;
+    private final GameEngine d_gameEngine;
+    private final GameContext d_gameContext;
+    /**
+     * Players and countries of the game, indexed by their id in the journal.
+     */
+    private final List<Player> d_players = new ArrayList<>();
+    private final List<Country> d_countries = new ArrayList<>();
+    /**
+     * Negotiations in effect, with the turn they expire in.
+     */
+    private final List<Negotiation> d_negotiations = new ArrayList<>();
+    /**
+     * Cards of the journal awarded by the next order.
+     */
+    private final Deque<CardType> d_pendingCards = new ArrayDeque<>();
+    private final NavigableMap<Integer, ReplaySnapshot> d_snapshots = new TreeMap<>();
+    private int d_position = 0;
+    private int d_turn = -1;
+    private boolean d_isExecutePhase = false;
+    private boolean d_isExpiryDue = false;
+    private long d_replayedOrderCount = 0;
+    private int d_divergenceCount = 0;
+
+    /**
+     * Prepares the replay of the events up to the first turn of the game.
+     *
+     * @param p_events           Events of the journal, in the order they were written.
+     * @param p_snapshotInterval Number of turns between two snapshots.
+     * @throws UserCoreLogicException If the map can not be loaded or the events do not match it.
+     */
+    public ReplayEngine(List<JournalEvent> p_events, int p_snapshotInterval) throws UserCoreLogicException {
+        if (p_events.isEmpty() || p_events.get(0).getType() != JournalEventType.MAP_LOADED) {
+            throw new InvalidGameException("Journal does not start with the map of the game!");
+        }
+        if (p_snapshotInterval < 1) {
+            throw new InvalidArgumentException("Snapshot interval must be at least one turn!");
+        }
+        d_events = p_events;
+        d_snapshotInterval = p_snapshotInterval;
+        // Creating the engine resets the serial numbers as well.
+        synchronized (MapEditorEngine.getMapLoadingLock()) {
+            d_gameEngine = new GameEngine(new MapEditorEngine(), new GamePlayEngine());
+        }
+        d_gameContext = new GameContext(d_gameEngine, LogEntryBuffer.newChannel("replay"), null);
+
+        GameContext l_previousContext = this.enterContext();
+        try {
+            synchronized (MapEditorEngine.getMapLoadingLock()) {
+                new EditMapService().handleLoadMap(d_events.get(0).getName(), false);
+            }
+            // Apply the players and the distribution of the countries.
+            while (d_position < d_events.size() && d_events.get(d_position).getType() != JournalEventType.PHASE_CHANGED) {
+                this.apply(d_events.get(d_position++));
+            }
+            d_gameEngine.getGamePlayEngine().refreshPlayerStatus();
+        } finally {
+            leaveContext(l_previousContext);
+        }
+    }
+
+    /**
+     * Reads the journal file and prepares its replay.
+     *
+     * @param p_journalFile Journal file.
+     * @return Value of the replay engine.
+     * @throws IOException            If the file can not be read.
+     * @throws UserCoreLogicException If the journal is invalid or its map can not be loaded.
+     */
+    public static ReplayEngine fromJournal(File p_journalFile) throws IOException, UserCoreLogicException {
+        return new ReplayEngine(JournalReader.readAll(p_journalFile, p_event -> true), DEFAULT_SNAPSHOT_INTERVAL);
+    }
+
+    /**
+     * Replays the next event.
+     *
+     * @return True if an event has been replayed; false at the end of the journal.
+     * @throws UserCoreLogicException If the event does not match the replayed game.
+     */
+    public boolean step() throws UserCoreLogicException {
+        if (d_position >= d_events.size()) {
+            return false;
+        }
+        GameContext l_previousContext = this.enterContext();
+        try {
+            this.stepInContext();
+        } finally {
+            leaveContext(l_previousContext);
+        }
+        return true;
+    }
+
+    /**
+     * Replays all the remaining events.
+     *
+     * @throws UserCoreLogicException If an event does not match the replayed game.
+     */
+    public void runToEnd() throws UserCoreLogicException {
+        GameContext l_previousContext = this.enterContext();
+        try {
+            while (d_position < d_events.size()) {
+                this.stepInContext();
+            }
+            this.expireIfDue();
+        } finally {
+            leaveContext(l_previousContext);
+        }
+    }
+
+    /**
+     * Moves the replay to the start of the turn, before its reinforcements. The replay restarts from the nearest
+     * snapshot if the turn is behind the replay or the snapshot is ahead of it. If the game ended before the turn, the
+     * replay ends at the end of the game.
+     *
+     * @param p_turn Index of the turn.
+     * @throws UserCoreLogicException If the turn is negative or an event does not match the replayed game.
+     */
+    public void seek(int p_turn) throws UserCoreLogicException {
+        if (p_turn < 0) {
+            throw new InvalidArgumentException("Turn can not be negative!");
+        }
+        GameContext l_previousContext = this.enterContext();
+        try {
+            Map.Entry<Integer, ReplaySnapshot> l_snapshot = d_snapshots.floorEntry(p_turn);
+            if (l_snapshot != null && (d_turn >= p_turn || l_snapshot.getValue().getPosition() > d_position)) {
+                this.restore(l_snapshot.getValue());
+            }
+            while (d_position < d_events.size() && !this.isTurnStart(d_events.get(d_position), p_turn)) {
+                this.stepInContext();
+            }
+        } finally {
+            leaveContext(l_previousContext);
+        }
+    }
+
+    /**
+     * Gets the game engine holding the state of the replayed game.
+     *
+     * @return Value of the game engine.
+     */
+    public GameEngine getGameEngine() {
+        return d_gameEngine;
+    }
+
+    /**
+     * Gets the index of the turn being replayed.
+     *
+     * @return Value of the index; -1 before the first turn.
+     */
+    public int getTurn() {
+        return d_turn;
+    }
+
+    /**
+     * Gets the index of the next event to replay.
+     *
+     * @return Value of the index; the number of events at the end of the journal.
+     */
+    public int getPosition() {
+        return d_position;
+    }
+
+    /**
+     * Checks if all the events have been replayed.
+     *
+     * @return True at the end of the journal.
+     */
+    public boolean isFinished() {
+        return d_position >= d_events.size();
+    }
+
+    /**
+     * Gets the number of orders carried out by the replay, counting the orders replayed again after a seek.
+     *
+     * @return Value of the count.
+     */
+    public long getReplayedOrderCount() {
+        return d_replayedOrderCount;
+    }
+
+    /**
+     * Gets the number of orders whose outcome differed from the journal.
+     *
+     * @return Value of the count.
+     */
+    public int getDivergenceCount() {
+        return d_divergenceCount;
+    }
+
+    /**
+     * Replays the next event. The game context of the replay must be bound to the thread.
+     *
+     * @throws UserCoreLogicException If the event does not match the replayed game.
+     */
+    private void stepInContext() throws UserCoreLogicException {
+        JournalEvent l_event = d_events.get(d_position);
+        if (this.isTurnStart(l_event, d_turn + 1)) {
+            this.expireIfDue();
+            int l_turn = l_event.getExecutionIndex();
+            if (l_turn % d_snapshotInterval == 0 && !d_snapshots.containsKey(l_turn)) {
+                d_snapshots.put(l_turn, new ReplaySnapshot(d_position, l_turn,
+                        d_gameEngine.getMapEditorEngine().getCountryList(), d_players, d_negotiations));
+            }
+        }
+        this.apply(l_event);
+        d_position++;
+    }
+
+    /**
+     * Checks if the event starts a turn at least the given one.
+     *
+     * @param p_event Event to check.
+     * @param p_turn  Index of the turn.
+     * @return True if the event is the first phase change of a turn from <code>p_turn</code>.
+     */
+    private boolean isTurnStart(JournalEvent p_event, int p_turn) {
+        return p_event.getType() == JournalEventType.PHASE_CHANGED
+                && p_event.getExecutionIndex() > d_turn
+                && p_event.getExecutionIndex() >= p_turn;
+    }
+
+    /**
+     * Restores the snapshot and moves the replay to its position.
+     *
+     * @param p_snapshot Snapshot to restore.
+     */
+    private void restore(ReplaySnapshot p_snapshot) {
+        p_snapshot.restore(d_gameEngine.getMapEditorEngine().getCountryList(), d_players, d_negotiations);
+        d_position = p_snapshot.getPosition();
+        d_turn = p_snapshot.getTurn() - 1;
+        d_isExecutePhase = false;
+        d_isExpiryDue = false;
+        d_pendingCards.clear();
+        d_gameEngine.getGamePlayEngine().refreshPlayerStatus();
+    }
+
+    /**
+     * Applies the event to the replayed game.
+     *
+     * @param p_event Event to apply.
+     * @throws UserCoreLogicException If the event does not match the replayed game.
+     */
+    private void apply(JournalEvent p_event) throws UserCoreLogicException {
+        switch (p_event.getType()) {
+            case PLAYER_DEFINED:
+                // Definitions are met again when replaying from a snapshot.
+                if (p_event.getPlayer() == d_players.size()) {
+                    Player l_player = new Player(p_event.getName(), parseStrategy(p_event.getDetail()));
+                    d_players.add(l_player);
+                    d_gameEngine.getGamePlayEngine().addPlayer(l_player);
+                }
+                break;
+            case COUNTRY_DEFINED:
+                if (p_event.getTargetCountry() == d_countries.size()) {
+                    Country l_country = d_gameEngine.getMapEditorEngine().findCountryByName(p_event.getName());
+                    if (l_country == null) {
+                        throw new InvalidGameException(String.format("Country %s is not on the map!", p_event.getName()));
+                    }
+                    d_countries.add(l_country);
+                }
+                break;
+            case PHASE_CHANGED:
+                this.expireIfDue();
+                d_turn = Math.max(d_turn, p_event.getExecutionIndex());
+                d_isExecutePhase = Execute.class.getSimpleName().equals(p_event.getName());
+                d_isExpiryDue = d_isExecutePhase;
+                if (Reinforcement.class.getSimpleName().equals(p_event.getName())) {
+                    new ReinforcementService().execute();
+                }
+                break;
+            case ORDER_EXECUTED:
+                // Negotiations expire after the negotiate orders of the turn, as ExecuteOrderService does.
+                if (p_event.getOrderType() != OrderTypes.negotiate) {
+                    this.expireIfDue();
+                }
+                this.replayOrder(p_event);
+                break;
+            case OWNERSHIP_CHANGED:
+                // In the execute phase, the changes are made again by the order following them in the journal.
+                if (!d_isExecutePhase) {
+                    Country l_country = this.getCountry(p_event.getTargetCountry());
+                    if (p_event.getPlayer() < 0) {
+                        d_gameEngine.getGamePlayEngine().getOwnershipLedger().release(l_country);
+                    } else {
+                        d_gameEngine.getGamePlayEngine().getOwnershipLedger().transfer(l_country, this.getPlayer(p_event.getPlayer()));
+                    }
+                }
+                break;
+            case CARD_AWARDED:
+                if (d_isExecutePhase) {
+                    d_pendingCards.add(p_event.getCardType());
+                } else {
+                    this.getPlayer(p_event.getPlayer()).addCard(CardService.createCard(p_event.getCardType()));
+                }
+                break;
+            case ARMIES_CHANGED:
+                this.getCountry(p_event.getTargetCountry()).setNumberOfArmies(p_event.getNumberOfArmies());
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Creates the order of the event again and carries it out. The card awarded by the order is replaced by the card of
+     * the journal.
+     *
+     * @param p_event Event of the order.
+     * @throws UserCoreLogicException If the players or countries of the order are not defined.
+     */
+    private void replayOrder(JournalEvent p_event) throws UserCoreLogicException {
+        Player l_owner = this.getPlayer(p_event.getPlayer());
+        Country l_sourceCountry = p_event.getSourceCountry() < 0 ? null : this.getCountry(p_event.getSourceCountry());
+        Country l_targetCountry = p_event.getTargetCountry() < 0 ? null : this.getCountry(p_event.getTargetCountry());
+        CardType l_awardedCard = d_pendingCards.poll();
+        d_pendingCards.clear();
+
+        Order l_order;
+        try {
+            l_order = this.createOrder(p_event, l_owner, l_sourceCountry, l_targetCountry);
+        } catch (InvalidArgumentException p_e) {
+            d_divergenceCount++;
+            return;
+        }
+
+        int l_cardCount = l_owner.getCards().size();
+        boolean l_isExecuted = false;
+        try {
+            l_order.execute();
+            l_isExecuted = true;
+        } catch (InvalidOrderException | CardNotFoundException p_e) {
+            // Rejected orders are compared with the journal below.
+        }
+        d_replayedOrderCount++;
+
+        List<Card> l_cards = l_owner.getCards();
+        if (l_cards.size() > l_cardCount && l_order.getType() == OrderTypes.advance) {
+            if (l_awardedCard == null) {
+                d_divergenceCount++;
+            } else {
+                l_cards.set(l_cards.size() - 1, CardService.createCard(l_awardedCard));
+            }
+        } else if (l_awardedCard != null) {
+            d_divergenceCount++;
+        }
+        if (l_isExecuted && l_order.getType() == OrderTypes.negotiate) {
+            d_negotiations.add(new Negotiation(l_order, d_turn + 1));
+        }
+        if (l_isExecuted != p_event.isExecuted()) {
+            d_divergenceCount++;
+        }
+    }
+
+    /**
+     * Creates the order of the event.
+     *
+     * @param p_event         Event of the order.
+     * @param p_owner         Player who issued the order.
+     * @param p_sourceCountry Source country of the order; null if it has none.
+     * @param p_targetCountry Target country of the order; null if it has none.
+     * @return Value of the order.
+     * @throws UserCoreLogicException If the order is not valid.
+     */
+    private Order createOrder(JournalEvent p_event, Player p_owner, Country p_sourceCountry, Country p_targetCountry)
+            throws UserCoreLogicException {
+        switch (p_event.getOrderType()) {
+            case deploy:
+                return new DeployOrder(p_targetCountry, p_event.getNumberOfArmies(), p_owner);
+            case advance:
+                return new AdvanceOrder(p_sourceCountry, p_targetCountry, p_event.getNumberOfArmies(), p_owner);
+            case airlift:
+                return new AirliftOrder(p_sourceCountry, p_targetCountry, p_event.getNumberOfArmies(), p_owner);
+            case bomb:
+                return new BombOrder(p_targetCountry, p_owner);
+            case blockade:
+                return new BlockadeOrder(p_targetCountry, p_owner);
+            case negotiate:
+                Order l_order = new NegotiateOrder(p_owner, this.getPlayer(p_event.getOtherPlayer()));
+                // The replay carries out and expires the negotiation itself.
+                d_gameEngine.getGamePlayEngine().removeFutureOrder(l_order);
+                return l_order;
+            default:
+                throw new InvalidGameException("Unknown order in journal!");
+        }
+    }
+
+    /**
+     * Expires the negotiations ending in the turn, once the negotiate orders of the execute phase have been replayed.
+     */
+    private void expireIfDue() {
+        if (!d_isExpiryDue) {
+            return;
+        }
+        d_isExpiryDue = false;
+        Iterator<Negotiation> l_iterator = d_negotiations.iterator();
+        while (l_iterator.hasNext()) {
+            Negotiation l_negotiation = l_iterator.next();
+            if (l_negotiation.d_expiryTurn <= d_turn) {
+                l_negotiation.d_order.expire();
+                l_iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Gets the player with the id of the journal.
+     *
+     * @param p_player Id of the player.
+     * @return Value of the player.
+     * @throws InvalidGameException If the player has not been defined.
+     */
+    private Player getPlayer(int p_player) throws InvalidGameException {
+        if (p_player < 0 || p_player >= d_players.size()) {
+            throw new InvalidGameException(String.format("Player %d is not defined in journal!", p_player));
+        }
+        return d_players.get(p_player);
+    }
+
+    /**
+     * Gets the country with the id of the journal.
+     *
+     * @param p_country Id of the country.
+     * @return Value of the country.
+     * @throws InvalidGameException If the country has not been defined.
+     */
+    private Country getCountry(int p_country) throws InvalidGameException {
+        if (p_country < 0 || p_country >= d_countries.size()) {
+            throw new InvalidGameException(String.format("Country %d is not defined in journal!", p_country));
+        }
+        return d_countries.get(p_country);
+    }
+
+    /**
+     * Parses the strategy of a player of the journal.
+     *
+     * @param p_strategy Name of the strategy.
+     * @return Value of the strategy.
+     * @throws InvalidGameException If there is no such strategy.
+     */
+    private static StrategyType parseStrategy(String p_strategy) throws InvalidGameException {
+        try {
+            return StrategyType.valueOf(p_strategy);
+        } catch (IllegalArgumentException p_e) {
+            throw new InvalidGameException(String.format("Unknown strategy %s in journal!", p_strategy));
+        }
+    }
+
+    /**
+     * Binds the game context of the replay to the thread.
+     *
+     * @return The context bound to the thread before.
+     */
+    private GameContext enterContext() {
+        GameContext l_previousContext = GameContext.current();
+        d_gameContext.bind();
+        return l_previousContext;
+    }
+
+    /**
+     * Binds the previous context to the thread again.
+     *
+     * @param p_previousContext The context bound to the thread before the replay.
+     */
+    private static void leaveContext(GameContext p_previousContext) {
+        GameContext.restore(p_previousContext);
+    }
+
+    /**
+     * Negotiation in effect until the start of the execution of a turn.
+     */
+    static final class Negotiation {
+        private final Order d_order;
+        private final int d_expiryTurn;
+
+        /**
+         * Creates the negotiation.
+         *
+         * @param p_order      Negotiate order which has been carried out.
+         * @param p_expiryTurn Index of the turn the negotiation expires in.
+         */
+        Negotiation(Order p_order, int p_expiryTurn) {
+            d_order = p_order;
+            d_expiryTurn = p_expiryTurn;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.APP.Project.UserCoreLogic.gamePlay.replay;
+
+import com.APP.Project.UserCoreLogic.common.services.CardService;
+import com.APP.Project.UserCoreLogic.constants.enums.CardType;
+import com.APP.Project.UserCoreLogic.constants.interfaces.Card;
+import com.APP.Project.UserCoreLogic.game_entities.Country;
+import com.APP.Project.UserCoreLogic.game_entities.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * State of a replayed game at the start of a turn, used by <code>ReplayEngine</code> to seek without replaying the
+ * game from its beginning.
+ * <p>
+ * The snapshot holds the owners and armies of the countries and the countries, cards, reinforcements and negotiations
+ * of the players. It is restored into the same countries and players it was taken from.
+ * </p>
+ *
+ * @author Rupal Kapoor
+ * @version 1.0
+ */
+class ReplaySnapshot {
+    private final int d_position;
+    private final int d_turn;
+    private final Player[] d_owners;
+    private final int[] d_armies;
+    private final List<List<Country>> d_assignedCountries = new ArrayList<>();
+    private final List<List<CardType>> d_cards = new ArrayList<>();
+    private final List<List<Player>> d_friendPlayers = new ArrayList<>();
+    private final int[] d_reinforcements;
+    private final int[] d_remainingReinforcements;
+    private final List<ReplayEngine.Negotiation> d_negotiations;
+
+    /**
+     * Takes the snapshot of the countries and players.
+     *
+     * @param p_position     Index of the next event to replay.
+     * @param p_turn         Index of the turn.
+     * @param p_countries    Countries of the map.
+     * @param p_players      Players of the game.
+     * @param p_negotiations Negotiations to be expired.
+     */
+    ReplaySnapshot(int p_position, int p_turn, List<Country> p_countries, List<Player> p_players,
+                   List<ReplayEngine.Negotiation> p_negotiations) {
+        d_position = p_position;
+        d_turn = p_turn;
+        d_owners = new Player[p_countries.size()];
+        d_armies = new int[p_countries.size()];
+        for (int l_country = 0; l_country < p_countries.size(); l_country++) {
+            d_owners[l_country] = p_countries.get(l_country).getOwnedBy();
+            d_armies[l_country] = p_countries.get(l_country).getNumberOfArmies();
+        }
+        d_reinforcements = new int[p_players.size()];
+        d_remainingReinforcements = new int[p_players.size()];
+        for (int l_player = 0; l_player < p_players.size(); l_player++) {
+            Player l_playerObject = p_players.get(l_player);
+            d_assignedCountries.add(new ArrayList<>(l_playerObject.getAssignedCountries()));
+            List<CardType> l_cards = new ArrayList<>();
+            for (Card l_card : l_playerObject.getCards()) {
+                l_cards.add(l_card.getType());
+            }
+            d_cards.add(l_cards);
+            d_friendPlayers.add(new ArrayList<>(l_playerObject.getFriendPlayers()));
+            d_reinforcements[l_player] = l_playerObject.getReinforcementCount();
+            d_remainingReinforcements[l_player] = l_playerObject.getRemainingReinforcementCount();
+        }
+        d_negotiations = new ArrayList<>(p_negotiations);
+    }
+
+    /**
+     * Writes the snapshot back to the countries and players it was taken from.
+     *
+     * @param p_countries    Countries of the map.
+     * @param p_players      Players of the game.
+     * @param p_negotiations Negotiations to be expired; replaced by the ones of the snapshot.
+     */
+    void restore(List<Country> p_countries, List<Player> p_players, List<ReplayEngine.Negotiation> p_negotiations) {
+        for (int l_country = 0; l_country < p_countries.size(); l_country++) {
+            p_countries.get(l_country).setOwnedBy(d_owners[l_country]);
+            p_countries.get(l_country).setNumberOfArmies(d_armies[l_country]);
+        }
+        for (int l_player = 0; l_player < p_players.size(); l_player++) {
+            Player l_playerObject = p_players.get(l_player);
+            l_playerObject.setAssignedCountries(new ArrayList<>(d_assignedCountries.get(l_player)));
+            l_playerObject.getCards().clear();
+            for (CardType l_cardType : d_cards.get(l_player)) {
+                l_playerObject.addCard(CardService.createCard(l_cardType));
+            }
+            l_playerObject.getFriendPlayers().clear();
+            l_playerObject.getFriendPlayers().addAll(d_friendPlayers.get(l_player));
+            l_playerObject.setReinforcementCount(d_reinforcements[l_player]);
+            l_playerObject.setRemainingReinforcementCount(d_remainingReinforcements[l_player]);
+        }
+        p_negotiations.clear();
+        p_negotiations.addAll(d_negotiations);
+    }
+
+    /**
+     * Gets the index of the next event to replay after restoring the snapshot.
+     *
+     * @return Value of the index.
+     */
+    int getPosition() {
+        return d_position;
+    }
+
+    /**
+     * Gets the index of the turn of the snapshot.
+     *
+     * @return Value of the index.
+     */
+    int getTurn() {
+        return d_turn;
+    }
+}
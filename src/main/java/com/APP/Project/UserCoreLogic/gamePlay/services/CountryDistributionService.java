@@ -1,6 +1,8 @@
 package com.APP.Project.UserCoreLogic.gamePlay.services;
 
 import com.APP.Project.UserCoreLogic.UserCoreLogic;
+import com.APP.Project.UserCoreLogic.constants.enums.LogCategory;
+import com.APP.Project.UserCoreLogic.constants.enums.LogLevel;
 import com.APP.Project.UserCoreLogic.constants.interfaces.StandaloneCommand;
 import com.APP.Project.UserCoreLogic.gamePlay.GamePlayEngine;
 import com.APP.Project.UserCoreLogic.logger.LogEntryBuffer;
@@ -63,9 +65,8 @@ public class CountryDistributionService implements StandaloneCommand {
                 }
             }
             for (Player l_player : d_gamePlayEngine.getPlayerList()) {
-                int l_playerCountryCount = l_player.getAssignedCountryCount();
-                List<Country> l_assignedCountryList = assignCountry(l_player, l_playerCountryCount);
-                l_player.setAssignedCountries(l_assignedCountryList);
+                // The countries are assigned to the player through the ownership ledger.
+                assignCountry(l_player, l_player.getAssignedCountryCount());
             }
             return "Countries are successfully assigned!";
         } catch (ArithmeticException e) {
@@ -115,14 +116,14 @@ public class CountryDistributionService implements StandaloneCommand {
     }
 
     /**
-     * This method assigns an owner to different countries.
+     * This method assigns an owner to different countries and adds them to the countries of the player.
      *
      * @param p_player  The object of Player class.
      * @param p_countryList The list of countries in response
      */
     public void assignOwnerToCountry(Player p_player, List<Country> p_countryList) {
         for (Country l_con : p_countryList) {
-            l_con.setOwnedBy(p_player);
+            d_gamePlayEngine.getOwnershipLedger().transfer(l_con, p_player);
         }
     }
 
@@ -141,8 +142,8 @@ public class CountryDistributionService implements StandaloneCommand {
         // What if only one player is available?
         if (!d_gamePlayEngine.getPlayerList().isEmpty()) {
             String l_response = distributeCountries();
-            // Logging
-            d_logEntryBuffer.dataChanged("assigncountries", l_response + "\n" + this.getPlayerCountries());
+            // Logging; the countries of the players are listed only if the entry is written.
+            d_logEntryBuffer.dataChanged(LogLevel.INFO, LogCategory.GAME_PLAY, "assigncountries", () -> l_response + "\n" + this.getPlayerCountries());
             return l_response;
         } else {
             throw new EntityNotFoundException("Please, add players to show game status!");
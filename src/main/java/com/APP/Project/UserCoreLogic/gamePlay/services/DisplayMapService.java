@@ -2,6 +2,8 @@ package com.APP.Project.UserCoreLogic.gamePlay.services;
 
 import com.APP.Project.UserCoreLogic.UserCoreLogic;
 import com.APP.Project.UserCoreLogic.constants.enums.CardType;
+import com.APP.Project.UserCoreLogic.constants.enums.LogCategory;
+import com.APP.Project.UserCoreLogic.constants.enums.LogLevel;
 import com.APP.Project.UserCoreLogic.constants.interfaces.StandaloneCommand;
 import com.APP.Project.UserCoreLogic.gamePlay.GamePlayEngine;
 import com.APP.Project.UserCoreLogic.map_features.adapters.ShowMapAdapter;
@@ -85,7 +87,6 @@ public class DisplayMapService implements StandaloneCommand {
     @Override
     public String execute(List<String> p_commandValues) throws EntityNotFoundException {
         StringBuilder l_playerContent = new StringBuilder();
-        String l_logResponse = "";
         int l_playerCount = 0;
         if (!this.d_playerList.isEmpty()) {
             for (Player l_player : d_playerList) {
@@ -105,9 +106,9 @@ public class DisplayMapService implements StandaloneCommand {
             }
 
             // Logging
-            l_logResponse = l_playerContent.toString() + "\n" + "CONNECTIVITY" + "\n" + d_showMapService.showNeighbourCountries();
-            d_logEntryBuffer.dataChanged("showmap", l_logResponse);
-            return l_logResponse;
+            String l_response = l_playerContent.toString() + "\n" + "CONNECTIVITY" + "\n" + d_showMapService.showNeighbourCountries();
+            d_logEntryBuffer.dataChanged(LogLevel.INFO, LogCategory.GAME_PLAY, "showmap", () -> l_response);
+            return l_response;
         } else {
             throw new EntityNotFoundException("Please, add players to show game status!");
         }
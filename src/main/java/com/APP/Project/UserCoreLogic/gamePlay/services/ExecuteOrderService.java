@@ -2,11 +2,14 @@ package com.APP.Project.UserCoreLogic.gamePlay.services;
 
 import com.APP.Project.UserCoreLogic.UserCoreLogic;
 import com.APP.Project.UserCoreLogic.constants.interfaces.Order;
+import com.APP.Project.UserCoreLogic.constants.enums.LogCategory;
+import com.APP.Project.UserCoreLogic.constants.enums.LogLevel;
 import com.APP.Project.UserCoreLogic.gamePlay.GamePlayEngine;
 import com.APP.Project.UserCoreLogic.game_entities.Player;
 import com.APP.Project.UserCoreLogic.exceptions.CardNotFoundException;
 import com.APP.Project.UserCoreLogic.exceptions.InvalidOrderException;
 import com.APP.Project.UserCoreLogic.exceptions.OrderOutOfBoundException;
+import com.APP.Project.UserCoreLogic.logger.EventJournal;
 import com.APP.Project.UserCoreLogic.logger.LogEntryBuffer;
 
 import java.util.ArrayList;
@@ -33,10 +36,12 @@ public class ExecuteOrderService {
         GamePlayEngine l_gamePlayEngine = UserCoreLogic.getGameEngine().getGamePlayEngine();
         l_gamePlayEngine.setCurrentPlayerTurn(l_gamePlayEngine.getCurrentPlayerForExecutionPhase());
 
+        EventJournal l_journal = l_gamePlayEngine.getJournal();
+
         // Iterate over and execute the orders which were supposed to be executed in this phase.
         UserCoreLogic.getGameEngine().getGamePlayEngine().getCurrentFutureOrders().forEach(l_futureOrder -> {
             try {
-                l_futureOrder.execute();
+                this.executeOrder(l_futureOrder, l_journal);
                 UserCoreLogic.getInstance().stdout(String.format("Executing %s's order", l_futureOrder.getOwner().getName()));
                 UserCoreLogic.getInstance().stdout(String.format("Executed %s", l_futureOrder.toString()));
             } catch (InvalidOrderException | CardNotFoundException p_e) {
@@ -50,7 +55,8 @@ public class ExecuteOrderService {
             UserCoreLogic.getGameEngine().getGamePlayEngine().removeFutureOrder(l_futureOrder);
         });
 
-        while (finishedExecutingOrders.size() != l_gamePlayEngine.getPlayerList().size()) {
+        // Eliminated players are skipped by the engine and their remaining orders are discarded.
+        while (finishedExecutingOrders.size() < l_gamePlayEngine.getActivePlayerCount()) {
             // Find player who has remaining orders to execute.
             Player l_currentPlayer;
             do {
@@ -63,7 +69,7 @@ public class ExecuteOrderService {
                 Order l_currentOrder = l_currentPlayer.nextOrder();
                 // If order supposed to be executed in the next phase.
                 if (l_currentOrder.getExecutionIndex() == GamePlayEngine.getCurrentExecutionIndex()) {
-                    l_currentOrder.execute();
+                    this.executeOrder(l_currentOrder, l_journal);
                     UserCoreLogic.getInstance().stdout(String.format("\nExecuted %s", l_currentOrder.toString()));
                 }
 
@@ -71,13 +77,16 @@ public class ExecuteOrderService {
                 if (!l_currentPlayer.hasOrders()) {
                     finishedExecutingOrders.add(l_currentPlayer);
                 }
+                // A player may have been eliminated by this order.
+                finishedExecutingOrders.removeIf(l_gamePlayEngine::isEliminated);
             } catch (CardNotFoundException |
                      InvalidOrderException p_e) {
                 // Logging
-                d_logEntryBuffer.dataChanged("execute_order_error", String.format("%s: %s", l_currentPlayer.getName(), p_e.getMessage()));
+                Player l_player = l_currentPlayer;
+                d_logEntryBuffer.dataChanged(LogLevel.ERROR, LogCategory.ORDER, "execute_order_error", () -> String.format("%s: %s", l_player.getName(), p_e.getMessage()));
                 UserCoreLogic.getInstance().stderr(p_e.getMessage());
             } catch (OrderOutOfBoundException p_e) {
-                d_logEntryBuffer.dataChanged("execute_order_warning", p_e.getMessage());
+                d_logEntryBuffer.dataChanged(LogLevel.WARNING, LogCategory.ORDER, "execute_order_warning", p_e::getMessage);
                 finishedExecutingOrders.add(l_currentPlayer);
             }
         }
@@ -85,4 +94,24 @@ public class ExecuteOrderService {
         // Store to use when starting the issue phase again.
         l_gamePlayEngine.setCurrentPlayerForExecutionPhase(l_gamePlayEngine.getCurrentPlayerTurn());
     }
+
+    /**
+     * Executes the order and records it in the journal of the game, also if the order is rejected.
+     *
+     * @param p_order   Order to execute.
+     * @param p_journal Journal of the game; null if the game has none.
+     * @throws InvalidOrderException If the order is not valid.
+     * @throws CardNotFoundException If the card of the order is not found.
+     */
+    private void executeOrder(Order p_order, EventJournal p_journal) throws InvalidOrderException, CardNotFoundException {
+        boolean l_isExecuted = false;
+        try {
+            p_order.execute();
+            l_isExecuted = true;
+        } finally {
+            if (p_journal != null) {
+                p_journal.orderExecuted(p_order, l_isExecuted);
+            }
+        }
+    }
 }
@@ -1,6 +1,8 @@
 package com.APP.Project.UserCoreLogic.gamePlay.services;
 
 import com.APP.Project.UserCoreLogic.UserCoreLogic;
+import com.APP.Project.UserCoreLogic.constants.enums.LogCategory;
+import com.APP.Project.UserCoreLogic.constants.enums.LogLevel;
 import com.APP.Project.UserCoreLogic.exceptions.InvalidArgumentException;
 import com.APP.Project.UserCoreLogic.game_entities.Player;
 import com.APP.Project.UserCoreLogic.exceptions.EntityNotFoundException;
@@ -33,7 +35,8 @@ public class IssueOrderService {
         GamePlayEngine l_gamePlayEngine = UserCoreLogic.getGameEngine().getGamePlayEngine();
         l_gamePlayEngine.setCurrentPlayerTurn(l_gamePlayEngine.getCurrentPlayerForIssuePhase());
 
-        while (finishedIssuingOrders.size() != l_gamePlayEngine.getPlayerList().size()) {
+        // Eliminated players are skipped by the engine and do not issue orders.
+        while (finishedIssuingOrders.size() < l_gamePlayEngine.getActivePlayerCount()) {
             // Find player who has reinforcements.
             Player l_currentPlayer;
             do {
@@ -57,12 +60,14 @@ public class IssueOrderService {
                     UserCoreLogic.getInstance().stderr(p_exception.getMessage());
 
                     // Logging
-                    d_logEntryBuffer.dataChanged("issue_order_error", p_exception.getMessage());
+                    d_logEntryBuffer.dataChanged(LogLevel.ERROR, LogCategory.ORDER, "issue_order_error", p_exception::getMessage);
                 } catch (InterruptedException | ExecutionException p_e) {
                     // If interruption occurred while issuing the order.
                     l_invalidPreviousOrder = true;
                 }
             } while (l_invalidPreviousOrder);
+            // A player may have been eliminated by the cheater player.
+            finishedIssuingOrders.removeIf(l_gamePlayEngine::isEliminated);
         }
 
         // Store to use when starting the issue phase again.
@@ -4,14 +4,9 @@ import com.APP.Project.UserCoreLogic.UserCoreLogic;
 import com.APP.Project.UserCoreLogic.gamePlay.GamePlayEngine;
 import com.APP.Project.UserCoreLogic.map_features.MapEditorEngine;
 import com.APP.Project.UserCoreLogic.game_entities.Continent;
-import com.APP.Project.UserCoreLogic.game_entities.Country;
 import com.APP.Project.UserCoreLogic.game_entities.Player;
 import com.APP.Project.UserCoreLogic.exceptions.EntityNotFoundException;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-
 /**
  * This class is used to reinforce the army to respective players at each new turn.
  *
@@ -28,11 +23,6 @@ public class ReinforcementService {
      */
     public GamePlayEngine d_gamePlayEngine;
 
-    /**
-     * This map captures the continent and its member countries.
-     */
-    public Map<String, List<String>> d_continentCountryList;
-
     /**
      * This constructor is used to set reinforcement army to each player. It also checks whether a player completely owns a
      * continent or not. In case he/she does, then it will add the continent's control value to the reinforcement army as a part of
@@ -58,44 +48,19 @@ public class ReinforcementService {
         return l_reinforcementArmy;
     }
 
-    /**
-     * Checks whether a player owns a whole continent or not. In case the player owns, then control value of
-     * respective continent is returned otherwise zero will be returned.
-     *
-     * @param p_playerList  This is the Player's object.
-     * @param p_countryList The list of countries beloning to a  specific continent.
-     * @param p_continent   The continent whose country is selected.
-     * @return This method returns the continent's Control value if player owns whole continent otherwise return zero.
-     */
-    private int checkPlayerOwnsContinent(Player p_playerList, List<String> p_countryList, Continent p_continent) {
-        List<String> l_country = new ArrayList<>();
-        for (Country l_country1 : p_playerList.getAssignedCountries()) {
-            l_country.add(l_country1.getCountryName());
-        }
-        boolean l_checkCountry = l_country.containsAll(p_countryList);
-        if (l_checkCountry) {
-            return p_continent.getContinentControlValue();
-        }
-        return 0;
-    }
-
     /**
      * This method assigns each player the correct number of reinforcement armies according to the Warzone rules.
      *
      * @throws EntityNotFoundException is thrown in case the  player is not available.
      */
     public void execute() throws EntityNotFoundException {
-        d_continentCountryList = d_mapEditorEngine.getContinentCountryMap();
-
         for (Player l_player : d_gamePlayEngine.getPlayerList()) {
             int l_continentValue = 0;
             for (Continent l_continent : d_mapEditorEngine.getContinentList()) {
-
-                List<String> l_countryList = new ArrayList<>(d_continentCountryList.get(l_continent.getContinentName()));
-                // Method Call: Here Control Value is assessed.
-                int l_returnContinentValue = checkPlayerOwnsContinent(l_player, l_countryList, l_continent);
-
-                l_continentValue = l_continentValue + l_returnContinentValue;
+                // The player keeps the number of its countries in each continent.
+                if (l_player.ownsContinent(l_continent)) {
+                    l_continentValue = l_continentValue + l_continent.getContinentControlValue();
+                }
             }
             // Method Call: This will add reinforcement Army to the player at each turn.
             int l_returnReinforcementArmy = addReinforcementArmy(l_player, l_continentValue);
@@ -1,9 +1,13 @@
 package com.APP.Project.UserCoreLogic.game_entities;
 
 import com.APP.Project.UserCoreLogic.constants.interfaces.JSONable;
+import com.APP.Project.UserCoreLogic.Utility.JSONStreamReader;
+import com.APP.Project.UserCoreLogic.Utility.JSONStreamWriter;
 import org.json.JSONArray;
+import org.json.JSONException;
 import org.json.JSONObject;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Objects;
 
@@ -167,6 +171,22 @@ public class Continent implements JSONable {
         return l_continentJSON;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeJSON(JSONStreamWriter p_writer) throws IOException {
+        p_writer.beginObject();
+        p_writer.name("name").value(d_continentName);
+        p_writer.name("controlValue").value(d_continentControlValue);
+        p_writer.name("countries").beginArray();
+        for (Country l_country : getCountryList()) {
+            l_country.writeJSON(p_writer);
+        }
+        p_writer.endArray();
+        p_writer.endObject();
+    }
+
     /**
      * Creates an instance of this class and assigns the data members of the concrete class using the values inside
      * <code>JSONObject</code>.
@@ -185,9 +205,48 @@ public class Continent implements JSONable {
             JSONObject l_countryJSON = l_countries.getJSONObject(l_countryIndex);
             // Create new country instance.
             Country l_countryObject = Country.fromJSON(l_countryJSON);
+            l_countryObject.setContinent(l_continent);
             l_continent.addCountry(l_countryObject);
         }
 
         return l_continent;
     }
+
+    /**
+     * Creates an instance of this class from the next object of the document, without reading the object into a
+     * <code>JSONObject</code>.
+     *
+     * @param p_reader Reader positioned before the object of the continent.
+     * @return Created instance of this class.
+     * @throws IOException If the document can not be read.
+     */
+    public static Continent readJSON(JSONStreamReader p_reader) throws IOException {
+        Continent l_continent = new Continent();
+        boolean l_hasName = false;
+        p_reader.beginObject();
+        while (p_reader.hasNext()) {
+            String l_name = p_reader.nextName();
+            if (l_name.equals("name")) {
+                l_continent.setContinentName(p_reader.nextString());
+                l_hasName = true;
+            } else if (l_name.equals("controlValue")) {
+                l_continent.setContinentControlValue(p_reader.nextInt());
+            } else if (l_name.equals("countries")) {
+                p_reader.beginArray();
+                while (p_reader.hasNext()) {
+                    Country l_country = Country.readJSON(p_reader);
+                    l_country.setContinent(l_continent);
+                    l_continent.addCountry(l_country);
+                }
+                p_reader.endArray();
+            } else {
+                p_reader.skipValue();
+            }
+        }
+        p_reader.endObject();
+        if (!l_hasName) {
+            throw new JSONException("Continent without a name!");
+        }
+        return l_continent;
+    }
 }
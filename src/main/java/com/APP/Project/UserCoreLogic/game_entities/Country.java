@@ -1,8 +1,12 @@
 package com.APP.Project.UserCoreLogic.game_entities;
 
 import com.APP.Project.UserCoreLogic.constants.interfaces.JSONable;
+import com.APP.Project.UserCoreLogic.Utility.JSONStreamReader;
+import com.APP.Project.UserCoreLogic.Utility.JSONStreamWriter;
+import org.json.JSONException;
 import org.json.JSONObject;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -256,6 +260,17 @@ public class Country implements JSONable {
         return l_countryJSON;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeJSON(JSONStreamWriter p_writer) throws IOException {
+        p_writer.beginObject();
+        p_writer.name("name").value(d_countryName);
+        p_writer.name("numberOfArmies").value(d_numberOfArmies);
+        p_writer.endObject();
+    }
+
     /**
      * Creates an instance of this class and assigns the data members of the concrete class using the values inside
      * <code>JSONObject</code>.
@@ -269,4 +284,36 @@ public class Country implements JSONable {
         l_country.setNumberOfArmies(p_jsonObject.getInt("numberOfArmies"));
         return l_country;
     }
+
+    /**
+     * Creates an instance of this class from the next object of the document, without reading the object into a
+     * <code>JSONObject</code>.
+     *
+     * @param p_reader Reader positioned before the object of the country.
+     * @return Created instance of this class.
+     * @throws IOException If the document can not be read.
+     */
+    public static Country readJSON(JSONStreamReader p_reader) throws IOException {
+        String l_countryName = null;
+        int l_numberOfArmies = 0;
+        p_reader.beginObject();
+        while (p_reader.hasNext()) {
+            String l_name = p_reader.nextName();
+            if (l_name.equals("name")) {
+                l_countryName = p_reader.nextString();
+            } else if (l_name.equals("numberOfArmies")) {
+                l_numberOfArmies = p_reader.nextInt();
+            } else {
+                p_reader.skipValue();
+            }
+        }
+        p_reader.endObject();
+        if (l_countryName == null) {
+            throw new JSONException("Country without a name!");
+        }
+        Country l_country = new Country();
+        l_country.setCountryName(l_countryName);
+        l_country.setNumberOfArmies(l_numberOfArmies);
+        return l_country;
+    }
 }
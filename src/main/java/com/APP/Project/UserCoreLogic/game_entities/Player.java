@@ -9,14 +9,19 @@ import com.APP.Project.UserCoreLogic.constants.interfaces.JSONable;
 import com.APP.Project.UserCoreLogic.constants.interfaces.Order;
 import com.APP.Project.UserCoreLogic.game_entities.strategy.*;
 import com.APP.Project.UserCoreLogic.exceptions.*;
+import com.APP.Project.UserCoreLogic.map_features.MapEditorEngine;
 import com.APP.Project.UserCoreLogic.mappers.OrderMapper;
 import com.APP.Project.UserCoreLogic.Container.CountryContainer;
+import com.APP.Project.UserCoreLogic.Utility.JSONStreamReader;
+import com.APP.Project.UserCoreLogic.Utility.JSONStreamWriter;
 import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
@@ -45,6 +50,15 @@ public class Player implements JSONable {
      */
     private final List<Card> d_cards = new ArrayList<>();
     private List<Country> d_assignedCountries = new ArrayList<>();
+    /**
+     * Number of assigned countries of the player in each continent.
+     */
+    private final Map<Continent, Integer> d_ownedCountriesPerContinent = new HashMap<>();
+    /**
+     * Position of each assigned country in the list of assigned countries, compared by identity, to check the
+     * ownership and remove the country in constant time.
+     */
+    private final Map<Country, Integer> d_assignedCountryIndexes = new IdentityHashMap<>();
     private int d_reinforcementsCount = 0;
     private int d_remainingReinforcementCount = 0;
     private int d_assignedCountryCount = 0;
@@ -96,6 +110,10 @@ public class Player implements JSONable {
 
     /**
      * Setter method to assign countries.
+     * <p>
+     * The list must be changed using <code>addAssignedCountries</code>, <code>removeCountry</code> and
+     * <code>setAssignedCountries</code> so that the country count of each continent stays up to date. Removing a
+     * country moves the last country of the list to its place.
      *
      * @return list of assigned countries.
      */
@@ -110,24 +128,91 @@ public class Player implements JSONable {
      */
     public void setAssignedCountries(List<Country> p_assignedCountries) {
         d_assignedCountries = p_assignedCountries;
+        d_ownedCountriesPerContinent.clear();
+        d_assignedCountryIndexes.clear();
+        for (int l_index = 0; l_index < d_assignedCountries.size(); l_index++) {
+            Country l_country = d_assignedCountries.get(l_index);
+            if (d_assignedCountryIndexes.putIfAbsent(l_country, l_index) == null) {
+                this.countInContinent(l_country, 1);
+            } else {
+                // A country listed twice is kept once, so that each country has a single position.
+                d_assignedCountries.remove(l_index--);
+            }
+        }
     }
 
     /**
-     * Adds assigned country to the list.
+     * Adds assigned country to the list. A country already assigned to the player is not added again.
      *
      * @param p_assignedCountry Value of assigned countries.
      */
     public void addAssignedCountries(Country p_assignedCountry) {
-        d_assignedCountries.add(p_assignedCountry);
+        if (d_assignedCountryIndexes.putIfAbsent(p_assignedCountry, d_assignedCountries.size()) == null) {
+            d_assignedCountries.add(p_assignedCountry);
+            this.countInContinent(p_assignedCountry, 1);
+        }
     }
 
     /**
-     * Removes the country from the list of assigned countries.
+     * Removes the country from the list of assigned countries. The last country of the list takes its place, so that
+     * no other country is shifted.
      *
      * @param p_county Country object.
      */
     public void removeCountry(Country p_county) {
-        d_assignedCountries.remove(p_county);
+        Integer l_index = d_assignedCountryIndexes.remove(p_county);
+        if (l_index != null) {
+            Country l_lastCountry = d_assignedCountries.remove(d_assignedCountries.size() - 1);
+            if (l_lastCountry != p_county) {
+                d_assignedCountries.set(l_index, l_lastCountry);
+                d_assignedCountryIndexes.put(l_lastCountry, l_index);
+            }
+            this.countInContinent(p_county, -1);
+        }
+    }
+
+    /**
+     * Checks if the country is assigned to the player.
+     *
+     * @param p_country Country object.
+     * @return True if the country is one of the assigned countries.
+     */
+    public boolean hasAssignedCountry(Country p_country) {
+        return d_assignedCountryIndexes.containsKey(p_country);
+    }
+
+    /**
+     * Gets the number of assigned countries of the player in the continent.
+     *
+     * @param p_continent Continent object.
+     * @return Value of the count.
+     */
+    public int getOwnedCountryCount(Continent p_continent) {
+        return d_ownedCountriesPerContinent.getOrDefault(p_continent, 0);
+    }
+
+    /**
+     * Checks if all the countries of the continent are assigned to the player. A continent without countries is owned
+     * by no player, so its control value is never awarded.
+     *
+     * @param p_continent Continent object.
+     * @return True if the player owns the whole continent.
+     */
+    public boolean ownsContinent(Continent p_continent) {
+        int l_countryCount = p_continent.getCountryList().size();
+        return l_countryCount > 0 && this.getOwnedCountryCount(p_continent) >= l_countryCount;
+    }
+
+    /**
+     * Changes the number of assigned countries in the continent of the country.
+     *
+     * @param p_country Country object.
+     * @param p_change  Value to add to the count.
+     */
+    private void countInContinent(Country p_country, int p_change) {
+        if (p_country.getContinent() != null) {
+            d_ownedCountriesPerContinent.merge(p_country.getContinent(), p_change, Integer::sum);
+        }
     }
 
     /**
@@ -394,6 +479,38 @@ public class Player implements JSONable {
         return l_PlayerJSON;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeJSON(JSONStreamWriter p_writer) throws IOException {
+        p_writer.beginObject();
+        p_writer.name("name").value(this.getName());
+        p_writer.name("strategy").value(this.getPlayerStrategyType().name());
+
+        p_writer.name("assignCountries").beginArray();
+        for (Country l_country : getAssignedCountries()) {
+            p_writer.value(l_country.getCountryName());
+        }
+        p_writer.endArray();
+
+        p_writer.name("reinforceCount").value(getReinforcementCount());
+        p_writer.name("remainingReinforceCount").value(getRemainingReinforcementCount());
+
+        p_writer.name("cards").beginArray();
+        for (Card l_card : getCards()) {
+            p_writer.value(l_card.getType().name());
+        }
+        p_writer.endArray();
+
+        p_writer.name("orders").beginArray();
+        for (Order l_order : getOrders()) {
+            l_order.writeJSON(p_writer);
+        }
+        p_writer.endArray();
+        p_writer.endObject();
+    }
+
     /**
      * Creates an instance of this class. Assigns the data members of the concrete class using the values inside
      * <code>JSONObject</code>.
@@ -442,6 +559,116 @@ public class Player implements JSONable {
         return l_player;
     }
 
+    /**
+     * Creates an instance of this class from the next object of the document, without reading the object into a
+     * <code>JSONObject</code>. The assigned countries are found in the index of the map, so each is found in constant
+     * time.
+     *
+     * @param p_reader          Reader positioned before the object of the player.
+     * @param p_mapEditorEngine Map of the game, already read.
+     * @return Created instance of this class.
+     * @throws InvalidGameException If the information cannot be used because it is corrupted or missing the values.
+     * @throws IOException          If the document can not be read.
+     */
+    public static Player readJSON(JSONStreamReader p_reader, MapEditorEngine p_mapEditorEngine)
+            throws InvalidGameException, IOException {
+        String l_playerName = null;
+        String l_strategyName = null;
+        List<String> l_assignedCountryNames = new ArrayList<>();
+        int l_reinforcementCount = 0;
+        int l_remainingReinforcementCount = 0;
+        List<String> l_cardNames = new ArrayList<>();
+        // Orders are small, they are read as JSONObject for the OrderMapper.
+        List<JSONObject> l_orderJSONList = new ArrayList<>();
+
+        p_reader.beginObject();
+        while (p_reader.hasNext()) {
+            String l_name = p_reader.nextName();
+            switch (l_name) {
+                case "name":
+                    l_playerName = p_reader.nextString();
+                    break;
+                case "strategy":
+                    l_strategyName = p_reader.nextString();
+                    break;
+                case "assignCountries":
+                    p_reader.beginArray();
+                    while (p_reader.hasNext()) {
+                        l_assignedCountryNames.add(p_reader.nextString());
+                    }
+                    p_reader.endArray();
+                    break;
+                case "reinforceCount":
+                    l_reinforcementCount = p_reader.nextInt();
+                    break;
+                case "remainingReinforceCount":
+                    l_remainingReinforcementCount = p_reader.nextInt();
+                    break;
+                case "cards":
+                    p_reader.beginArray();
+                    while (p_reader.hasNext()) {
+                        l_cardNames.add(p_reader.nextString());
+                    }
+                    p_reader.endArray();
+                    break;
+                case "orders":
+                    p_reader.beginArray();
+                    while (p_reader.hasNext()) {
+                        Object l_orderJSON = p_reader.nextValue();
+                        if (!(l_orderJSON instanceof JSONObject)) {
+                            throw new InvalidGameException();
+                        }
+                        l_orderJSONList.add((JSONObject) l_orderJSON);
+                    }
+                    p_reader.endArray();
+                    break;
+                default:
+                    p_reader.skipValue();
+            }
+        }
+        p_reader.endObject();
+
+        StrategyType l_strategy;
+        try {
+            l_strategy = StrategyType.valueOf(l_strategyName);
+        } catch (IllegalArgumentException | NullPointerException p_exception) {
+            throw new InvalidGameException("Strategy type invalid");
+        }
+        if (l_playerName == null) {
+            throw new InvalidGameException();
+        }
+        // Create a player using name and its strategy.
+        Player l_player = new Player(l_playerName, l_strategy);
+
+        // Assign countries to the player.
+        for (String l_countryName : l_assignedCountryNames) {
+            Country l_country = p_mapEditorEngine.findCountryByName(l_countryName);
+            if (l_country == null) {
+                throw new InvalidGameException(String.format("Country with name %s not found!", l_countryName));
+            }
+            l_country.setOwnedBy(l_player);
+            l_player.addAssignedCountries(l_country);
+        }
+
+        l_player.setReinforcementCount(l_reinforcementCount);
+        l_player.setRemainingReinforcementCount(l_remainingReinforcementCount);
+
+        // Create player's cards.
+        try {
+            for (String l_cardName : l_cardNames) {
+                l_player.addCard(CardService.createCard(CardType.valueOf(l_cardName)));
+            }
+        } catch (IllegalArgumentException p_illegalArgumentException) {
+            throw new InvalidGameException("Card type invalid");
+        }
+
+        // Create player's orders.
+        for (JSONObject l_orderJSON : l_orderJSONList) {
+            l_player.addOrder(d_ORDER_MAPPER.toOrder(l_orderJSON, l_player));
+        }
+        return l_player;
+    }
+
     /**
      * Gets the strategy type being used by this player.
      *
@@ -1,6 +1,8 @@
 package com.APP.Project.UserCoreLogic.game_entities.orders;
 
 import com.APP.Project.UserCoreLogic.common.services.CardService;
+import com.APP.Project.UserCoreLogic.constants.enums.LogCategory;
+import com.APP.Project.UserCoreLogic.constants.enums.LogLevel;
 import com.APP.Project.UserCoreLogic.constants.enums.OrderTypes;
 import com.APP.Project.UserCoreLogic.constants.interfaces.Order;
 import com.APP.Project.UserCoreLogic.game_entities.Country;
@@ -11,9 +13,11 @@ import com.APP.Project.UserCoreLogic.exceptions.InvalidGameException;
 import com.APP.Project.UserCoreLogic.exceptions.InvalidOrderException;
 import com.APP.Project.UserCoreLogic.logger.LogEntryBuffer;
 import com.APP.Project.UserCoreLogic.Container.CountryContainer;
+import com.APP.Project.UserCoreLogic.Utility.JSONStreamWriter;
 import com.jakewharton.fliptables.FlipTable;
 import org.json.JSONObject;
 
+import java.io.IOException;
 import java.util.List;
 
 import static java.lang.Math.round;
@@ -38,12 +42,7 @@ public class AdvanceOrder extends Order {
     private final Country d_countryTo;
     private int d_numOfArmies;
 
-    /**
-     * For finding the country using its data members.
-     */
-    private final CountryContainer d_countryRepository = new CountryContainer();
-
-    private final LogEntryBuffer d_logEntryBuffer = LogEntryBuffer.getLogger();
+    private final LogEntryBuffer d_logEntryBuffer = getGameContext().getLogger();
 
     /**
      * Sets the values of the data members.
@@ -57,18 +56,27 @@ public class AdvanceOrder extends Order {
      */
     public AdvanceOrder(String p_countryFrom, String p_countryTo, String p_numOfArmies, Player p_owner)
             throws EntityNotFoundException, InvalidArgumentException {
+        this(new CountryContainer().findFirstByCountryName(p_countryFrom),
+                new CountryContainer().findFirstByCountryName(p_countryTo),
+                parseNumberOfArmies(p_numOfArmies),
+                p_owner);
+    }
+
+    /**
+     * Creates the order for countries already found, as the computer players do.
+     *
+     * @param p_countryFrom Source country.
+     * @param p_countryTo   Destination country.
+     * @param p_numOfArmies Number of armies to be moved.
+     * @param p_owner       Current player object.
+     * @throws InvalidArgumentException Throws if the number of armies is negative.
+     */
+    public AdvanceOrder(Country p_countryFrom, Country p_countryTo, int p_numOfArmies, Player p_owner)
+            throws InvalidArgumentException {
         super(p_owner);
-        d_countryFrom = d_countryRepository.findFirstByCountryName(p_countryFrom);
-        d_countryTo = d_countryRepository.findFirstByCountryName(p_countryTo);
-        try {
-            d_numOfArmies = Integer.parseInt(p_numOfArmies);
-            // Checks if the number of armies is less than zero (negative).
-            if (d_numOfArmies < 0) {
-                throw new InvalidArgumentException("Number of armies can not be negative.");
-            }
-        } catch (NumberFormatException p_e) {
-            throw new InvalidArgumentException("Number of reinforcements is not a number.");
-        }
+        d_countryFrom = p_countryFrom;
+        d_countryTo = p_countryTo;
+        d_numOfArmies = checkNumberOfArmies(p_numOfArmies);
     }
 
     /**
@@ -79,8 +87,6 @@ public class AdvanceOrder extends Order {
      */
     @Override
     public void execute() throws InvalidOrderException {
-        StringBuilder l_logResponse = new StringBuilder();
-        l_logResponse.append("\n" + "Executing " + this.getOwner().getName() + " Order:" + "\n");
         // Handles invalid country name (Country doesn't exists)
         List<Country> l_assignCountryList = this.getOwner().getAssignedCountries();
         List<Country> l_neighborCountryList = d_countryFrom.getNeighbourCountries();
@@ -104,27 +110,30 @@ public class AdvanceOrder extends Order {
                     d_numOfArmies = d_countryFrom.getNumberOfArmies();
                     l_remainingArmies = 0;
                 }
-                l_logResponse.append(this.getOwner().getName() + " moved " + d_numOfArmies + " armies from " + d_countryFrom.getCountryName() + " to " + d_countryTo.getCountryName());
                 d_countryFrom.setNumberOfArmies(l_remainingArmies);
                 d_countryTo.setNumberOfArmies(d_countryTo.getNumberOfArmies() + d_numOfArmies);
 
                 // Logging
-                String[] l_header = {"COUNTRY", "ARMY COUNT"};
-                String[][] l_changeContent = {
-                        {d_countryTo.getCountryName(), String.valueOf(d_countryTo.getNumberOfArmies())},
-                        {d_countryFrom.getCountryName(), String.valueOf(d_countryFrom.getNumberOfArmies())}
-                };
-                l_logResponse.append("\n Order Effect\n" + FlipTable.of(l_header, l_changeContent));
-                d_logEntryBuffer.dataChanged("advance", l_logResponse.toString());
+                d_logEntryBuffer.dataChanged(LogLevel.INFO, LogCategory.ORDER, "advance", () -> {
+                    StringBuilder l_logResponse = new StringBuilder();
+                    l_logResponse.append("\n" + "Executing " + this.getOwner().getName() + " Order:" + "\n");
+                    l_logResponse.append(this.getOwner().getName() + " moved " + d_numOfArmies + " armies from " + d_countryFrom.getCountryName() + " to " + d_countryTo.getCountryName());
+                    String[] l_header = {"COUNTRY", "ARMY COUNT"};
+                    String[][] l_changeContent = {
+                            {d_countryTo.getCountryName(), String.valueOf(d_countryTo.getNumberOfArmies())},
+                            {d_countryFrom.getCountryName(), String.valueOf(d_countryFrom.getNumberOfArmies())}
+                    };
+                    l_logResponse.append("\n Order Effect\n" + FlipTable.of(l_header, l_changeContent));
+                    return l_logResponse.toString();
+                });
             }
             // If destination country is not owned by the current player than it performs battle.
             else {
                 // Move armies and battle
                 int l_defendingArmies = d_countryTo.getNumberOfArmies();
-                int l_attackingArmies = d_numOfArmies;
                 int l_remainingArmies = d_countryFrom.getNumberOfArmies() - d_numOfArmies;
+                int l_attackingArmies = l_remainingArmies < 0 ? d_countryFrom.getNumberOfArmies() : d_numOfArmies;
                 if (l_remainingArmies < 0) {
-                    l_attackingArmies = d_countryFrom.getNumberOfArmies();
                     l_remainingArmies = 0;
                 }
                 d_countryFrom.setNumberOfArmies(l_remainingArmies);
@@ -138,40 +147,77 @@ public class AdvanceOrder extends Order {
 
                 if (l_defendersKilled >= l_defendingArmies) {
                     Player l_countryToOwner = d_countryTo.getOwnedBy();
-                    l_countryToOwner.removeCountry(d_countryTo);
 
                     // Owner changed.
-                    d_countryTo.setOwnedBy(this.getOwner());
-                    List<Country> l_assign = this.getOwner().getAssignedCountries();
-                    l_assign.add(d_countryTo);
-                    this.getOwner().setAssignedCountries(l_assign);
+                    getGameContext().getGamePlayEngine().getOwnershipLedger().transfer(d_countryTo, this.getOwner());
                     d_countryTo.setNumberOfArmies(l_attackingArmies - l_attackersKilled);
 
-                    this.getOwner().addCard(CardService.randomCard());
-                    l_logResponse.append(l_countryToOwner.getName() + " won the attack!!!!\n" + l_countryToOwner.getName() + " moved " + l_attackingArmies + " armies from " + d_countryFrom.getCountryName() + " to attack on " + d_countryTo.getCountryName());
-                    String[] l_header = {"COUNTRY", "ARMY COUNT", "PREVIOUS OWNER", "NEW OWNER"};
-                    String[][] l_changeContent = {
-                            {d_countryTo.getCountryName(), String.valueOf(d_countryTo.getNumberOfArmies()), l_countryToOwner.getName(), this.getOwner().getName()}
-                    };
-                    l_logResponse.append("\n Order Effect\n" + FlipTable.of(l_header, l_changeContent));
+                    CardService.awardRandomCard(this.getOwner(), getGameContext().getGamePlayEngine());
+
+                    // Logging
+                    d_logEntryBuffer.dataChanged(LogLevel.INFO, LogCategory.ORDER, "advance", () -> {
+                        StringBuilder l_logResponse = new StringBuilder();
+                        l_logResponse.append("\n" + "Executing " + this.getOwner().getName() + " Order:" + "\n");
+                        l_logResponse.append(l_countryToOwner.getName() + " won the attack!!!!\n" + l_countryToOwner.getName() + " moved " + l_attackingArmies + " armies from " + d_countryFrom.getCountryName() + " to attack on " + d_countryTo.getCountryName());
+                        String[] l_header = {"COUNTRY", "ARMY COUNT", "PREVIOUS OWNER", "NEW OWNER"};
+                        String[][] l_changeContent = {
+                                {d_countryTo.getCountryName(), String.valueOf(d_countryTo.getNumberOfArmies()), l_countryToOwner.getName(), this.getOwner().getName()}
+                        };
+                        l_logResponse.append("\n Order Effect\n" + FlipTable.of(l_header, l_changeContent));
+                        return l_logResponse.toString();
+                    });
                 } else {
                     d_countryFrom.setNumberOfArmies(d_countryFrom.getNumberOfArmies() + l_attackingArmies - l_attackersKilled);
                     d_countryTo.setNumberOfArmies(l_defendingArmies - l_defendersKilled);
 
                     // Logging
-                    l_logResponse.append(this.getOwner().getName() + " did not won the attack!!!!\n" + this.getOwner().getName() + " moved " + l_attackingArmies + " armies from " + d_countryFrom.getCountryName() + " to attack on " + d_countryTo.getCountryName());
-                    String[] l_header = {"COUNTRY", "ARMY COUNT"};
-                    String[][] l_changeContent = {
-                            {d_countryTo.getCountryName(), String.valueOf(d_countryTo.getNumberOfArmies())},
-                            {d_countryFrom.getCountryName(), String.valueOf(d_countryFrom.getNumberOfArmies())}
-                    };
-                    l_logResponse.append("\n Order Effect\n" + FlipTable.of(l_header, l_changeContent));
+                    d_logEntryBuffer.dataChanged(LogLevel.INFO, LogCategory.ORDER, "advance", () -> {
+                        StringBuilder l_logResponse = new StringBuilder();
+                        l_logResponse.append("\n" + "Executing " + this.getOwner().getName() + " Order:" + "\n");
+                        l_logResponse.append(this.getOwner().getName() + " did not won the attack!!!!\n" + this.getOwner().getName() + " moved " + l_attackingArmies + " armies from " + d_countryFrom.getCountryName() + " to attack on " + d_countryTo.getCountryName());
+                        String[] l_header = {"COUNTRY", "ARMY COUNT"};
+                        String[][] l_changeContent = {
+                                {d_countryTo.getCountryName(), String.valueOf(d_countryTo.getNumberOfArmies())},
+                                {d_countryFrom.getCountryName(), String.valueOf(d_countryFrom.getNumberOfArmies())}
+                        };
+                        l_logResponse.append("\n Order Effect\n" + FlipTable.of(l_header, l_changeContent));
+                        return l_logResponse.toString();
+                    });
                 }
-                d_logEntryBuffer.dataChanged("advance", l_logResponse.toString());
             }
         }
     }
 
+    /**
+     * Returns the country the armies are advanced from.
+     *
+     * @return Source country.
+     */
+    @Override
+    public Country getSourceCountry() {
+        return d_countryFrom;
+    }
+
+    /**
+     * Returns the country the armies are advanced to.
+     *
+     * @return Target country.
+     */
+    @Override
+    public Country getTargetCountry() {
+        return d_countryTo;
+    }
+
+    /**
+     * Returns the number of armies advanced.
+     *
+     * @return Number of armies.
+     */
+    @Override
+    public int getNumberOfArmies() {
+        return d_numOfArmies;
+    }
+
     /**
      * Returns the type of order.
      *
@@ -214,6 +260,19 @@ public class AdvanceOrder extends Order {
         return l_order;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeJSON(JSONStreamWriter p_writer) throws IOException {
+        p_writer.beginObject();
+        p_writer.name("source").value(d_countryFrom.getCountryName());
+        p_writer.name("target").value(d_countryTo.getCountryName());
+        p_writer.name("numOfArmies").value(d_numOfArmies);
+        p_writer.name("type").value(getType().name());
+        p_writer.endObject();
+    }
+
     /**
      * Creates an instance of this class. Assigns the data members of the concrete class using the values inside
      * <code>JSONObject</code>.
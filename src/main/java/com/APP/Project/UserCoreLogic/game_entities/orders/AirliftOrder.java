@@ -9,9 +9,12 @@ import com.APP.Project.UserCoreLogic.game_entities.Player;
 import com.APP.Project.UserCoreLogic.exceptions.*;
 import com.APP.Project.UserCoreLogic.logger.LogEntryBuffer;
 import com.APP.Project.UserCoreLogic.Container.CountryContainer;
+import com.APP.Project.UserCoreLogic.Utility.JSONStreamWriter;
 import com.jakewharton.fliptables.FlipTable;
 import org.json.JSONObject;
 
+import java.io.IOException;
+
 /**
  * This class implements the operations required to be performed when the Airlift card is used.
  *
@@ -22,12 +25,7 @@ public class AirliftOrder extends Order {
     private final Country d_targetCountry;
     private final int d_numOfArmies;
 
-    /**
-     * To find the country using its data members.
-     */
-    private final static CountryContainer d_countryRepository = new CountryContainer();
-
-    private final LogEntryBuffer d_logEntryBuffer = LogEntryBuffer.getLogger();
+    private final LogEntryBuffer d_logEntryBuffer = getGameContext().getLogger();
 
     /**
      * Sets the source and the target country id along with number of armies to be airlifted and player object.
@@ -41,18 +39,27 @@ public class AirliftOrder extends Order {
      */
     public AirliftOrder(String p_sourceCountry, String p_targetCountry, String p_numOfArmies, Player p_owner)
             throws EntityNotFoundException, InvalidArgumentException {
+        this(new CountryContainer().findFirstByCountryName(p_sourceCountry),
+                new CountryContainer().findFirstByCountryName(p_targetCountry),
+                parseNumberOfArmies(p_numOfArmies),
+                p_owner);
+    }
+
+    /**
+     * Creates the order for countries already found, as the computer players do.
+     *
+     * @param p_sourceCountry source country from which armies will be airlifted
+     * @param p_targetCountry target country where armies will be moved.
+     * @param p_numOfArmies   number of armies for airlift
+     * @param p_owner         current player object
+     * @throws InvalidArgumentException Throws if the number of armies is negative.
+     */
+    public AirliftOrder(Country p_sourceCountry, Country p_targetCountry, int p_numOfArmies, Player p_owner)
+            throws InvalidArgumentException {
         super(p_owner);
-        d_sourceCountry = d_countryRepository.findFirstByCountryName(p_sourceCountry);
-        d_targetCountry = d_countryRepository.findFirstByCountryName(p_targetCountry);
-        try {
-            d_numOfArmies = Integer.parseInt(p_numOfArmies);
-            // Checks if the number of moved armies is less than zero.
-            if (d_numOfArmies < 0) {
-                throw new InvalidArgumentException("Number of armies can not be negative.");
-            }
-        } catch (NumberFormatException p_e) {
-            throw new InvalidArgumentException("Number of reinforcements is not a number!");
-        }
+        d_sourceCountry = p_sourceCountry;
+        d_targetCountry = p_targetCountry;
+        d_numOfArmies = checkNumberOfArmies(p_numOfArmies);
     }
 
     /**
@@ -96,6 +103,36 @@ public class AirliftOrder extends Order {
         d_logEntryBuffer.dataChanged("airlift", l_logResponse.toString());
     }
 
+    /**
+     * Returns the country the armies are airlifted from.
+     *
+     * @return Source country.
+     */
+    @Override
+    public Country getSourceCountry() {
+        return d_sourceCountry;
+    }
+
+    /**
+     * Returns the country the armies are airlifted to.
+     *
+     * @return Target country.
+     */
+    @Override
+    public Country getTargetCountry() {
+        return d_targetCountry;
+    }
+
+    /**
+     * Returns the number of armies airlifted.
+     *
+     * @return Number of armies.
+     */
+    @Override
+    public int getNumberOfArmies() {
+        return d_numOfArmies;
+    }
+
     /**
      * Gets the type of order.
      *
@@ -137,6 +174,19 @@ public class AirliftOrder extends Order {
         return l_order;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeJSON(JSONStreamWriter p_writer) throws IOException {
+        p_writer.beginObject();
+        p_writer.name("source").value(d_sourceCountry.getCountryName());
+        p_writer.name("target").value(d_targetCountry.getCountryName());
+        p_writer.name("numOfArmies").value(d_numOfArmies);
+        p_writer.name("type").value(getType().name());
+        p_writer.endObject();
+    }
+
     /**
      * Creates an instance of this class and assigns the data members of the concrete class using the values inside
      * <code>JSONObject</code>.
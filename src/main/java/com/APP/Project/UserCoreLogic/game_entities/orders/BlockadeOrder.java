@@ -12,9 +12,11 @@ import com.APP.Project.UserCoreLogic.exceptions.InvalidGameException;
 import com.APP.Project.UserCoreLogic.exceptions.InvalidOrderException;
 import com.APP.Project.UserCoreLogic.logger.LogEntryBuffer;
 import com.APP.Project.UserCoreLogic.Container.CountryContainer;
+import com.APP.Project.UserCoreLogic.Utility.JSONStreamWriter;
 import org.json.JSONObject;
 
-import java.util.List;
+import java.io.IOException;
+
 
 /**
  * This class implements the Blockade card. When blockade card is
@@ -30,12 +32,7 @@ public class BlockadeOrder extends Order {
      */
     public static final int CONSTANT = 3;
 
-    /**
-     * To find the country using its data members.
-     */
-    private final CountryContainer d_countryRepository = new CountryContainer();
-
-    private final LogEntryBuffer d_logEntryBuffer = LogEntryBuffer.getLogger();
+    private final LogEntryBuffer d_logEntryBuffer = getGameContext().getLogger();
 
     /**
      * Sets the country name and current player object.
@@ -46,8 +43,18 @@ public class BlockadeOrder extends Order {
      */
     public BlockadeOrder(String p_targetCountry, Player p_owner)
             throws EntityNotFoundException {
+        this(new CountryContainer().findFirstByCountryName(p_targetCountry), p_owner);
+    }
+
+    /**
+     * Creates the order for a country already found, as the computer players do.
+     *
+     * @param p_targetCountry Target country.
+     * @param p_owner         Player who has initiated this order.
+     */
+    public BlockadeOrder(Country p_targetCountry, Player p_owner) {
         super(p_owner);
-        d_targetCountry = d_countryRepository.findFirstByCountryName(p_targetCountry);
+        d_targetCountry = p_targetCountry;
     }
 
     /**
@@ -59,7 +66,6 @@ public class BlockadeOrder extends Order {
      */
     public void execute() throws InvalidOrderException, CardNotFoundException {
         Country l_country;
-        List<Country> l_countryList;
         Card l_requiredCard;
         if (d_targetCountry.getOwnedBy().equals(this.getOwner())) {
             l_requiredCard = this.getOwner().getCard(CardType.BLOCKADE);
@@ -68,14 +74,12 @@ public class BlockadeOrder extends Order {
         }
 
         l_country = d_targetCountry;
-        l_countryList = this.getOwner().getAssignedCountries();
         try {
             l_country.setNumberOfArmies(l_country.getNumberOfArmies() * CONSTANT);
-            l_countryList.remove(l_country);
+            getGameContext().getGamePlayEngine().getOwnershipLedger().release(l_country);
         } catch (Exception e) {
             throw new InvalidOrderException("You can not perform blockade operation as you don't own this country");
         }
-        this.getOwner().setAssignedCountries(l_countryList);
         this.getOwner().removeCard(l_requiredCard);
 
         // Logging
@@ -84,6 +88,16 @@ public class BlockadeOrder extends Order {
         d_logEntryBuffer.dataChanged("blockade", l_logResponse.toString());
     }
 
+    /**
+     * Returns the country to blockade.
+     *
+     * @return Target country.
+     */
+    @Override
+    public Country getTargetCountry() {
+        return d_targetCountry;
+    }
+
     /**
      * Returns the type of order.
      *
@@ -123,6 +137,17 @@ public class BlockadeOrder extends Order {
         return l_order;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeJSON(JSONStreamWriter p_writer) throws IOException {
+        p_writer.beginObject();
+        p_writer.name("target").value(d_targetCountry.getCountryName());
+        p_writer.name("type").value(getType().name());
+        p_writer.endObject();
+    }
+
     /**
      * Creates an instance of this class and assigns the data members of the concrete class using the values inside
      * <code>JSONObject</code>.
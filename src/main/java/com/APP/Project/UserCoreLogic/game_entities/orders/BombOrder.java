@@ -1,6 +1,8 @@
 package com.APP.Project.UserCoreLogic.game_entities.orders;
 
 import com.APP.Project.UserCoreLogic.constants.enums.CardType;
+import com.APP.Project.UserCoreLogic.constants.enums.LogCategory;
+import com.APP.Project.UserCoreLogic.constants.enums.LogLevel;
 import com.APP.Project.UserCoreLogic.constants.enums.OrderTypes;
 import com.APP.Project.UserCoreLogic.constants.interfaces.Card;
 import com.APP.Project.UserCoreLogic.constants.interfaces.Order;
@@ -12,9 +14,11 @@ import com.APP.Project.UserCoreLogic.exceptions.InvalidGameException;
 import com.APP.Project.UserCoreLogic.exceptions.InvalidOrderException;
 import com.APP.Project.UserCoreLogic.logger.LogEntryBuffer;
 import com.APP.Project.UserCoreLogic.Container.CountryContainer;
+import com.APP.Project.UserCoreLogic.Utility.JSONStreamWriter;
 import com.jakewharton.fliptables.FlipTable;
 import org.json.JSONObject;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -28,12 +32,7 @@ import java.util.List;
 public class BombOrder extends Order {
     private final Country d_targetCountry;
 
-    /**
-     * To find the country using its data members.
-     */
-    private final CountryContainer d_countryRepository = new CountryContainer();
-
-    private final LogEntryBuffer d_logEntryBuffer = LogEntryBuffer.getLogger();
+    private final LogEntryBuffer d_logEntryBuffer = getGameContext().getLogger();
 
     /**
      * Sets the country name and current player object.
@@ -43,9 +42,19 @@ public class BombOrder extends Order {
      * @throws EntityNotFoundException Throws if the target country not found.
      */
     public BombOrder(String p_targetCountry, Player p_owner) throws EntityNotFoundException {
-        super(p_owner);
         // Get the target country from repository.
-        d_targetCountry = d_countryRepository.findFirstByCountryName(p_targetCountry);
+        this(new CountryContainer().findFirstByCountryName(p_targetCountry), p_owner);
+    }
+
+    /**
+     * Creates the order for a country already found, as the computer players do.
+     *
+     * @param p_targetCountry Target country.
+     * @param p_owner         Current player object.
+     */
+    public BombOrder(Country p_targetCountry, Player p_owner) {
+        super(p_owner);
+        d_targetCountry = p_targetCountry;
     }
 
     /**
@@ -56,8 +65,6 @@ public class BombOrder extends Order {
      * @throws CardNotFoundException Card doesn't found in the player's card list.
      */
     public void execute() throws InvalidOrderException, CardNotFoundException {
-        StringBuilder l_logResponse = new StringBuilder();
-        l_logResponse.append("\n" + "Executing " + this.getOwner().getName() + " Order:" + "\n");
         Country l_country;
         List<Country> l_countryList;
         Card l_requiredCard;
@@ -81,19 +88,33 @@ public class BombOrder extends Order {
                 this.getOwner().removeCard(l_requiredCard);
 
                 // Logging
-                l_logResponse.append(this.getOwner().getName() + " used Bomb card to half the army count of " + l_country.getCountryName() + "\n");
-                String[] l_header = {"COUNTRY", "ARMY COUNT"};
-                String[][] l_changeContent = {
-                        {l_country.getCountryName(), String.valueOf(l_country.getNumberOfArmies())}
-                };
-                l_logResponse.append("\n Order Effect\n" + FlipTable.of(l_header, l_changeContent));
-                d_logEntryBuffer.dataChanged("bomb", l_logResponse.toString());
+                d_logEntryBuffer.dataChanged(LogLevel.INFO, LogCategory.ORDER, "bomb", () -> {
+                    StringBuilder l_logResponse = new StringBuilder();
+                    l_logResponse.append("\n" + "Executing " + this.getOwner().getName() + " Order:" + "\n");
+                    l_logResponse.append(this.getOwner().getName() + " used Bomb card to half the army count of " + d_targetCountry.getCountryName() + "\n");
+                    String[] l_header = {"COUNTRY", "ARMY COUNT"};
+                    String[][] l_changeContent = {
+                            {d_targetCountry.getCountryName(), String.valueOf(d_targetCountry.getNumberOfArmies())}
+                    };
+                    l_logResponse.append("\n Order Effect\n" + FlipTable.of(l_header, l_changeContent));
+                    return l_logResponse.toString();
+                });
             } else {
                 throw new InvalidOrderException("Invalid Country Name is provided!! Country must be a neighboring country.");
             }
         }
     }
 
+    /**
+     * Returns the country to bomb.
+     *
+     * @return Target country.
+     */
+    @Override
+    public Country getTargetCountry() {
+        return d_targetCountry;
+    }
+
     /**
      * Returns the order type.
      *
@@ -133,6 +154,17 @@ public class BombOrder extends Order {
         return l_order;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeJSON(JSONStreamWriter p_writer) throws IOException {
+        p_writer.beginObject();
+        p_writer.name("target").value(d_targetCountry.getCountryName());
+        p_writer.name("type").value(getType().name());
+        p_writer.endObject();
+    }
+
     /**
      * Creates an instance of this class and assigns the data members of the concrete class using the values inside
      * <code>JSONObject</code>.
@@ -1,5 +1,7 @@
 package com.APP.Project.UserCoreLogic.game_entities.orders;
 
+import com.APP.Project.UserCoreLogic.constants.enums.LogCategory;
+import com.APP.Project.UserCoreLogic.constants.enums.LogLevel;
 import com.APP.Project.UserCoreLogic.constants.enums.OrderTypes;
 import com.APP.Project.UserCoreLogic.constants.interfaces.Order;
 import com.APP.Project.UserCoreLogic.game_entities.Country;
@@ -10,9 +12,12 @@ import com.APP.Project.UserCoreLogic.exceptions.InvalidGameException;
 import com.APP.Project.UserCoreLogic.exceptions.InvalidOrderException;
 import com.APP.Project.UserCoreLogic.logger.LogEntryBuffer;
 import com.APP.Project.UserCoreLogic.Container.CountryContainer;
+import com.APP.Project.UserCoreLogic.Utility.JSONStreamWriter;
 import com.jakewharton.fliptables.FlipTable;
 import org.json.JSONObject;
 
+import java.io.IOException;
+
 /**
  * This class implements the deploy order.
  *
@@ -21,12 +26,7 @@ import org.json.JSONObject;
 public class DeployOrder extends Order {
     private final Country d_targetCountry;
     private final int d_numOfArmies;
-    private final LogEntryBuffer d_logEntryBuffer = LogEntryBuffer.getLogger();
-
-    /**
-     * To find the country using its data members.
-     */
-    private final CountryContainer d_countryRepository = new CountryContainer();
+    private final LogEntryBuffer d_logEntryBuffer = getGameContext().getLogger();
 
     /**
      * Parameterised constructors.
@@ -39,18 +39,22 @@ public class DeployOrder extends Order {
      */
     public DeployOrder(String p_targetCountry, String p_numOfArmies, Player p_owner)
             throws EntityNotFoundException, InvalidArgumentException {
-        super(p_owner);
         // Get the target country from repository.
-        d_targetCountry = d_countryRepository.findFirstByCountryName(p_targetCountry);
-        try {
-            d_numOfArmies = Integer.parseInt(p_numOfArmies);
-            // Checks if the number of moved armies is less than zero.
-            if (d_numOfArmies < 0) {
-                throw new InvalidArgumentException("Number of armies can not be negative.");
-            }
-        } catch (NumberFormatException p_e) {
-            throw new InvalidArgumentException("Number of reinforcements is not a number.");
-        }
+        this(new CountryContainer().findFirstByCountryName(p_targetCountry), parseNumberOfArmies(p_numOfArmies), p_owner);
+    }
+
+    /**
+     * Creates the order for a country already found, as the computer players do.
+     *
+     * @param p_targetCountry Target country.
+     * @param p_numOfArmies   Number of reinforcements to be deployed.
+     * @param p_owner         Player who has initiated this order.
+     * @throws InvalidArgumentException Throws if the number of armies is negative.
+     */
+    public DeployOrder(Country p_targetCountry, int p_numOfArmies, Player p_owner) throws InvalidArgumentException {
+        super(p_owner);
+        d_targetCountry = p_targetCountry;
+        d_numOfArmies = checkNumberOfArmies(p_numOfArmies);
     }
 
     /**
@@ -60,8 +64,6 @@ public class DeployOrder extends Order {
      *                               armies, or other invalid input.
      */
     public void execute() throws InvalidOrderException {
-        StringBuilder l_logResponse = new StringBuilder();
-        l_logResponse.append("\n" + "Executing " + this.getOwner().getName() + " Order:" + "\n");
         if (this.getOwner().getAssignedCountries().contains(d_targetCountry)) {
             int l_remainingReinforcementCount = this.getOwner().getRemainingReinforcementCount() - d_numOfArmies;
             if (l_remainingReinforcementCount < 0) {
@@ -72,18 +74,42 @@ public class DeployOrder extends Order {
             this.getOwner().addExecutedOrder(this);
 
             // Logging
-            l_logResponse.append("Deploying " + d_numOfArmies + " armies in " + d_targetCountry.getCountryName() + "\n");
-            String[] l_header = {"COUNTRY", "ARMY COUNT"};
-            String[][] l_changeContent = {
-                    {d_targetCountry.getCountryName(), String.valueOf(d_numOfArmies)}
-            };
-            l_logResponse.append("\n Order Effect\n" + FlipTable.of(l_header, l_changeContent));
-            d_logEntryBuffer.dataChanged("deploy", l_logResponse.toString());
+            d_logEntryBuffer.dataChanged(LogLevel.INFO, LogCategory.ORDER, "deploy", () -> {
+                StringBuilder l_logResponse = new StringBuilder();
+                l_logResponse.append("\n" + "Executing " + this.getOwner().getName() + " Order:" + "\n");
+                l_logResponse.append("Deploying " + d_numOfArmies + " armies in " + d_targetCountry.getCountryName() + "\n");
+                String[] l_header = {"COUNTRY", "ARMY COUNT"};
+                String[][] l_changeContent = {
+                        {d_targetCountry.getCountryName(), String.valueOf(d_numOfArmies)}
+                };
+                l_logResponse.append("\n Order Effect\n" + FlipTable.of(l_header, l_changeContent));
+                return l_logResponse.toString();
+            });
         } else {
             throw new InvalidOrderException("You can deploy the reinforcements only in your assigned countries");
         }
     }
 
+    /**
+     * Returns the country the armies are deployed to.
+     *
+     * @return Target country.
+     */
+    @Override
+    public Country getTargetCountry() {
+        return d_targetCountry;
+    }
+
+    /**
+     * Returns the number of armies deployed.
+     *
+     * @return Number of armies.
+     */
+    @Override
+    public int getNumberOfArmies() {
+        return d_numOfArmies;
+    }
+
     /**
      * Gets the type of order.
      *
@@ -123,6 +149,18 @@ public class DeployOrder extends Order {
         return l_order;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeJSON(JSONStreamWriter p_writer) throws IOException {
+        p_writer.beginObject();
+        p_writer.name("target").value(d_targetCountry.getCountryName());
+        p_writer.name("numOfArmies").value(d_numOfArmies);
+        p_writer.name("type").value(getType().name());
+        p_writer.endObject();
+    }
+
     /**
      * Creates an instance of this class and assigns the data members of the concrete class using the values inside
      * <code>JSONObject</code>.
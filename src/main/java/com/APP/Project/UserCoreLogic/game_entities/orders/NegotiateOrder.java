@@ -10,8 +10,11 @@ import com.APP.Project.UserCoreLogic.exceptions.EntityNotFoundException;
 import com.APP.Project.UserCoreLogic.exceptions.InvalidGameException;
 import com.APP.Project.UserCoreLogic.logger.LogEntryBuffer;
 import com.APP.Project.UserCoreLogic.Container.PlayerContainer;
+import com.APP.Project.UserCoreLogic.Utility.JSONStreamWriter;
 import org.json.JSONObject;
 
+import java.io.IOException;
+
 
 /**
  * This class implements the Diplomacy card.
@@ -21,12 +24,7 @@ import org.json.JSONObject;
 public class NegotiateOrder extends Order {
     private final Player d_otherPlayer;
 
-    /**
-     * To find the player using its data members.
-     */
-    private final PlayerContainer d_playerRepository = new PlayerContainer();
-
-    private final LogEntryBuffer d_logEntryBuffer = LogEntryBuffer.getLogger();
+    private final LogEntryBuffer d_logEntryBuffer = getGameContext().getLogger();
 
     /**
      * Parameterised constructors
@@ -36,8 +34,18 @@ public class NegotiateOrder extends Order {
      * @throws EntityNotFoundException Throws if the country with the given name doesn't exist.
      */
     public NegotiateOrder(Player p_thisPlayer, String p_otherPlayer) throws EntityNotFoundException {
+        this(p_thisPlayer, new PlayerContainer().findByPlayerName(p_otherPlayer));
+    }
+
+    /**
+     * Creates the order for a player already found, as the computer players do.
+     *
+     * @param p_thisPlayer  First player object.
+     * @param p_otherPlayer Second player object.
+     */
+    public NegotiateOrder(Player p_thisPlayer, Player p_otherPlayer) {
         super(p_thisPlayer);
-        d_otherPlayer = d_playerRepository.findByPlayerName(p_otherPlayer);
+        d_otherPlayer = p_otherPlayer;
     }
 
     /**
@@ -60,6 +68,16 @@ public class NegotiateOrder extends Order {
         d_logEntryBuffer.dataChanged("negotiate", l_logResponse.toString());
     }
 
+    /**
+     * Returns the player to negotiate with.
+     *
+     * @return Other player.
+     */
+    @Override
+    public Player getTargetPlayer() {
+        return d_otherPlayer;
+    }
+
     /**
      * Gets the type of order.
      *
@@ -99,6 +117,17 @@ public class NegotiateOrder extends Order {
         return l_order;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeJSON(JSONStreamWriter p_writer) throws IOException {
+        p_writer.beginObject();
+        p_writer.name("other_player").value(d_otherPlayer.getName());
+        p_writer.name("type").value(getType().name());
+        p_writer.endObject();
+    }
+
     /**
      * Creates an instance of this class and assigns the data members of the concrete class using the values inside
      * <code>JSONObject</code>.
@@ -1,6 +1,5 @@
 package com.APP.Project.UserCoreLogic.game_entities.strategy;
 
-import com.APP.Project.UserCoreLogic.UserCoreLogic;
 import com.APP.Project.UserCoreLogic.constants.enums.CardType;
 import com.APP.Project.UserCoreLogic.constants.enums.StrategyType;
 import com.APP.Project.UserCoreLogic.game_entities.Country;
@@ -18,7 +17,7 @@ import com.APP.Project.UserCoreLogic.logger.LogEntryBuffer;
 public class AggressiveStrategy extends PlayerStrategy {
     private Country d_attackingCountry;
     private Country d_oppositionCountry;
-    private final LogEntryBuffer d_logEntryBuffer = LogEntryBuffer.getLogger();
+    private final LogEntryBuffer d_logEntryBuffer = d_gameContext.getLogger();
 
     /**
      * Using the super constructor to provide the player of this strategy.
@@ -68,7 +67,7 @@ public class AggressiveStrategy extends PlayerStrategy {
      */
     public void consumeCard() throws EntityNotFoundException, InvalidArgumentException {
         if (d_player.hasCard(CardType.BOMB)) {
-            this.d_player.addOrder(new BombOrder(d_oppositionCountry.getCountryName(), d_player));
+            this.d_player.addOrder(new BombOrder(d_oppositionCountry, d_player));
             return;
         }
         // Checking if the player has blockade card.
@@ -85,7 +84,7 @@ public class AggressiveStrategy extends PlayerStrategy {
                 }
             }
             if (l_targetCountry != null)
-                this.d_player.addOrder(new BlockadeOrder(l_targetCountry.getCountryName(), d_player));
+                this.d_player.addOrder(new BlockadeOrder(l_targetCountry, d_player));
             return;
         }
         // Checking if the player has airlift card.
@@ -100,9 +99,9 @@ public class AggressiveStrategy extends PlayerStrategy {
                 }
             }
             if (l_targetCountry != null)
-                this.d_player.addOrder(new AirliftOrder(l_targetCountry.getCountryName(),
-                        d_attackingCountry.getCountryName(),
-                        String.valueOf(Math.min(l_targetCountry.getNumberOfArmies() - 1, l_targetCountry.getNumberOfArmies())),
+                this.d_player.addOrder(new AirliftOrder(l_targetCountry,
+                        d_attackingCountry,
+                        Math.min(l_targetCountry.getNumberOfArmies() - 1, l_targetCountry.getNumberOfArmies()),
                         d_player));
             return;
         }
@@ -116,7 +115,7 @@ public class AggressiveStrategy extends PlayerStrategy {
                 }
             }
             if (l_targetCountry != null)
-                this.d_player.addOrder(new NegotiateOrder(d_player, l_targetCountry.getOwnedBy().getName()));
+                this.d_player.addOrder(new NegotiateOrder(d_player, l_targetCountry.getOwnedBy()));
             return;
         }
     }
@@ -148,12 +147,12 @@ public class AggressiveStrategy extends PlayerStrategy {
         d_logEntryBuffer.dataChanged("issue_order", String.format("%s player's turn to Issue Order", this.d_player.getName()));
 
         int l_remainingReinforcementCount = d_player.getRemainingReinforcementCount();
-        if (UserCoreLogic.getGameEngine().isTournamentModeOn() && l_remainingReinforcementCount > 0) {
+        if (d_gameContext.getGameEngine().isTournamentModeOn() && l_remainingReinforcementCount > 0) {
             // Distribute the armies to a country that has a neighbor country owned by another player.
             if (d_attackingCountry != null) {
                 // Create a deploy order.
-                this.d_player.addOrder(new DeployOrder(d_attackingCountry.getCountryName(),
-                        String.valueOf(l_remainingReinforcementCount),
+                this.d_player.addOrder(new DeployOrder(d_attackingCountry,
+                        l_remainingReinforcementCount,
                         d_player));
             }
         }
@@ -162,9 +161,9 @@ public class AggressiveStrategy extends PlayerStrategy {
 
         // Create an advance order.
         AdvanceOrder l_advanceOrder = new AdvanceOrder(
-                d_attackingCountry.getCountryName(),
-                d_oppositionCountry.getCountryName(),
-                String.valueOf(d_attackingCountry.getNumberOfArmies() + l_remainingReinforcementCount - 1),
+                d_attackingCountry,
+                d_oppositionCountry,
+                d_attackingCountry.getNumberOfArmies() + l_remainingReinforcementCount - 1,
                 d_player);
         this.d_player.addOrder(l_advanceOrder);
     }
@@ -16,7 +16,7 @@ import java.util.List;
  * @author Sushant Sinha
  */
 public class BenevolentStrategy extends PlayerStrategy {
-    private final LogEntryBuffer d_logEntryBuffer = LogEntryBuffer.getLogger();
+    private final LogEntryBuffer d_logEntryBuffer = d_gameContext.getLogger();
 
     /**
      * Parameterised constructor to set the player.
@@ -37,7 +37,7 @@ public class BenevolentStrategy extends PlayerStrategy {
         // If the player has less armies than the number of assigned countries.
         if (d_player.getAssignedCountries().size() > d_player.getRemainingReinforcementCount()) {
             for (int i = 0; i < d_player.getRemainingReinforcementCount(); i++) {
-                DeployOrder l_deployOrder = new DeployOrder(l_ownedCountries.get(i).getCountryName(), String.valueOf(1), d_player);
+                DeployOrder l_deployOrder = new DeployOrder(l_ownedCountries.get(i), 1, d_player);
                 this.d_player.addOrder(l_deployOrder);
             }
         } else {
@@ -45,11 +45,11 @@ public class BenevolentStrategy extends PlayerStrategy {
             int l_remainingReinforcementCount = d_player.getRemainingReinforcementCount();
             int l_assignReinforcementCount = d_player.getRemainingReinforcementCount() / d_player.getAssignedCountries().size();
             for (int i = 0; i < d_player.getAssignedCountries().size() - 1; i++) {
-                DeployOrder l_deployOrder = new DeployOrder(l_ownedCountries.get(i).getCountryName(), String.valueOf(l_assignReinforcementCount), d_player);
+                DeployOrder l_deployOrder = new DeployOrder(l_ownedCountries.get(i), l_assignReinforcementCount, d_player);
                 this.d_player.addOrder(l_deployOrder);
                 l_remainingReinforcementCount -= l_assignReinforcementCount;
             }
-            DeployOrder l_deployOrder = new DeployOrder(l_ownedCountries.get(l_ownedCountries.size() - 1).getCountryName(), String.valueOf(l_remainingReinforcementCount), d_player);
+            DeployOrder l_deployOrder = new DeployOrder(l_ownedCountries.get(l_ownedCountries.size() - 1), l_remainingReinforcementCount, d_player);
             this.d_player.addOrder(l_deployOrder);
             d_logEntryBuffer.dataChanged("issue_order", String.format("%s player's turn to Issue Order", this.d_player.getName()));
         }
@@ -1,16 +1,20 @@
 package com.APP.Project.UserCoreLogic.game_entities.strategy;
 
-import com.APP.Project.UserCoreLogic.UserCoreLogic;
 import com.APP.Project.UserCoreLogic.constants.enums.StrategyType;
+import com.APP.Project.UserCoreLogic.gamePlay.OwnershipLedger;
 import com.APP.Project.UserCoreLogic.game_entities.Country;
 import com.APP.Project.UserCoreLogic.game_entities.Player;
 import com.APP.Project.UserCoreLogic.game_entities.orders.DeployOrder;
 import com.APP.Project.UserCoreLogic.exceptions.EntityNotFoundException;
 import com.APP.Project.UserCoreLogic.exceptions.InvalidArgumentException;
+import com.APP.Project.UserCoreLogic.logger.EventJournal;
 import com.APP.Project.UserCoreLogic.logger.LogEntryBuffer;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 
 /**
  * This class defines the behavior of Cheater player.
@@ -18,7 +22,7 @@ import java.util.List;
  * @author Sushant Sinha
  */
 public class CheaterStrategy extends PlayerStrategy {
-    private final LogEntryBuffer d_logEntryBuffer = LogEntryBuffer.getLogger();
+    private final LogEntryBuffer d_logEntryBuffer = d_gameContext.getLogger();
 
     /**
      * Parameterised constructor
@@ -34,20 +38,19 @@ public class CheaterStrategy extends PlayerStrategy {
      */
     public void doesCheat() {
         List<Country> l_futureOwningCountryList = new ArrayList<>();
+        // Countries already in the list, compared by identity, so that each one is transferred once.
+        Set<Country> l_futureOwningCountrySet = Collections.newSetFromMap(new IdentityHashMap<>());
         // Add countries to the cheater player
         for (Country l_traverseCountry : d_player.getAssignedCountries()) {
             for (Country l_neighbourCountry : l_traverseCountry.getNeighbourCountries()) {
-                if (!l_neighbourCountry.getOwnedBy().equals(d_player)) {
+                if (!l_neighbourCountry.getOwnedBy().equals(d_player) && l_futureOwningCountrySet.add(l_neighbourCountry)) {
                     l_futureOwningCountryList.add(l_neighbourCountry);
                 }
             }
         }
+        OwnershipLedger l_ownershipLedger = d_gameContext.getGamePlayEngine().getOwnershipLedger();
         for (Country l_futureOwningCountry : l_futureOwningCountryList) {
-            l_futureOwningCountry.getOwnedBy().removeCountry(l_futureOwningCountry);
-        }
-        for (Country l_futureOwningCountry : l_futureOwningCountryList) {
-            l_futureOwningCountry.setOwnedBy(d_player);
-            d_player.addAssignedCountries(l_futureOwningCountry);
+            l_ownershipLedger.transfer(l_futureOwningCountry, d_player);
         }
     }
 
@@ -55,10 +58,14 @@ public class CheaterStrategy extends PlayerStrategy {
      * This function doubles the cheater player's army count
      */
     public void doubleArmies() {
+        EventJournal l_journal = d_gameContext.getGamePlayEngine().getJournal();
         for (Country l_traverseCountry : d_player.getAssignedCountries()) {
             for (Country l_neighbourCountry : l_traverseCountry.getNeighbourCountries()) {
                 if (!l_neighbourCountry.getOwnedBy().equals(d_player)) {
                     l_traverseCountry.setNumberOfArmies(l_traverseCountry.getNumberOfArmies() * 2);
+                    if (l_journal != null) {
+                        l_journal.armiesChanged(l_traverseCountry, l_traverseCountry.getNumberOfArmies());
+                    }
                     break;
                 }
             }
@@ -71,11 +78,11 @@ public class CheaterStrategy extends PlayerStrategy {
     @Override
     public void execute() throws EntityNotFoundException, InvalidArgumentException {
         List<Country> l_ownedCountries = d_player.getAssignedCountries();
-        if (UserCoreLogic.getGameEngine().isTournamentModeOn() && d_player.getRemainingReinforcementCount() > 0) {
+        if (d_gameContext.getGameEngine().isTournamentModeOn() && d_player.getRemainingReinforcementCount() > 0) {
             // If the player has less armies than the number of assigned countries.
             if (d_player.getAssignedCountries().size() > d_player.getRemainingReinforcementCount()) {
                 for (int i = 0; i < d_player.getRemainingReinforcementCount(); i++) {
-                    DeployOrder l_deployOrder = new DeployOrder(l_ownedCountries.get(i).getCountryName(), String.valueOf(1), d_player);
+                    DeployOrder l_deployOrder = new DeployOrder(l_ownedCountries.get(i), 1, d_player);
                     this.d_player.addOrder(l_deployOrder);
                 }
             } else {
@@ -83,11 +90,11 @@ public class CheaterStrategy extends PlayerStrategy {
                 int l_remainingReinforcementCount = d_player.getRemainingReinforcementCount();
                 int l_assignReinforcementCount = d_player.getRemainingReinforcementCount() / d_player.getAssignedCountries().size();
                 for (int i = 0; i < d_player.getAssignedCountries().size() - 1; i++) {
-                    DeployOrder l_deployOrder = new DeployOrder(l_ownedCountries.get(i).getCountryName(), String.valueOf(l_assignReinforcementCount), d_player);
+                    DeployOrder l_deployOrder = new DeployOrder(l_ownedCountries.get(i), l_assignReinforcementCount, d_player);
                     this.d_player.addOrder(l_deployOrder);
                     l_remainingReinforcementCount -= l_assignReinforcementCount;
                 }
-                DeployOrder l_deployOrder = new DeployOrder(l_ownedCountries.get(l_ownedCountries.size() - 1).getCountryName(), String.valueOf(l_remainingReinforcementCount), d_player);
+                DeployOrder l_deployOrder = new DeployOrder(l_ownedCountries.get(l_ownedCountries.size() - 1), l_remainingReinforcementCount, d_player);
                 this.d_player.addOrder(l_deployOrder);
             }
         }
@@ -22,7 +22,7 @@ import java.util.concurrent.Future;
  * @author Sushant Sinha
  */
 public class HumanStrategy extends PlayerStrategy {
-    private final LogEntryBuffer d_logEntryBuffer = LogEntryBuffer.getLogger();
+    private final LogEntryBuffer d_logEntryBuffer = d_gameContext.getLogger();
     /**
      * To map from <code>UserCommand</code> to <code>Order</code>.
      */
@@ -1,5 +1,6 @@
 package com.APP.Project.UserCoreLogic.game_entities.strategy;
 
+import com.APP.Project.UserCoreLogic.GameContext;
 import com.APP.Project.UserCoreLogic.constants.enums.StrategyType;
 import com.APP.Project.UserCoreLogic.game_entities.Player;
 import com.APP.Project.UserCoreLogic.exceptions.EntityNotFoundException;
@@ -15,9 +16,14 @@ import java.util.concurrent.ExecutionException;
  */
 public abstract class PlayerStrategy {
     protected Player d_player;
+    /**
+     * Game context in which the player plays. It is the context in use when the strategy is created.
+     */
+    protected final GameContext d_gameContext;
 
     protected PlayerStrategy(Player p_player) {
         d_player = p_player;
+        d_gameContext = GameContext.current();
     }
 
     /**
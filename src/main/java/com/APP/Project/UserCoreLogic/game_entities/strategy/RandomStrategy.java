@@ -1,6 +1,5 @@
 package com.APP.Project.UserCoreLogic.game_entities.strategy;
 
-import com.APP.Project.UserCoreLogic.UserCoreLogic;
 import com.APP.Project.UserCoreLogic.constants.enums.CardType;
 import com.APP.Project.UserCoreLogic.constants.enums.StrategyType;
 import com.APP.Project.UserCoreLogic.constants.interfaces.Card;
@@ -23,8 +22,8 @@ public class RandomStrategy extends PlayerStrategy {
     private List<Country> d_ownedCountries;
     private Country d_randomCountry;
     private Country d_oppositeCountry;
-    private final Random d_random = new Random();
-    private final LogEntryBuffer d_logEntryBuffer = LogEntryBuffer.getLogger();
+    private Random d_random;
+    private final LogEntryBuffer d_logEntryBuffer = d_gameContext.getLogger();
 
     /**
      * Parameterised constructor
@@ -58,20 +57,20 @@ public class RandomStrategy extends PlayerStrategy {
      */
     public void consumeCard(Card p_card) throws EntityNotFoundException, InvalidArgumentException {
         if (p_card.getType() == CardType.BOMB) {
-            this.d_player.addOrder(new BombOrder(d_oppositeCountry.getCountryName(), d_player));
+            this.d_player.addOrder(new BombOrder(d_oppositeCountry, d_player));
             return;
         }
         if (p_card.getType() == CardType.AIRLIFT) {
             Country d_targetCountry = d_ownedCountries.get(d_random.nextInt(d_ownedCountries.size()));
-            this.d_player.addOrder(new AirliftOrder(d_randomCountry.getCountryName(), d_targetCountry.getCountryName(), String.valueOf(d_randomCountry.getNumberOfArmies() - 1), d_player));
+            this.d_player.addOrder(new AirliftOrder(d_randomCountry, d_targetCountry, d_randomCountry.getNumberOfArmies() - 1, d_player));
             return;
         }
         if (p_card.getType() == CardType.BLOCKADE) {
-            this.d_player.addOrder(new BlockadeOrder(d_oppositeCountry.getCountryName(), d_player));
+            this.d_player.addOrder(new BlockadeOrder(d_oppositeCountry, d_player));
             return;
         }
         if (p_card.getType() == CardType.DIPLOMACY) {
-            this.d_player.addOrder(new NegotiateOrder(d_player, d_oppositeCountry.getOwnedBy().getName()));
+            this.d_player.addOrder(new NegotiateOrder(d_player, d_oppositeCountry.getOwnedBy()));
             return;
         }
     }
@@ -82,13 +81,15 @@ public class RandomStrategy extends PlayerStrategy {
     @Override
     public void execute() throws InvalidArgumentException, EntityNotFoundException {
         d_ownedCountries = d_player.getAssignedCountries();
+        // Choices are made with the random numbers of the game, so a seeded game is played the same way again.
+        d_random = d_gameContext.getGamePlayEngine().getRandom();
         if (d_ownedCountries.size() <= 0) {
             return;
         }
         d_randomCountry = d_ownedCountries.get(d_random.nextInt(d_ownedCountries.size()));
         findOppositionCountry(d_randomCountry);
-        if (UserCoreLogic.getGameEngine().isTournamentModeOn() && d_player.getRemainingReinforcementCount() > 0) {
-            DeployOrder l_deployOrder = new DeployOrder(d_randomCountry.getCountryName(), String.valueOf(d_player.getRemainingReinforcementCount()), d_player);
+        if (d_gameContext.getGameEngine().isTournamentModeOn() && d_player.getRemainingReinforcementCount() > 0) {
+            DeployOrder l_deployOrder = new DeployOrder(d_randomCountry, d_player.getRemainingReinforcementCount(), d_player);
             this.d_player.addOrder(l_deployOrder);
         }
         d_logEntryBuffer.dataChanged("issue_order", String.format("%s player's turn to Issue Order", this.d_player.getName()));
@@ -100,9 +101,9 @@ public class RandomStrategy extends PlayerStrategy {
                 consumeCard(l_card);
             }
             AdvanceOrder l_advanceOrder = new AdvanceOrder(
-                    d_randomCountry.getCountryName(),
-                    d_oppositeCountry.getCountryName(),
-                    String.valueOf(d_randomCountry.getNumberOfArmies() + d_player.getRemainingReinforcementCount() - 1),
+                    d_randomCountry,
+                    d_oppositeCountry,
+                    d_randomCountry.getNumberOfArmies() + d_player.getRemainingReinforcementCount() - 1,
                     d_player);
             this.d_player.addOrder(l_advanceOrder);
         }
@@ -0,0 +1,227 @@
+package com.APP.Project.UserCoreLogic.logger;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Writes the log messages to a writer from a background thread.
+ * <p>
+ * The producers add the messages to a bounded queue and return without doing any I/O. The writer thread takes the
+ * messages in batches, appends them to the writer which stays open for the lifetime of the sink and flushes it once the
+ * queue is empty. When the queue is full, the <code>OverflowPolicy</code> decides if the producer waits or if the
+ * message is dropped and counted. A message is either written or refused: the producers queue their messages under
+ * the read lock of the sink and <code>close</code> takes the write lock to stop accepting them, so no message is queued
+ * after the end of the log.
+ * </p>
+ *
+ * @author Rikin Dipakkumar Chauhan
+ * @version 1.0
+ */
+public class AsyncLogSink {
+    /**
+     * Decides what happens to a message added while the queue is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * The producer waits until the writer thread has made space in the queue.
+         */
+        BLOCK,
+        /**
+         * The message is dropped and counted.
+         */
+        DROP
+    }
+
+    /**
+     * Marks the end of the messages; the writer thread stops after taking it. Compared by identity.
+     */
+    private static final String d_END_OF_LOG = new String("END_OF_LOG");
+
+    /**
+     * Time a producer waits for space in the queue before checking that the writer thread is still running.
+     */
+    private static final long d_WAIT_MILLISECONDS = 100;
+
+    private final Writer d_writer;
+    private final BlockingQueue<String> d_queue;
+    private final int d_batchSize;
+    private final OverflowPolicy d_overflowPolicy;
+    private final AtomicLong d_droppedCount = new AtomicLong();
+    private final Thread d_writerThread;
+    private final ReadWriteLock d_closeLock = new ReentrantReadWriteLock();
+    private boolean d_isClosed = false;
+
+    /**
+     * Creates the sink and starts its writer thread.
+     *
+     * @param p_writer         Writer receiving the messages; it is closed when the sink is closed.
+     * @param p_capacity       Maximum number of messages waiting to be written.
+     * @param p_overflowPolicy Policy applied when the queue is full.
+     */
+    public AsyncLogSink(Writer p_writer, int p_capacity, OverflowPolicy p_overflowPolicy) {
+        if (p_capacity <= 0) {
+            throw new IllegalArgumentException("Capacity of the log queue must be positive!");
+        }
+        d_writer = p_writer;
+        d_queue = new ArrayBlockingQueue<>(p_capacity);
+        d_batchSize = p_capacity;
+        d_overflowPolicy = p_overflowPolicy;
+        d_writerThread = new Thread(this::writeMessages, "log-writer");
+        d_writerThread.setDaemon(true);
+        d_writerThread.start();
+    }
+
+    /**
+     * Adds the message to the queue to be written.
+     *
+     * @param p_message Message to be written.
+     * @return True if the message has been queued; false if it was dropped or the sink is closed.
+     */
+    public boolean offer(String p_message) {
+        d_closeLock.readLock().lock();
+        try {
+            if (d_isClosed) {
+                return false;
+            }
+            if (d_overflowPolicy == OverflowPolicy.DROP) {
+                if (d_queue.offer(p_message)) {
+                    return true;
+                }
+                d_droppedCount.incrementAndGet();
+                return false;
+            }
+            // The writer thread may have stopped, in which case the queue is never emptied.
+            while (d_writerThread.isAlive()) {
+                if (d_queue.offer(p_message, d_WAIT_MILLISECONDS, TimeUnit.MILLISECONDS)) {
+                    return true;
+                }
+            }
+            d_droppedCount.incrementAndGet();
+            return false;
+        } catch (InterruptedException p_interruptedException) {
+            Thread.currentThread().interrupt();
+            d_droppedCount.incrementAndGet();
+            return false;
+        } finally {
+            d_closeLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the number of messages dropped because the queue was full.
+     *
+     * @return Value of the count.
+     */
+    public long getDroppedCount() {
+        return d_droppedCount.get();
+    }
+
+    /**
+     * Gets the overflow policy of this sink.
+     *
+     * @return Value of the policy.
+     */
+    public OverflowPolicy getOverflowPolicy() {
+        return d_overflowPolicy;
+    }
+
+    /**
+     * Stops accepting messages, waits for the queued ones to be written and closes the writer. Calling it again has no
+     * effect.
+     */
+    public void close() {
+        // Waits for the producers queueing a message, so the end of the log is the last message of the queue.
+        d_closeLock.writeLock().lock();
+        try {
+            if (d_isClosed) {
+                return;
+            }
+            d_isClosed = true;
+        } finally {
+            d_closeLock.writeLock().unlock();
+        }
+        boolean l_isInterrupted = false;
+        while (d_writerThread.isAlive()) {
+            try {
+                if (d_queue.offer(d_END_OF_LOG, d_WAIT_MILLISECONDS, TimeUnit.MILLISECONDS)) {
+                    break;
+                }
+            } catch (InterruptedException p_interruptedException) {
+                l_isInterrupted = true;
+            }
+        }
+        while (d_writerThread.isAlive()) {
+            try {
+                d_writerThread.join();
+            } catch (InterruptedException p_interruptedException) {
+                l_isInterrupted = true;
+            }
+        }
+        if (l_isInterrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Body of the writer thread: writes the messages in batches until the end of the log is taken, then closes the
+     * writer.
+     */
+    private void writeMessages() {
+        List<String> l_batch = new ArrayList<>(d_batchSize);
+        boolean l_hasEnded = false;
+        try {
+            while (!l_hasEnded) {
+                l_batch.add(d_queue.take());
+                d_queue.drainTo(l_batch, d_batchSize - 1);
+                for (String l_message : l_batch) {
+                    if (l_message == d_END_OF_LOG) {
+                        l_hasEnded = true;
+                        break;
+                    }
+                    this.write(l_message);
+                }
+                l_batch.clear();
+                if (l_hasEnded || d_queue.isEmpty()) {
+                    this.flush();
+                }
+            }
+        } catch (InterruptedException p_interruptedException) {
+            Thread.currentThread().interrupt();
+        } finally {
+            try {
+                d_writer.close();
+            } catch (IOException p_ioException) {
+            }
+        }
+    }
+
+    /**
+     * Appends the message to the writer. A failed write loses the message only.
+     *
+     * @param p_message Message to be written.
+     */
+    private void write(String p_message) {
+        try {
+            d_writer.append(p_message);
+        } catch (IOException p_ioException) {
+        }
+    }
+
+    /**
+     * Flushes the writer.
+     */
+    private void flush() {
+        try {
+            d_writer.flush();
+        } catch (IOException p_ioException) {
+        }
+    }
+}
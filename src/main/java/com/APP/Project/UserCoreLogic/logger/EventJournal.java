@@ -0,0 +1,322 @@
+package com.APP.Project.UserCoreLogic.logger;
+
+import com.APP.Project.UserCoreLogic.Utility.FindFilePathUtil;
+import com.APP.Project.UserCoreLogic.constants.enums.CardType;
+import com.APP.Project.UserCoreLogic.constants.enums.JournalEventType;
+import com.APP.Project.UserCoreLogic.constants.interfaces.Order;
+import com.APP.Project.UserCoreLogic.constants.interfaces.OwnershipListener;
+import com.APP.Project.UserCoreLogic.exceptions.ResourceNotFoundException;
+import com.APP.Project.UserCoreLogic.game_entities.Country;
+import com.APP.Project.UserCoreLogic.game_entities.Player;
+import com.APP.Project.UserCoreLogic.Utility.BinaryCodecUtil;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Date;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Appends the events of a game to a compact binary journal.
+ * <p>
+ * The journal starts with <code>MAGIC</code> and <code>VERSION</code>. Each event is written as the ordinal of its
+ * <code>JournalEventType</code> followed by its fields. Numbers are written as unsigned varints and texts as their
+ * UTF-8 length and bytes. Players and countries are given small ids the first time they are written: a
+ * <code>PLAYER_DEFINED</code> or <code>COUNTRY_DEFINED</code> event holding the name precedes the first event using
+ * the id. An absent player or country is written as 0, any other id as id + 1. <code>JournalReader</code> reads the
+ * events back.
+ * </p>
+ * <p>
+ * The events are buffered in memory and written to the stream when the buffer is full and on every phase change. If
+ * the stream fails, the journal stops writing instead of interrupting the game.
+ * </p>
+ *
+ * @author Rikin Dipakkumar Chauhan
+ * @version 1.0
+ */
+public class EventJournal implements OwnershipListener, Closeable {
+    /**
+     * First four bytes of a journal: <code>WZJ1</code>.
+     */
+    public static final int MAGIC = 0x575A4A31;
+
+    /**
+     * Version of the format written by this class.
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * Extension of the journal files.
+     */
+    public static final String FILE_EXTENSION = ".wzj";
+
+    /**
+     * Value written in place of an absent player or country.
+     */
+    static final int d_NONE = 0;
+
+    private static final int d_BUFFER_SIZE = 1 << 16;
+
+    private final OutputStream d_outputStream;
+    private final Map<Player, Integer> d_playerIds = new IdentityHashMap<>();
+    private final Map<Country, Integer> d_countryIds = new IdentityHashMap<>();
+    private boolean d_hasFailed = false;
+    private boolean d_isClosed = false;
+
+    /**
+     * Creates the journal writing to the stream and writes the header.
+     *
+     * @param p_outputStream Stream receiving the journal; it is closed when the journal is closed.
+     * @throws IOException If the header can not be written.
+     */
+    public EventJournal(OutputStream p_outputStream) throws IOException {
+        d_outputStream = new BufferedOutputStream(p_outputStream, d_BUFFER_SIZE);
+        BinaryCodecUtil.writeInt(d_outputStream, MAGIC);
+        d_outputStream.write(VERSION);
+    }
+
+    /**
+     * Creates a journal in the log directory, named after the current time.
+     *
+     * @param p_name Name of the journal, after the time.
+     * @return Value of the journal.
+     * @throws ResourceNotFoundException If the file can not be created.
+     */
+    public static EventJournal create(String p_name) throws ResourceNotFoundException {
+        String l_fileName = String.valueOf(new Date().getTime()).concat("_").concat(p_name).concat(FILE_EXTENSION);
+        File l_file = new File(FindFilePathUtil.resolveLogPath(l_fileName));
+        try {
+            return new EventJournal(new FileOutputStream(l_file));
+        } catch (IOException p_ioException) {
+            throw new ResourceNotFoundException("Journal file can not be created!");
+        }
+    }
+
+    /**
+     * Records the map file loaded for the game.
+     *
+     * @param p_mapFilePath Path of the map file.
+     */
+    public synchronized void mapLoaded(String p_mapFilePath) {
+        if (this.isWritable()) {
+            try {
+                d_outputStream.write(JournalEventType.MAP_LOADED.ordinal());
+                BinaryCodecUtil.writeString(d_outputStream, p_mapFilePath);
+            } catch (IOException p_ioException) {
+                this.fail();
+            }
+        }
+    }
+
+    /**
+     * Gives the players their ids in the order of the list, which is the order of their turns.
+     *
+     * @param p_players Players of the game.
+     */
+    public synchronized void playersJoined(List<Player> p_players) {
+        if (this.isWritable()) {
+            try {
+                for (Player l_player : p_players) {
+                    this.writePlayer(l_player);
+                }
+            } catch (IOException p_ioException) {
+                this.fail();
+            }
+        }
+    }
+
+    /**
+     * Records that the game has moved to another phase. The events written afterwards belong to this phase.
+     *
+     * @param p_executionIndex Index of the turn.
+     * @param p_phaseName      Name of the phase.
+     */
+    public synchronized void phaseChanged(int p_executionIndex, String p_phaseName) {
+        if (this.isWritable()) {
+            try {
+                d_outputStream.write(JournalEventType.PHASE_CHANGED.ordinal());
+                BinaryCodecUtil.writeVarint(d_outputStream, p_executionIndex);
+                BinaryCodecUtil.writeString(d_outputStream, p_phaseName);
+                d_outputStream.flush();
+            } catch (IOException p_ioException) {
+                this.fail();
+            }
+        }
+    }
+
+    /**
+     * Records the execution of an order.
+     *
+     * @param p_order      Order which has been executed.
+     * @param p_isExecuted True if the order has been executed; false if it has been rejected.
+     */
+    public synchronized void orderExecuted(Order p_order, boolean p_isExecuted) {
+        if (this.isWritable()) {
+            try {
+                int l_player = this.writePlayer(p_order.getOwner());
+                int l_sourceCountry = this.writeCountry(p_order.getSourceCountry());
+                int l_targetCountry = this.writeCountry(p_order.getTargetCountry());
+                int l_targetPlayer = this.writePlayer(p_order.getTargetPlayer());
+                d_outputStream.write(JournalEventType.ORDER_EXECUTED.ordinal());
+                d_outputStream.write(p_order.getType().ordinal());
+                d_outputStream.write(p_isExecuted ? 1 : 0);
+                BinaryCodecUtil.writeVarint(d_outputStream, l_player);
+                BinaryCodecUtil.writeVarint(d_outputStream, l_sourceCountry);
+                BinaryCodecUtil.writeVarint(d_outputStream, l_targetCountry);
+                BinaryCodecUtil.writeVarint(d_outputStream, p_order.getNumberOfArmies());
+                BinaryCodecUtil.writeVarint(d_outputStream, l_targetPlayer);
+            } catch (IOException p_ioException) {
+                this.fail();
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void ownershipChanged(Country p_country, Player p_previousOwner, Player p_newOwner) {
+        if (this.isWritable()) {
+            try {
+                int l_country = this.writeCountry(p_country);
+                int l_previousOwner = this.writePlayer(p_previousOwner);
+                int l_newOwner = this.writePlayer(p_newOwner);
+                d_outputStream.write(JournalEventType.OWNERSHIP_CHANGED.ordinal());
+                BinaryCodecUtil.writeVarint(d_outputStream, l_country);
+                BinaryCodecUtil.writeVarint(d_outputStream, l_previousOwner);
+                BinaryCodecUtil.writeVarint(d_outputStream, l_newOwner);
+            } catch (IOException p_ioException) {
+                this.fail();
+            }
+        }
+    }
+
+    /**
+     * Records the card awarded to the player.
+     *
+     * @param p_player   Player who has been awarded the card.
+     * @param p_cardType Type of the card.
+     */
+    public synchronized void cardAwarded(Player p_player, CardType p_cardType) {
+        if (this.isWritable()) {
+            try {
+                int l_player = this.writePlayer(p_player);
+                d_outputStream.write(JournalEventType.CARD_AWARDED.ordinal());
+                BinaryCodecUtil.writeVarint(d_outputStream, l_player);
+                d_outputStream.write(p_cardType.ordinal());
+            } catch (IOException p_ioException) {
+                this.fail();
+            }
+        }
+    }
+
+    /**
+     * Records the number of armies of a country set outside an order, for example by a cheating player.
+     *
+     * @param p_country        Country whose armies changed.
+     * @param p_numberOfArmies New number of armies.
+     */
+    public synchronized void armiesChanged(Country p_country, int p_numberOfArmies) {
+        if (this.isWritable()) {
+            try {
+                int l_country = this.writeCountry(p_country);
+                d_outputStream.write(JournalEventType.ARMIES_CHANGED.ordinal());
+                BinaryCodecUtil.writeVarint(d_outputStream, l_country);
+                BinaryCodecUtil.writeVarint(d_outputStream, p_numberOfArmies);
+            } catch (IOException p_ioException) {
+                this.fail();
+            }
+        }
+    }
+
+    /**
+     * Checks if writing the journal has failed. The events after the failure have not been recorded.
+     *
+     * @return True if the journal has failed.
+     */
+    public synchronized boolean hasFailed() {
+        return d_hasFailed;
+    }
+
+    /**
+     * Writes the buffered events and closes the stream. Calling it again has no effect.
+     */
+    @Override
+    public synchronized void close() {
+        if (d_isClosed) {
+            return;
+        }
+        d_isClosed = true;
+        try {
+            d_outputStream.close();
+        } catch (IOException p_ioException) {
+            d_hasFailed = true;
+        }
+    }
+
+    /**
+     * Checks if the events can still be written.
+     *
+     * @return True if the journal is open and has not failed.
+     */
+    private boolean isWritable() {
+        return !d_isClosed && !d_hasFailed;
+    }
+
+    /**
+     * Stops writing after the stream failed.
+     */
+    private void fail() {
+        d_hasFailed = true;
+    }
+
+    /**
+     * Gets the id of the player written in the events, defining the player first if it has no id yet.
+     *
+     * @param p_player Player; may be null.
+     * @return Value written for the player.
+     * @throws IOException If the definition can not be written.
+     */
+    private int writePlayer(Player p_player) throws IOException {
+        if (p_player == null) {
+            return d_NONE;
+        }
+        Integer l_id = d_playerIds.get(p_player);
+        if (l_id == null) {
+            l_id = d_playerIds.size();
+            d_playerIds.put(p_player, l_id);
+            d_outputStream.write(JournalEventType.PLAYER_DEFINED.ordinal());
+            BinaryCodecUtil.writeVarint(d_outputStream, l_id);
+            BinaryCodecUtil.writeString(d_outputStream, p_player.getName());
+            BinaryCodecUtil.writeString(d_outputStream, p_player.getPlayerStrategyType().name());
+        }
+        return l_id + 1;
+    }
+
+    /**
+     * Gets the id of the country written in the events, defining the country first if it has no id yet.
+     *
+     * @param p_country Country; may be null.
+     * @return Value written for the country.
+     * @throws IOException If the definition can not be written.
+     */
+    private int writeCountry(Country p_country) throws IOException {
+        if (p_country == null) {
+            return d_NONE;
+        }
+        Integer l_id = d_countryIds.get(p_country);
+        if (l_id == null) {
+            l_id = d_countryIds.size();
+            d_countryIds.put(p_country, l_id);
+            d_outputStream.write(JournalEventType.COUNTRY_DEFINED.ordinal());
+            BinaryCodecUtil.writeVarint(d_outputStream, l_id);
+            BinaryCodecUtil.writeString(d_outputStream, p_country.getCountryName());
+        }
+        return l_id + 1;
+    }
+}
@@ -0,0 +1,287 @@
+package com.APP.Project.UserCoreLogic.logger;
+
+import com.APP.Project.UserCoreLogic.constants.enums.CardType;
+import com.APP.Project.UserCoreLogic.constants.enums.JournalEventType;
+import com.APP.Project.UserCoreLogic.constants.enums.OrderTypes;
+
+/**
+ * An event read from the journal of a game by <code>JournalReader</code>.
+ * <p>
+ * The fields used depend on the type of the event; the others are -1 or null.
+ * </p>
+ * <ul>
+ *     <li><code>MAP_LOADED</code>: the path of the map is the name.</li>
+ *     <li><code>PLAYER_DEFINED</code>: the player, its name and its strategy as the detail.</li>
+ *     <li><code>COUNTRY_DEFINED</code>: the target country and its name.</li>
+ *     <li><code>PHASE_CHANGED</code>: the name of the phase.</li>
+ *     <li><code>ORDER_EXECUTED</code>: the order type, the player issuing the order, the countries, the armies, the
+ *     other player of a negotiate order, and if the order has been executed.</li>
+ *     <li><code>OWNERSHIP_CHANGED</code>: the target country, the previous owner as the other player and the new owner
+ *     as the player.</li>
+ *     <li><code>CARD_AWARDED</code>: the player and the card type.</li>
+ *     <li><code>ARMIES_CHANGED</code>: the target country and its new number of armies.</li>
+ * </ul>
+ *
+ * @author Rikin Dipakkumar Chauhan
+ * @version 1.0
+ */
+public class JournalEvent {
+    private final JournalEventType d_type;
+    private final int d_executionIndex;
+    private final int d_player;
+    private final String d_playerName;
+    private final int d_otherPlayer;
+    private final String d_otherPlayerName;
+    private final int d_sourceCountry;
+    private final String d_sourceCountryName;
+    private final int d_targetCountry;
+    private final String d_targetCountryName;
+    private final int d_numberOfArmies;
+    private final OrderTypes d_orderType;
+    private final boolean d_isExecuted;
+    private final CardType d_cardType;
+    private final String d_name;
+    private final String d_detail;
+
+    /**
+     * Creates the event. Used by <code>JournalReader</code>.
+     *
+     * @param p_type              Type of the event.
+     * @param p_executionIndex    Index of the turn of the event.
+     * @param p_player            Id of the player; -1 if absent.
+     * @param p_playerName        Name of the player.
+     * @param p_otherPlayer       Id of the other player; -1 if absent.
+     * @param p_otherPlayerName   Name of the other player.
+     * @param p_sourceCountry     Id of the source country; -1 if absent.
+     * @param p_sourceCountryName Name of the source country.
+     * @param p_targetCountry     Id of the target country; -1 if absent.
+     * @param p_targetCountryName Name of the target country.
+     * @param p_numberOfArmies    Number of armies.
+     * @param p_orderType         Type of the order.
+     * @param p_isExecuted        True if the order has been executed.
+     * @param p_cardType          Type of the card.
+     * @param p_name              Name of the map, player, country or phase.
+     * @param p_detail            Strategy of a defined player.
+     */
+    JournalEvent(JournalEventType p_type, int p_executionIndex,
+                 int p_player, String p_playerName, int p_otherPlayer, String p_otherPlayerName,
+                 int p_sourceCountry, String p_sourceCountryName, int p_targetCountry, String p_targetCountryName,
+                 int p_numberOfArmies, OrderTypes p_orderType, boolean p_isExecuted, CardType p_cardType,
+                 String p_name, String p_detail) {
+        d_type = p_type;
+        d_executionIndex = p_executionIndex;
+        d_player = p_player;
+        d_playerName = p_playerName;
+        d_otherPlayer = p_otherPlayer;
+        d_otherPlayerName = p_otherPlayerName;
+        d_sourceCountry = p_sourceCountry;
+        d_sourceCountryName = p_sourceCountryName;
+        d_targetCountry = p_targetCountry;
+        d_targetCountryName = p_targetCountryName;
+        d_numberOfArmies = p_numberOfArmies;
+        d_orderType = p_orderType;
+        d_isExecuted = p_isExecuted;
+        d_cardType = p_cardType;
+        d_name = p_name;
+        d_detail = p_detail;
+    }
+
+    /**
+     * Gets the type of the event.
+     *
+     * @return Value of the type.
+     */
+    public JournalEventType getType() {
+        return d_type;
+    }
+
+    /**
+     * Gets the index of the turn in which the event happened.
+     *
+     * @return Value of the index; 0 before the first phase change.
+     */
+    public int getExecutionIndex() {
+        return d_executionIndex;
+    }
+
+    /**
+     * Gets the id of the player of the event.
+     *
+     * @return Value of the id; -1 if absent.
+     */
+    public int getPlayer() {
+        return d_player;
+    }
+
+    /**
+     * Gets the name of the player of the event.
+     *
+     * @return Value of the name; null if absent.
+     */
+    public String getPlayerName() {
+        return d_playerName;
+    }
+
+    /**
+     * Gets the id of the other player of the event.
+     *
+     * @return Value of the id; -1 if absent.
+     */
+    public int getOtherPlayer() {
+        return d_otherPlayer;
+    }
+
+    /**
+     * Gets the name of the other player of the event.
+     *
+     * @return Value of the name; null if absent.
+     */
+    public String getOtherPlayerName() {
+        return d_otherPlayerName;
+    }
+
+    /**
+     * Gets the id of the source country of the event.
+     *
+     * @return Value of the id; -1 if absent.
+     */
+    public int getSourceCountry() {
+        return d_sourceCountry;
+    }
+
+    /**
+     * Gets the name of the source country of the event.
+     *
+     * @return Value of the name; null if absent.
+     */
+    public String getSourceCountryName() {
+        return d_sourceCountryName;
+    }
+
+    /**
+     * Gets the id of the target country of the event.
+     *
+     * @return Value of the id; -1 if absent.
+     */
+    public int getTargetCountry() {
+        return d_targetCountry;
+    }
+
+    /**
+     * Gets the name of the target country of the event.
+     *
+     * @return Value of the name; null if absent.
+     */
+    public String getTargetCountryName() {
+        return d_targetCountryName;
+    }
+
+    /**
+     * Gets the number of armies of the order.
+     *
+     * @return Value of the number of armies.
+     */
+    public int getNumberOfArmies() {
+        return d_numberOfArmies;
+    }
+
+    /**
+     * Gets the type of the order.
+     *
+     * @return Value of the order type; null if the event is not an order.
+     */
+    public OrderTypes getOrderType() {
+        return d_orderType;
+    }
+
+    /**
+     * Checks if the order has been executed.
+     *
+     * @return True if the order has been executed; false if it has been rejected.
+     */
+    public boolean isExecuted() {
+        return d_isExecuted;
+    }
+
+    /**
+     * Gets the type of the awarded card.
+     *
+     * @return Value of the card type; null if the event is not a card award.
+     */
+    public CardType getCardType() {
+        return d_cardType;
+    }
+
+    /**
+     * Gets the name of the map, player, country or phase of the event.
+     *
+     * @return Value of the name; null if absent.
+     */
+    public String getName() {
+        return d_name;
+    }
+
+    /**
+     * Gets the strategy of the defined player.
+     *
+     * @return Value of the strategy; null if absent.
+     */
+    public String getDetail() {
+        return d_detail;
+    }
+
+    /**
+     * Checks if the player is the player or the other player of the event.
+     *
+     * @param p_playerName Name of the player.
+     * @return True if the event is about the player.
+     */
+    public boolean involvesPlayer(String p_playerName) {
+        return p_playerName.equals(d_playerName) || p_playerName.equals(d_otherPlayerName);
+    }
+
+    /**
+     * Returns the event as one line of text.
+     *
+     * @return Value of the text.
+     */
+    @Override
+    public String toString() {
+        String l_prefix = String.format("[%d] %s", d_executionIndex, d_type.name().toLowerCase());
+        switch (d_type) {
+            case MAP_LOADED:
+            case PHASE_CHANGED:
+                return String.format("%s %s", l_prefix, d_name);
+            case PLAYER_DEFINED:
+                return String.format("%s %d %s %s", l_prefix, d_player, d_playerName, d_detail);
+            case COUNTRY_DEFINED:
+                return String.format("%s %d %s", l_prefix, d_targetCountry, d_targetCountryName);
+            case ORDER_EXECUTED:
+                StringBuilder l_order = new StringBuilder(l_prefix).append(' ').append(d_playerName).append(' ')
+                        .append(d_orderType.getJsonValue());
+                if (d_sourceCountryName != null) {
+                    l_order.append(' ').append(d_sourceCountryName);
+                }
+                if (d_targetCountryName != null) {
+                    l_order.append(' ').append(d_targetCountryName);
+                }
+                if (d_orderType == OrderTypes.deploy || d_orderType == OrderTypes.advance || d_orderType == OrderTypes.airlift) {
+                    l_order.append(' ').append(d_numberOfArmies);
+                }
+                if (d_otherPlayerName != null) {
+                    l_order.append(' ').append(d_otherPlayerName);
+                }
+                return l_order.append(d_isExecuted ? "" : " (rejected)").toString();
+            case OWNERSHIP_CHANGED:
+                return String.format("%s %s %s -> %s", l_prefix, d_targetCountryName,
+                        d_otherPlayerName == null ? "none" : d_otherPlayerName,
+                        d_playerName == null ? "none" : d_playerName);
+            case CARD_AWARDED:
+                return String.format("%s %s %s", l_prefix, d_playerName, d_cardType.getJsonValue());
+            case ARMIES_CHANGED:
+                return String.format("%s %s %d", l_prefix, d_targetCountryName, d_numberOfArmies);
+            default:
+                return l_prefix;
+        }
+    }
+}
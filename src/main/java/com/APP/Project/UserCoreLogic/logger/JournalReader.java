@@ -0,0 +1,277 @@
+package com.APP.Project.UserCoreLogic.logger;
+
+import com.APP.Project.UserCoreLogic.constants.enums.CardType;
+import com.APP.Project.UserCoreLogic.constants.enums.JournalEventType;
+import com.APP.Project.UserCoreLogic.constants.enums.OrderTypes;
+import com.APP.Project.UserCoreLogic.exceptions.InvalidGameException;
+import com.APP.Project.UserCoreLogic.Utility.BinaryCodecUtil;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Reads the events of a journal written by <code>EventJournal</code>.
+ * <p>
+ * The reader keeps the names of the players and countries defined so far and the index of the turn from the last
+ * phase change, so each event is returned with them resolved. A journal cut in the middle of an event, for example by
+ * a crash of the game, ends at the last complete event.
+ * </p>
+ *
+ * @author Rikin Dipakkumar Chauhan
+ * @version 1.0
+ */
+public class JournalReader implements Closeable {
+    private static final JournalEventType[] d_EVENT_TYPES = JournalEventType.values();
+    private static final OrderTypes[] d_ORDER_TYPES = OrderTypes.values();
+    private static final CardType[] d_CARD_TYPES = CardType.values();
+
+    private final InputStream d_inputStream;
+    private final List<String> d_playerNames = new ArrayList<>();
+    private final List<String> d_countryNames = new ArrayList<>();
+    private int d_executionIndex = 0;
+    private boolean d_isTruncated = false;
+
+    /**
+     * Creates the reader and checks the header of the journal.
+     *
+     * @param p_inputStream Stream of the journal; it is closed when the reader is closed.
+     * @throws IOException          If the stream can not be read.
+     * @throws InvalidGameException If the stream is not a journal or has an unknown version.
+     */
+    public JournalReader(InputStream p_inputStream) throws IOException, InvalidGameException {
+        d_inputStream = new BufferedInputStream(p_inputStream);
+        try {
+            int l_magic = BinaryCodecUtil.readInt(d_inputStream);
+            if (l_magic != EventJournal.MAGIC) {
+                throw new InvalidGameException("Not a journal file!");
+            }
+            int l_version = BinaryCodecUtil.readByte(d_inputStream);
+            if (l_version != EventJournal.VERSION) {
+                throw new InvalidGameException(String.format("Journal version %d is not supported!", l_version));
+            }
+        } catch (EOFException p_eofException) {
+            throw new InvalidGameException("Not a journal file!");
+        }
+    }
+
+    /**
+     * Reads all the events of the journal file accepted by the filter.
+     *
+     * @param p_file   Journal file.
+     * @param p_filter Filter of the events.
+     * @return List of the events, in the order they were written.
+     * @throws IOException          If the file can not be read.
+     * @throws InvalidGameException If the file is not a valid journal.
+     */
+    public static List<JournalEvent> readAll(File p_file, Predicate<JournalEvent> p_filter)
+            throws IOException, InvalidGameException {
+        List<JournalEvent> l_events = new ArrayList<>();
+        try (JournalReader l_reader = new JournalReader(new FileInputStream(p_file))) {
+            JournalEvent l_event;
+            while ((l_event = l_reader.next()) != null) {
+                if (p_filter.test(l_event)) {
+                    l_events.add(l_event);
+                }
+            }
+        }
+        return l_events;
+    }
+
+    /**
+     * Reads the next event.
+     *
+     * @return Value of the event; null at the end of the journal.
+     * @throws IOException          If the stream can not be read.
+     * @throws InvalidGameException If the event is not valid.
+     */
+    public JournalEvent next() throws IOException, InvalidGameException {
+        int l_typeOrdinal = d_inputStream.read();
+        if (l_typeOrdinal < 0) {
+            return null;
+        }
+        try {
+            return this.readEvent(getType(d_EVENT_TYPES, l_typeOrdinal, "event"));
+        } catch (EOFException p_eofException) {
+            d_isTruncated = true;
+            return null;
+        }
+    }
+
+    /**
+     * Checks if the journal ended in the middle of an event.
+     *
+     * @return True if the last event was incomplete.
+     */
+    public boolean isTruncated() {
+        return d_isTruncated;
+    }
+
+    /**
+     * Gets the name of the player with the id.
+     *
+     * @param p_player Id of the player.
+     * @return Value of the name; null if the player has not been defined.
+     */
+    public String getPlayerName(int p_player) {
+        return p_player >= 0 && p_player < d_playerNames.size() ? d_playerNames.get(p_player) : null;
+    }
+
+    /**
+     * Gets the name of the country with the id.
+     *
+     * @param p_country Id of the country.
+     * @return Value of the name; null if the country has not been defined.
+     */
+    public String getCountryName(int p_country) {
+        return p_country >= 0 && p_country < d_countryNames.size() ? d_countryNames.get(p_country) : null;
+    }
+
+    /**
+     * Closes the stream of the journal.
+     *
+     * @throws IOException If the stream can not be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        d_inputStream.close();
+    }
+
+    /**
+     * Reads the fields of the event of the type.
+     *
+     * @param p_type Type of the event.
+     * @return Value of the event.
+     * @throws IOException          If the stream can not be read or ends in the event.
+     * @throws InvalidGameException If the event is not valid.
+     */
+    private JournalEvent readEvent(JournalEventType p_type) throws IOException, InvalidGameException {
+        switch (p_type) {
+            case MAP_LOADED:
+                return this.newEvent(p_type, -1, -1, -1, -1, 0, null, false, null, BinaryCodecUtil.readString(d_inputStream), null);
+            case PLAYER_DEFINED: {
+                int l_player = BinaryCodecUtil.readVarint(d_inputStream);
+                String l_name = BinaryCodecUtil.readString(d_inputStream);
+                String l_strategy = BinaryCodecUtil.readString(d_inputStream);
+                define(d_playerNames, l_player, l_name, "player");
+                return this.newEvent(p_type, l_player, -1, -1, -1, 0, null, false, null, l_name, l_strategy);
+            }
+            case COUNTRY_DEFINED: {
+                int l_country = BinaryCodecUtil.readVarint(d_inputStream);
+                String l_name = BinaryCodecUtil.readString(d_inputStream);
+                define(d_countryNames, l_country, l_name, "country");
+                return this.newEvent(p_type, -1, -1, -1, l_country, 0, null, false, null, l_name, null);
+            }
+            case PHASE_CHANGED:
+                d_executionIndex = BinaryCodecUtil.readVarint(d_inputStream);
+                return this.newEvent(p_type, -1, -1, -1, -1, 0, null, false, null, BinaryCodecUtil.readString(d_inputStream), null);
+            case ORDER_EXECUTED: {
+                OrderTypes l_orderType = getType(d_ORDER_TYPES, BinaryCodecUtil.readByte(d_inputStream), "order");
+                boolean l_isExecuted = BinaryCodecUtil.readByte(d_inputStream) != 0;
+                int l_player = this.readId();
+                int l_sourceCountry = this.readId();
+                int l_targetCountry = this.readId();
+                int l_numberOfArmies = BinaryCodecUtil.readVarint(d_inputStream);
+                int l_targetPlayer = this.readId();
+                return this.newEvent(p_type, l_player, l_targetPlayer, l_sourceCountry, l_targetCountry,
+                        l_numberOfArmies, l_orderType, l_isExecuted, null, null, null);
+            }
+            case OWNERSHIP_CHANGED: {
+                int l_country = this.readId();
+                int l_previousOwner = this.readId();
+                int l_newOwner = this.readId();
+                return this.newEvent(p_type, l_newOwner, l_previousOwner, -1, l_country, 0, null, false, null, null, null);
+            }
+            case CARD_AWARDED: {
+                int l_player = this.readId();
+                CardType l_cardType = getType(d_CARD_TYPES, BinaryCodecUtil.readByte(d_inputStream), "card");
+                return this.newEvent(p_type, l_player, -1, -1, -1, 0, null, false, l_cardType, null, null);
+            }
+            case ARMIES_CHANGED: {
+                int l_country = this.readId();
+                int l_numberOfArmies = BinaryCodecUtil.readVarint(d_inputStream);
+                return this.newEvent(p_type, -1, -1, -1, l_country, l_numberOfArmies, null, false, null, null, null);
+            }
+            default:
+                throw new InvalidGameException("Unknown journal event!");
+        }
+    }
+
+    /**
+     * Creates the event with the names of its players and countries.
+     *
+     * @param p_type           Type of the event.
+     * @param p_player         Id of the player; -1 if absent.
+     * @param p_otherPlayer    Id of the other player; -1 if absent.
+     * @param p_sourceCountry  Id of the source country; -1 if absent.
+     * @param p_targetCountry  Id of the target country; -1 if absent.
+     * @param p_numberOfArmies Number of armies.
+     * @param p_orderType      Type of the order.
+     * @param p_isExecuted     True if the order has been executed.
+     * @param p_cardType       Type of the card.
+     * @param p_name           Name of the map, player, country or phase.
+     * @param p_detail         Strategy of a defined player.
+     * @return Value of the event.
+     */
+    private JournalEvent newEvent(JournalEventType p_type, int p_player, int p_otherPlayer,
+                                  int p_sourceCountry, int p_targetCountry, int p_numberOfArmies,
+                                  OrderTypes p_orderType, boolean p_isExecuted, CardType p_cardType,
+                                  String p_name, String p_detail) {
+        return new JournalEvent(p_type, d_executionIndex,
+                p_player, this.getPlayerName(p_player), p_otherPlayer, this.getPlayerName(p_otherPlayer),
+                p_sourceCountry, this.getCountryName(p_sourceCountry), p_targetCountry, this.getCountryName(p_targetCountry),
+                p_numberOfArmies, p_orderType, p_isExecuted, p_cardType, p_name, p_detail);
+    }
+
+    /**
+     * Adds the name of a newly defined player or country.
+     *
+     * @param p_names  Names defined so far.
+     * @param p_id     Id of the definition; must be the next id.
+     * @param p_name   Name of the definition.
+     * @param p_entity Kind of the definition, for the error message.
+     * @throws InvalidGameException If the id is not the next id.
+     */
+    private static void define(List<String> p_names, int p_id, String p_name, String p_entity)
+            throws InvalidGameException {
+        if (p_id != p_names.size()) {
+            throw new InvalidGameException(String.format("Unexpected %s id %d in journal!", p_entity, p_id));
+        }
+        p_names.add(p_name);
+    }
+
+    /**
+     * Gets the constant of the enum with the ordinal.
+     *
+     * @param p_values  Constants of the enum.
+     * @param p_ordinal Ordinal read from the journal.
+     * @param p_entity  Kind of the constant, for the error message.
+     * @param <T>       Type of the enum.
+     * @return Value of the constant.
+     * @throws InvalidGameException If there is no constant with the ordinal.
+     */
+    private static <T extends Enum<T>> T getType(T[] p_values, int p_ordinal, String p_entity)
+            throws InvalidGameException {
+        if (p_ordinal >= p_values.length) {
+            throw new InvalidGameException(String.format("Unknown %s type %d in journal!", p_entity, p_ordinal));
+        }
+        return p_values[p_ordinal];
+    }
+
+    /**
+     * Reads a player or country id written as id + 1.
+     *
+     * @return Value of the id; -1 if absent.
+     * @throws IOException If the stream can not be read or ends.
+     */
+    private int readId() throws IOException {
+        return BinaryCodecUtil.readVarint(d_inputStream) - 1;
+    }
+}
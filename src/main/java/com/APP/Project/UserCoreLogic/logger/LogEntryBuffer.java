@@ -1,40 +1,95 @@
 package com.APP.Project.UserCoreLogic.logger;
 
-import java.util.ArrayList;
+import com.APP.Project.UserCoreLogic.GameContext;
+import com.APP.Project.UserCoreLogic.constants.enums.LogCategory;
+import com.APP.Project.UserCoreLogic.constants.enums.LogLevel;
+
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
 
 /**
  * This class represents a buffer for logging entries and implements the Observable interface.
  * It allows attaching and detaching observers and notifying them upon data changes.
+ * <p>
+ * Each entry has a level and a category. An observer is notified only of the entries it has enabled, and the message
+ * of an entry given as a supplier is built only if at least one observer has enabled it.
+ * </p>
+ * <p>
+ * The application writes to a single channel. A game played in parallel with others can write to a channel of its own,
+ * created with <code>newChannel</code>, so that the games do not wait for each other's entries and each channel can be
+ * written to its own file. An entry is published while holding the lock of its channel only.
+ * </p>
  *
  * @author Rikin Dipakkumar Chauhan
  * @version 1.0
  */
 public class LogEntryBuffer implements Observable {
+    /**
+     * Name of the channel of the application.
+     */
+    public static final String APPLICATION_CHANNEL = "application";
+
+    private static final LogEntryBuffer d_instance = new LogEntryBuffer(APPLICATION_CHANNEL);
+
+    /**
+     * Observers of this channel. Copied when an observer is attached or detached, so the entries are published without
+     * locking the list.
+     */
     private final List<Observer> d_observerList;
+    private final String d_channelName;
     private String d_message;
     private String d_headCommand;
-    private static LogEntryBuffer d_instance;
+    private LogLevel d_level = LogLevel.INFO;
+    private LogCategory d_category = LogCategory.GENERAL;
 
      /**
      * Private constructor to prevent instantiation from outside the class.
+     *
+     * @param p_channelName Name of the channel.
      */
-    private LogEntryBuffer() {
-        d_observerList = new ArrayList<>();
+    private LogEntryBuffer(String p_channelName) {
+        d_observerList = new CopyOnWriteArrayList<>();
+        d_channelName = p_channelName;
     }
 
     /**
-     * Retrieves the singleton instance of LogEntryBuffer.
+     * Creates a channel without any observer, separate from the channel of the application.
      *
-     * @return the singleton instance of LogEntryBuffer
+     * @param p_channelName Name of the channel.
+     * @return the new LogEntryBuffer
+     */
+    public static LogEntryBuffer newChannel(String p_channelName) {
+        return new LogEntryBuffer(p_channelName);
+    }
+
+    /**
+     * Retrieves the LogEntryBuffer of the game context in use.
+     *
+     * @return the LogEntryBuffer of the current game context
      */
     public static LogEntryBuffer getLogger() {
-        if (d_instance == null) {
-            d_instance = new LogEntryBuffer();
-        }
+        return GameContext.current().getLogger();
+    }
+
+    /**
+     * Retrieves the singleton instance of LogEntryBuffer used by the application.
+     *
+     * @return the singleton instance of LogEntryBuffer
+     */
+    public static LogEntryBuffer getApplicationLogger() {
         return d_instance;
     }
 
+    /**
+     * Retrieves the name of this channel.
+     *
+     * @return the name of the channel
+     */
+    public String getChannelName() {
+        return d_channelName;
+    }
+
     /**
      * Attaches an observer to the list of observers.
      *
@@ -63,8 +118,26 @@ public class LogEntryBuffer implements Observable {
     @Override
     public void notifyObservers(Observable p_o) {
         for (Observer l_observer : d_observerList) {
-            l_observer.update(p_o);
+            if (l_observer.isEnabled(d_level, d_category)) {
+                l_observer.update(p_o);
+            }
+        }
+    }
+
+    /**
+     * Checks if any observer will use the entries of the level and category.
+     *
+     * @param p_level    Level of the entries.
+     * @param p_category Category of the entries.
+     * @return True if at least one observer has enabled the entries.
+     */
+    public boolean isEnabled(LogLevel p_level, LogCategory p_category) {
+        for (Observer l_observer : d_observerList) {
+            if (l_observer.isEnabled(p_level, p_category)) {
+                return true;
+            }
         }
+        return false;
     }
 
     /**
@@ -73,7 +146,7 @@ public class LogEntryBuffer implements Observable {
      * @return The message stored in the buffer.
      */
     public String getMessage() {
-        return String.format("---%s---\n%s\n", this.getHeadCommand(), d_message);
+        return "---" + d_headCommand + "---\n" + d_message + "\n";
     }
 
     /**
@@ -86,17 +159,69 @@ public class LogEntryBuffer implements Observable {
     }
 
     /**
-     * Updates the head command and message in the buffer and notifies observers.
+     * Updates the head command and message in the buffer and notifies observers, as a general entry of level
+     * <code>INFO</code>.
      *
      * @param p_headCommand The head command to be set in the buffer.
      * @param p_message     The message to be set in the buffer.
      */
-    public void dataChanged(String p_headCommand, String p_message) {
+    public synchronized void dataChanged(String p_headCommand, String p_message) {
+        if (this.isEnabled(LogLevel.INFO, LogCategory.GENERAL)) {
+            this.publish(LogLevel.INFO, LogCategory.GENERAL, p_headCommand, p_message);
+        }
+    }
+
+    /**
+     * Updates the level, category, head command and message in the buffer and notifies the observers which have
+     * enabled the entry. The message is built only if at least one observer has enabled it. Synchronized so that the
+     * threads writing to the same channel do not mix the head command of one entry with the message of another.
+     *
+     * @param p_level       The level of the entry.
+     * @param p_category    The category of the entry.
+     * @param p_headCommand The head command to be set in the buffer.
+     * @param p_message     Builds the message to be set in the buffer.
+     */
+    public synchronized void dataChanged(LogLevel p_level, LogCategory p_category, String p_headCommand, Supplier<String> p_message) {
+        if (this.isEnabled(p_level, p_category)) {
+            this.publish(p_level, p_category, p_headCommand, p_message.get());
+        }
+    }
+
+    /**
+     * Stores the entry and notifies the observers. Called while holding the lock of this channel, so the observers read
+     * the fields of this entry only.
+     *
+     * @param p_level       The level of the entry.
+     * @param p_category    The category of the entry.
+     * @param p_headCommand The head command of the entry.
+     * @param p_message     The message of the entry.
+     */
+    private void publish(LogLevel p_level, LogCategory p_category, String p_headCommand, String p_message) {
+        d_level = p_level;
+        d_category = p_category;
         d_headCommand = p_headCommand;
         d_message = p_message;
         notifyObservers(this);
     }
 
+    /**
+     * Retrieves the level of the entry stored in the buffer.
+     *
+     * @return The level of the entry.
+     */
+    public LogLevel getLevel() {
+        return d_level;
+    }
+
+    /**
+     * Retrieves the category of the entry stored in the buffer.
+     *
+     * @return The category of the entry.
+     */
+    public LogCategory getCategory() {
+        return d_category;
+    }
+
     /**
      * Retrieves the head command stored in the buffer.
      *
@@ -2,27 +2,64 @@ package com.APP.Project.UserCoreLogic.logger;
 
 import com.APP.Project.UserCoreLogic.Utility.FileValidationUtil;
 import com.APP.Project.UserCoreLogic.Utility.FindFilePathUtil;
+import com.APP.Project.UserCoreLogic.constants.enums.LogCategory;
+import com.APP.Project.UserCoreLogic.constants.enums.LogLevel;
 import com.APP.Project.UserCoreLogic.exceptions.ResourceNotFoundException;
 
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
-import java.io.Writer;
 import java.util.Date;
+import java.util.EnumSet;
+import java.util.Set;
 
 
 /**
  * LogWriter class writes log messages to a log file.
+ * <p>
+ * The messages are handed to an <code>AsyncLogSink</code>, so the thread changing the observable does not wait for
+ * the file. The file is opened once and closed by <code>close</code> or when the virtual machine shuts down.
+ * </p>
+ * <p>
+ * Only the entries of the enabled categories with at least the minimum level are written; by default all the entries
+ * from <code>INFO</code> are.
+ * </p>
  *
  * @author Rikin Dipakkumar Chauhan
  * @version 1.0
  */
 public class LogWriter extends Observer {
+    /**
+     * Default number of messages waiting to be written.
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
     /**
      * The target log file to write log messages.
      */
     private final File d_targetFile;
 
+    /**
+     * Sink writing the messages to the target file; null if the file could not be opened.
+     */
+    private final AsyncLogSink d_sink;
+
+    /**
+     * Closes the sink when the virtual machine shuts down.
+     */
+    private final Thread d_shutdownHook;
+
+    /**
+     * Minimum level of the entries written to the file.
+     */
+    private volatile LogLevel d_minimumLevel = LogLevel.INFO;
+
+    /**
+     * Categories of the entries written to the file. Replaced, never modified, when a category is enabled or disabled.
+     */
+    private volatile Set<LogCategory> d_enabledCategories = EnumSet.allOf(LogCategory.class);
+
     /**
      * Constructs a LogWriter object.
      *
@@ -30,27 +67,159 @@ public class LogWriter extends Observer {
      * @throws ResourceNotFoundException if the log file path cannot be resolved.
      */
     public LogWriter(Observable p_observable) throws ResourceNotFoundException {
+        this(p_observable, createLogFile("log_file.log"), DEFAULT_CAPACITY, AsyncLogSink.OverflowPolicy.BLOCK);
+    }
+
+    /**
+     * Constructs a LogWriter object writing the entries of a channel to a file of its own.
+     *
+     * @param p_channel The channel to observe for changes.
+     * @throws ResourceNotFoundException if the log file path cannot be resolved.
+     */
+    public LogWriter(LogEntryBuffer p_channel) throws ResourceNotFoundException {
+        this(p_channel, createLogFile(p_channel.getChannelName() + "_log_file.log"), DEFAULT_CAPACITY, AsyncLogSink.OverflowPolicy.BLOCK);
+    }
+
+    /**
+     * Constructs a LogWriter object writing to the given file.
+     *
+     * @param p_observable     The observable object to observe for changes.
+     * @param p_targetFile     The file to append the log messages to.
+     * @param p_capacity       Maximum number of messages waiting to be written.
+     * @param p_overflowPolicy Policy applied when too many messages are waiting.
+     */
+    public LogWriter(Observable p_observable, File p_targetFile, int p_capacity, AsyncLogSink.OverflowPolicy p_overflowPolicy) {
         super(p_observable);
+        d_targetFile = p_targetFile;
+        d_sink = openSink(p_targetFile, p_capacity, p_overflowPolicy);
+        if (d_sink != null) {
+            d_shutdownHook = new Thread(d_sink::close);
+            Runtime.getRuntime().addShutdownHook(d_shutdownHook);
+        } else {
+            d_shutdownHook = null;
+        }
+    }
+
+    /**
+     * Creates the log file named after the current time.
+     *
+     * @param p_fileName Name of the file, after the time.
+     * @return Value of the file.
+     * @throws ResourceNotFoundException if the log file path cannot be resolved.
+     */
+    private static File createLogFile(String p_fileName) throws ResourceNotFoundException {
         String l_timestamp = String.valueOf(new Date().getTime());
-        String l_FileName = l_timestamp.concat("_log_file.log");
+        String l_FileName = l_timestamp.concat("_").concat(p_fileName);
         String l_pathToFile = FindFilePathUtil.resolveLogPath(l_FileName);
-        d_targetFile = FileValidationUtil.createFileIfNotExists(l_pathToFile);
+        return FileValidationUtil.createFileIfNotExists(l_pathToFile);
     }
 
     /**
-     * Updates the log file with the latest log message.
+     * Opens the target file in append mode and creates the sink writing to it.
+     *
+     * @param p_targetFile     The file to append the log messages to.
+     * @param p_capacity       Maximum number of messages waiting to be written.
+     * @param p_overflowPolicy Policy applied when too many messages are waiting.
+     * @return Value of the sink; null if the file can not be opened.
+     */
+    private static AsyncLogSink openSink(File p_targetFile, int p_capacity, AsyncLogSink.OverflowPolicy p_overflowPolicy) {
+        if (p_targetFile == null) {
+            return null;
+        }
+        try {
+            return new AsyncLogSink(new BufferedWriter(new FileWriter(p_targetFile, true)), p_capacity, p_overflowPolicy);
+        } catch (IOException p_ioException) {
+            return null;
+        }
+    }
+
+    /**
+     * Queues the latest log message to be written to the log file.
      *
      * @param p_observable The observable object that triggered the update.
      */
     @Override
     public void update(Observable p_observable) {
-        if (d_targetFile == null) {
+        if (d_sink == null) {
             return;
         }
-        String l_message = ((LogEntryBuffer) p_observable).getMessage();
-        try (Writer l_writer = new FileWriter(d_targetFile, true)) {
-            l_writer.append(l_message);
-        } catch (IOException p_ioException) {
+        d_sink.offer(((LogEntryBuffer) p_observable).getMessage());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEnabled(LogLevel p_level, LogCategory p_category) {
+        return d_sink != null && p_level.isAtLeast(d_minimumLevel) && d_enabledCategories.contains(p_category);
+    }
+
+    /**
+     * Sets the minimum level of the entries written to the file.
+     *
+     * @param p_minimumLevel Value of the level.
+     */
+    public void setMinimumLevel(LogLevel p_minimumLevel) {
+        d_minimumLevel = p_minimumLevel;
+    }
+
+    /**
+     * Gets the minimum level of the entries written to the file.
+     *
+     * @return Value of the level.
+     */
+    public LogLevel getMinimumLevel() {
+        return d_minimumLevel;
+    }
+
+    /**
+     * Enables or disables writing the entries of the category.
+     *
+     * @param p_category  Category of the entries.
+     * @param p_isEnabled True to write the entries of the category.
+     */
+    public synchronized void setCategoryEnabled(LogCategory p_category, boolean p_isEnabled) {
+        Set<LogCategory> l_enabledCategories = EnumSet.noneOf(LogCategory.class);
+        l_enabledCategories.addAll(d_enabledCategories);
+        if (p_isEnabled) {
+            l_enabledCategories.add(p_category);
+        } else {
+            l_enabledCategories.remove(p_category);
+        }
+        d_enabledCategories = l_enabledCategories;
+    }
+
+    /**
+     * Stops observing, writes the queued messages and closes the log file.
+     */
+    public void close() {
+        d_observable.detach(this);
+        if (d_sink == null) {
+            return;
         }
+        d_sink.close();
+        try {
+            Runtime.getRuntime().removeShutdownHook(d_shutdownHook);
+        } catch (IllegalStateException p_illegalStateException) {
+            // The virtual machine is already shutting down and runs the hook.
+        }
+    }
+
+    /**
+     * Gets the number of messages dropped because too many messages were waiting.
+     *
+     * @return Value of the count.
+     */
+    public long getDroppedCount() {
+        return d_sink == null ? 0 : d_sink.getDroppedCount();
+    }
+
+    /**
+     * Gets the file the log messages are written to.
+     *
+     * @return Value of the file.
+     */
+    public File getTargetFile() {
+        return d_targetFile;
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,8 @@
 package com.APP.Project.UserCoreLogic.logger;
 
+import com.APP.Project.UserCoreLogic.constants.enums.LogCategory;
+import com.APP.Project.UserCoreLogic.constants.enums.LogLevel;
+
 /**
  * This abstract class represents an Observer in the observer design pattern.
  * Observers are notified when the state of the observed object changes.
@@ -31,4 +34,16 @@ public abstract class Observer {
      * @param p_observable_state the state of the Observable object
      */
     public abstract void update(Observable p_observable_state);
+
+    /**
+     * Checks if this observer uses the entries of the level and category. Observers use all the entries unless they
+     * override this method.
+     *
+     * @param p_level    Level of the entries.
+     * @param p_category Category of the entries.
+     * @return True if the observer is to be notified of the entries.
+     */
+    public boolean isEnabled(LogLevel p_level, LogCategory p_category) {
+        return true;
+    }
 }
\ No newline at end of file
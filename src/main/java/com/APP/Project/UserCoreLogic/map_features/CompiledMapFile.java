@@ -0,0 +1,133 @@
+package com.APP.Project.UserCoreLogic.map_features;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+/**
+ * Reads and writes the compiled form of a map file, a <code>.wzb</code> file next to it holding its
+ * <code>MapTemplate</code>. Opening a compiled map copies its tables into the engine without parsing any text.
+ * <p>
+ * The file starts with <code>MAGIC</code> and <code>VERSION</code>, followed by the continent table with the control
+ * values, the country table, the countries of each continent and the neighbours of each country as compressed sparse
+ * rows, and the details of the map. A compiled file is used only while it is newer than the map file it was compiled
+ * from; the map file is parsed otherwise.
+ * </p>
+ *
+ * @author Rikin Dipakkumar Chauhan
+ * @version 1.0
+ */
+public final class CompiledMapFile {
+    /**
+     * First four bytes of a compiled map: <code>WZB1</code>.
+     */
+    public static final int MAGIC = 0x575A4231;
+
+    /**
+     * Version of the format written by this class.
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * Extension of the compiled maps.
+     */
+    public static final String FILE_EXTENSION = ".wzb";
+
+    private static final int d_BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Instance can not be created outside the class. (private)
+     */
+    private CompiledMapFile() {
+    }
+
+    /**
+     * Gets the compiled file of the map file: the same name with the extension <code>.wzb</code>.
+     *
+     * @param p_mapFile The map file.
+     * @return Value of the compiled file.
+     */
+    public static File getCompiledFile(File p_mapFile) {
+        String l_name = p_mapFile.getName();
+        int l_extensionIndex = l_name.lastIndexOf('.');
+        String l_baseName = l_extensionIndex > 0 ? l_name.substring(0, l_extensionIndex) : l_name;
+        return new File(p_mapFile.getAbsoluteFile().getParentFile(), l_baseName + FILE_EXTENSION);
+    }
+
+    /**
+     * Checks if the compiled file of the map file exists and is newer than the map file.
+     *
+     * @param p_mapFile The map file.
+     * @return True if the compiled file can be used in place of the map file.
+     */
+    public static boolean isUpToDate(File p_mapFile) {
+        File l_compiledFile = getCompiledFile(p_mapFile);
+        return l_compiledFile.isFile() && l_compiledFile.lastModified() > p_mapFile.lastModified();
+    }
+
+    /**
+     * Writes the template to the file.
+     *
+     * @param p_template     Template of the parsed map.
+     * @param p_compiledFile File receiving the compiled map.
+     * @throws IOException If the file can not be written.
+     */
+    public static void write(MapTemplate p_template, File p_compiledFile) throws IOException {
+        try (DataOutputStream l_outputStream = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(p_compiledFile), d_BUFFER_SIZE))) {
+            l_outputStream.writeInt(MAGIC);
+            l_outputStream.writeByte(VERSION);
+            p_template.writeTo(l_outputStream);
+        }
+    }
+
+    /**
+     * Reads the template from the compiled file.
+     *
+     * @param p_compiledFile The compiled map.
+     * @return Value of the template.
+     * @throws IOException If the file can not be read, or is not a compiled map of this version.
+     */
+    public static MapTemplate read(File p_compiledFile) throws IOException {
+        try (DataInputStream l_inputStream = new DataInputStream(
+                new BufferedInputStream(new FileInputStream(p_compiledFile), d_BUFFER_SIZE))) {
+            if (l_inputStream.readInt() != MAGIC) {
+                throw new IOException("Not a compiled map!");
+            }
+            int l_version = l_inputStream.readUnsignedByte();
+            if (l_version != VERSION) {
+                throw new IOException(String.format("Unsupported compiled map version %d!", l_version));
+            }
+            MapTemplate l_template = new MapTemplate(l_inputStream);
+            if (l_inputStream.read() != -1) {
+                throw new IOException("Corrupted compiled map!");
+            }
+            return l_template;
+        }
+    }
+
+    /**
+     * Loads the compiled form of the map file into the engine, if it is newer than the map file.
+     *
+     * @param p_mapFile         The map file.
+     * @param p_mapEditorEngine Engine receiving the map.
+     * @return True if the map was loaded; false if the map file has to be parsed.
+     */
+    public static boolean loadIfUpToDate(File p_mapFile, MapEditorEngine p_mapEditorEngine) {
+        if (!isUpToDate(p_mapFile)) {
+            return false;
+        }
+        try {
+            read(getCompiledFile(p_mapFile)).createMap(p_mapEditorEngine);
+            return true;
+        } catch (IOException p_ioException) {
+            // A compiled map which can not be read is ignored; the map file is the source of truth.
+            return false;
+        }
+    }
+}
@@ -8,9 +8,12 @@ import com.APP.Project.UserCoreLogic.game_entities.Continent;
 import com.APP.Project.UserCoreLogic.game_entities.Country;
 import com.APP.Project.UserCoreLogic.exceptions.EntityNotFoundException;
 import com.APP.Project.UserCoreLogic.exceptions.InvalidGameException;
+import com.APP.Project.UserCoreLogic.Utility.JSONStreamReader;
+import com.APP.Project.UserCoreLogic.Utility.JSONStreamWriter;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
+import java.io.IOException;
 import java.util.*;
 
 /**
@@ -19,10 +22,52 @@ import java.util.*;
  * @version 3.0
  */
 public class MapEditorEngine implements Engine, JSONable {
+    /**
+     * Lock held while a map is loaded into an engine. Loading a map resets the serial numbers of
+     * <code>Continent</code> and <code>Country</code>, which are shared by all the engines.
+     */
+    private static final Object d_MAP_LOADING_LOCK = new Object();
+
     private List<Continent> d_continentList;
     private HashMap<String, String> d_MapDetails;
     private boolean d_isLoadingMap = false;
 
+    /**
+     * Index of the continents by their names. Keeps the continent added first if the names are repeated.
+     */
+    private final Map<String, Continent> d_continentByName = new HashMap<>();
+
+    /**
+     * Index of the continents by their IDs.
+     */
+    private final Map<Integer, Continent> d_continentById = new HashMap<>();
+
+    /**
+     * Index of the countries by their names. Keeps the country added first if the names are repeated.
+     */
+    private final Map<String, Country> d_countryByName = new HashMap<>();
+
+    /**
+     * Index of the countries by their IDs.
+     */
+    private final Map<Integer, Country> d_countryById = new HashMap<>();
+
+    /**
+     * Countries of all the continents, each country listed once in the order it was added.
+     */
+    private final List<Country> d_countryList = new ArrayList<>();
+
+    /**
+     * Read-only view of the list of countries handed out to the callers.
+     */
+    private final List<Country> d_countryListView = Collections.unmodifiableList(d_countryList);
+
+    /**
+     * Countries present in the list of countries. A country is the same object when it is added to more than one
+     * continent, hence the identity is used.
+     */
+    private final Set<Country> d_listedCountries = Collections.newSetFromMap(new IdentityHashMap<>());
+
     /*
      * Constructor for MapEditorEngine.
      */
@@ -35,11 +80,21 @@ public class MapEditorEngine implements Engine, JSONable {
      */
     public void initialise() {
         d_continentList = new ArrayList<>();
-        
+        this.rebuildIndexes();
+
         Continent.resetSerialNumber();
         Country.resetSerialNumber();
     }
 
+    /**
+     * Gets the lock to hold while a map is loaded into an engine other than the one of the application, so that the
+     * games prepared in parallel do not interleave the serial numbers of their continents and countries.
+     * @return The lock shared by all the engines.
+     */
+    public static Object getMapLoadingLock() {
+        return d_MAP_LOADING_LOCK;
+    }
+
     /**
      * Retrieves the list of continents.
      * @return The list of continents.
@@ -54,22 +109,16 @@ public class MapEditorEngine implements Engine, JSONable {
      */
     public void setContinentList(List<Continent> p_continentList) {
         d_continentList = p_continentList;
+        this.rebuildIndexes();
     }
 
     /**
-     * Retrieves the list of countries.
-     * @return The list of countries.
+     * Retrieves the list of countries. The list is maintained as the continents and countries are added or removed,
+     * hence no list is created for the caller.
+     * @return The read-only list of countries.
      */
-    public ArrayList<Country> getCountryList() {
-        ArrayList<Country> l_countries = new ArrayList<>();
-        for (Continent l_continent : d_continentList) {
-            for (Country l_country : l_continent.getCountryList()) {
-                if (!l_countries.contains(l_country)) {
-                    l_countries.add(l_country);
-                }
-            }
-        }
-        return l_countries;
+    public List<Country> getCountryList() {
+        return d_countryListView;
     }
 
     /**
@@ -78,7 +127,7 @@ public class MapEditorEngine implements Engine, JSONable {
      */
     public Map<Integer, Set<Integer>> getCountryNeighbourMap() {
         Map<Integer, Set<Integer>> l_continentCountryMap = new HashMap<>();
-        ArrayList<Country> l_countries = this.getCountryList();
+        List<Country> l_countries = this.getCountryList();
         for (Country l_country : l_countries) {
             Set<Integer> l_neighborCountryIdList = new HashSet<>();
             for (Country l_neighborCountry : l_country.getNeighbourCountries()) {
@@ -122,6 +171,111 @@ public class MapEditorEngine implements Engine, JSONable {
      */
     public void addContinent(Continent p_continent) {
         d_continentList.add(p_continent);
+        this.indexContinent(p_continent);
+    }
+
+    /**
+     * Removes the continent and its countries from the map.
+     * @param p_continent The continent to be removed.
+     */
+    public void removeContinent(Continent p_continent) {
+        d_continentList.removeIf(p_l_continent -> p_l_continent.equals(p_continent));
+        this.rebuildIndexes();
+    }
+
+    /**
+     * Adds the country to the continent.
+     * @param p_continent The continent the country is added to.
+     * @param p_country The country to be added.
+     */
+    public void addCountry(Continent p_continent, Country p_country) {
+        p_continent.addCountry(p_country);
+        this.indexCountry(p_country);
+    }
+
+    /**
+     * Removes the country from the continent it belongs to.
+     * @param p_country The country to be removed.
+     */
+    public void removeCountry(Country p_country) {
+        p_country.getContinent().removeCountry(p_country);
+        this.rebuildIndexes();
+    }
+
+    /**
+     * Finds the continent using its name.
+     * @param p_continentName The name of the continent.
+     * @return The continent; null if there is no continent with the name.
+     */
+    public Continent findContinentByName(String p_continentName) {
+        return d_continentByName.get(p_continentName);
+    }
+
+    /**
+     * Finds the continent using its ID.
+     * @param p_continentId The ID of the continent.
+     * @return The continent; null if there is no continent with the ID.
+     */
+    public Continent findContinentById(Integer p_continentId) {
+        return d_continentById.get(p_continentId);
+    }
+
+    /**
+     * Finds the country using its name.
+     * @param p_countryName The name of the country.
+     * @return The country; null if there is no country with the name.
+     */
+    public Country findCountryByName(String p_countryName) {
+        return d_countryByName.get(p_countryName);
+    }
+
+    /**
+     * Finds the country using its ID.
+     * @param p_countryId The ID of the country.
+     * @return The country; null if there is no country with the ID.
+     */
+    public Country findCountryById(Integer p_countryId) {
+        return d_countryById.get(p_countryId);
+    }
+
+    /**
+     * Adds the continent and its countries to the indexes.
+     * @param p_continent The continent to be indexed.
+     */
+    private void indexContinent(Continent p_continent) {
+        d_continentByName.putIfAbsent(p_continent.getContinentName(), p_continent);
+        d_continentById.putIfAbsent(p_continent.getContinentId(), p_continent);
+        for (Country l_country : p_continent.getCountryList()) {
+            this.indexCountry(l_country);
+        }
+    }
+
+    /**
+     * Adds the country to the indexes.
+     * @param p_country The country to be indexed.
+     */
+    private void indexCountry(Country p_country) {
+        d_countryByName.putIfAbsent(p_country.getCountryName(), p_country);
+        d_countryById.putIfAbsent(p_country.getCountryId(), p_country);
+        if (d_listedCountries.add(p_country)) {
+            d_countryList.add(p_country);
+        }
+    }
+
+    /**
+     * Rebuilds the indexes and the list of countries from the list of continents. Used when an entity is removed, as
+     * another entity with the same name or ID may take its place.
+     */
+    private void rebuildIndexes() {
+        d_continentByName.clear();
+        d_continentById.clear();
+        d_countryByName.clear();
+        d_countryById.clear();
+        d_countryList.clear();
+        d_listedCountries.clear();
+        for (Continent l_continent : d_continentList) {
+            this.indexContinent(l_continent);
+        }
     }
 
     /**
@@ -173,6 +327,33 @@ public class MapEditorEngine implements Engine, JSONable {
         return l_mapEditorEngineJSON;
     }
 
+    /**
+     * Writes the MapEditorEngine to the stream, with the same content as <code>toJSON</code>.
+     *
+     * @param p_writer Writer of the JSON document.
+     * @throws IOException If the document can not be written.
+     */
+    @Override
+    public void writeJSON(JSONStreamWriter p_writer) throws IOException {
+        p_writer.beginObject();
+        p_writer.name("continents").beginArray();
+        for (Continent l_continent : getContinentList()) {
+            l_continent.writeJSON(p_writer);
+        }
+        p_writer.endArray();
+
+        p_writer.name("neighborCountryMappings").beginObject();
+        for (Country l_country : getCountryList()) {
+            p_writer.name(l_country.getCountryName()).beginArray();
+            for (Country l_neighbourCountry : l_country.getNeighbourCountries()) {
+                p_writer.value(l_neighbourCountry.getCountryName());
+            }
+            p_writer.endArray();
+        }
+        p_writer.endObject();
+        p_writer.endObject();
+    }
+
     /**
      * Constructs a MapEditorEngine object from a JSON object.
      * @param p_jsonObject The JSON object representing the MapEditorEngine.
@@ -219,6 +400,65 @@ public class MapEditorEngine implements Engine, JSONable {
 
     }
 
+    /**
+     * Constructs a MapEditorEngine object from the next object of the document, without reading the object into a
+     * JSON object. The neighbors are found by their names in the index of this engine.
+     * @param p_reader The reader positioned before the object of the MapEditorEngine.
+     * @param p_gameEngine The game engine associated with the MapEditorEngine.
+     * @return The constructed MapEditorEngine object.
+     * @throws InvalidGameException If the game is invalid.
+     * @throws IOException If the document can not be read.
+     */
+    public static MapEditorEngine readJSON(JSONStreamReader p_reader, GameEngine p_gameEngine)
+            throws InvalidGameException, IOException {
+        MapEditorEngine l_mapEditorEngine = new MapEditorEngine();
+        p_gameEngine.setMapEditorEngine(l_mapEditorEngine);
+
+        // The mappings may come before the continents, so the names are resolved at the end.
+        Map<String, List<String>> l_neighborCountryNames = new LinkedHashMap<>();
+        p_reader.beginObject();
+        while (p_reader.hasNext()) {
+            String l_name = p_reader.nextName();
+            if (l_name.equals("continents")) {
+                p_reader.beginArray();
+                while (p_reader.hasNext()) {
+                    l_mapEditorEngine.addContinent(Continent.readJSON(p_reader));
+                }
+                p_reader.endArray();
+            } else if (l_name.equals("neighborCountryMappings")) {
+                p_reader.beginObject();
+                while (p_reader.hasNext()) {
+                    List<String> l_names = new ArrayList<>();
+                    l_neighborCountryNames.put(p_reader.nextName(), l_names);
+                    p_reader.beginArray();
+                    while (p_reader.hasNext()) {
+                        l_names.add(p_reader.nextString());
+                    }
+                    p_reader.endArray();
+                }
+                p_reader.endObject();
+            } else {
+                p_reader.skipValue();
+            }
+        }
+        p_reader.endObject();
+
+        for (Map.Entry<String, List<String>> l_entry : l_neighborCountryNames.entrySet()) {
+            Country l_targetCountry = l_mapEditorEngine.findCountryByName(l_entry.getKey());
+            if (l_targetCountry == null) {
+                throw new InvalidGameException(String.format("Country with name %s not found!", l_entry.getKey()));
+            }
+            for (String l_neighborCountryName : l_entry.getValue()) {
+                Country l_targetNeighborCountry = l_mapEditorEngine.findCountryByName(l_neighborCountryName);
+                if (l_targetNeighborCountry == null) {
+                    throw new InvalidGameException(String.format("Neighbor country of %s with name %s not found!", l_entry.getKey(), l_neighborCountryName));
+                }
+                l_targetCountry.addNeighbourCountry(l_targetNeighborCountry);
+            }
+        }
+        return l_mapEditorEngine;
+    }
+
     /**
      * Retrieves the map details.
      * @return The map details.
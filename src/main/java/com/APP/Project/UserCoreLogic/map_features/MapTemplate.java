@@ -0,0 +1,377 @@
+package com.APP.Project.UserCoreLogic.map_features;
+
+import com.APP.Project.UserCoreLogic.game_entities.Continent;
+import com.APP.Project.UserCoreLogic.game_entities.Country;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable topology of a parsed map: its continents, countries and neighbours, without owners or armies. A template
+ * is taken from a loaded <code>MapEditorEngine</code> and copied into the engine of each game that plays the map,
+ * which is much cheaper than reading and parsing the map file again.
+ * <p>
+ * Countries are referred to by their position in the list of countries of the map.
+ * </p>
+ *
+ * @author Rikin Dipakkumar Chauhan
+ * @version 1.0
+ */
+public final class MapTemplate {
+    private final String[] d_continentNames;
+    private final int[] d_continentControlValues;
+    /**
+     * Positions of the countries of each continent.
+     */
+    private final int[][] d_continentCountries;
+
+    private final int[] d_countryIds;
+    private final String[] d_countryNames;
+    private final String[] d_xCoordinates;
+    private final String[] d_yCoordinates;
+    /**
+     * Position of the continent of each country; -1 if the country has none.
+     */
+    private final int[] d_countryContinents;
+    /**
+     * Position of the first continent listing each country; -1 if no continent lists it.
+     */
+    private final int[] d_listingContinents;
+    /**
+     * Positions of the neighbours of each country.
+     */
+    private final int[][] d_neighbours;
+
+    private final Map<String, String> d_mapDetails;
+
+    /**
+     * Takes the topology of the map of the engine.
+     *
+     * @param p_mapEditorEngine Engine holding the loaded map.
+     */
+    public MapTemplate(MapEditorEngine p_mapEditorEngine) {
+        List<Continent> l_continents = p_mapEditorEngine.getContinentList();
+        List<Country> l_countries = p_mapEditorEngine.getCountryList();
+        Map<Continent, Integer> l_continentPositions = new IdentityHashMap<>();
+        Map<Country, Integer> l_countryPositions = new IdentityHashMap<>();
+        for (Country l_country : l_countries) {
+            l_countryPositions.put(l_country, l_countryPositions.size());
+        }
+
+        d_continentNames = new String[l_continents.size()];
+        d_continentControlValues = new int[l_continents.size()];
+        d_continentCountries = new int[l_continents.size()][];
+        for (int l_continent = 0; l_continent < l_continents.size(); l_continent++) {
+            Continent l_continentObject = l_continents.get(l_continent);
+            l_continentPositions.put(l_continentObject, l_continent);
+            d_continentNames[l_continent] = l_continentObject.getContinentName();
+            d_continentControlValues[l_continent] = l_continentObject.getContinentControlValue();
+            d_continentCountries[l_continent] = positionsOf(l_continentObject.getCountryList(), l_countryPositions);
+        }
+
+        d_listingContinents = new int[l_countries.size()];
+        Arrays.fill(d_listingContinents, -1);
+        for (int l_continent = d_continentCountries.length - 1; l_continent >= 0; l_continent--) {
+            for (int l_country : d_continentCountries[l_continent]) {
+                d_listingContinents[l_country] = l_continent;
+            }
+        }
+
+        d_countryIds = new int[l_countries.size()];
+        d_countryNames = new String[l_countries.size()];
+        d_xCoordinates = new String[l_countries.size()];
+        d_yCoordinates = new String[l_countries.size()];
+        d_countryContinents = new int[l_countries.size()];
+        d_neighbours = new int[l_countries.size()][];
+        for (int l_country = 0; l_country < l_countries.size(); l_country++) {
+            Country l_countryObject = l_countries.get(l_country);
+            d_countryIds[l_country] = l_countryObject.getCountryId();
+            d_countryNames[l_country] = l_countryObject.getCountryName();
+            d_xCoordinates[l_country] = l_countryObject.getXCoordinate();
+            d_yCoordinates[l_country] = l_countryObject.getYCoordinate();
+            Integer l_continentPosition = l_continentPositions.get(l_countryObject.getContinent());
+            d_countryContinents[l_country] = l_continentPosition == null ? -1 : l_continentPosition;
+            d_neighbours[l_country] = positionsOf(l_countryObject.getNeighbourCountries(), l_countryPositions);
+        }
+
+        d_mapDetails = p_mapEditorEngine.getMapDetails() == null ? null : new HashMap<>(p_mapEditorEngine.getMapDetails());
+    }
+
+    /**
+     * Reads the topology written by <code>writeTo</code>.
+     *
+     * @param p_inputStream Stream positioned after the header of the compiled map.
+     * @throws IOException If the topology can not be read or refers to an absent continent or country.
+     */
+    MapTemplate(DataInputStream p_inputStream) throws IOException {
+        int l_continentCount = readCount(p_inputStream);
+        d_continentNames = new String[l_continentCount];
+        d_continentControlValues = new int[l_continentCount];
+        for (int l_continent = 0; l_continent < l_continentCount; l_continent++) {
+            d_continentNames[l_continent] = p_inputStream.readUTF();
+            d_continentControlValues[l_continent] = p_inputStream.readInt();
+        }
+
+        int l_countryCount = readCount(p_inputStream);
+        d_countryIds = new int[l_countryCount];
+        d_countryNames = new String[l_countryCount];
+        d_xCoordinates = new String[l_countryCount];
+        d_yCoordinates = new String[l_countryCount];
+        d_countryContinents = new int[l_countryCount];
+        d_listingContinents = new int[l_countryCount];
+        for (int l_country = 0; l_country < l_countryCount; l_country++) {
+            d_countryIds[l_country] = p_inputStream.readInt();
+            d_countryNames[l_country] = p_inputStream.readUTF();
+            d_xCoordinates[l_country] = readNullableString(p_inputStream);
+            d_yCoordinates[l_country] = readNullableString(p_inputStream);
+            d_countryContinents[l_country] = readPosition(p_inputStream, l_continentCount, true);
+            d_listingContinents[l_country] = readPosition(p_inputStream, l_continentCount, true);
+        }
+        d_continentCountries = readAdjacency(p_inputStream, l_continentCount, l_countryCount);
+        d_neighbours = readAdjacency(p_inputStream, l_countryCount, l_countryCount);
+
+        int l_detailCount = p_inputStream.readInt();
+        if (l_detailCount < 0) {
+            d_mapDetails = null;
+        } else {
+            d_mapDetails = new HashMap<>();
+            for (int l_detail = 0; l_detail < l_detailCount; l_detail++) {
+                d_mapDetails.put(p_inputStream.readUTF(), readNullableString(p_inputStream));
+            }
+        }
+    }
+
+    /**
+     * Writes the topology: the continents with their control values, the countries, then the countries of each
+     * continent and the neighbours of each country as compressed sparse rows, and the details of the map.
+     *
+     * @param p_outputStream Stream receiving the topology.
+     * @throws IOException If the topology can not be written.
+     */
+    void writeTo(DataOutputStream p_outputStream) throws IOException {
+        p_outputStream.writeInt(d_continentNames.length);
+        for (int l_continent = 0; l_continent < d_continentNames.length; l_continent++) {
+            p_outputStream.writeUTF(d_continentNames[l_continent]);
+            p_outputStream.writeInt(d_continentControlValues[l_continent]);
+        }
+
+        p_outputStream.writeInt(d_countryIds.length);
+        for (int l_country = 0; l_country < d_countryIds.length; l_country++) {
+            p_outputStream.writeInt(d_countryIds[l_country]);
+            p_outputStream.writeUTF(d_countryNames[l_country]);
+            writeNullableString(p_outputStream, d_xCoordinates[l_country]);
+            writeNullableString(p_outputStream, d_yCoordinates[l_country]);
+            p_outputStream.writeInt(d_countryContinents[l_country]);
+            p_outputStream.writeInt(d_listingContinents[l_country]);
+        }
+        writeAdjacency(p_outputStream, d_continentCountries);
+        writeAdjacency(p_outputStream, d_neighbours);
+
+        if (d_mapDetails == null) {
+            p_outputStream.writeInt(-1);
+        } else {
+            p_outputStream.writeInt(d_mapDetails.size());
+            for (Map.Entry<String, String> l_detail : d_mapDetails.entrySet()) {
+                p_outputStream.writeUTF(l_detail.getKey());
+                writeNullableString(p_outputStream, l_detail.getValue());
+            }
+        }
+    }
+
+    /**
+     * Replaces the map of the engine with new continents and countries of this topology. The countries have no owner
+     * and no armies, as if the map was loaded from its file.
+     *
+     * @param p_mapEditorEngine Engine receiving the map.
+     */
+    public void createMap(MapEditorEngine p_mapEditorEngine) {
+        p_mapEditorEngine.initialise();
+        p_mapEditorEngine.setLoadingMap(true);
+
+        // The continents get the same ids as when the map was parsed, as the serial number was reset.
+        Continent[] l_continents = new Continent[d_continentNames.length];
+        for (int l_continent = 0; l_continent < l_continents.length; l_continent++) {
+            Continent l_continentObject = new Continent();
+            l_continentObject.setContinentName(d_continentNames[l_continent]);
+            l_continentObject.setContinentControlValue(d_continentControlValues[l_continent]);
+            p_mapEditorEngine.addContinent(l_continentObject);
+            l_continents[l_continent] = l_continentObject;
+        }
+
+        Country[] l_countries = new Country[d_countryIds.length];
+        for (int l_country = 0; l_country < l_countries.length; l_country++) {
+            Country l_countryObject = new Country(d_countryIds[l_country]);
+            l_countryObject.setCountryName(d_countryNames[l_country]);
+            l_countryObject.setXCoordinate(d_xCoordinates[l_country]);
+            l_countryObject.setYCoordinate(d_yCoordinates[l_country]);
+            if (d_countryContinents[l_country] >= 0) {
+                l_countryObject.setContinent(l_continents[d_countryContinents[l_country]]);
+            }
+            l_countries[l_country] = l_countryObject;
+        }
+        // The countries are added in the order of the parsed map, as the games draw from the list of countries.
+        for (int l_country = 0; l_country < l_countries.length; l_country++) {
+            if (d_listingContinents[l_country] >= 0) {
+                p_mapEditorEngine.addCountry(l_continents[d_listingContinents[l_country]], l_countries[l_country]);
+            }
+        }
+        for (int l_continent = 0; l_continent < l_continents.length; l_continent++) {
+            for (int l_country : d_continentCountries[l_continent]) {
+                if (d_listingContinents[l_country] != l_continent) {
+                    p_mapEditorEngine.addCountry(l_continents[l_continent], l_countries[l_country]);
+                }
+            }
+        }
+        for (int l_country = 0; l_country < l_countries.length; l_country++) {
+            for (int l_neighbour : d_neighbours[l_country]) {
+                l_countries[l_country].addNeighbourCountry(l_countries[l_neighbour]);
+            }
+        }
+
+        if (d_mapDetails != null) {
+            p_mapEditorEngine.setMapDetails(new HashMap<>(d_mapDetails));
+        }
+    }
+
+    /**
+     * Gets the number of countries of the map.
+     *
+     * @return Number of the countries.
+     */
+    public int getCountryCount() {
+        return d_countryIds.length;
+    }
+
+    /**
+     * Writes the rows as their offsets, <code>p_rows.length + 1</code> of them, followed by all the positions.
+     *
+     * @param p_outputStream Stream receiving the rows.
+     * @param p_rows         Positions of each row.
+     * @throws IOException If the rows can not be written.
+     */
+    private static void writeAdjacency(DataOutputStream p_outputStream, int[][] p_rows) throws IOException {
+        int l_offset = 0;
+        p_outputStream.writeInt(l_offset);
+        for (int[] l_row : p_rows) {
+            l_offset += l_row.length;
+            p_outputStream.writeInt(l_offset);
+        }
+        for (int[] l_row : p_rows) {
+            for (int l_position : l_row) {
+                p_outputStream.writeInt(l_position);
+            }
+        }
+    }
+
+    /**
+     * Reads the rows written by <code>writeAdjacency</code>.
+     *
+     * @param p_inputStream   Stream holding the rows.
+     * @param p_rowCount      Number of the rows.
+     * @param p_positionBound Number of the positions a row may refer to.
+     * @return Value of the rows.
+     * @throws IOException If the rows can not be read or are not valid.
+     */
+    private static int[][] readAdjacency(DataInputStream p_inputStream, int p_rowCount, int p_positionBound) throws IOException {
+        int[] l_offsets = new int[p_rowCount + 1];
+        for (int l_row = 0; l_row <= p_rowCount; l_row++) {
+            l_offsets[l_row] = p_inputStream.readInt();
+            if (l_offsets[l_row] < (l_row == 0 ? 0 : l_offsets[l_row - 1])) {
+                throw new IOException("Corrupted compiled map!");
+            }
+        }
+        if (l_offsets[0] != 0) {
+            throw new IOException("Corrupted compiled map!");
+        }
+        int[][] l_rows = new int[p_rowCount][];
+        for (int l_row = 0; l_row < p_rowCount; l_row++) {
+            l_rows[l_row] = new int[l_offsets[l_row + 1] - l_offsets[l_row]];
+            for (int l_index = 0; l_index < l_rows[l_row].length; l_index++) {
+                l_rows[l_row][l_index] = readPosition(p_inputStream, p_positionBound, false);
+            }
+        }
+        return l_rows;
+    }
+
+    /**
+     * Reads a number of entries.
+     *
+     * @param p_inputStream Stream holding the number.
+     * @return Value of the number.
+     * @throws IOException If the number can not be read or is negative.
+     */
+    private static int readCount(DataInputStream p_inputStream) throws IOException {
+        int l_count = p_inputStream.readInt();
+        if (l_count < 0) {
+            throw new IOException("Corrupted compiled map!");
+        }
+        return l_count;
+    }
+
+    /**
+     * Reads the position of a continent or country.
+     *
+     * @param p_inputStream Stream holding the position.
+     * @param p_bound       Number of the continents or countries.
+     * @param p_isOptional  True if -1 is accepted for no continent.
+     * @return Value of the position.
+     * @throws IOException If the position can not be read or is out of range.
+     */
+    private static int readPosition(DataInputStream p_inputStream, int p_bound, boolean p_isOptional) throws IOException {
+        int l_position = p_inputStream.readInt();
+        if (l_position >= p_bound || l_position < (p_isOptional ? -1 : 0)) {
+            throw new IOException("Corrupted compiled map!");
+        }
+        return l_position;
+    }
+
+    /**
+     * Writes the text preceded by a flag telling if it is present.
+     *
+     * @param p_outputStream Stream receiving the text.
+     * @param p_value        Text to write; may be null.
+     * @throws IOException If the text can not be written.
+     */
+    private static void writeNullableString(DataOutputStream p_outputStream, String p_value) throws IOException {
+        p_outputStream.writeBoolean(p_value != null);
+        if (p_value != null) {
+            p_outputStream.writeUTF(p_value);
+        }
+    }
+
+    /**
+     * Reads the text written by <code>writeNullableString</code>.
+     *
+     * @param p_inputStream Stream holding the text.
+     * @return Value of the text; null if it is absent.
+     * @throws IOException If the text can not be read.
+     */
+    private static String readNullableString(DataInputStream p_inputStream) throws IOException {
+        return p_inputStream.readBoolean() ? p_inputStream.readUTF() : null;
+    }
+
+    /**
+     * Gets the positions of the countries of the list; the countries which are not on the map are left out.
+     *
+     * @param p_countries         Countries to find.
+     * @param p_countryPositions  Positions of the countries of the map.
+     * @return Value of the positions.
+     */
+    private static int[] positionsOf(List<Country> p_countries, Map<Country, Integer> p_countryPositions) {
+        int[] l_positions = new int[p_countries.size()];
+        int l_count = 0;
+        for (Country l_country : p_countries) {
+            Integer l_position = p_countryPositions.get(l_country);
+            if (l_position != null) {
+                l_positions[l_count++] = l_position;
+            }
+        }
+        return l_count == l_positions.length ? l_positions : Arrays.copyOf(l_positions, l_count);
+    }
+}
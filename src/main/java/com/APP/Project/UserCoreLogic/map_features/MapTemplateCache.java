@@ -0,0 +1,111 @@
+package com.APP.Project.UserCoreLogic.map_features;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps the templates of the maps parsed recently, so that the games of a tournament playing the same map do not parse
+ * its file again. A template is found by the canonical path of its file, its modification time and its length; a
+ * file changed since it was parsed is parsed again. When the cache is full, the template used least recently is
+ * evicted.
+ *
+ * @author Rikin Dipakkumar Chauhan
+ * @version 1.0
+ */
+public class MapTemplateCache {
+    /**
+     * Number of the templates kept by the cache of the application.
+     */
+    public static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * Singleton instance of the class.
+     */
+    private static MapTemplateCache d_Instance;
+
+    private final Map<String, MapTemplate> d_templates;
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param p_capacity Maximum number of the templates kept.
+     */
+    public MapTemplateCache(int p_capacity) {
+        int l_capacity = Math.max(1, p_capacity);
+        // Ordered by access, so that the eldest entry is the template used least recently.
+        d_templates = new LinkedHashMap<String, MapTemplate>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, MapTemplate> p_eldest) {
+                return size() > l_capacity;
+            }
+        };
+    }
+
+    /**
+     * Gets the cache of the application.
+     *
+     * @return Value of the instance.
+     */
+    public static synchronized MapTemplateCache getInstance() {
+        if (d_Instance == null) {
+            d_Instance = new MapTemplateCache(DEFAULT_CAPACITY);
+        }
+        return d_Instance;
+    }
+
+    /**
+     * Gets the template of the map file, if the file has not changed since it was parsed.
+     *
+     * @param p_mapFile The map file.
+     * @return Value of the template; null if the file has to be parsed.
+     */
+    public synchronized MapTemplate get(File p_mapFile) {
+        String l_key = getKey(p_mapFile);
+        return l_key == null ? null : d_templates.get(l_key);
+    }
+
+    /**
+     * Keeps the template of the map file.
+     *
+     * @param p_mapFile  The map file.
+     * @param p_template Template of the parsed file.
+     */
+    public synchronized void put(File p_mapFile, MapTemplate p_template) {
+        String l_key = getKey(p_mapFile);
+        if (l_key != null) {
+            d_templates.put(l_key, p_template);
+        }
+    }
+
+    /**
+     * Gets the number of the templates kept.
+     *
+     * @return Number of the templates.
+     */
+    public synchronized int size() {
+        return d_templates.size();
+    }
+
+    /**
+     * Removes all the templates.
+     */
+    public synchronized void clear() {
+        d_templates.clear();
+    }
+
+    /**
+     * Gets the key of the current version of the file.
+     *
+     * @param p_mapFile The map file.
+     * @return Value of the key; null if the file can not be resolved.
+     */
+    private static String getKey(File p_mapFile) {
+        try {
+            return p_mapFile.getCanonicalPath() + "|" + p_mapFile.lastModified() + "|" + p_mapFile.length();
+        } catch (IOException p_ioException) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.APP.Project.UserCoreLogic.map_features.adapters;
+
+import com.APP.Project.UserCoreLogic.GameContext;
+import com.APP.Project.UserCoreLogic.GameEngine;
+import com.APP.Project.UserCoreLogic.Utility.FileValidationUtil;
+import com.APP.Project.UserCoreLogic.Utility.FindFilePathUtil;
+import com.APP.Project.UserCoreLogic.constants.enums.FileType;
+import com.APP.Project.UserCoreLogic.constants.interfaces.StandaloneCommand;
+import com.APP.Project.UserCoreLogic.exceptions.InvalidInputException;
+import com.APP.Project.UserCoreLogic.exceptions.InvalidMapException;
+import com.APP.Project.UserCoreLogic.exceptions.ResourceNotFoundException;
+import com.APP.Project.UserCoreLogic.exceptions.UserCoreLogicException;
+import com.APP.Project.UserCoreLogic.gamePlay.GamePlayEngine;
+import com.APP.Project.UserCoreLogic.game_entities.Continent;
+import com.APP.Project.UserCoreLogic.game_entities.Country;
+import com.APP.Project.UserCoreLogic.logger.LogEntryBuffer;
+import com.APP.Project.UserCoreLogic.map_features.CompiledMapFile;
+import com.APP.Project.UserCoreLogic.map_features.MapEditorEngine;
+import com.APP.Project.UserCoreLogic.map_features.MapTemplate;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Compiles a Domination or Conquest map file into a <code>.wzb</code> file next to it, which the map loaders read in
+ * place of the map file while it is newer. This service handles `compilemap` user command.
+ * <p>
+ * The map file is parsed in an engine of its own. The context bound to the thread and the serial numbers of
+ * <code>Continent</code> and <code>Country</code> are restored afterwards, so the map being edited or played is left
+ * unchanged and keeps giving new ids after its own.
+ * </p>
+ *
+ * @author Rikin Dipakkumar Chauhan
+ * @version 1.0
+ */
+public class CompileMapService implements StandaloneCommand {
+    private final LogEntryBuffer d_logEntryBuffer = LogEntryBuffer.getLogger();
+
+    /**
+     * Compiles the map file.
+     *
+     * @param p_filePath Path of the map file.
+     * @return Value of the compiled file.
+     * @throws UserCoreLogicException If the map file can not be read or parsed, or the compiled file can not be written.
+     */
+    public File compileMap(String p_filePath) throws UserCoreLogicException {
+        File l_mapFile = new File(p_filePath);
+        if (!l_mapFile.isFile()) {
+            throw new ResourceNotFoundException("File not found!");
+        }
+        FileValidationUtil.checksIfFileHasRequiredExtension(l_mapFile.getName(), FileType.MAP);
+        boolean l_isConquestMap = this.isConquestMap(l_mapFile);
+
+        // The serial numbers are shared with the map being edited, which gets its next ids from them afterwards.
+        synchronized (MapEditorEngine.getMapLoadingLock()) {
+            int l_continentSerialNumber = Continent.d_SerialNumber;
+            int l_countrySerialNumber = Country.d_SerialNumber;
+            GameContext l_previousContext = GameContext.current();
+            try {
+                GameEngine l_gameEngine = new GameEngine(new MapEditorEngine(), new GamePlayEngine());
+                new GameContext(l_gameEngine).bind();
+                // A compiled file left by an earlier run would be read back instead of the map file.
+                File l_compiledFile = CompiledMapFile.getCompiledFile(l_mapFile);
+                if (l_compiledFile.exists() && !l_compiledFile.delete()) {
+                    throw new ResourceNotFoundException("Compiled map can not be replaced!");
+                }
+                if (l_isConquestMap) {
+                    new EditConquestMapService().loadConquestMap(p_filePath, false);
+                } else {
+                    new EditMapService().handleLoadMap(p_filePath, false);
+                }
+                CompiledMapFile.write(new MapTemplate(l_gameEngine.getMapEditorEngine()), l_compiledFile);
+                return l_compiledFile;
+            } catch (IOException p_ioException) {
+                throw new ResourceNotFoundException("Error in compiled map creation!");
+            } finally {
+                GameContext.restore(l_previousContext);
+                Continent.d_SerialNumber = l_continentSerialNumber;
+                Country.d_SerialNumber = l_countrySerialNumber;
+            }
+        }
+    }
+
+    /**
+     * Checks the format of the map file by its first section header.
+     *
+     * @param p_mapFile The map file.
+     * @return True if the map is in the Conquest format; false for the Domination format.
+     * @throws InvalidMapException       If the map file does not start with a known section.
+     * @throws ResourceNotFoundException If the map file can not be read.
+     */
+    private boolean isConquestMap(File p_mapFile) throws InvalidMapException, ResourceNotFoundException {
+        try (BufferedReader l_reader = new BufferedReader(new FileReader(p_mapFile))) {
+            String l_currentLine;
+            // If the line is empty, go to next.
+            while ((l_currentLine = l_reader.readLine()) != null) {
+                if (!l_currentLine.trim().isEmpty()) {
+                    break;
+                }
+            }
+            if (l_currentLine == null || !l_currentLine.startsWith("[") || !l_currentLine.contains("]")) {
+                throw new InvalidMapException("Invalid map file!");
+            }
+            String l_section = l_currentLine.substring(l_currentLine.indexOf("[") + 1, l_currentLine.indexOf("]"));
+            if (l_section.equalsIgnoreCase("continents")) {
+                return false;
+            } else if (l_section.equalsIgnoreCase("Map")) {
+                return true;
+            }
+            throw new InvalidMapException("Unrecognised map file!");
+        } catch (IOException p_ioException) {
+            throw new ResourceNotFoundException("File not found!");
+        }
+    }
+
+    /**
+     * Executes the compilemap command.
+     *
+     * @param p_commandValues List of command values, expects the map file name.
+     * @return Success message with the name of the compiled file.
+     * @throws UserCoreLogicException If the map can not be compiled.
+     */
+    @Override
+    public String execute(List<String> p_commandValues) throws UserCoreLogicException {
+        if (p_commandValues.size() <= 0) {
+            throw new InvalidInputException("File name is empty!");
+        }
+        File l_compiledFile = this.compileMap(FindFilePathUtil.resolveFilePath(p_commandValues.get(0)));
+        d_logEntryBuffer.dataChanged("compilemap", "Map compiled to file: " + l_compiledFile.getName());
+        return "Map compiled to " + l_compiledFile.getName() + "!";
+    }
+}
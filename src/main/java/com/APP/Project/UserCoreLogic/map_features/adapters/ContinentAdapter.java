@@ -8,9 +8,6 @@ import com.APP.Project.UserCoreLogic.logger.LogEntryBuffer;
 import com.APP.Project.UserCoreLogic.map_features.MapEditorEngine;
 import com.APP.Project.UserCoreLogic.Container.ContinentContainer;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 /**
  * Adapter class for manipulating continents in the map editor.
  * @author Rikin Dipakkumar Chauhan
@@ -63,11 +60,7 @@ public class ContinentAdapter {
      */
     public String remove(String p_continentName) throws EntityNotFoundException {
         Continent l_continent = d_continentRepository.findFirstByContinentName(p_continentName);
-        
-        List<Continent> l_filteredContinentList = d_mapEditorEngine.getContinentList().stream()
-                .filter(p_continent -> !p_continent.equals(l_continent)
-                ).collect(Collectors.toList());
-        d_mapEditorEngine.setContinentList(l_filteredContinentList);
+        d_mapEditorEngine.removeContinent(l_continent);
         if (!d_mapEditorEngine.getLoadingMap()) {
             
             d_logEntryBuffer.dataChanged("editcontinent", l_continent.getContinentName() + " is removed to the list!");
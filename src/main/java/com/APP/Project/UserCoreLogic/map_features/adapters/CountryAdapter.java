@@ -56,7 +56,7 @@ public class CountryAdapter {
         l_country.setContinent(l_continent);
 
         
-        l_continent.addCountry(l_country);
+        d_mapEditorEngine.addCountry(l_continent, l_country);
         if (!d_mapEditorEngine.getLoadingMap()) {
             d_logEntryBuffer.dataChanged("editcountry", l_country.getCountryName() + " is added to the country list of" + l_continent.getContinentName());
         }
@@ -94,7 +94,7 @@ public class CountryAdapter {
             l_countryObject.setXCoordinate(p_xCoordinate);
             l_countryObject.setYCoordinate(p_yCoordinate);
             
-            l_continent.addCountry(l_countryObject);
+            d_mapEditorEngine.addCountry(l_continent, l_countryObject);
             if (!d_mapEditorEngine.getLoadingMap()) {
                 d_logEntryBuffer.dataChanged("editcountry", l_countryObject.getCountryName() + " is added to the country list of" + l_continent.getContinentName());
             }
@@ -109,7 +109,7 @@ public class CountryAdapter {
             l_country.setContinent(l_continent);
 
            
-            l_continent.addCountry(l_country);
+            d_mapEditorEngine.addCountry(l_continent, l_country);
             if (!d_mapEditorEngine.getLoadingMap()) {
                 d_logEntryBuffer.dataChanged("editcountry", l_country.getCountryName() + " is added to the country list of" + l_continent.getContinentName());
             }
@@ -136,7 +136,7 @@ public class CountryAdapter {
         l_country.setContinent(l_continent);
 
         
-        l_continent.addCountry(l_country);
+        d_mapEditorEngine.addCountry(l_continent, l_country);
 
         return String.format("%s country added!", p_countryName);
     }
@@ -150,7 +150,7 @@ public class CountryAdapter {
      */
     public String remove(String p_countryName) throws EntityNotFoundException {
         Country l_country = d_countryRepository.findFirstByCountryName(p_countryName);
-        l_country.getContinent().removeCountry(l_country);
+        d_mapEditorEngine.removeCountry(l_country);
 
         List<Country> l_neighborOfCountryList = d_countryRepository.findByNeighbourOfCountries(l_country);
         for (Country l_neighborOfCountry : l_neighborOfCountryList) {
@@ -0,0 +1,61 @@
+package com.APP.Project.UserCoreLogic.map_features.adapters;
+
+import com.APP.Project.UserCoreLogic.game_entities.Country;
+import com.APP.Project.UserCoreLogic.map_features.MapEditorEngine;
+
+import java.util.Arrays;
+
+/**
+ * Finds the countries read from a map file by their ids while the borders of the file are parsed. The countries are
+ * kept in an array indexed by their ids, as the ids of a .map file are dense and start at 1; countries with very large ids are found in the index of the map instead.
+ *
+ * @author Rikin Dipakkumar Chauhan
+ * @version 1.0
+ */
+class CountryIdIndex {
+    /**
+     * Countries with larger ids are found in the index of the map instead of the array built while parsing.
+     */
+    private static final int d_MAX_INDEXED_COUNTRY_ID = 1 << 22;
+
+    private final MapEditorEngine d_mapEditorEngine;
+    private Country[] d_countryById = new Country[64];
+
+    /**
+     * Constructs an empty index.
+     *
+     * @param p_mapEditorEngine Map receiving the countries read.
+     */
+    CountryIdIndex(MapEditorEngine p_mapEditorEngine) {
+        d_mapEditorEngine = p_mapEditorEngine;
+    }
+
+    /**
+     * Adds the country read from the map file.
+     *
+     * @param p_country Value of the country.
+     */
+    void add(Country p_country) {
+        int l_countryId = p_country.getCountryId();
+        if (l_countryId >= 0 && l_countryId < d_MAX_INDEXED_COUNTRY_ID) {
+            if (l_countryId >= d_countryById.length) {
+                d_countryById = Arrays.copyOf(d_countryById, Math.max(l_countryId + 1, d_countryById.length * 2));
+            }
+            d_countryById[l_countryId] = p_country;
+        }
+    }
+
+    /**
+     * Finds the country read with the id.
+     *
+     * @param p_countryId Id of the country.
+     * @return Value of the country; null if there is no country with the id.
+     */
+    Country find(int p_countryId) {
+        if (p_countryId >= 0 && p_countryId < d_countryById.length) {
+            return d_countryById[p_countryId];
+        }
+        // Ids too large for the array are found in the index of the map.
+        return p_countryId >= d_MAX_INDEXED_COUNTRY_ID ? d_mapEditorEngine.findCountryById(p_countryId) : null;
+    }
+}
@@ -8,9 +8,9 @@ import com.APP.Project.UserCoreLogic.game_entities.Country;
 import com.APP.Project.UserCoreLogic.game_entities.Continent;
 import com.APP.Project.UserCoreLogic.exceptions.*;
 import com.APP.Project.UserCoreLogic.logger.LogEntryBuffer;
+import com.APP.Project.UserCoreLogic.map_features.CompiledMapFile;
 import com.APP.Project.UserCoreLogic.map_features.MapEditorEngine;
 import com.APP.Project.UserCoreLogic.Container.ContinentContainer;
-import com.APP.Project.UserCoreLogic.Container.CountryContainer;
 import com.APP.Project.UserCoreLogic.Utility.FileValidationUtil;
 import com.APP.Project.UserCoreLogic.Utility.FindFilePathUtil;
 
@@ -22,6 +22,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -32,13 +33,16 @@ import java.util.stream.Collectors;
  */
 public class EditConquestMapService implements StandaloneCommand {
 
+    /**
+     * Size of the buffer of the map file, in characters.
+     */
+    private static final int d_BUFFER_SIZE = 64 * 1024;
+
     private final HashMap<String, String> d_MapDetails;
     
     private final MapEditorEngine d_mapEditorEngine;
-    private final CountryContainer d_countryRepository;
     private final ContinentContainer d_continentRepository;
     private final ContinentAdapter d_continentService;
-    private final CountryAdapter d_countryService;
     private final LogEntryBuffer d_logEntryBuffer;
 
     /**
@@ -47,9 +51,7 @@ public class EditConquestMapService implements StandaloneCommand {
     public EditConquestMapService() {
         d_MapDetails = new HashMap<>();
         d_mapEditorEngine = UserCoreLogic.getGameEngine().getMapEditorEngine();
-        d_countryRepository = new CountryContainer();
         d_continentService = new ContinentAdapter();
-        d_countryService = new CountryAdapter();
         d_logEntryBuffer = LogEntryBuffer.getLogger();
         d_continentRepository = new ContinentContainer();
     }
@@ -76,30 +78,17 @@ public class EditConquestMapService implements StandaloneCommand {
         d_mapEditorEngine.initialise();
         d_mapEditorEngine.setLoadingMap(true);
         if (new File(p_filePath).exists()) {
+            FileValidationUtil.retrieveMapFile(p_filePath);
+            if (CompiledMapFile.loadIfUpToDate(new File(p_filePath), d_mapEditorEngine)) {
+                return "File(Conquest map) successfully loaded";
+            }
             try {
-                
-                FileValidationUtil.retrieveMapFile(p_filePath);
-                
-                BufferedReader l_reader = new BufferedReader(new FileReader(p_filePath));
-
-                
-                String l_currentLine;
-                while ((l_currentLine = l_reader.readLine()) != null) {
-                    if (l_currentLine.startsWith("[")) {
-                        
-                        if (this.doLineHasModelData(l_currentLine, MapModelTypes.MAP)) {
-                            readMapDetails(l_reader);
-                        }
-                        
-                        else if (this.doLineHasModelData(l_currentLine, MapModelTypes.CONTINENT)) {
-                            readContinents(l_reader);
-                        }
-                        
-                        else if (this.doLineHasModelData(l_currentLine, MapModelTypes.TERRITORY)) {
-
-                            readTerritories(l_reader);
-                        }
-                    }
+                if (MappedMapLoader.isLargeMap(new File(p_filePath))) {
+                    new MappedMapLoader(d_mapEditorEngine).loadConquestMap(p_filePath);
+                    return "File(Conquest map) successfully loaded";
+                }
+                try (BufferedReader l_reader = new BufferedReader(new FileReader(p_filePath), d_BUFFER_SIZE)) {
+                    this.readMap(l_reader);
                 }
                 return "File(Conquest map) successfully loaded";
             } catch (IOException e) {
@@ -117,100 +106,104 @@ public class EditConquestMapService implements StandaloneCommand {
     }
 
     /**
-     * Reads the map details from the given reader.
+     * Reads the map in a single pass over its lines. The section of each line is given by the last section header read
+     * before it. The countries are created in the order of their territory lines; their neighbours are linked once
+     * all the territories are read, so a territory can be the neighbour of a territory defined after it.
      *
-     * @param p_reader         Reader for reading the map details.
-     * @throws InvalidMapException  If the map is invalid.
+     * @param p_reader         Reader of the map file.
+     * @throws IOException             If the file can not be read.
+     * @throws InvalidInputException   If the control value of a continent is invalid.
+     * @throws AbsentTagException      If a value of a continent or territory is missing.
+     * @throws EntityNotFoundException If a territory refers to an unknown continent.
      */
-    private void readMapDetails(BufferedReader p_reader) throws InvalidMapException {
+    private void readMap(BufferedReader p_reader)
+            throws IOException, InvalidInputException, AbsentTagException, EntityNotFoundException {
+        MapModelTypes l_section = null;
+        // Territories by their names, and the values of their lines in the order of the lines.
+        Map<String, Country> l_countryByName = new HashMap<>();
+        List<String[]> l_territories = new ArrayList<>();
         String l_currentLine;
-        try {
-            while ((l_currentLine = p_reader.readLine()) != null && !l_currentLine.startsWith("[")) {
-                if (!l_currentLine.isEmpty()) {
-                    String[] maps_entry = l_currentLine.split("=");
-                    d_MapDetails.put(maps_entry[0], maps_entry[1]);
-                    p_reader.mark(0);
+        while ((l_currentLine = p_reader.readLine()) != null) {
+            if (l_currentLine.startsWith("[")) {
+                l_section = this.getSection(l_currentLine);
+                if (l_section == MapModelTypes.MAP) {
+                    d_mapEditorEngine.setMapDetails(d_MapDetails);
                 }
+                continue;
             }
-            p_reader.reset();
-            d_mapEditorEngine.setMapDetails(d_MapDetails);
-        } catch (IOException e) {
-            throw new InvalidMapException("Invalid map file");
-        }
-    }
-
-    /**
-     * Reads the continents from the given reader.
-     *
-     * @param p_reader         Reader for reading the continents.
-     * @throws InvalidInputException  If the input is invalid.
-     * @throws InvalidMapException   If the map is invalid.
-     * @throws AbsentTagException    If required tags are absent.
-     */
-    private void readContinents(BufferedReader p_reader) throws InvalidInputException, InvalidMapException, AbsentTagException {
-        String l_currentLine;
-        try {
-            while ((l_currentLine = p_reader.readLine()) != null && !l_currentLine.startsWith("[")) {
-                if (l_currentLine.trim().isEmpty()) {
-                    
-                    continue;
+            if (l_section == null || l_currentLine.trim().isEmpty()) {
+                continue;
+            }
+            if (l_section == MapModelTypes.MAP) {
+                String[] l_mapEntry = l_currentLine.split("=");
+                if (l_mapEntry.length >= 2) {
+                    d_MapDetails.put(l_mapEntry[0], l_mapEntry[1]);
                 }
+            } else if (l_section == MapModelTypes.CONTINENT) {
                 List<String> l_continentComponentList = this.getModelComponents(l_currentLine);
                 if (l_continentComponentList.size() >= 2) {
                     d_continentService.add(l_continentComponentList.get(0), l_continentComponentList.get(1));
                 } else {
                     throw new AbsentTagException("Missing continent value!");
                 }
-                p_reader.mark(0);
+            } else {
+                String[] l_terrProperties = l_currentLine.split(",");
+                if (l_terrProperties.length < 4) {
+                    throw new AbsentTagException("Missing territory value!");
+                }
+                if (!l_countryByName.containsKey(l_terrProperties[0])) {
+                    l_countryByName.put(l_terrProperties[0], this.addTerritory(l_terrProperties));
+                }
+                l_territories.add(l_terrProperties);
+            }
+        }
+
+        for (String[] l_terrProperties : l_territories) {
+            Country l_country = l_countryByName.get(l_terrProperties[0]);
+            for (int i = 4; i < l_terrProperties.length; i++) {
+                // A neighbour which is not a territory of the map is ignored.
+                Country l_neighbour = l_countryByName.get(l_terrProperties[i]);
+                if (l_neighbour != null) {
+                    l_country.addNeighbourCountry(l_neighbour);
+                }
             }
-            p_reader.reset();
-        } catch (IOException e) {
-            throw new InvalidMapException("Error while processing!");
         }
     }
 
     /**
-     * Reads the territories from the given reader.
+     * Adds the country of a territory line to its continent. The countries are numbered in the order of their lines.
      *
-     * @param p_reader         Reader for reading the territories.
-     * @throws InvalidMapException    If the map is invalid.
-     * @throws EntityNotFoundException  If an entity is not found.
+     * @param p_terrProperties Values of the territory line: name, coordinates, continent and neighbours.
+     * @return Value of the added country.
+     * @throws EntityNotFoundException If the continent is not found.
      */
-    public void readTerritories(BufferedReader p_reader) throws InvalidMapException, EntityNotFoundException {
-        String l_territories;
-        try {
-            while ((l_territories = p_reader.readLine()) != null && !l_territories.startsWith("[")) {
-                if (!l_territories.isEmpty()) {
-                    String l_countryName, l_continentName;
-                    String l_xCoordinate;
-                    String l_yCoordinate;
-                    List<Country> l_neighbourNodes = new ArrayList<>();
-                    String[] l_terrProperties = l_territories.split(",");
-                    l_countryName = l_terrProperties[0];
-                    l_xCoordinate = l_terrProperties[1];
-                    l_yCoordinate = l_terrProperties[2];
-                    l_continentName = l_terrProperties[3];
-                    Continent l_continent = d_continentRepository.findFirstByContinentName(l_continentName);
+    private Country addTerritory(String[] p_terrProperties) throws EntityNotFoundException {
+        Continent l_continent = d_continentRepository.findFirstByContinentName(p_terrProperties[3]);
+        Country l_country = new Country(d_mapEditorEngine.getCountryList().size() + 1);
+        l_country.setCountryName(p_terrProperties[0]);
+        l_country.setXCoordinate(p_terrProperties[1]);
+        l_country.setYCoordinate(p_terrProperties[2]);
+        l_country.setContinent(l_continent);
+        d_mapEditorEngine.addCountry(l_continent, l_country);
+        return l_country;
+    }
 
-                    for (int i = 4; i <= l_terrProperties.length - 1; i++) {
-                        String l_neighbourCountryName = l_terrProperties[i];
-                        Country l_neighbour;
-                        try {
-                            l_neighbour = d_countryRepository.findFirstByCountryName(l_neighbourCountryName);
-                            l_neighbour.setContinent(l_continent);
-                            l_neighbourNodes.add(l_neighbour);
-                        } catch (EntityNotFoundException e) {
-                            l_neighbour = new Country(l_neighbourCountryName);
-                            l_neighbour.setContinent(l_continent);
-                            l_neighbourNodes.add(l_neighbour);
-                        }
-                    }
-                    d_countryService.add(l_countryName, l_continentName, l_neighbourNodes, l_xCoordinate, l_yCoordinate);
-                }
+    /**
+     * Gets the section starting at the header line.
+     *
+     * @param p_currentLine The header line.
+     * @return Type of the section; null if the section is not read.
+     */
+    private MapModelTypes getSection(String p_currentLine) {
+        if (p_currentLine.indexOf("]") < 0) {
+            return null;
+        }
+        for (MapModelTypes l_mapModelType : new MapModelTypes[]{MapModelTypes.MAP, MapModelTypes.CONTINENT, MapModelTypes.TERRITORY}) {
+            if (this.doLineHasModelData(p_currentLine, l_mapModelType)) {
+                return l_mapModelType;
             }
-        } catch (IOException e) {
-            throw new InvalidMapException("Error while processing!");
         }
+        return null;
     }
 
     /**
@@ -2,6 +2,7 @@ package com.APP.Project.UserCoreLogic.map_features.adapters;
 
 import com.APP.Project.UserCoreLogic.constants.enums.FileType;
 import com.APP.Project.UserCoreLogic.exceptions.*;
+import com.APP.Project.UserCoreLogic.map_features.CompiledMapFile;
 import com.APP.Project.UserCoreLogic.map_features.MapEditorEngine;
 import com.APP.Project.UserCoreLogic.Container.ContinentContainer;
 import com.APP.Project.UserCoreLogic.Container.CountryContainer;
@@ -18,9 +19,7 @@ import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * This file loads map file in the user console. This file acts as a Target class in adapter pattern. This service handles `editmap` user command.
@@ -30,6 +29,11 @@ import java.util.stream.Collectors;
  */
 public class EditMapService implements StandaloneCommand {
     
+    /**
+     * Size of the buffer of the map file, in characters.
+     */
+    private static final int d_BUFFER_SIZE = 64 * 1024;
+
     private final MapEditorEngine d_mapEditorEngine;
 
     private final ContinentContainer d_continentRepository;
@@ -74,28 +78,20 @@ public class EditMapService implements StandaloneCommand {
         d_mapEditorEngine.initialise();
         d_mapEditorEngine.setLoadingMap(true);
         if (new File(p_filePath).exists()) {
-            try {
-                
-                FileValidationUtil.retrieveMapFile(p_filePath);
-                
-                BufferedReader l_reader = new BufferedReader(new FileReader(p_filePath));
-
-                
-                String l_currentLine;
-                while ((l_currentLine = l_reader.readLine()) != null) {
-                    if (l_currentLine.startsWith("[")) {
-                        
-                        if (this.doLineHasModelData(l_currentLine, MapModelTypes.CONTINENT)) {
-                            readContinents(l_reader);
-                        } else if (this.doLineHasModelData(l_currentLine, MapModelTypes.COUNTRY)) {
-                            
-                            readCountries(l_reader);
-                        } else if (this.doLineHasModelData(l_currentLine, MapModelTypes.BORDER)) {
-                            
-                            readNeighbours(l_reader);
-                        }
-                    }
+            FileValidationUtil.retrieveMapFile(p_filePath);
+            if (CompiledMapFile.loadIfUpToDate(new File(p_filePath), d_mapEditorEngine)) {
+                return "File loaded successfully!";
+            }
+            if (MappedMapLoader.isLargeMap(new File(p_filePath))) {
+                try {
+                    new MappedMapLoader(d_mapEditorEngine).loadDominationMap(p_filePath);
+                    return "File loaded successfully!";
+                } catch (IOException p_ioException) {
+                    throw new ResourceNotFoundException("File not found!");
                 }
+            }
+            try (BufferedReader l_reader = new BufferedReader(new FileReader(p_filePath), d_BUFFER_SIZE)) {
+                this.readMap(l_reader);
                 return "File loaded successfully!";
             } catch (IOException p_ioException) {
                 throw new ResourceNotFoundException("File not found!");
@@ -127,100 +123,81 @@ public class EditMapService implements StandaloneCommand {
     }
 
     /**
-     * Reads continents from the input reader.
+     * Reads the map in a single pass over its lines. The section of each line is given by the last section header read
+     * before it; the lines before the first known section and the lines of the other sections are skipped.
      *
-     * @param p_reader       The input reader.
-     * @throws InvalidInputException  If the input is invalid.
-     * @throws InvalidMapException    If the map is invalid.
-     * @throws AbsentTagException     If a required tag is absent.
+     * @param p_reader The input reader.
+     * @throws IOException             If the file can not be read.
+     * @throws InvalidInputException   If the control value of a continent is invalid.
+     * @throws AbsentTagException      If a value of a continent, country or border is missing.
+     * @throws EntityNotFoundException If a country refers to an unknown continent.
+     * @throws InvalidMapException     If an id is not a number.
      */
-    private void readContinents(BufferedReader p_reader) throws InvalidInputException, InvalidMapException, AbsentTagException {
+    private void readMap(BufferedReader p_reader)
+            throws IOException, InvalidInputException, AbsentTagException, EntityNotFoundException, InvalidMapException {
+        MapModelTypes l_section = null;
+        List<String> l_components = new ArrayList<>();
+        // Countries by their ids, for the borders.
+        CountryIdIndex l_countryIndex = new CountryIdIndex(d_mapEditorEngine);
         String l_currentLine;
-        try {
-            while ((l_currentLine = p_reader.readLine()) != null && !l_currentLine.startsWith("[")) {
-                if (l_currentLine.trim().isEmpty()) {
-                    
-                    continue;
-                }
-                List<String> l_continentComponentList = this.getModelComponents(l_currentLine);
-                if (l_continentComponentList.size() >= 2) {
-                    d_continentService.add(l_continentComponentList.get(0), l_continentComponentList.get(1));
-                } else {
-                    throw new AbsentTagException("Missing continent value!");
-                }
-                p_reader.mark(0);
+        while ((l_currentLine = p_reader.readLine()) != null) {
+            if (l_currentLine.startsWith("[")) {
+                l_section = this.getSection(l_currentLine);
+                continue;
             }
-            p_reader.reset();
-        } catch (IOException p_ioException) {
-            throw new InvalidMapException("Error while processing!");
-        }
-    }
-
-    /**
-     * Reads countries from the input reader.
-     *
-     * @param p_reader       The input reader.
-     * @throws EntityNotFoundException    If the entity is not found.
-     * @throws InvalidMapException        If the map is invalid.
-     * @throws AbsentTagException         If a required tag is absent.
-     */
-    private void readCountries(BufferedReader p_reader) throws EntityNotFoundException, InvalidMapException, AbsentTagException {
-        String l_currentLine;
-        try {
-            while ((l_currentLine = p_reader.readLine()) != null && !l_currentLine.startsWith("[")) {
-                if (l_currentLine.trim().isEmpty()) {
-                    
-                    continue;
-                }
-                List<String> l_countryComponentList = this.getModelComponents(l_currentLine);
-                if (l_countryComponentList.size() >= 3) {
-                    d_countryService.add(Integer.parseInt(l_countryComponentList.get(0)), l_countryComponentList.get(1), Integer.parseInt(l_countryComponentList.get(2)));
+            if (l_section == null || l_currentLine.trim().isEmpty()) {
+                continue;
+            }
+            boolean l_isComplete = tokenise(l_currentLine, l_components);
+            try {
+                if (l_section == MapModelTypes.CONTINENT) {
+                    if (!l_isComplete || l_components.size() < 2) {
+                        throw new AbsentTagException("Missing continent value!");
+                    }
+                    d_continentService.add(l_components.get(0), l_components.get(1));
+                } else if (l_section == MapModelTypes.COUNTRY) {
+                    if (!l_isComplete || l_components.size() < 3) {
+                        throw new AbsentTagException("Missing country value!");
+                    }
+                    int l_countryId = Integer.parseInt(l_components.get(0));
+                    d_countryService.add(l_countryId, l_components.get(1), Integer.parseInt(l_components.get(2)));
+                    l_countryIndex.add(d_countryRepository.findByCountryId(l_countryId));
                 } else {
-                    throw new AbsentTagException("Missing country value!");
+                    if (!l_isComplete || l_components.size() <= 1) {
+                        throw new AbsentTagException("Missing border value!");
+                    }
+                    Country l_country = l_countryIndex.find(Integer.parseInt(l_components.get(0)));
+                    if (l_country != null) {
+                        for (int l_index = 1; l_index < l_components.size(); l_index++) {
+                            Country l_neighbourCountry = l_countryIndex.find(Integer.parseInt(l_components.get(l_index)));
+                            if (l_neighbourCountry != null) {
+                                d_countryNeighborService.add(l_country, l_neighbourCountry);
+                            }
+                        }
+                    }
                 }
-                p_reader.mark(0);
+            } catch (NumberFormatException p_numberFormatException) {
+                throw new InvalidMapException(String.format("Invalid id in line '%s'!", l_currentLine));
             }
-            p_reader.reset();
-        } catch (IOException p_ioException) {
-            throw new InvalidMapException("Error while processing!");
         }
-
     }
 
     /**
-     * Reads neighbors from the input reader.
+     * Gets the section starting at the header line.
      *
-     * @param p_reader       The input reader.
-     * @throws AbsentTagException     If a required tag is absent.
-     * @throws InvalidMapException    If the map is invalid.
+     * @param p_currentLine The header line.
+     * @return Type of the section; null if the section is not read.
      */
-    private void readNeighbours(BufferedReader p_reader) throws AbsentTagException, InvalidMapException {
-        String l_currentLine;
-        try {
-            while ((l_currentLine = p_reader.readLine()) != null && !l_currentLine.startsWith("[")) {
-                if (l_currentLine.trim().isEmpty()) {
-                    
-                    continue;
-                }
-                List<String> l_borderComponentList = this.getModelComponents(l_currentLine);
-                if (l_borderComponentList.size() > 1) {
-                    Country l_country = d_countryRepository.findByCountryId(Integer.parseInt(l_borderComponentList.get(0)));
-                    if (l_country != null) {
-                        for (int i = 1; i < l_borderComponentList.size(); i++) {
-                            Country l_neighbourCountry = d_countryRepository.findByCountryId(Integer.parseInt(l_borderComponentList.get(i)));
-                            if (l_neighbourCountry != null) {
-                                d_countryNeighborService.add(l_country, l_neighbourCountry);
-                            }
-                        }
-                    }
-                } else {
-                    throw new AbsentTagException("Missing border value!");
-                }
+    private MapModelTypes getSection(String p_currentLine) {
+        if (p_currentLine.indexOf("]") < 0) {
+            return null;
+        }
+        for (MapModelTypes l_mapModelType : new MapModelTypes[]{MapModelTypes.CONTINENT, MapModelTypes.COUNTRY, MapModelTypes.BORDER}) {
+            if (this.doLineHasModelData(p_currentLine, l_mapModelType)) {
+                return l_mapModelType;
             }
-            p_reader.mark(0);
-        } catch (IOException e) {
-            throw new InvalidMapException("Error while processing!");
         }
+        return null;
     }
 
     /**
@@ -239,24 +216,41 @@ public class EditMapService implements StandaloneCommand {
      * Retrieves model components from the input line.
      *
      * @param p_line       The input line.
-     * @return             List of model components.
+     * @return             List of model components; empty if a component is blank.
      */
     public List<String> getModelComponents(String p_line) {
-        try {
-            if (!p_line.isEmpty() && p_line.contains(" ")) {
-                List<String> l_continentComponentList = Arrays.asList(p_line.split("\\s"));
-                if (!l_continentComponentList.isEmpty()) {
-                    l_continentComponentList = l_continentComponentList.stream().map(String::trim)
-                            .collect(Collectors.toList());
-                    if (!(l_continentComponentList.contains(null) || l_continentComponentList.contains(""))) {
-                        return l_continentComponentList;
-                    }
+        List<String> l_components = new ArrayList<>();
+        if (!tokenise(p_line, l_components) || l_components.size() < 2) {
+            return new ArrayList<>();
+        }
+        return l_components;
+    }
+
+    /**
+     * Splits the line at each whitespace character into the list, without a regular expression. The whitespace at the
+     * end of the line is ignored; two separators in a row, or one at the start of the line, mean a blank component.
+     *
+     * @param p_line       The input line.
+     * @param p_components List receiving the components; it is cleared first.
+     * @return False if a component is blank.
+     */
+    static boolean tokenise(String p_line, List<String> p_components) {
+        p_components.clear();
+        int l_end = p_line.length();
+        while (l_end > 0 && Character.isWhitespace(p_line.charAt(l_end - 1))) {
+            l_end--;
+        }
+        int l_start = 0;
+        for (int l_index = 0; l_index <= l_end; l_index++) {
+            if (l_index == l_end || Character.isWhitespace(p_line.charAt(l_index))) {
+                if (l_index == l_start) {
+                    return false;
                 }
+                p_components.add(p_line.substring(l_start, l_index));
+                l_start = l_index + 1;
             }
-        } catch (Exception e) {
-            
         }
-        return new ArrayList<>();
+        return true;
     }
 
     /**
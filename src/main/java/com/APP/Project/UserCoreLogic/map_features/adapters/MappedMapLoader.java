@@ -0,0 +1,592 @@
+package com.APP.Project.UserCoreLogic.map_features.adapters;
+
+import com.APP.Project.UserCoreLogic.Container.ContinentContainer;
+import com.APP.Project.UserCoreLogic.constants.enums.MapModelTypes;
+import com.APP.Project.UserCoreLogic.exceptions.AbsentTagException;
+import com.APP.Project.UserCoreLogic.exceptions.EntityNotFoundException;
+import com.APP.Project.UserCoreLogic.exceptions.InvalidInputException;
+import com.APP.Project.UserCoreLogic.exceptions.InvalidMapException;
+import com.APP.Project.UserCoreLogic.game_entities.Continent;
+import com.APP.Project.UserCoreLogic.game_entities.Country;
+import com.APP.Project.UserCoreLogic.map_features.MapEditorEngine;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Loads very large map files by mapping them in memory and scanning their bytes, instead of reading a
+ * <code>String</code> per line and splitting it. Only the names and coordinates kept by the map model are decoded;
+ * section headers, ids and control values are read in place.
+ * <p>
+ * Both the Domination format (<code>[continents]</code>, <code>[countries]</code> and <code>[borders]</code>) and the
+ * Conquest format (<code>[Map]</code>, <code>[Continents]</code> and <code>[Territories]</code>) are read, with the
+ * same rules as <code>EditMapService</code> and <code>EditConquestMapService</code>. In a Conquest map the countries
+ * are created first and the neighbours are linked in a second pass over the territory lines, so a territory can be
+ * the neighbour of a territory defined before it.
+ * </p>
+ * <p>
+ * The services use this loader for the files of at least <code>MAPPED_LOAD_THRESHOLD</code> bytes.
+ * </p>
+ *
+ * @author Rikin Dipakkumar Chauhan
+ * @version 1.0
+ */
+public class MappedMapLoader {
+    /**
+     * Size from which a map file is mapped in memory instead of being read line by line, in bytes.
+     */
+    public static final long MAPPED_LOAD_THRESHOLD = 16L * 1024 * 1024;
+
+    private final MapEditorEngine d_mapEditorEngine;
+    private final ContinentAdapter d_continentService;
+    private final ContinentContainer d_continentRepository;
+
+    private ByteBuffer d_buffer;
+    private int d_position;
+    private int d_lineStart;
+    private int d_lineEnd;
+
+    /**
+     * Bounds of the tokens of the current line; a token ends before its end offset.
+     */
+    private int[] d_tokenStarts = new int[16];
+    private int[] d_tokenEnds = new int[16];
+    private byte[] d_textBytes = new byte[256];
+
+    /**
+     * Creates the loader adding the map to the engine.
+     *
+     * @param p_mapEditorEngine Engine receiving the map.
+     */
+    public MappedMapLoader(MapEditorEngine p_mapEditorEngine) {
+        d_mapEditorEngine = p_mapEditorEngine;
+        d_continentService = new ContinentAdapter();
+        d_continentRepository = new ContinentContainer();
+    }
+
+    /**
+     * Checks if the map file is large enough to be mapped in memory.
+     *
+     * @param p_file The map file.
+     * @return True if the file should be loaded by this class.
+     */
+    public static boolean isLargeMap(File p_file) {
+        return p_file.length() >= MAPPED_LOAD_THRESHOLD;
+    }
+
+    /**
+     * Loads a map of the Domination format.
+     *
+     * @param p_filePath Path of the map file.
+     * @throws IOException             If the file can not be mapped.
+     * @throws InvalidInputException   If the control value of a continent is invalid.
+     * @throws AbsentTagException      If a value of a continent, country or border is missing.
+     * @throws EntityNotFoundException If a country refers to an unknown continent.
+     * @throws InvalidMapException     If an id is not a number or the file is too large.
+     */
+    public void loadDominationMap(String p_filePath)
+            throws IOException, InvalidInputException, AbsentTagException, EntityNotFoundException, InvalidMapException {
+        this.map(p_filePath);
+        MapModelTypes l_section = null;
+        // Countries by their ids, for the borders.
+        CountryIdIndex l_countryIndex = new CountryIdIndex(d_mapEditorEngine);
+        while (this.nextLine()) {
+            if (this.isSectionHeader()) {
+                l_section = this.getSection(MapModelTypes.CONTINENT, MapModelTypes.COUNTRY, MapModelTypes.BORDER);
+                continue;
+            }
+            if (l_section == null || this.isBlankLine()) {
+                continue;
+            }
+            int l_tokenCount = this.splitAtWhitespace();
+            if (l_section == MapModelTypes.CONTINENT) {
+                if (l_tokenCount < 2) {
+                    throw new AbsentTagException("Missing continent value!");
+                }
+                d_continentService.add(this.getText(0), this.getText(1));
+            } else if (l_section == MapModelTypes.COUNTRY) {
+                if (l_tokenCount < 3) {
+                    throw new AbsentTagException("Missing country value!");
+                }
+                int l_countryId = this.getInteger(0);
+                Country l_country = new Country(l_countryId);
+                l_country.setCountryName(this.getText(1));
+                Continent l_continent = d_continentRepository.findByContinentId(this.getInteger(2));
+                l_country.setContinent(l_continent);
+                d_mapEditorEngine.addCountry(l_continent, l_country);
+                l_countryIndex.add(l_country);
+            } else {
+                if (l_tokenCount <= 1) {
+                    throw new AbsentTagException("Missing border value!");
+                }
+                Country l_country = l_countryIndex.find(this.getInteger(0));
+                if (l_country != null) {
+                    for (int l_token = 1; l_token < l_tokenCount; l_token++) {
+                        Country l_neighbourCountry = l_countryIndex.find(this.getInteger(l_token));
+                        if (l_neighbourCountry != null) {
+                            l_country.addNeighbourCountry(l_neighbourCountry);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Loads a map of the Conquest format. A neighbour which is not a territory of the map is ignored.
+     *
+     * @param p_filePath Path of the map file.
+     * @throws IOException             If the file can not be mapped.
+     * @throws InvalidInputException   If the control value of a continent is invalid.
+     * @throws AbsentTagException      If a value of a continent or territory is missing.
+     * @throws EntityNotFoundException If a territory refers to an unknown continent.
+     * @throws InvalidMapException     If the file is too large.
+     */
+    public void loadConquestMap(String p_filePath)
+            throws IOException, InvalidInputException, AbsentTagException, EntityNotFoundException, InvalidMapException {
+        this.map(p_filePath);
+        MapModelTypes l_section = null;
+        NameIndex l_continentIndex = new NameIndex();
+        Continent[] l_continents = new Continent[16];
+        NameIndex l_countryIndex = new NameIndex();
+        Country[] l_countries = new Country[64];
+        // Bounds of the territory lines, read again to link the neighbours.
+        int[] l_territoryLines = new int[128];
+        int l_territoryCount = 0;
+
+        while (this.nextLine()) {
+            if (this.isSectionHeader()) {
+                l_section = this.getSection(MapModelTypes.MAP, MapModelTypes.CONTINENT, MapModelTypes.TERRITORY);
+                if (l_section == MapModelTypes.MAP) {
+                    d_mapEditorEngine.setMapDetails(new HashMap<>());
+                }
+                continue;
+            }
+            if (l_section == null || this.isBlankLine()) {
+                continue;
+            }
+            if (l_section == MapModelTypes.MAP) {
+                if (this.splitAt((byte) '=', false) >= 2) {
+                    d_mapEditorEngine.getMapDetails().put(this.getText(0), this.getText(1));
+                }
+            } else if (l_section == MapModelTypes.CONTINENT) {
+                int l_tokenCount = this.splitAt((byte) '=', true);
+                if (l_tokenCount < 2 || this.hasBlankToken(l_tokenCount)) {
+                    throw new AbsentTagException("Missing continent value!");
+                }
+                d_continentService.add(this.getText(0), this.getText(1));
+                List<Continent> l_continentList = d_mapEditorEngine.getContinentList();
+                int l_continentNumber = l_continentIndex.add(d_tokenStarts[0], d_tokenEnds[0]);
+                if (l_continentNumber >= l_continents.length) {
+                    l_continents = Arrays.copyOf(l_continents, l_continents.length * 2);
+                }
+                l_continents[l_continentNumber] = l_continentList.get(l_continentList.size() - 1);
+            } else {
+                if (this.splitAt((byte) ',', true) < 4 || this.hasBlankToken(4)) {
+                    throw new AbsentTagException("Missing territory value!");
+                }
+                int l_continentNumber = l_continentIndex.find(d_tokenStarts[3], d_tokenEnds[3]);
+                if (l_continentNumber < 0) {
+                    throw new EntityNotFoundException(String.format("'%s' continent not found", this.getText(3)));
+                }
+                if (l_countryIndex.find(d_tokenStarts[0], d_tokenEnds[0]) < 0) {
+                    Country l_country = new Country(l_countryIndex.size() + 1);
+                    l_country.setCountryName(this.getText(0));
+                    l_country.setXCoordinate(this.getText(1));
+                    l_country.setYCoordinate(this.getText(2));
+                    Continent l_continent = l_continents[l_continentNumber];
+                    l_country.setContinent(l_continent);
+                    d_mapEditorEngine.addCountry(l_continent, l_country);
+                    int l_countryNumber = l_countryIndex.add(d_tokenStarts[0], d_tokenEnds[0]);
+                    if (l_countryNumber >= l_countries.length) {
+                        l_countries = Arrays.copyOf(l_countries, l_countries.length * 2);
+                    }
+                    l_countries[l_countryNumber] = l_country;
+                }
+                if (2 * l_territoryCount + 1 >= l_territoryLines.length) {
+                    l_territoryLines = Arrays.copyOf(l_territoryLines, l_territoryLines.length * 2);
+                }
+                l_territoryLines[2 * l_territoryCount] = d_lineStart;
+                l_territoryLines[2 * l_territoryCount + 1] = d_lineEnd;
+                l_territoryCount++;
+            }
+        }
+
+        for (int l_territory = 0; l_territory < l_territoryCount; l_territory++) {
+            d_lineStart = l_territoryLines[2 * l_territory];
+            d_lineEnd = l_territoryLines[2 * l_territory + 1];
+            int l_tokenCount = this.splitAt((byte) ',', true);
+            Country l_country = l_countries[l_countryIndex.find(d_tokenStarts[0], d_tokenEnds[0])];
+            for (int l_token = 4; l_token < l_tokenCount; l_token++) {
+                int l_neighbourNumber = l_countryIndex.find(d_tokenStarts[l_token], d_tokenEnds[l_token]);
+                if (l_neighbourNumber >= 0) {
+                    l_country.addNeighbourCountry(l_countries[l_neighbourNumber]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Maps the whole file in memory.
+     *
+     * @param p_filePath Path of the map file.
+     * @throws IOException         If the file can not be mapped.
+     * @throws InvalidMapException If the file is too large to be mapped at once.
+     */
+    private void map(String p_filePath) throws IOException, InvalidMapException {
+        try (FileChannel l_channel = FileChannel.open(Paths.get(p_filePath), StandardOpenOption.READ)) {
+            if (l_channel.size() > Integer.MAX_VALUE) {
+                throw new InvalidMapException("Map file is too large!");
+            }
+            // The mapping stays valid after the channel is closed.
+            d_buffer = l_channel.map(FileChannel.MapMode.READ_ONLY, 0, l_channel.size());
+        }
+        d_position = 0;
+    }
+
+    /**
+     * Moves to the next line; its end excludes the line terminator.
+     *
+     * @return False if there are no more lines.
+     */
+    private boolean nextLine() {
+        int l_limit = d_buffer.limit();
+        if (d_position >= l_limit) {
+            return false;
+        }
+        d_lineStart = d_position;
+        int l_index = d_position;
+        while (l_index < l_limit && d_buffer.get(l_index) != '\n') {
+            l_index++;
+        }
+        d_position = l_index + 1;
+        d_lineEnd = l_index > d_lineStart && d_buffer.get(l_index - 1) == '\r' ? l_index - 1 : l_index;
+        return true;
+    }
+
+    /**
+     * Checks if the current line is a section header.
+     *
+     * @return True if the line starts with a bracket.
+     */
+    private boolean isSectionHeader() {
+        return d_lineEnd > d_lineStart && d_buffer.get(d_lineStart) == '[';
+    }
+
+    /**
+     * Gets the section starting at the current header line.
+     *
+     * @param p_mapModelTypes Sections read by the loader.
+     * @return Type of the section; null if the section is not read.
+     */
+    private MapModelTypes getSection(MapModelTypes... p_mapModelTypes) {
+        int l_nameEnd = d_lineStart + 1;
+        while (l_nameEnd < d_lineEnd && d_buffer.get(l_nameEnd) != ']') {
+            l_nameEnd++;
+        }
+        if (l_nameEnd == d_lineEnd) {
+            return null;
+        }
+        for (MapModelTypes l_mapModelType : p_mapModelTypes) {
+            String l_sectionName = l_mapModelType.getJsonValue();
+            if (l_sectionName.length() != l_nameEnd - d_lineStart - 1) {
+                continue;
+            }
+            boolean l_isMatch = true;
+            for (int l_index = 0; l_index < l_sectionName.length() && l_isMatch; l_index++) {
+                l_isMatch = Character.toLowerCase((char) d_buffer.get(d_lineStart + 1 + l_index))
+                        == Character.toLowerCase(l_sectionName.charAt(l_index));
+            }
+            if (l_isMatch) {
+                return l_mapModelType;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks if the current line has only whitespace.
+     *
+     * @return True if the line is blank.
+     */
+    private boolean isBlankLine() {
+        for (int l_index = d_lineStart; l_index < d_lineEnd; l_index++) {
+            if (!isWhitespace(d_buffer.get(l_index))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Splits the current line at each whitespace byte. The whitespace at the end of the line is ignored; two
+     * separators in a row, or one at the start of the line, mean a blank value, as in <code>EditMapService</code>.
+     *
+     * @return Number of the tokens; 0 if a token is blank.
+     */
+    private int splitAtWhitespace() {
+        int l_end = d_lineEnd;
+        while (l_end > d_lineStart && isWhitespace(d_buffer.get(l_end - 1))) {
+            l_end--;
+        }
+        int l_tokenCount = 0;
+        int l_start = d_lineStart;
+        for (int l_index = d_lineStart; l_index <= l_end; l_index++) {
+            if (l_index == l_end || isWhitespace(d_buffer.get(l_index))) {
+                if (l_index == l_start) {
+                    return 0;
+                }
+                this.addToken(l_tokenCount++, l_start, l_index);
+                l_start = l_index + 1;
+            }
+        }
+        return l_tokenCount;
+    }
+
+    /**
+     * Splits the current line at each separator byte. Blank tokens at the end of the line are dropped.
+     *
+     * @param p_separator Separator of the tokens.
+     * @param p_isTrimmed True to remove the whitespace around each token.
+     * @return Number of the tokens.
+     */
+    private int splitAt(byte p_separator, boolean p_isTrimmed) {
+        int l_tokenCount = 0;
+        int l_start = d_lineStart;
+        for (int l_index = d_lineStart; l_index <= d_lineEnd; l_index++) {
+            if (l_index == d_lineEnd || d_buffer.get(l_index) == p_separator) {
+                int l_tokenStart = l_start;
+                int l_tokenEnd = l_index;
+                if (p_isTrimmed) {
+                    while (l_tokenStart < l_tokenEnd && isWhitespace(d_buffer.get(l_tokenStart))) {
+                        l_tokenStart++;
+                    }
+                    while (l_tokenEnd > l_tokenStart && isWhitespace(d_buffer.get(l_tokenEnd - 1))) {
+                        l_tokenEnd--;
+                    }
+                }
+                this.addToken(l_tokenCount++, l_tokenStart, l_tokenEnd);
+                l_start = l_index + 1;
+            }
+        }
+        while (l_tokenCount > 0 && d_tokenStarts[l_tokenCount - 1] == d_tokenEnds[l_tokenCount - 1]) {
+            l_tokenCount--;
+        }
+        return l_tokenCount;
+    }
+
+    /**
+     * Checks if one of the tokens of the current line is blank.
+     *
+     * @param p_tokenCount Number of the tokens.
+     * @return True if a token is blank.
+     */
+    private boolean hasBlankToken(int p_tokenCount) {
+        for (int l_token = 0; l_token < p_tokenCount; l_token++) {
+            if (d_tokenStarts[l_token] == d_tokenEnds[l_token]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Keeps the bounds of a token, growing the arrays if needed.
+     *
+     * @param p_token Number of the token in the line.
+     * @param p_start Offset of the first byte of the token.
+     * @param p_end   Offset after the last byte of the token.
+     */
+    private void addToken(int p_token, int p_start, int p_end) {
+        if (p_token == d_tokenStarts.length) {
+            d_tokenStarts = Arrays.copyOf(d_tokenStarts, p_token * 2);
+            d_tokenEnds = Arrays.copyOf(d_tokenEnds, p_token * 2);
+        }
+        d_tokenStarts[p_token] = p_start;
+        d_tokenEnds[p_token] = p_end;
+    }
+
+    /**
+     * Decodes the token as UTF-8 text.
+     *
+     * @param p_token Number of the token in the line.
+     * @return Value of the text.
+     */
+    private String getText(int p_token) {
+        int l_length = d_tokenEnds[p_token] - d_tokenStarts[p_token];
+        if (l_length > d_textBytes.length) {
+            d_textBytes = new byte[Math.max(l_length, d_textBytes.length * 2)];
+        }
+        for (int l_index = 0; l_index < l_length; l_index++) {
+            d_textBytes[l_index] = d_buffer.get(d_tokenStarts[p_token] + l_index);
+        }
+        return new String(d_textBytes, 0, l_length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads the token as a decimal integer.
+     *
+     * @param p_token Number of the token in the line.
+     * @return Value of the integer.
+     * @throws InvalidMapException If the token is not an integer.
+     */
+    private int getInteger(int p_token) throws InvalidMapException {
+        int l_index = d_tokenStarts[p_token];
+        int l_end = d_tokenEnds[p_token];
+        boolean l_isNegative = l_index < l_end && d_buffer.get(l_index) == '-';
+        if (l_isNegative || (l_index < l_end && d_buffer.get(l_index) == '+')) {
+            l_index++;
+        }
+        if (l_index == l_end) {
+            throw new InvalidMapException(String.format("Invalid id '%s'!", this.getText(p_token)));
+        }
+        long l_value = 0;
+        for (; l_index < l_end; l_index++) {
+            int l_digit = d_buffer.get(l_index) - '0';
+            if (l_digit < 0 || l_digit > 9 || (l_value = l_value * 10 + l_digit) > Integer.MAX_VALUE + 1L) {
+                throw new InvalidMapException(String.format("Invalid id '%s'!", this.getText(p_token)));
+            }
+        }
+        if (!l_isNegative && l_value > Integer.MAX_VALUE) {
+            throw new InvalidMapException(String.format("Invalid id '%s'!", this.getText(p_token)));
+        }
+        return (int) (l_isNegative ? -l_value : l_value);
+    }
+
+    /**
+     * Checks if the byte is whitespace, as <code>\s</code> of a regular expression.
+     *
+     * @param p_byte The byte.
+     * @return True if the byte is a space, a tab or a line terminator.
+     */
+    private static boolean isWhitespace(byte p_byte) {
+        return p_byte == ' ' || p_byte == '\t' || p_byte == '\n' || p_byte == 0x0B || p_byte == '\f' || p_byte == '\r';
+    }
+
+    /**
+     * Numbers the names of the mapped file, comparing their bytes in place so that no text is decoded to find a name.
+     * The names are kept in an open addressing table of their numbers.
+     */
+    private class NameIndex {
+        private int[] d_slots = new int[64];
+        private int[] d_starts = new int[32];
+        private int[] d_ends = new int[32];
+        private int d_size = 0;
+
+        /**
+         * Gets the number of the names.
+         *
+         * @return Number of the names.
+         */
+        int size() {
+            return d_size;
+        }
+
+        /**
+         * Adds the name found between the offsets.
+         *
+         * @param p_start Offset of the first byte of the name.
+         * @param p_end   Offset after the last byte of the name.
+         * @return Number of the name, in the order of addition.
+         */
+        int add(int p_start, int p_end) {
+            if (2 * (d_size + 1) > d_slots.length) {
+                this.grow();
+            }
+            if (d_size == d_starts.length) {
+                d_starts = Arrays.copyOf(d_starts, d_size * 2);
+                d_ends = Arrays.copyOf(d_ends, d_size * 2);
+            }
+            d_starts[d_size] = p_start;
+            d_ends[d_size] = p_end;
+            this.insert(d_size);
+            return d_size++;
+        }
+
+        /**
+         * Finds the name equal to the bytes between the offsets.
+         *
+         * @param p_start Offset of the first byte of the name.
+         * @param p_end   Offset after the last byte of the name.
+         * @return Number of the name; -1 if the name was not added.
+         */
+        int find(int p_start, int p_end) {
+            int l_mask = d_slots.length - 1;
+            for (int l_slot = hash(p_start, p_end) & l_mask; d_slots[l_slot] != 0; l_slot = (l_slot + 1) & l_mask) {
+                int l_number = d_slots[l_slot] - 1;
+                if (this.isEqual(l_number, p_start, p_end)) {
+                    return l_number;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Puts the number of the name in the first free slot of its hash.
+         *
+         * @param p_number Number of the name.
+         */
+        private void insert(int p_number) {
+            int l_mask = d_slots.length - 1;
+            int l_slot = hash(d_starts[p_number], d_ends[p_number]) & l_mask;
+            while (d_slots[l_slot] != 0) {
+                l_slot = (l_slot + 1) & l_mask;
+            }
+            d_slots[l_slot] = p_number + 1;
+        }
+
+        /**
+         * Doubles the table and inserts the names again.
+         */
+        private void grow() {
+            d_slots = new int[d_slots.length * 2];
+            for (int l_number = 0; l_number < d_size; l_number++) {
+                this.insert(l_number);
+            }
+        }
+
+        /**
+         * Checks if the name has the bytes between the offsets.
+         *
+         * @param p_number Number of the name.
+         * @param p_start  Offset of the first byte to compare.
+         * @param p_end    Offset after the last byte to compare.
+         * @return True if the bytes are equal.
+         */
+        private boolean isEqual(int p_number, int p_start, int p_end) {
+            int l_nameStart = d_starts[p_number];
+            if (d_ends[p_number] - l_nameStart != p_end - p_start) {
+                return false;
+            }
+            for (int l_index = 0; l_index < p_end - p_start; l_index++) {
+                if (d_buffer.get(l_nameStart + l_index) != d_buffer.get(p_start + l_index)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Hashes the bytes between the offsets with FNV-1a.
+         *
+         * @param p_start Offset of the first byte.
+         * @param p_end   Offset after the last byte.
+         * @return Value of the hash.
+         */
+        private int hash(int p_start, int p_end) {
+            int l_hash = 0x811C9DC5;
+            for (int l_index = p_start; l_index < p_end; l_index++) {
+                l_hash = (l_hash ^ d_buffer.get(l_index)) * 0x01000193;
+            }
+            return l_hash ^ (l_hash >>> 16);
+        }
+    }
+}
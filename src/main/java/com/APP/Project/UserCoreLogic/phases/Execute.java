@@ -79,12 +79,16 @@ public class Execute extends MainPlay {
      * orders have been executed.
      * <p>
      * This method updates the game's phase state and prepares the game for the next
-     * set of player actions.
+     * set of player actions. If the game is autosaved, the changes of the turn are
+     * appended to its autosave.
      * </p>
      */
     @Override
     public void nextState() {
         GamePlayEngine.incrementEngineIndex();
         d_gameEngine.setGamePhase(new Reinforcement(d_gameEngine));
+        if (d_gameEngine.getAutosave() != null) {
+            d_gameEngine.getAutosave().turnEnded(d_gameEngine);
+        }
     }
 }
@@ -1,8 +1,13 @@
 package com.APP.Project.UserCoreLogic.phases;
 
 import com.APP.Project.UserCoreLogic.GameEngine;
+import com.APP.Project.UserCoreLogic.common.services.AutosaveService;
 import com.APP.Project.UserCoreLogic.common.services.LoadGameService;
+import com.APP.Project.UserCoreLogic.common.services.RecoverGameService;
 import com.APP.Project.UserCoreLogic.common.services.SaveGameService;
+import com.APP.Project.UserCoreLogic.common.services.ShowJournalService;
+import com.APP.Project.UserCoreLogic.constants.enums.LogCategory;
+import com.APP.Project.UserCoreLogic.constants.enums.LogLevel;
 import com.APP.Project.UserCoreLogic.exceptions.InvalidCommandException;
 import com.APP.Project.UserCoreLogic.exceptions.UserCoreLogicException;
 import com.APP.Project.UserCoreLogic.gamePlay.services.*;
@@ -186,6 +191,54 @@ public abstract class Phase {
         return l_loadGameService.execute(p_arguments);
     }
 
+    /**
+     * Starts to autosave the game at the end of each turn.
+     *
+     * @param p_arguments Name of the autosave file.
+     * @return A message indicating the autosave outcome.
+     * @throws UserCoreLogicException If the autosave file can not be written.
+     */
+    public String autosave(List<String> p_arguments) throws UserCoreLogicException {
+        AutosaveService l_autosaveService = new AutosaveService();
+        return l_autosaveService.execute(p_arguments);
+    }
+
+    /**
+     * Recovers the game from its autosave file.
+     *
+     * @param p_arguments Name of the autosave file.
+     * @return A message indicating the recovery outcome.
+     * @throws UserCoreLogicException If the autosave can not be read.
+     */
+    public String recoverGame(List<String> p_arguments) throws UserCoreLogicException {
+        RecoverGameService l_recoverGameService = new RecoverGameService();
+        return l_recoverGameService.execute(p_arguments);
+    }
+
+    /**
+     * Compiles a map file into its binary form, which is loaded in place of the map file while it is newer.
+     *
+     * @param p_arguments Name of the map file.
+     * @return A message indicating the compilation outcome.
+     * @throws UserCoreLogicException If the map can not be compiled.
+     */
+    public String compileMap(List<String> p_arguments) throws UserCoreLogicException {
+        CompileMapService l_compileMapService = new CompileMapService();
+        return l_compileMapService.execute(p_arguments);
+    }
+
+    /**
+     * Shows the events of a game journal, filtered by the given keys.
+     *
+     * @param p_arguments The journal file and the filters.
+     * @return The events of the journal.
+     * @throws UserCoreLogicException If the journal can not be read.
+     */
+    public String showJournal(List<Map<String, List<String>>> p_arguments) throws UserCoreLogicException {
+        ShowJournalService l_showJournalService = new ShowJournalService();
+        return l_showJournalService.execute(p_arguments);
+    }
+
     /**
      * Ends the game. Called when exiting the main play loop.
      * 
@@ -231,10 +284,10 @@ public abstract class Phase {
             Method l_methodReference = p_target.getClass().getMethod(p_methodName, l_valueTypes);
             return (String) l_methodReference.invoke(p_target, l_values);
         } catch (InvocationTargetException p_invocationTargetException) {
-            LogEntryBuffer.getLogger().dataChanged("error", p_invocationTargetException.getCause().getMessage());
+            LogEntryBuffer.getLogger().dataChanged(LogLevel.ERROR, LogCategory.GENERAL, "error", p_invocationTargetException.getCause()::getMessage);
             throw new UserCoreLogicException(p_invocationTargetException.getCause().getMessage());
         } catch (NoSuchMethodException | IllegalAccessException p_e) {
-            LogEntryBuffer.getLogger().dataChanged("error", "Invalid command!");
+            LogEntryBuffer.getLogger().dataChanged(LogLevel.ERROR, LogCategory.GENERAL, "error", () -> "Invalid command!");
             this.invalidCommand();
         }
         return null;
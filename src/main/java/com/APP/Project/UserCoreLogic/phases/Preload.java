@@ -87,6 +87,26 @@ public class Preload extends MapEditor {
                 } catch (NumberFormatException p_exception) {
                     throw new InvalidArgumentException("Number of maximum turns is in invalid format!");
                 }
+            } else if (l_argument.containsKey("T")) {
+                try {
+                    int l_numberOfThreads = Integer.parseInt(l_argument.get("T").get(0));
+                    if (l_numberOfThreads < 1) {
+                        throw new InvalidArgumentException("Number of threads must be at least one!");
+                    }
+                    l_tournamentEngine.setNumberOfThreads(l_numberOfThreads);
+                } catch (IndexOutOfBoundsException p_e) {
+                    throw new InvalidArgumentException("Number of threads not specified!");
+                } catch (NumberFormatException p_exception) {
+                    throw new InvalidArgumentException("Number of threads is in invalid format!");
+                }
+            } else if (l_argument.containsKey("S")) {
+                try {
+                    l_tournamentEngine.setSeed(Long.parseLong(l_argument.get("S").get(0)));
+                } catch (IndexOutOfBoundsException p_e) {
+                    throw new InvalidArgumentException("Seed not specified!");
+                } catch (NumberFormatException p_exception) {
+                    throw new InvalidArgumentException("Seed is in invalid format!");
+                }
             }
         }
         // If no error occurred during preparing the tournament, start it.
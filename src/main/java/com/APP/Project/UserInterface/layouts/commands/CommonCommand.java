@@ -1,7 +1,9 @@
 package com.APP.Project.UserInterface.layouts.commands;
 
 import com.APP.Project.UserInterface.layouts.CommandLayout;
+import com.APP.Project.UserInterface.models.CommandLineArgument;
 import com.APP.Project.UserInterface.models.PredefinedUserCommands;
+import com.APP.Project.UserInterface.constants.specifications.ArgumentSpecification;
 import com.APP.Project.UserInterface.constants.specifications.CommandSpecification;
 
 import java.util.ArrayList;
@@ -36,6 +38,16 @@ public class CommonCommand implements CommandLayout {
         l_userCommand.setGamePhaseMethodName("loadMap");
         d_userCommands.add(l_userCommand);
 
+        // Example of the below command:
+        // > compilemap filename
+        l_userCommand = new PredefinedUserCommands();
+        l_userCommand.setHeadCommand("compilemap");
+        l_userCommand.setCommandSpecification(CommandSpecification.CAN_RUN_ALONE_WITH_VALUE);
+        l_userCommand.setNumOfValues(1);
+        l_userCommand.setGamePhaseMethodName("compileMap");
+        l_userCommand.setGameEngineCommand(true);
+        d_userCommands.add(l_userCommand);
+
         // Example of the below command:
         // > showmap
         l_userCommand = new PredefinedUserCommands();
@@ -51,6 +63,37 @@ public class CommonCommand implements CommandLayout {
         l_userCommand.setOrderCommand(true);
         d_userCommands.add(l_userCommand);
 
+        // Example of the below command:
+        // > showjournal -file journalfile [-type eventtype] [-player playername] [-turn turnindex]
+        l_userCommand = new PredefinedUserCommands();
+        l_userCommand.setHeadCommand("showjournal");
+        l_userCommand.setCommandSpecification(CommandSpecification.NEEDS_KEYS);
+        l_userCommand.pushCommandArgument(new CommandLineArgument(
+                "file",
+                1,
+                ArgumentSpecification.EQUAL
+        ));
+        l_userCommand.pushCommandArgument(new CommandLineArgument(
+                "type",
+                1,
+                ArgumentSpecification.EQUAL
+        ));
+        l_userCommand.pushCommandArgument(new CommandLineArgument(
+                "player",
+                1,
+                ArgumentSpecification.EQUAL
+        ));
+        l_userCommand.pushCommandArgument(new CommandLineArgument(
+                "turn",
+                1,
+                ArgumentSpecification.EQUAL
+        ));
+        l_userCommand.setNumOfValues(4);
+        l_userCommand.setCommandKeySpecification(ArgumentSpecification.MAX);
+        l_userCommand.setGamePhaseMethodName("showJournal");
+        l_userCommand.setGameEngineCommand(true);
+        d_userCommands.add(l_userCommand);
+
         // Example of the below command:
         // > exit
         l_userCommand = new PredefinedUserCommands();
@@ -129,6 +129,26 @@ public class GamePlayCommand implements CommandLayout {
         l_userCommand.setNumOfValues(1);
         l_userCommand.setGamePhaseMethodName("loadGame");
         d_userCommands.add(l_userCommand);
+
+        // Example of the command:
+        // > autosave filename
+        l_userCommand = new PredefinedUserCommands();
+        l_userCommand.setHeadCommand("autosave");
+        l_userCommand.setGameEngineCommand(true);
+        l_userCommand.setCommandSpecification(CommandSpecification.CAN_RUN_ALONE_WITH_VALUE);
+        l_userCommand.setNumOfValues(1);
+        l_userCommand.setGamePhaseMethodName("autosave");
+        d_userCommands.add(l_userCommand);
+
+        // Example of the command:
+        // > recovergame filename
+        l_userCommand = new PredefinedUserCommands();
+        l_userCommand.setHeadCommand("recovergame");
+        l_userCommand.setGameEngineCommand(true);
+        l_userCommand.setCommandSpecification(CommandSpecification.CAN_RUN_ALONE_WITH_VALUE);
+        l_userCommand.setNumOfValues(1);
+        l_userCommand.setGamePhaseMethodName("recoverGame");
+        d_userCommands.add(l_userCommand);
     }
 
     /**
@@ -107,7 +107,7 @@ public class MapEditorCommand implements CommandLayout {
         d_userCommands.add(l_userCommand);
 
         // Example of the below command:
-        // > tournament -M listofmapfiles -P listofplayerstrategies -G numberofgames -D maxnumberofturns
+        // > tournament -M listofmapfiles -P listofplayerstrategies -G numberofgames -D maxnumberofturns [-T numberofthreads] [-S seed]
         l_userCommand = new PredefinedUserCommands();
         l_userCommand.setHeadCommand("tournament");
         l_userCommand.setCommandSpecification(CommandSpecification.NEEDS_KEYS);
@@ -131,8 +131,18 @@ public class MapEditorCommand implements CommandLayout {
                 1,
                 ArgumentSpecification.EQUAL
         ));
+        l_userCommand.pushCommandArgument(new CommandLineArgument(
+                "T",
+                1,
+                ArgumentSpecification.EQUAL
+        ));
+        l_userCommand.pushCommandArgument(new CommandLineArgument(
+                "S",
+                1,
+                ArgumentSpecification.EQUAL
+        ));
         l_userCommand.setNumOfValues(4);
-        l_userCommand.setCommandKeySpecification(ArgumentSpecification.EQUAL);
+        l_userCommand.setCommandKeySpecification(ArgumentSpecification.MIN);
         l_userCommand.setGamePhaseMethodName("prepareTournament");
         d_userCommands.add(l_userCommand);
     }
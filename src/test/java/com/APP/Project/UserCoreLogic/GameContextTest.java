@@ -0,0 +1,81 @@
+package com.APP.Project.UserCoreLogic;
+
+import com.APP.Project.UserCoreLogic.gamePlay.GamePlayEngine;
+import com.APP.Project.UserCoreLogic.map_features.MapEditorEngine;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * This class tests the binding of <code>GameContext</code> to the threads.
+ *
+ * @author Jayati Thakkar
+ * @version 1.0
+ */
+public class GameContextTest {
+    private GameEngine d_gameEngine;
+
+    /**
+     * Creates the game engine used by the test cases.
+     */
+    @Before
+    public void beforeTestCase() {
+        d_gameEngine = new GameEngine(new MapEditorEngine(), new GamePlayEngine());
+    }
+
+    /**
+     * Removes the context bound to the thread of the test case.
+     */
+    @After
+    public void afterTestCase() {
+        GameContext.unbind();
+    }
+
+    /**
+     * Tests that the bound context is used instead of the context of the application.
+     */
+    @Test
+    public void testBoundContextIsCurrent() {
+        assertSame(GameContext.getApplicationContext(), GameContext.current());
+        GameContext l_gameContext = new GameContext(d_gameEngine);
+        l_gameContext.bind();
+        assertSame(l_gameContext, GameContext.current());
+        assertSame(d_gameEngine, UserCoreLogic.getGameEngine());
+        GameContext.unbind();
+        assertSame(GameContext.getApplicationContext(), GameContext.current());
+    }
+
+    /**
+     * Tests that the execution index of a game bound to another thread does not change the index of this thread.
+     *
+     * @throws InterruptedException If the other thread was interrupted.
+     */
+    @Test
+    public void testExecutionIndexIsPerContext() throws InterruptedException {
+        new GameContext(d_gameEngine).bind();
+        int l_executionIndex = GamePlayEngine.getCurrentExecutionIndex();
+
+        GameEngine l_otherGameEngine = new GameEngine(new MapEditorEngine(), new GamePlayEngine());
+        AtomicInteger l_otherExecutionIndex = new AtomicInteger();
+        AtomicReference<GameEngine> l_otherCurrentEngine = new AtomicReference<>();
+        Thread l_otherThread = new Thread(() -> {
+            new GameContext(l_otherGameEngine).bind();
+            GamePlayEngine.incrementEngineIndex();
+            GamePlayEngine.incrementEngineIndex();
+            l_otherExecutionIndex.set(GamePlayEngine.getCurrentExecutionIndex());
+            l_otherCurrentEngine.set(UserCoreLogic.getGameEngine());
+        });
+        l_otherThread.start();
+        l_otherThread.join();
+
+        assertEquals(l_executionIndex, GamePlayEngine.getCurrentExecutionIndex());
+        assertEquals(l_executionIndex + 2, l_otherExecutionIndex.get());
+        assertSame(l_otherGameEngine, l_otherCurrentEngine.get());
+    }
+}
@@ -2,6 +2,7 @@ package com.APP.Project.UserCoreLogic;
 
 import com.APP.Project.UserCoreLogic.constants.enums.StrategyType;
 import com.APP.Project.Main;
+import com.APP.Project.UserCoreLogic.game_entities.Country;
 import com.APP.Project.UserCoreLogic.game_entities.Player;
 import com.APP.Project.UserCoreLogic.exceptions.UserCoreLogicException;
 import org.junit.Before;
@@ -12,6 +13,9 @@ import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
 /**
  * This class tests tournament engine.
  *
@@ -61,4 +65,64 @@ public class TournamentEngineTest {
     public void testTournament() throws UserCoreLogicException {
         d_tournamentEngine.onStart(false);
     }
+
+    /**
+     * Verifies that the tournament played on multiple threads records a game engine with a result for each game and map.
+     *
+     * @throws UserCoreLogicException If an exception occurs during tournament execution.
+     */
+    @Test
+    public void testParallelTournament() throws UserCoreLogicException {
+        d_tournamentEngine.setNumberOfThreads(4);
+        d_tournamentEngine.onStart(false);
+        assertEquals(20, d_tournamentEngine.getPlayedGameEngineMappings().size());
+        for (List<GameEngine> l_gameEngines : d_tournamentEngine.getPlayedGameEngineMappings().values()) {
+            assertEquals(d_mapFiles.size(), l_gameEngines.size());
+            for (GameEngine l_gameEngine : l_gameEngines) {
+                assertNotNull(l_gameEngine.getGamePlayEngine().getGameResult());
+            }
+        }
+    }
+
+    /**
+     * Verifies that a seeded tournament played on multiple threads ends each game with the countries of the same
+     * tournament played sequentially.
+     *
+     * @throws UserCoreLogicException If an exception occurs during tournament execution.
+     */
+    @Test
+    public void testSeededTournamentIsReproducible() throws UserCoreLogicException {
+        d_tournamentEngine.addPlayer(new Player("Player_3", StrategyType.RANDOM));
+        d_tournamentEngine.setNumberOfGames(4);
+        d_tournamentEngine.setSeed(2021L);
+        d_tournamentEngine.onStart(false);
+        List<String> l_sequentialGames = describeGames(d_tournamentEngine);
+
+        d_tournamentEngine.getPlayedGameEngineMappings().clear();
+        d_tournamentEngine.setNumberOfThreads(4);
+        d_tournamentEngine.onStart(false);
+        assertEquals(l_sequentialGames, describeGames(d_tournamentEngine));
+    }
+
+    /**
+     * Describes the owner and armies of the countries at the end of each game of the tournament.
+     *
+     * @param p_tournamentEngine Tournament which has been played.
+     * @return The description of each game, in the order of the games.
+     */
+    private static List<String> describeGames(TournamentEngine p_tournamentEngine) {
+        List<String> l_games = new ArrayList<>();
+        for (List<GameEngine> l_gameEngines : p_tournamentEngine.getPlayedGameEngineMappings().values()) {
+            for (GameEngine l_gameEngine : l_gameEngines) {
+                StringBuilder l_builder = new StringBuilder();
+                for (Country l_country : l_gameEngine.getMapEditorEngine().getCountryList()) {
+                    String l_owner = l_country.getOwnedBy() == null ? "-" : l_country.getOwnedBy().getName();
+                    l_builder.append(l_country.getCountryName()).append("=").append(l_owner).append(":")
+                            .append(l_country.getNumberOfArmies()).append(";");
+                }
+                l_games.add(l_builder.toString());
+            }
+        }
+        return l_games;
+    }
 }
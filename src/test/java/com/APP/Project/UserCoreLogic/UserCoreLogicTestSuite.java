@@ -2,6 +2,7 @@ package com.APP.Project.UserCoreLogic;
 
 import com.APP.Project.UserCoreLogic.game_entities.EntityTestSuite;
 import com.APP.Project.UserCoreLogic.gamePlay.GamePlayTestSuite;
+import com.APP.Project.UserCoreLogic.logger.LoggerTestSuite;
 import com.APP.Project.UserCoreLogic.map_features.MapEditorTestSuite;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
@@ -15,7 +16,9 @@ import org.junit.runners.Suite;
 @Suite.SuiteClasses({
         GamePlayTestSuite.class,
         MapEditorTestSuite.class,
-        EntityTestSuite.class
+        EntityTestSuite.class,
+        LoggerTestSuite.class,
+        GameContextTest.class
 })
 public class UserCoreLogicTestSuite {
     // This class remains empty, it is used only as a holder for the above annotations.
@@ -0,0 +1,118 @@
+package com.APP.Project.UserCoreLogic.gamePlay;
+
+import com.APP.Project.UserCoreLogic.GameContext;
+import com.APP.Project.UserCoreLogic.GameEngine;
+import com.APP.Project.UserCoreLogic.constants.enums.OrderTypes;
+import com.APP.Project.UserCoreLogic.constants.enums.StrategyType;
+import com.APP.Project.UserCoreLogic.constants.interfaces.Order;
+import com.APP.Project.UserCoreLogic.game_entities.Player;
+import com.APP.Project.UserCoreLogic.map_features.MapEditorEngine;
+import org.json.JSONObject;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * This class tests the due and expired orders found by <code>FutureOrderScheduler</code>.
+ *
+ * @author Rupal Kapoor
+ * @version 1.0
+ */
+public class FutureOrderSchedulerTest {
+    private FutureOrderScheduler d_futureOrderScheduler;
+    private GameContext d_gameContext;
+    private Player d_player;
+
+    /**
+     * Creates an empty scheduler.
+     */
+    @Before
+    public void before() {
+        d_futureOrderScheduler = new FutureOrderScheduler();
+        d_gameContext = new GameContext(new GameEngine(new MapEditorEngine(), new GamePlayEngine()));
+        d_player = new Player("USER_1", StrategyType.BENEVOLENT);
+    }
+
+    /**
+     * Creates an order executed and expired at the indexes.
+     *
+     * @param p_executionIndex Execution index of the order.
+     * @param p_expiryIndex    Expiry index of the order.
+     * @return Value of the order.
+     */
+    private Order createOrder(int p_executionIndex, int p_expiryIndex) {
+        return new Order(d_player, d_gameContext) {
+            @Override
+            public void execute() {
+            }
+
+            @Override
+            public OrderTypes getType() {
+                return OrderTypes.deploy;
+            }
+
+            @Override
+            public int getExecutionIndex() {
+                return p_executionIndex;
+            }
+
+            @Override
+            public int getExpiryIndex() {
+                return p_expiryIndex;
+            }
+
+            @Override
+            public void expire() {
+            }
+
+            @Override
+            public JSONObject toJSON() {
+                return new JSONObject();
+            }
+        };
+    }
+
+    /**
+     * Tests that only the orders of the execution index are due and the orders up to it are expired.
+     */
+    @Test
+    public void testDueAndExpiredOrders() {
+        Order l_order1 = createOrder(1, 2);
+        Order l_order2 = createOrder(2, 3);
+        Order l_order3 = createOrder(2, 3);
+        d_futureOrderScheduler.schedule(l_order1);
+        d_futureOrderScheduler.schedule(l_order2);
+        d_futureOrderScheduler.schedule(l_order3);
+
+        assertEquals(List.of(l_order1), d_futureOrderScheduler.getDueOrders(1));
+        assertEquals(List.of(l_order2, l_order3), d_futureOrderScheduler.getDueOrders(2));
+        assertTrue(d_futureOrderScheduler.getExpiredOrders(1).isEmpty());
+        assertEquals(List.of(l_order1), d_futureOrderScheduler.getExpiredOrders(2));
+        assertEquals(List.of(l_order1, l_order2, l_order3), d_futureOrderScheduler.getExpiredOrders(3));
+    }
+
+    /**
+     * Tests that the removed orders are neither due nor expired.
+     */
+    @Test
+    public void testRemove() {
+        Order l_order1 = createOrder(1, 2);
+        Order l_order2 = createOrder(1, 2);
+        d_futureOrderScheduler.schedule(l_order1);
+        d_futureOrderScheduler.schedule(l_order2);
+
+        d_futureOrderScheduler.remove(l_order1);
+        d_futureOrderScheduler.remove(l_order1);
+        assertEquals(1, d_futureOrderScheduler.size());
+        assertEquals(List.of(l_order2), d_futureOrderScheduler.getDueOrders(1));
+
+        d_futureOrderScheduler.remove(l_order2);
+        assertEquals(0, d_futureOrderScheduler.size());
+        assertEquals(Collections.emptyList(), d_futureOrderScheduler.getExpiredOrders(2));
+    }
+}
@@ -0,0 +1,117 @@
+package com.APP.Project.UserCoreLogic.gamePlay;
+
+import com.APP.Project.UserCoreLogic.GameContext;
+import com.APP.Project.UserCoreLogic.GameEngine;
+import com.APP.Project.UserCoreLogic.constants.enums.StrategyType;
+import com.APP.Project.UserCoreLogic.game_entities.Continent;
+import com.APP.Project.UserCoreLogic.game_entities.Country;
+import com.APP.Project.UserCoreLogic.game_entities.Player;
+import com.APP.Project.UserCoreLogic.map_features.MapEditorEngine;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * This class tests the detection of the winner and of the eliminated players by <code>GamePlayEngine</code>.
+ *
+ * @author Rupal Kapoor
+ * @version 1.0
+ */
+public class GamePlayEngineTest {
+    private GamePlayEngine d_gamePlayEngine;
+    private Country d_country1;
+    private Country d_country2;
+    private Country d_country3;
+    private Player d_player1;
+    private Player d_player2;
+    private Player d_player3;
+
+    /**
+     * Creates a game of three countries, each one owned by a different player.
+     */
+    @Before
+    public void before() {
+        MapEditorEngine l_mapEditorEngine = new MapEditorEngine();
+        d_gamePlayEngine = new GamePlayEngine();
+        new GameContext(new GameEngine(l_mapEditorEngine, d_gamePlayEngine)).bind();
+
+        Continent l_continent = new Continent();
+        l_continent.setContinentName("Asia");
+        l_mapEditorEngine.addContinent(l_continent);
+        d_country1 = new Country("India");
+        d_country2 = new Country("Nepal");
+        d_country3 = new Country("Bhutan");
+        l_mapEditorEngine.addCountry(l_continent, d_country1);
+        l_mapEditorEngine.addCountry(l_continent, d_country2);
+        l_mapEditorEngine.addCountry(l_continent, d_country3);
+
+        d_player1 = new Player("USER_1", StrategyType.BENEVOLENT);
+        d_player2 = new Player("USER_2", StrategyType.BENEVOLENT);
+        d_player3 = new Player("USER_3", StrategyType.BENEVOLENT);
+        d_gamePlayEngine.addPlayer(d_player1);
+        d_gamePlayEngine.addPlayer(d_player2);
+        d_gamePlayEngine.addPlayer(d_player3);
+
+        OwnershipLedger l_ownershipLedger = d_gamePlayEngine.getOwnershipLedger();
+        l_ownershipLedger.transfer(d_country1, d_player1);
+        l_ownershipLedger.transfer(d_country2, d_player2);
+        l_ownershipLedger.transfer(d_country3, d_player3);
+    }
+
+    /**
+     * Removes the context bound to the thread of the test case.
+     */
+    @After
+    public void after() {
+        GameContext.unbind();
+    }
+
+    /**
+     * Tests that a player losing the last country is eliminated and skipped while taking turns.
+     */
+    @Test
+    public void testEliminatedPlayerIsSkipped() {
+        assertEquals(3, d_gamePlayEngine.getActivePlayerCount());
+        d_gamePlayEngine.getOwnershipLedger().transfer(d_country2, d_player1);
+
+        assertTrue(d_gamePlayEngine.isEliminated(d_player2));
+        assertEquals(2, d_gamePlayEngine.getActivePlayerCount());
+        assertFalse(d_gamePlayEngine.checkIfGameIsOver());
+
+        d_gamePlayEngine.setCurrentPlayerTurn(0);
+        assertSame(d_player1, d_gamePlayEngine.getCurrentPlayer());
+        assertSame(d_player3, d_gamePlayEngine.getCurrentPlayer());
+        assertSame(d_player1, d_gamePlayEngine.getCurrentPlayer());
+    }
+
+    /**
+     * Tests that the player owning all the countries wins the game.
+     */
+    @Test
+    public void testWinnerIsDetected() {
+        d_gamePlayEngine.getOwnershipLedger().transfer(d_country2, d_player1);
+        d_gamePlayEngine.getOwnershipLedger().transfer(d_country3, d_player1);
+
+        assertTrue(d_gamePlayEngine.checkIfGameIsOver());
+        assertSame(d_player1, d_gamePlayEngine.getGameResult().getWinnerPlayer());
+    }
+
+    /**
+     * Tests that the winner and the eliminated players are found again after the countries were assigned directly.
+     */
+    @Test
+    public void testRefreshPlayerStatus() {
+        d_player3.removeCountry(d_country3);
+        d_player2.addAssignedCountries(d_country3);
+        d_gamePlayEngine.refreshPlayerStatus();
+
+        assertTrue(d_gamePlayEngine.isEliminated(d_player3));
+        assertFalse(d_gamePlayEngine.isEliminated(d_player2));
+        assertEquals(2, d_gamePlayEngine.getActivePlayerCount());
+    }
+}
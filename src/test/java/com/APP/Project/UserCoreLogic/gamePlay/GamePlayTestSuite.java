@@ -1,5 +1,7 @@
 package com.APP.Project.UserCoreLogic.gamePlay;
 
+import com.APP.Project.UserCoreLogic.gamePlay.compact.CompactGameStateTest;
+import com.APP.Project.UserCoreLogic.gamePlay.replay.ReplayEngineTest;
 import com.APP.Project.UserCoreLogic.gamePlay.services.ReinforcementServiceTest;
 import com.APP.Project.UserCoreLogic.gamePlay.services.CountryDistributionServiceTest;
 import com.APP.Project.UserCoreLogic.gamePlay.services.DisplayMapServiceTest;
@@ -16,7 +18,13 @@ import org.junit.runners.Suite;
 @Suite.SuiteClasses({
         ReinforcementServiceTest.class,
         CountryDistributionServiceTest.class,
-        DisplayMapServiceTest.class
+        DisplayMapServiceTest.class,
+        CompactGameStateTest.class,
+        OwnershipLedgerTest.class,
+        GamePlayEngineTest.class,
+        FutureOrderSchedulerTest.class,
+        GameRandomTest.class,
+        ReplayEngineTest.class
 })
 public class GamePlayTestSuite {
     // This class remains empty, it is used only as a holder for the above annotations
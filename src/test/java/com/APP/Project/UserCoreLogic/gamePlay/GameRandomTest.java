@@ -0,0 +1,62 @@
+package com.APP.Project.UserCoreLogic.gamePlay;
+
+import com.APP.Project.UserCoreLogic.GameEngine;
+import com.APP.Project.UserCoreLogic.exceptions.InvalidGameException;
+import com.APP.Project.UserCoreLogic.map_features.MapEditorEngine;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+/**
+ * This class tests that <code>GameRandom</code> gives the same numbers for the same seed.
+ *
+ * @author Rupal Kapoor
+ * @version 1.0
+ */
+public class GameRandomTest {
+    /**
+     * Tests that two sources with the same seed give the same numbers.
+     */
+    @Test
+    public void testSameSeedGivesSameNumbers() {
+        GameRandom l_random1 = new GameRandom(42);
+        GameRandom l_random2 = new GameRandom(42);
+        for (int l_index = 0; l_index < 100; l_index++) {
+            assertEquals(l_random1.nextInt(1000), l_random2.nextInt(1000));
+        }
+        assertEquals(42, l_random1.getSeed());
+    }
+
+    /**
+     * Tests that the sources split in the same order give the same numbers, and that a split source differs from the
+     * source it was split from.
+     */
+    @Test
+    public void testSplitIsReproducible() {
+        GameRandom l_random1 = new GameRandom(7);
+        GameRandom l_random2 = new GameRandom(7);
+        GameRandom l_split1 = l_random1.split();
+        GameRandom l_split2 = l_random2.split();
+        assertEquals(l_split1.getSeed(), l_split2.getSeed());
+        assertEquals(l_split1.nextLong(), l_split2.nextLong());
+        assertNotEquals(l_random1.split().nextLong(), l_split1.nextLong());
+    }
+
+    /**
+     * Tests that the source saved with the game continues with the numbers it would have given.
+     *
+     * @throws InvalidGameException If the saved game can not be loaded.
+     */
+    @Test
+    public void testSavedSourceContinues() throws InvalidGameException {
+        GamePlayEngine l_gamePlayEngine = new GamePlayEngine();
+        l_gamePlayEngine.setRandom(new GameRandom(2021));
+        l_gamePlayEngine.getRandom().nextInt(10);
+
+        GamePlayEngine l_loadedGamePlayEngine = GamePlayEngine.fromJSON(l_gamePlayEngine.toJSON(),
+                new GameEngine(new MapEditorEngine(), new GamePlayEngine()));
+        assertEquals(2021, l_loadedGamePlayEngine.getRandom().getSeed());
+        assertEquals(l_gamePlayEngine.getRandom().nextLong(), l_loadedGamePlayEngine.getRandom().nextLong());
+    }
+}
@@ -0,0 +1,97 @@
+package com.APP.Project.UserCoreLogic.gamePlay;
+
+import com.APP.Project.UserCoreLogic.constants.enums.StrategyType;
+import com.APP.Project.UserCoreLogic.game_entities.Continent;
+import com.APP.Project.UserCoreLogic.game_entities.Country;
+import com.APP.Project.UserCoreLogic.game_entities.Player;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * This class tests the transfers of the countries done by <code>OwnershipLedger</code>.
+ *
+ * @author Rupal Kapoor
+ * @version 1.0
+ */
+public class OwnershipLedgerTest {
+    private OwnershipLedger d_ownershipLedger;
+    private Continent d_continent;
+    private Country d_country1;
+    private Country d_country2;
+    private Player d_player1;
+    private Player d_player2;
+    private List<String> d_changes;
+
+    /**
+     * Creates a continent of two countries, two players and a ledger recording its changes.
+     */
+    @Before
+    public void before() {
+        d_continent = new Continent();
+        d_continent.setContinentName("Asia");
+        d_country1 = new Country("India");
+        d_country2 = new Country("Nepal");
+        d_country1.setContinent(d_continent);
+        d_country2.setContinent(d_continent);
+        d_continent.addCountry(d_country1);
+        d_continent.addCountry(d_country2);
+
+        d_player1 = new Player("USER_1", StrategyType.BENEVOLENT);
+        d_player2 = new Player("USER_2", StrategyType.BENEVOLENT);
+
+        d_ownershipLedger = new OwnershipLedger();
+        d_changes = new ArrayList<>();
+        d_ownershipLedger.addListener((p_country, p_previousOwner, p_newOwner) ->
+                d_changes.add(p_country.getCountryName() + ":"
+                        + (p_previousOwner == null ? "-" : p_previousOwner.getName()) + ">"
+                        + (p_newOwner == null ? "-" : p_newOwner.getName())));
+    }
+
+    /**
+     * Tests that a transfer updates the owner, the assigned countries and the continent counts of both players.
+     */
+    @Test
+    public void testTransfer() {
+        d_ownershipLedger.transfer(d_country1, d_player1);
+        d_ownershipLedger.transfer(d_country2, d_player1);
+        assertTrue(d_player1.ownsContinent(d_continent));
+
+        d_ownershipLedger.transfer(d_country2, d_player2);
+        assertSame(d_player2, d_country2.getOwnedBy());
+        assertFalse(d_player1.hasAssignedCountry(d_country2));
+        assertTrue(d_player2.hasAssignedCountry(d_country2));
+        assertEquals(1, d_player1.getOwnedCountryCount(d_continent));
+        assertEquals(1, d_player2.getOwnedCountryCount(d_continent));
+        assertFalse(d_player1.ownsContinent(d_continent));
+
+        // Transferring to the current owner changes nothing.
+        d_ownershipLedger.transfer(d_country2, d_player2);
+        assertEquals(1, d_player2.getAssignedCountries().size());
+        assertEquals(List.of("India:->USER_1", "Nepal:->USER_1", "Nepal:USER_1>USER_2"), d_changes);
+    }
+
+    /**
+     * Tests that a released country keeps its owner but is no longer one of the owner's countries.
+     */
+    @Test
+    public void testRelease() {
+        d_ownershipLedger.transfer(d_country1, d_player1);
+        d_ownershipLedger.release(d_country1);
+        d_ownershipLedger.release(d_country1);
+
+        assertSame(d_player1, d_country1.getOwnedBy());
+        assertTrue(d_player1.getAssignedCountries().isEmpty());
+        assertEquals(0, d_player1.getOwnedCountryCount(d_continent));
+        assertEquals(List.of("India:->USER_1", "India:USER_1>-"), d_changes);
+        assertNull(d_country2.getOwnedBy());
+    }
+}
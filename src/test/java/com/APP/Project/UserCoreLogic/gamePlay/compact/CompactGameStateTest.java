@@ -0,0 +1,201 @@
+package com.APP.Project.UserCoreLogic.gamePlay.compact;
+
+import com.APP.Project.Main;
+import com.APP.Project.UserCoreLogic.GameEngine;
+import com.APP.Project.UserCoreLogic.UserCoreLogic;
+import com.APP.Project.UserCoreLogic.common.services.LoadGameService;
+import com.APP.Project.UserCoreLogic.constants.enums.CardType;
+import com.APP.Project.UserCoreLogic.constants.enums.StrategyType;
+import com.APP.Project.UserCoreLogic.exceptions.*;
+import com.APP.Project.UserCoreLogic.gamePlay.GamePlayEngine;
+import com.APP.Project.UserCoreLogic.gamePlay.services.CountryDistributionService;
+import com.APP.Project.UserCoreLogic.game_entities.Country;
+import com.APP.Project.UserCoreLogic.game_entities.Player;
+import com.APP.Project.UserCoreLogic.map_features.MapEditorEngine;
+import com.APP.Project.UserCoreLogic.map_features.adapters.EditMapService;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * This class tests the conversion of a game to <code>CompactGameState</code> and the orders executed on it.
+ *
+ * @author Rupal Kapoor
+ * @version 1.0
+ */
+public class CompactGameStateTest {
+    private static Main d_Application = new Main();
+    private static MapEditorEngine d_MapEditorEngine;
+    private static GamePlayEngine d_GamePlayEngine;
+    private static URL d_TestFile;
+
+    /**
+     * Initializes the engines and the map file used by the test cases.
+     */
+    @BeforeClass
+    public static void beforeClass() {
+        d_Application.handleApplicationStartup();
+        UserCoreLogic.getInstance().initialise();
+        d_GamePlayEngine = UserCoreLogic.getGameEngine().getGamePlayEngine();
+        d_MapEditorEngine = UserCoreLogic.getGameEngine().getMapEditorEngine();
+        d_TestFile = CompactGameStateTest.class.getClassLoader().getResource("test_map_files/test_map.map");
+    }
+
+    /**
+     * Loads the map and distributes the countries between two computer players.
+     *
+     * @throws InvalidInputException     Throws if provided argument and its value(s) are not valid.
+     * @throws AbsentTagException        Throws if tag is absent in .map file.
+     * @throws InvalidMapException       Throws if map file is invalid.
+     * @throws ResourceNotFoundException Throws if file not found.
+     * @throws EntityNotFoundException   Throws if entity not found while searching.
+     * @throws URISyntaxException        If error while parsing the string representing the path.
+     */
+    @Before
+    public void before() throws InvalidInputException, AbsentTagException, InvalidMapException, ResourceNotFoundException, EntityNotFoundException, URISyntaxException {
+        d_GamePlayEngine.initialise();
+        d_MapEditorEngine.initialise();
+
+        d_GamePlayEngine.addPlayer(new Player("USER_1", StrategyType.AGGRESSIVE));
+        d_GamePlayEngine.addPlayer(new Player("USER_2", StrategyType.BENEVOLENT));
+
+        assertNotNull(d_TestFile);
+        String l_url = new URI(d_TestFile.getPath()).getPath();
+        new EditMapService().handleLoadMap(l_url);
+        new CountryDistributionService().distributeCountries();
+    }
+
+    /**
+     * Tests that the owners and armies of the countries are read from the game engine.
+     *
+     * @throws InvalidGameException If the game can not be simulated.
+     */
+    @Test
+    public void testFromGameEngine() throws InvalidGameException {
+        CompactGameState l_state = CompactGameState.fromGameEngine(UserCoreLogic.getGameEngine());
+        assertEquals(d_MapEditorEngine.getCountryList().size(), l_state.getCountryCount());
+        assertEquals(2, l_state.getPlayerCount());
+
+        int l_ownedCountryCount = 0;
+        for (int l_player = 0; l_player < l_state.getPlayerCount(); l_player++) {
+            Player l_playerObject = d_GamePlayEngine.getPlayerList().get(l_player);
+            assertEquals(l_playerObject.getName(), l_state.getPlayerName(l_player));
+            assertEquals(l_playerObject.getAssignedCountries().size(), l_state.getOwnedCountryCount(l_player));
+            for (Country l_country : l_playerObject.getAssignedCountries()) {
+                int l_countryIndex = l_state.findCountry(l_country.getCountryName());
+                assertEquals(l_player, l_state.getOwner(l_countryIndex));
+                assertEquals(l_country.getNumberOfArmies(), l_state.getArmies(l_countryIndex));
+            }
+            l_ownedCountryCount += l_state.getOwnedCountryCount(l_player);
+        }
+        assertEquals(l_state.getCountryCount(), l_ownedCountryCount);
+    }
+
+    /**
+     * Tests that a game loaded from a saved game is converted, with each country in the continent of the map.
+     *
+     * @throws UserCoreLogicException If the game can not be loaded or simulated.
+     */
+    @Test
+    public void testFromLoadedGame() throws UserCoreLogicException {
+        GameEngine l_gameEngine = UserCoreLogic.getGameEngine();
+        try {
+            new LoadGameService().loadGameState(l_gameEngine.toJSON());
+            // The continents of the map are read from their countries, not from Country#getContinent.
+            for (Country l_loadedCountry : UserCoreLogic.getGameEngine().getMapEditorEngine().getCountryList()) {
+                l_loadedCountry.setContinent(null);
+            }
+            CompactGameState l_state = CompactGameState.fromGameEngine(UserCoreLogic.getGameEngine());
+            assertEquals(d_MapEditorEngine.getCountryList().size(), l_state.getCountryCount());
+            for (Country l_country : d_MapEditorEngine.getCountryList()) {
+                int l_countryIndex = l_state.findCountry(l_country.getCountryName());
+                assertEquals(l_country.getContinent().getContinentName(),
+                        l_state.getContinentName(l_state.getContinent(l_countryIndex)));
+                assertEquals(l_country.getOwnedBy().getName(), l_state.getPlayerName(l_state.getOwner(l_countryIndex)));
+            }
+        } finally {
+            // Loading replaces the game engine used by the other tests.
+            UserCoreLogic.setGameEngine(l_gameEngine);
+        }
+    }
+
+    /**
+     * Tests that a game with a human player can not be simulated.
+     *
+     * @throws InvalidGameException Expected as one player is controlled by the user.
+     */
+    @Test(expected = InvalidGameException.class)
+    public void testHumanPlayerIsRejected() throws InvalidGameException {
+        d_GamePlayEngine.addPlayer(new Player("USER_3", StrategyType.HUMAN));
+        CompactGameState.fromGameEngine(UserCoreLogic.getGameEngine());
+    }
+
+    /**
+     * Tests that deploying and blockading change the state and are written back to the game engine.
+     *
+     * @throws InvalidGameException If the game can not be simulated.
+     */
+    @Test
+    public void testOrdersAreAppliedToGameEngine() throws InvalidGameException {
+        CompactGameState l_state = CompactGameState.fromGameEngine(UserCoreLogic.getGameEngine());
+        CompactOrderExecutor l_executor = new CompactOrderExecutor(l_state);
+        Player l_player = d_GamePlayEngine.getPlayerList().get(0);
+        int l_ownedCountryCount = l_state.getOwnedCountryCount(0);
+        int l_country = l_state.findCountry(l_player.getAssignedCountries().get(0).getCountryName());
+
+        l_state.setReinforcements(0, 5);
+        assertFalse(l_executor.deploy(0, l_country, 6));
+        assertTrue(l_executor.deploy(0, l_country, 5));
+        assertEquals(5, l_state.getArmies(l_country));
+        assertEquals(0, l_state.getRemainingReinforcements(0));
+
+        assertFalse(l_executor.blockade(0, l_country));
+        l_state.addCard(0, CompactGameState.cardTypeIndex(CardType.BLOCKADE));
+        assertTrue(l_executor.blockade(0, l_country));
+        assertEquals(5 * CompactOrderExecutor.BLOCKADE_MULTIPLIER, l_state.getArmies(l_country));
+        assertEquals(CompactGameState.NEUTRAL, l_state.getOwner(l_country));
+        assertEquals(l_ownedCountryCount - 1, l_state.getOwnedCountryCount(0));
+        assertFalse(l_state.hasCard(0, CardType.BLOCKADE));
+
+        l_state.applyTo(UserCoreLogic.getGameEngine());
+        Country l_countryObject = d_MapEditorEngine.findCountryByName(l_state.getCountryName(l_country));
+        assertEquals(5 * CompactOrderExecutor.BLOCKADE_MULTIPLIER, l_countryObject.getNumberOfArmies());
+        assertEquals(l_ownedCountryCount - 1, l_player.getAssignedCountries().size());
+        assertFalse(l_player.getAssignedCountries().contains(l_countryObject));
+    }
+
+    /**
+     * Tests that the countries stay owned by exactly one player or neutral while the game is played.
+     *
+     * @throws InvalidGameException If the game can not be simulated.
+     */
+    @Test
+    public void testGameLoopKeepsCountsConsistent() throws InvalidGameException {
+        CompactGameState l_state = CompactGameState.fromGameEngine(UserCoreLogic.getGameEngine());
+        l_state.setRandom(new Random(7));
+        CompactGameLoop l_gameLoop = new CompactGameLoop(l_state);
+        for (int l_turn = 0; l_turn < 10 && l_gameLoop.findWinner() == CompactGameLoop.DRAW; l_turn++) {
+            l_gameLoop.playTurn();
+            int[] l_ownedCountryCounts = new int[l_state.getPlayerCount()];
+            for (int l_country = 0; l_country < l_state.getCountryCount(); l_country++) {
+                if (l_state.getOwner(l_country) != CompactGameState.NEUTRAL) {
+                    l_ownedCountryCounts[l_state.getOwner(l_country)]++;
+                }
+                assertTrue(l_state.getArmies(l_country) >= 0);
+            }
+            for (int l_player = 0; l_player < l_state.getPlayerCount(); l_player++) {
+                assertEquals(l_ownedCountryCounts[l_player], l_state.getOwnedCountryCount(l_player));
+            }
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.APP.Project.UserCoreLogic.gamePlay.replay;
+
+import com.APP.Project.Main;
+import com.APP.Project.UserCoreLogic.GameEngine;
+import com.APP.Project.UserCoreLogic.TournamentEngine;
+import com.APP.Project.UserCoreLogic.UserCoreLogic;
+import com.APP.Project.UserCoreLogic.Utility.FindFilePathUtil;
+import com.APP.Project.UserCoreLogic.constants.enums.StrategyType;
+import com.APP.Project.UserCoreLogic.exceptions.InvalidArgumentException;
+import com.APP.Project.UserCoreLogic.exceptions.UserCoreLogicException;
+import com.APP.Project.UserCoreLogic.game_entities.Country;
+import com.APP.Project.UserCoreLogic.game_entities.Player;
+import com.APP.Project.UserCoreLogic.logger.EventJournal;
+import com.APP.Project.UserCoreLogic.logger.JournalReader;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * This class tests that <code>ReplayEngine</code> rebuilds a game played by the tournament from its journal.
+ *
+ * @author Rupal Kapoor
+ * @version 1.0
+ */
+public class ReplayEngineTest {
+    private static final Main d_Application = new Main();
+    private GameEngine d_playedGameEngine;
+    private File d_journalFile;
+
+    /**
+     * Starts the application and makes sure the journals can be written.
+     */
+    @BeforeClass
+    public static void beforeClass() {
+        d_Application.handleApplicationStartup();
+        FindFilePathUtil.getLogDirectoryPath().toFile().mkdirs();
+    }
+
+    /**
+     * Plays a game of the tournament and finds its journal.
+     *
+     * @throws UserCoreLogicException If the game can not be played.
+     */
+    @Before
+    public void before() throws UserCoreLogicException {
+        UserCoreLogic.getInstance().initialise();
+        long l_startTime = System.currentTimeMillis();
+
+        TournamentEngine l_tournamentEngine = UserCoreLogic.TOURNAMENT_ENGINE();
+        l_tournamentEngine.setMapFileList(Collections.singletonList("test_earth.map"));
+        l_tournamentEngine.setMaxNumberOfTurns(12);
+        l_tournamentEngine.setNumberOfGames(1);
+        l_tournamentEngine.addPlayer(new Player("Player_1", StrategyType.AGGRESSIVE));
+        l_tournamentEngine.addPlayer(new Player("Player_2", StrategyType.CHEATER));
+        l_tournamentEngine.addPlayer(new Player("Player_3", StrategyType.RANDOM));
+        l_tournamentEngine.onStart(false);
+        d_playedGameEngine = l_tournamentEngine.getPlayedGameEngineMappings().get(0).get(0);
+
+        File[] l_journalFiles = FindFilePathUtil.getLogDirectoryPath().toFile().listFiles((p_directory, p_name) ->
+                p_name.endsWith("_game1_map1" + EventJournal.FILE_EXTENSION));
+        assertNotNull(l_journalFiles);
+        for (File l_journalFile : l_journalFiles) {
+            if (l_journalFile.lastModified() >= l_startTime - 1000
+                    && (d_journalFile == null || l_journalFile.lastModified() > d_journalFile.lastModified())) {
+                d_journalFile = l_journalFile;
+            }
+        }
+        assertNotNull(d_journalFile);
+    }
+
+    /**
+     * Tests that replaying the journal to its end gives the countries and armies of the played game.
+     *
+     * @throws UserCoreLogicException If the journal can not be replayed.
+     * @throws IOException            If the journal can not be read.
+     */
+    @Test
+    public void testReplayMatchesPlayedGame() throws UserCoreLogicException, IOException {
+        ReplayEngine l_replayEngine = ReplayEngine.fromJournal(d_journalFile);
+        l_replayEngine.runToEnd();
+
+        assertTrue(l_replayEngine.isFinished());
+        assertTrue(l_replayEngine.getReplayedOrderCount() > 0);
+        assertEquals(0, l_replayEngine.getDivergenceCount());
+        assertEquals(describe(d_playedGameEngine), describe(l_replayEngine.getGameEngine()));
+    }
+
+    /**
+     * Tests that seeking back to an earlier turn and replaying again ends in the same game.
+     *
+     * @throws UserCoreLogicException If the journal can not be replayed.
+     * @throws IOException            If the journal can not be read.
+     */
+    @Test
+    public void testSeekBackwardsReplaysSameGame() throws UserCoreLogicException, IOException {
+        ReplayEngine l_replayEngine = new ReplayEngine(
+                JournalReader.readAll(d_journalFile, p_event -> true), 2);
+        l_replayEngine.seek(5);
+        Map<String, String> l_stateAtTurnFive = describe(l_replayEngine.getGameEngine());
+        int l_positionAtTurnFive = l_replayEngine.getPosition();
+
+        l_replayEngine.runToEnd();
+        Map<String, String> l_finalState = describe(l_replayEngine.getGameEngine());
+
+        l_replayEngine.seek(5);
+        assertEquals(l_positionAtTurnFive, l_replayEngine.getPosition());
+        assertEquals(l_stateAtTurnFive, describe(l_replayEngine.getGameEngine()));
+
+        l_replayEngine.runToEnd();
+        assertEquals(0, l_replayEngine.getDivergenceCount());
+        assertEquals(l_finalState, describe(l_replayEngine.getGameEngine()));
+    }
+
+    /**
+     * Tests that seeking to a negative turn is rejected.
+     *
+     * @throws UserCoreLogicException If the journal can not be replayed.
+     * @throws IOException            If the journal can not be read.
+     */
+    @Test(expected = InvalidArgumentException.class)
+    public void testNegativeTurnIsRejected() throws UserCoreLogicException, IOException {
+        ReplayEngine.fromJournal(d_journalFile).seek(-1);
+    }
+
+    /**
+     * Describes the owner and armies of each country of the game.
+     *
+     * @param p_gameEngine Engine of the game.
+     * @return Owner and armies by the name of the country.
+     */
+    private static Map<String, String> describe(GameEngine p_gameEngine) {
+        Map<String, String> l_state = new HashMap<>();
+        for (Country l_country : p_gameEngine.getMapEditorEngine().getCountryList()) {
+            String l_owner = l_country.getOwnedBy() == null ? "-" : l_country.getOwnedBy().getName();
+            l_state.put(l_country.getCountryName(), l_owner + ":" + l_country.getNumberOfArmies());
+        }
+        return l_state;
+    }
+}
@@ -3,6 +3,7 @@ package com.APP.Project.UserCoreLogic.gamePlay.services;
 import com.APP.Project.Main;
 import com.APP.Project.UserCoreLogic.UserCoreLogic;
 import com.APP.Project.UserCoreLogic.common.services.LoadGameService;
+import com.APP.Project.UserCoreLogic.game_entities.Continent;
 import com.APP.Project.UserCoreLogic.game_entities.Player;
 import com.APP.Project.UserCoreLogic.exceptions.*;
 import com.APP.Project.UserCoreLogic.gamePlay.GamePlayEngine;
@@ -10,6 +11,7 @@ import com.APP.Project.UserCoreLogic.map_features.MapEditorEngine;
 import com.APP.Project.UserCoreLogic.map_features.adapters.EditMapService;
 import com.APP.Project.UserCoreLogic.Container.PlayerContainer;
 import com.APP.Project.UserCoreLogic.Utility.FileValidationUtil;
+import com.APP.Project.UserCoreLogic.Utility.JSONStreamReader;
 import org.json.JSONObject;
 import org.junit.Before;
 import org.junit.BeforeClass;
@@ -19,12 +21,14 @@ import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
+import java.io.StringReader;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 
 /**
@@ -109,4 +113,92 @@ public class LoadGameServiceTest {
         Player l_player1 = d_PLAYER_REPOSITORY.findByPlayerName("player_1");
         assertEquals(l_player1.getAssignedCountries().size(), 4);
     }
+
+    /**
+     * This method tests that the game read member by member from the file is the same as the game loaded from the
+     * JSONObject of the file.
+     *
+     * @throws IOException Is thrown in case any exception while reading the file.
+     * @throws UserCoreLogicException Is thrown in case any error while loading the game.
+     */
+    @Test
+    public void testStreamedLoadMatchesJSON() throws UserCoreLogicException, IOException {
+        LoadGameService l_loadGameService = new LoadGameService();
+        File l_targetFile = FileValidationUtil.retrieveGameFile(d_testSavedFilePath.getPath());
+        StringBuilder l_fileContentBuilder = new StringBuilder();
+        try (BufferedReader l_bufferedReader = new BufferedReader(new FileReader(l_targetFile))) {
+            String l_currentLine;
+            while ((l_currentLine = l_bufferedReader.readLine()) != null) {
+                l_fileContentBuilder.append(l_currentLine);
+            }
+        }
+        l_loadGameService.loadGameState(new JSONObject(l_fileContentBuilder.toString()));
+        String l_loadedGame = UserCoreLogic.getGameEngine().toJSON().toString();
+
+        try (JSONStreamReader l_reader = new JSONStreamReader(new FileReader(l_targetFile))) {
+            l_loadGameService.loadGameState(l_reader);
+        }
+        assertEquals(l_loadedGame, UserCoreLogic.getGameEngine().toJSON().toString());
+
+        Player l_player1 = d_PLAYER_REPOSITORY.findByPlayerName("player_1");
+        assertEquals(4, l_player1.getAssignedCountries().size());
+    }
+
+    /**
+     * This method tests that a game file which ends in the middle of the game is rejected.
+     *
+     * @throws IOException Is thrown in case any exception while reading the file.
+     * @throws UserCoreLogicException Is thrown in case any error while loading the game.
+     */
+    @Test(expected = InvalidGameException.class)
+    public void testTruncatedFileIsRejected() throws UserCoreLogicException, IOException {
+        LoadGameService l_loadGameService = new LoadGameService();
+        try (JSONStreamReader l_reader = new JSONStreamReader(new StringReader("{\"phase\": \"IssueOrder\", \"map_editor\": {"))) {
+            l_loadGameService.loadGameState(l_reader);
+        }
+    }
+
+    /**
+     * This method tests that the players of a loaded game, read from the JSONObject of the file or member by member,
+     * get the control value of the continents they own when the armies are reinforced.
+     *
+     * @throws IOException Is thrown in case any exception while reading the file.
+     * @throws UserCoreLogicException Is thrown in case any error while loading the game.
+     */
+    @Test
+    public void testLoadedGameGrantsContinentBonus() throws UserCoreLogicException, IOException {
+        LoadGameService l_loadGameService = new LoadGameService();
+        File l_targetFile = FileValidationUtil.retrieveGameFile(d_testSavedFilePath.getPath());
+        StringBuilder l_fileContentBuilder = new StringBuilder();
+        try (BufferedReader l_bufferedReader = new BufferedReader(new FileReader(l_targetFile))) {
+            String l_currentLine;
+            while ((l_currentLine = l_bufferedReader.readLine()) != null) {
+                l_fileContentBuilder.append(l_currentLine);
+            }
+        }
+        l_loadGameService.loadGameState(new JSONObject(l_fileContentBuilder.toString()));
+        this.assertContinentBonus();
+
+        try (JSONStreamReader l_reader = new JSONStreamReader(new FileReader(l_targetFile))) {
+            l_loadGameService.loadGameState(l_reader);
+        }
+        this.assertContinentBonus();
+    }
+
+    /**
+     * Reinforces the armies of the loaded game and checks that only player_2, who owns the whole of Europe, gets its
+     * control value.
+     *
+     * @throws EntityNotFoundException Is thrown in case a player is not found.
+     */
+    private void assertContinentBonus() throws EntityNotFoundException {
+        Continent l_europe = UserCoreLogic.getGameEngine().getMapEditorEngine().findContinentByName("Europe");
+        Player l_player1 = d_PLAYER_REPOSITORY.findByPlayerName("player_1");
+        Player l_player2 = d_PLAYER_REPOSITORY.findByPlayerName("player_2");
+        assertTrue(l_player2.ownsContinent(l_europe));
+
+        new ReinforcementService().execute();
+        assertEquals(3, l_player1.getReinforcementCount());
+        assertEquals(3 + l_europe.getContinentControlValue(), l_player2.getReinforcementCount());
+    }
 }
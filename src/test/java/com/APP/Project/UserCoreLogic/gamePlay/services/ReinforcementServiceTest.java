@@ -7,6 +7,8 @@ import com.APP.Project.UserCoreLogic.exceptions.*;
 import com.APP.Project.UserCoreLogic.gamePlay.GamePlayEngine;
 import com.APP.Project.UserCoreLogic.map_features.MapEditorEngine;
 import com.APP.Project.UserCoreLogic.map_features.adapters.EditMapService;
+import com.APP.Project.UserCoreLogic.game_entities.Continent;
+import com.APP.Project.UserCoreLogic.game_entities.Country;
 import com.APP.Project.UserCoreLogic.game_entities.Player;
 import org.junit.Before;
 import org.junit.BeforeClass;
@@ -15,9 +17,12 @@ import org.junit.Test;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.util.ArrayList;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 /**
  * This file contains the ReinforcementServiceTest class which tests the functionality
@@ -103,4 +108,36 @@ public class ReinforcementServiceTest {
         int l_reinforcementArmies1 = d_GamePlayEngine.getPlayerList().get(1).getReinforcementCount();
         assertEquals(13, l_reinforcementArmies1);
     }
+
+    /**
+     * Tests that the continent bonus follows the countries taken from the other player.
+     *
+     * @throws EntityNotFoundException Throws if entity not found while searching.
+     */
+    @Test
+    public void testContinentBonusAfterConquest() throws EntityNotFoundException {
+        Player l_player1 = d_GamePlayEngine.getPlayerList().get(0);
+        Player l_player2 = d_GamePlayEngine.getPlayerList().get(1);
+        Continent l_continent = l_player2.getAssignedCountries().get(0).getContinent();
+        for (Country l_country : new ArrayList<>(l_continent.getCountryList())) {
+            if (l_country.getOwnedBy() == l_player2) {
+                l_player2.removeCountry(l_country);
+                l_country.setOwnedBy(l_player1);
+                l_player1.addAssignedCountries(l_country);
+            }
+        }
+        assertEquals(l_continent.getCountryList().size(), l_player1.getOwnedCountryCount(l_continent));
+        assertEquals(0, l_player2.getOwnedCountryCount(l_continent));
+        assertTrue(l_player1.ownsContinent(l_continent));
+        assertFalse(l_player2.ownsContinent(l_continent));
+
+        d_AssignReinforcementService.execute();
+        int l_continentValue = 0;
+        for (Continent l_ownedContinent : d_MapEditorEngine.getContinentList()) {
+            if (l_player1.getAssignedCountries().containsAll(l_ownedContinent.getCountryList())) {
+                l_continentValue += l_ownedContinent.getContinentControlValue();
+            }
+        }
+        assertEquals(Math.max(3, l_player1.getAssignedCountries().size() / 3) + l_continentValue, l_player1.getReinforcementCount());
+    }
 }
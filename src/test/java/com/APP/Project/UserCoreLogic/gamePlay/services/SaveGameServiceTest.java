@@ -1,14 +1,26 @@
 package com.APP.Project.UserCoreLogic.gamePlay.services;
 
 import com.APP.Project.Main;
+import com.APP.Project.UserCoreLogic.GameEngine;
 import com.APP.Project.UserCoreLogic.UserCoreLogic;
+import com.APP.Project.UserCoreLogic.Utility.FindFilePathUtil;
+import com.APP.Project.UserCoreLogic.Utility.JSONStreamWriter;
+import com.APP.Project.UserCoreLogic.common.services.AutosaveReader;
+import com.APP.Project.UserCoreLogic.common.services.AutosaveWriter;
+import com.APP.Project.UserCoreLogic.common.services.CardService;
+import com.APP.Project.UserCoreLogic.common.services.LoadGameService;
 import com.APP.Project.UserCoreLogic.common.services.SaveGameService;
+import com.APP.Project.UserCoreLogic.constants.enums.CardType;
+import com.APP.Project.UserCoreLogic.constants.enums.SaveGameFormat;
 import com.APP.Project.UserCoreLogic.constants.enums.StrategyType;
 import com.APP.Project.UserCoreLogic.exceptions.*;
 import com.APP.Project.UserCoreLogic.gamePlay.GamePlayEngine;
+import com.APP.Project.UserCoreLogic.gamePlay.GameRandom;
 import com.APP.Project.UserCoreLogic.map_features.adapters.EditMapService;
 import com.APP.Project.UserCoreLogic.phases.IssueOrder;
+import com.APP.Project.UserCoreLogic.game_entities.Country;
 import com.APP.Project.UserCoreLogic.game_entities.Player;
+import com.APP.Project.UserCoreLogic.game_entities.orders.DeployOrder;
 import org.json.JSONObject;
 import org.junit.Before;
 import org.junit.BeforeClass;
@@ -17,12 +29,20 @@ import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileReader;
 import java.io.IOException;
+import java.io.StringWriter;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.util.Arrays;
+import java.util.Collections;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
@@ -76,6 +96,8 @@ public class SaveGameServiceTest {
     @Before
     public void before() throws AbsentTagException, InvalidMapException, ResourceNotFoundException, InvalidInputException, EntityNotFoundException, URISyntaxException {
         d_gamePlayEngine.initialise();
+        // The saved game of the test was played with this seed.
+        d_gamePlayEngine.setRandom(new GameRandom(2021));
 
         EditMapService l_editMapService = new EditMapService();
         assertNotNull(d_testFilePath);
@@ -124,4 +146,174 @@ public class SaveGameServiceTest {
         boolean isEqual = l_actualJSONObject.similar(l_savedJSONObject);
         assertTrue(isEqual);
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests that the game written member by member is read back as the same JSON as <code>GameEngine#toJSON</code>,
+     * including the orders of the players.
+     *
+     * @throws UserCoreLogicException is thrown in case the order can not be created.
+     * @throws IOException            is thrown in case the game can not be written.
+     */
+    @Test
+    public void testStreamedGameMatchesJSON() throws UserCoreLogicException, IOException {
+        Player l_player = d_gamePlayEngine.getPlayerList().get(0);
+        l_player.addOrder(new DeployOrder(l_player.getAssignedCountries().get(0), 2, l_player));
+
+        StringWriter l_stringWriter = new StringWriter();
+        try (JSONStreamWriter l_writer = new JSONStreamWriter(l_stringWriter)) {
+            UserCoreLogic.getGameEngine().writeJSON(l_writer);
+        }
+        JSONObject l_streamedJSONObject = new JSONObject(l_stringWriter.toString());
+        assertTrue(l_streamedJSONObject.similar(UserCoreLogic.getGameEngine().toJSON()));
+    }
+
+    /**
+     * Tests that a game saved in the binary encodings is found and loaded by <code>LoadGameService</code> as the same
+     * game, which reinforces the same armies, and that the binary files are smaller than the JSON file.
+     *
+     * @throws UserCoreLogicException is thrown in case the game can not be saved or loaded.
+     */
+    @Test
+    public void testBinaryGameLoadsSameGame() throws UserCoreLogicException {
+        Player l_player = d_gamePlayEngine.getPlayerList().get(0);
+        l_player.addOrder(new DeployOrder(l_player.getAssignedCountries().get(0), 2, l_player));
+        GameEngine l_gameEngine = UserCoreLogic.getGameEngine();
+        JSONObject l_expectedJSONObject = l_gameEngine.toJSON();
+        FindFilePathUtil.getUserDataDirectoryPath().toFile().mkdirs();
+
+        File l_jsonFile = new File(FindFilePathUtil.resolveFilePath("test_format_json.warzone"));
+        File l_binaryFile = new File(FindFilePathUtil.resolveFilePath("test_format_binary.warzone"));
+        File l_compressedFile = new File(FindFilePathUtil.resolveFilePath("test_format_compressed.warzone"));
+        try {
+            new SaveGameService().execute(Collections.singletonList("test_format_json"));
+            new SaveGameService(SaveGameFormat.BINARY).execute(Collections.singletonList("test_format_binary"));
+            new SaveGameService(SaveGameFormat.COMPRESSED_BINARY).execute(Collections.singletonList("test_format_compressed"));
+            assertTrue(l_binaryFile.length() * 4 < l_jsonFile.length());
+            assertTrue(l_compressedFile.length() < l_jsonFile.length());
+
+            for (File l_file : new File[]{l_jsonFile, l_binaryFile, l_compressedFile}) {
+                new LoadGameService().execute(Collections.singletonList(l_file.getName()));
+                assertTrue(l_file.getName(), UserCoreLogic.getGameEngine().toJSON().similar(l_expectedJSONObject));
+                // The continents owned by the players still award their control value.
+                new ReinforcementService().execute();
+                assertTrue(l_file.getName(), UserCoreLogic.getGameEngine().toJSON().similar(l_expectedJSONObject));
+            }
+        } finally {
+            // Loading replaces the game engine used by the other tests.
+            UserCoreLogic.setGameEngine(l_gameEngine);
+            l_jsonFile.delete();
+            l_binaryFile.delete();
+            l_compressedFile.delete();
+        }
+    }
+
+    /**
+     * Tests that the game rebuilt from the last snapshot of an autosave and the deltas after it is the game of the
+     * last turn, including a country released by a blockade, and that a record cut short at the end of the file is
+     * ignored.
+     *
+     * @throws UserCoreLogicException is thrown in case the order can not be created or the autosave is corrupted.
+     * @throws IOException            is thrown in case the autosave can not be written or read.
+     */
+    @Test
+    public void testAutosaveRecoversLastTurn() throws UserCoreLogicException, IOException {
+        GameEngine l_gameEngine = UserCoreLogic.getGameEngine();
+        Player l_player1 = d_gamePlayEngine.getPlayerList().get(0);
+        Player l_player2 = d_gamePlayEngine.getPlayerList().get(1);
+        ByteArrayOutputStream l_outputStream = new ByteArrayOutputStream();
+        JSONObject l_expectedJSONObject = null;
+        int l_lastTurnLength = 0;
+        try (AutosaveWriter l_autosave = new AutosaveWriter(l_outputStream, 3)) {
+            l_autosave.writeSnapshot(l_gameEngine);
+            for (int l_turn = 0; l_turn < 4; l_turn++) {
+                if (l_turn == 3) {
+                    // A blockade releases the country but leaves its last owner set on it.
+                    d_gamePlayEngine.getOwnershipLedger().release(l_player2.getAssignedCountries().get(0));
+                }
+                Country l_country = l_player1.getAssignedCountries().get(0);
+                d_gamePlayEngine.getOwnershipLedger().transfer(l_country, l_player2);
+                l_country.setNumberOfArmies(l_turn + 5);
+                l_player2.addCard(CardService.createCard(CardType.BOMB));
+                l_player2.getOrders().clear();
+                l_player2.addOrder(new DeployOrder(l_country, l_turn + 1, l_player2));
+
+                l_lastTurnLength = l_outputStream.size();
+                l_autosave.turnEnded(l_gameEngine);
+                if (l_turn == 2) {
+                    l_expectedJSONObject = withoutPhase(l_gameEngine.toJSON());
+                }
+            }
+
+            byte[] l_autosaveBytes = l_outputStream.toByteArray();
+            try (AutosaveReader l_reader = new AutosaveReader(new ByteArrayInputStream(l_autosaveBytes))) {
+                GameEngine l_recoveredGameEngine = l_reader.recover();
+                assertEquals("IssueOrder", l_reader.getPhaseName());
+                assertEquals(1, l_reader.getDeltaCount());
+                assertTrue(withoutPhase(l_recoveredGameEngine.toJSON()).similar(withoutPhase(l_gameEngine.toJSON())));
+                assertEquals(l_player2.getAssignedCountries().size(),
+                        l_recoveredGameEngine.getGamePlayEngine().getPlayerList().get(1).getAssignedCountries().size());
+            }
+
+            // The record of the last turn is cut short, as if the game crashed while writing it.
+            byte[] l_truncatedBytes = Arrays.copyOf(l_autosaveBytes, l_lastTurnLength + 2);
+            try (AutosaveReader l_reader = new AutosaveReader(new ByteArrayInputStream(l_truncatedBytes))) {
+                assertTrue(withoutPhase(l_reader.recover().toJSON()).similar(l_expectedJSONObject));
+            }
+        } finally {
+            // Recovering replaces the game engine used by the other tests.
+            UserCoreLogic.setGameEngine(l_gameEngine);
+        }
+    }
+
+    /**
+     * Tests that a rewritten autosave holds a single snapshot followed by the next turns, and that a turn which can not
+     * be written stops the autosave instead of interrupting the game.
+     *
+     * @throws UserCoreLogicException If the game can not be recovered.
+     * @throws IOException            If the autosave can not be written or read.
+     */
+    @Test
+    public void testRewrittenAutosaveKeepsAppending() throws UserCoreLogicException, IOException {
+        GameEngine l_gameEngine = UserCoreLogic.getGameEngine();
+        Player l_player2 = d_gamePlayEngine.getPlayerList().get(1);
+        File l_autosaveFile = tempFolder.newFile("game" + AutosaveWriter.FILE_EXTENSION);
+        try (AutosaveWriter l_autosave = AutosaveWriter.create(l_autosaveFile)) {
+            l_autosave.writeSnapshot(l_gameEngine);
+            l_autosave.turnEnded(l_gameEngine);
+        }
+
+        JSONObject l_expectedJSONObject;
+        try (AutosaveWriter l_autosave = AutosaveWriter.rewrite(l_autosaveFile, l_gameEngine, "IssueOrder")) {
+            l_player2.getAssignedCountries().get(0).setNumberOfArmies(7);
+            l_autosave.turnEnded(l_gameEngine);
+            l_expectedJSONObject = withoutPhase(l_gameEngine.toJSON());
+
+            // A friend who is not a player of the snapshot can not be written.
+            l_player2.getFriendPlayers().add(new Player("player_3", StrategyType.HUMAN));
+            l_autosave.turnEnded(l_gameEngine);
+        } finally {
+            l_player2.getFriendPlayers().clear();
+        }
+        assertEquals(1, tempFolder.getRoot().listFiles().length);
+
+        try (AutosaveReader l_reader = new AutosaveReader(new FileInputStream(l_autosaveFile))) {
+            GameEngine l_recoveredGameEngine = l_reader.recover();
+            assertEquals("IssueOrder", l_reader.getPhaseName());
+            assertEquals(1, l_reader.getDeltaCount());
+            assertTrue(withoutPhase(l_recoveredGameEngine.toJSON()).similar(l_expectedJSONObject));
+        } finally {
+            UserCoreLogic.setGameEngine(l_gameEngine);
+        }
+    }
+
+    /**
+     * Removes the phase from the JSON of a game, as the phase of a recovered game is restored by the caller.
+     *
+     * @param p_gameJSON JSON of the game.
+     * @return Value of the same JSON object.
+     */
+    private static JSONObject withoutPhase(JSONObject p_gameJSON) {
+        p_gameJSON.remove("phase");
+        return p_gameJSON;
+    }
+}
@@ -8,6 +8,7 @@ import com.APP.Project.UserCoreLogic.exceptions.*;
 import com.APP.Project.UserCoreLogic.map_features.MapEditorEngine;
 import com.APP.Project.UserCoreLogic.map_features.adapters.EditMapService;
 import com.APP.Project.Main;
+import com.APP.Project.UserCoreLogic.gamePlay.services.ReinforcementService;
 import com.APP.Project.UserCoreLogic.phases.PlaySetup;
 import org.junit.Before;
 import org.junit.BeforeClass;
@@ -17,10 +18,14 @@ import java.io.ByteArrayInputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Tests if the player can issue the order correctly.
@@ -104,5 +109,56 @@ public class PlayerTest {
         d_commandLineInterface.setIn(new ByteArrayInputStream(l_orderInput.getBytes()));
         UserCoreLogic.getGameEngine().getGamePlayEngine().getPlayerList().get(0).issueOrder();
     }
-}
 
+    /**
+     * Tests that removing an assigned country keeps the other countries, their ownership and their count per
+     * continent, and moves the last country to the place of the removed one.
+     */
+    @Test
+    public void testRemoveCountry() {
+        List<Country> l_countries = d_mapEditorEngine.getCountryList();
+        Player l_player = new Player("User_3", StrategyType.HUMAN);
+        l_player.setAssignedCountries(new ArrayList<>(l_countries.subList(0, 4)));
+        Country l_removedCountry = l_countries.get(1);
+        int l_ownedCount = l_player.getOwnedCountryCount(l_removedCountry.getContinent());
+
+        l_player.removeCountry(l_removedCountry);
+        // Removing a country the player does not own changes nothing.
+        l_player.removeCountry(l_removedCountry);
+
+        assertEquals(3, l_player.getAssignedCountries().size());
+        assertEquals(l_countries.get(3), l_player.getAssignedCountries().get(1));
+        assertFalse(l_player.hasAssignedCountry(l_removedCountry));
+        assertEquals(l_ownedCount - 1, l_player.getOwnedCountryCount(l_removedCountry.getContinent()));
+        for (Country l_country : l_player.getAssignedCountries()) {
+            assertTrue(l_player.hasAssignedCountry(l_country));
+        }
+
+        // The moved country can still be removed.
+        l_player.removeCountry(l_countries.get(3));
+        assertEquals(2, l_player.getAssignedCountries().size());
+        assertFalse(l_player.hasAssignedCountry(l_countries.get(3)));
+    }
+
+    /**
+     * Tests that a continent without countries is owned by no player, so its control value is not added to the
+     * reinforcements.
+     *
+     * @throws EntityNotFoundException Throws if a player is not found.
+     */
+    @Test
+    public void testEmptyContinentGrantsNoBonus() throws EntityNotFoundException {
+        Player l_player = UserCoreLogic.getGameEngine().getGamePlayEngine().getPlayerList().get(0);
+        new ReinforcementService().execute();
+        int l_reinforcementCount = l_player.getReinforcementCount();
+
+        Continent l_continent = new Continent();
+        l_continent.setContinentName("Empty");
+        l_continent.setContinentControlValue(10);
+        d_mapEditorEngine.addContinent(l_continent);
+
+        assertFalse(l_player.ownsContinent(l_continent));
+        new ReinforcementService().execute();
+        assertEquals(l_reinforcementCount, l_player.getReinforcementCount());
+    }
+}
@@ -132,4 +132,32 @@ public class DeployOrderTest {
         l_deployOrder.execute();
         assertEquals(10, d_player1.getRemainingReinforcementCount());
     }
-}
\ No newline at end of file
+
+    /**
+     * For testing: Deploy order created with the country object, as the computer players do.
+     *
+     * @throws InvalidArgumentException Throws if the input is invalid.
+     * @throws InvalidOrderException    Throws if exception while executing the order.
+     */
+    @Test(expected = Test.None.class)
+    public void testDeployOrderWithCountry() throws InvalidArgumentException, InvalidOrderException {
+        Country l_country = d_player1.getAssignedCountries().get(0);
+        int l_armies = l_country.getNumberOfArmies();
+        d_player1.setReinforcementCount(5);
+
+        new DeployOrder(l_country, 5, d_player1).execute();
+        assertEquals(0, d_player1.getRemainingReinforcementCount());
+        assertEquals(l_armies + 5, l_country.getNumberOfArmies());
+    }
+
+    /**
+     * For testing: Deploy order created with the country object and a negative number of armies. It will raise
+     * InvalidArgumentException.
+     *
+     * @throws InvalidArgumentException Throws if exception if any argument is invalid.
+     */
+    @Test(expected = InvalidArgumentException.class)
+    public void testInvalidNoOfArmiesWithCountry() throws InvalidArgumentException {
+        new DeployOrder(d_player1.getAssignedCountries().get(0), -1, d_player1);
+    }
+}
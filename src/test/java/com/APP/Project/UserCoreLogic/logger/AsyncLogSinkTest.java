@@ -0,0 +1,110 @@
+package com.APP.Project.UserCoreLogic.logger;
+
+import org.junit.Test;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * This class tests the writing of log messages by <code>AsyncLogSink</code>.
+ *
+ * @author Rikin Dipakkumar Chauhan
+ * @version 1.0
+ */
+public class AsyncLogSinkTest {
+    /**
+     * Tests that all the queued messages are written in order when the sink is closed.
+     */
+    @Test
+    public void testMessagesAreWrittenOnClose() {
+        StringWriter l_writer = new StringWriter();
+        AsyncLogSink l_sink = new AsyncLogSink(l_writer, 4, AsyncLogSink.OverflowPolicy.BLOCK);
+        StringBuilder l_expected = new StringBuilder();
+        for (int l_index = 0; l_index < 100; l_index++) {
+            assertTrue(l_sink.offer(l_index + "\n"));
+            l_expected.append(l_index).append("\n");
+        }
+        l_sink.close();
+        assertEquals(l_expected.toString(), l_writer.toString());
+        assertEquals(0, l_sink.getDroppedCount());
+        assertFalse(l_sink.offer("after close"));
+    }
+
+    /**
+     * Tests that the messages added while the queue is full are dropped and counted.
+     *
+     * @throws InterruptedException If the test thread was interrupted.
+     */
+    @Test
+    public void testOverflowIsDroppedAndCounted() throws InterruptedException {
+        CountDownLatch l_isWriting = new CountDownLatch(1);
+        CountDownLatch l_canWrite = new CountDownLatch(1);
+        StringWriter l_writer = new StringWriter() {
+            @Override
+            public StringWriter append(CharSequence p_message) {
+                l_isWriting.countDown();
+                try {
+                    l_canWrite.await();
+                } catch (InterruptedException p_interruptedException) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.append(p_message);
+            }
+        };
+        AsyncLogSink l_sink = new AsyncLogSink(l_writer, 2, AsyncLogSink.OverflowPolicy.DROP);
+
+        // The writer thread holds the first message until the latch is released.
+        assertTrue(l_sink.offer("1"));
+        assertTrue(l_isWriting.await(5, TimeUnit.SECONDS));
+        assertTrue(l_sink.offer("2"));
+        assertTrue(l_sink.offer("3"));
+        assertFalse(l_sink.offer("4"));
+        assertFalse(l_sink.offer("5"));
+        assertEquals(2, l_sink.getDroppedCount());
+
+        l_canWrite.countDown();
+        l_sink.close();
+        assertEquals("123", l_writer.toString());
+    }
+
+    /**
+     * Tests that each message accepted while the sink is being closed is written, so none is lost after the end of the
+     * log.
+     *
+     * @throws InterruptedException If the test thread was interrupted.
+     */
+    @Test
+    public void testMessagesAcceptedDuringCloseAreWritten() throws InterruptedException {
+        StringWriter l_writer = new StringWriter();
+        AsyncLogSink l_sink = new AsyncLogSink(l_writer, 2, AsyncLogSink.OverflowPolicy.BLOCK);
+        AtomicInteger l_acceptedCount = new AtomicInteger();
+        CountDownLatch l_hasStarted = new CountDownLatch(4);
+        List<Thread> l_producers = new ArrayList<>();
+        for (int l_index = 0; l_index < 4; l_index++) {
+            Thread l_producer = new Thread(() -> {
+                l_hasStarted.countDown();
+                while (l_sink.offer("x")) {
+                    l_acceptedCount.incrementAndGet();
+                }
+            });
+            l_producers.add(l_producer);
+            l_producer.start();
+        }
+        assertTrue(l_hasStarted.await(5, TimeUnit.SECONDS));
+        l_sink.close();
+        for (Thread l_producer : l_producers) {
+            l_producer.join(5000);
+            assertFalse(l_producer.isAlive());
+        }
+        assertEquals(l_acceptedCount.get(), l_writer.toString().length());
+        assertEquals(0, l_sink.getDroppedCount());
+    }
+}
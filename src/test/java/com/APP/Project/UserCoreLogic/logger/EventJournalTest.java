@@ -0,0 +1,172 @@
+package com.APP.Project.UserCoreLogic.logger;
+
+import com.APP.Project.UserCoreLogic.GameContext;
+import com.APP.Project.UserCoreLogic.GameEngine;
+import com.APP.Project.UserCoreLogic.constants.enums.CardType;
+import com.APP.Project.UserCoreLogic.constants.enums.JournalEventType;
+import com.APP.Project.UserCoreLogic.constants.enums.OrderTypes;
+import com.APP.Project.UserCoreLogic.constants.enums.StrategyType;
+import com.APP.Project.UserCoreLogic.exceptions.InvalidGameException;
+import com.APP.Project.UserCoreLogic.exceptions.UserCoreLogicException;
+import com.APP.Project.UserCoreLogic.game_entities.Country;
+import com.APP.Project.UserCoreLogic.game_entities.Player;
+import com.APP.Project.UserCoreLogic.game_entities.orders.DeployOrder;
+import com.APP.Project.UserCoreLogic.gamePlay.GamePlayEngine;
+import com.APP.Project.UserCoreLogic.map_features.MapEditorEngine;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * This class tests that the events written by <code>EventJournal</code> are read back by <code>JournalReader</code>.
+ *
+ * @author Rikin Dipakkumar Chauhan
+ * @version 1.0
+ */
+public class EventJournalTest {
+    private ByteArrayOutputStream d_outputStream;
+    private EventJournal d_journal;
+    private Player d_player1;
+    private Player d_player2;
+    private Country d_country1;
+    private Country d_country2;
+
+    /**
+     * Creates a journal in memory, two players and two countries, in a game of their own so that the orders of the test
+     * cases are not added to the game of another test.
+     *
+     * @throws IOException If the header can not be written.
+     */
+    @Before
+    public void before() throws IOException {
+        new GameContext(new GameEngine(new MapEditorEngine(), new GamePlayEngine())).bind();
+        d_outputStream = new ByteArrayOutputStream();
+        d_journal = new EventJournal(d_outputStream);
+        d_player1 = new Player("USER_1", StrategyType.AGGRESSIVE);
+        d_player2 = new Player("USER_2", StrategyType.BENEVOLENT);
+        d_country1 = new Country("India");
+        d_country2 = new Country("Nepal");
+    }
+
+    /**
+     * Removes the game of the test cases from the current thread.
+     */
+    @After
+    public void after() {
+        GameContext.unbind();
+    }
+
+    /**
+     * Tests that the events are read back in order, with the names of their players and countries and the turn of the
+     * last phase change.
+     *
+     * @throws UserCoreLogicException If the order can not be created or the journal is invalid.
+     * @throws IOException            If the journal can not be read.
+     */
+    @Test
+    public void testEventsAreReadBack() throws UserCoreLogicException, IOException {
+        d_journal.mapLoaded("solar.map");
+        d_journal.playersJoined(Arrays.asList(d_player1, d_player2));
+        d_journal.ownershipChanged(d_country1, null, d_player1);
+        d_journal.phaseChanged(3, "Execute");
+        d_journal.orderExecuted(new DeployOrder(d_country1, 100000, d_player1), true);
+        d_journal.ownershipChanged(d_country2, d_player1, d_player2);
+        d_journal.cardAwarded(d_player2, CardType.BOMB);
+        d_journal.close();
+        assertFalse(d_journal.hasFailed());
+
+        List<JournalEvent> l_events = this.readAll();
+        List<JournalEventType> l_types = new ArrayList<>();
+        for (JournalEvent l_event : l_events) {
+            l_types.add(l_event.getType());
+        }
+        assertEquals(Arrays.asList(JournalEventType.MAP_LOADED,
+                JournalEventType.PLAYER_DEFINED, JournalEventType.PLAYER_DEFINED,
+                JournalEventType.COUNTRY_DEFINED, JournalEventType.OWNERSHIP_CHANGED,
+                JournalEventType.PHASE_CHANGED, JournalEventType.ORDER_EXECUTED,
+                JournalEventType.COUNTRY_DEFINED, JournalEventType.OWNERSHIP_CHANGED,
+                JournalEventType.CARD_AWARDED), l_types);
+
+        assertEquals("solar.map", l_events.get(0).getName());
+        assertEquals("USER_2", l_events.get(2).getName());
+        assertEquals(StrategyType.BENEVOLENT.name(), l_events.get(2).getDetail());
+        assertEquals(0, l_events.get(4).getExecutionIndex());
+        assertNull(l_events.get(4).getOtherPlayerName());
+
+        JournalEvent l_order = l_events.get(6);
+        assertEquals(3, l_order.getExecutionIndex());
+        assertEquals(OrderTypes.deploy, l_order.getOrderType());
+        assertTrue(l_order.isExecuted());
+        assertEquals("USER_1", l_order.getPlayerName());
+        assertEquals("India", l_order.getTargetCountryName());
+        assertNull(l_order.getSourceCountryName());
+        assertEquals(100000, l_order.getNumberOfArmies());
+
+        JournalEvent l_ownershipChange = l_events.get(8);
+        assertEquals(1, l_ownershipChange.getTargetCountry());
+        assertEquals("Nepal", l_ownershipChange.getTargetCountryName());
+        assertEquals("USER_1", l_ownershipChange.getOtherPlayerName());
+        assertEquals("USER_2", l_ownershipChange.getPlayerName());
+        assertEquals(CardType.BOMB, l_events.get(9).getCardType());
+    }
+
+    /**
+     * Tests that a journal cut in the middle of an event ends at the last complete event.
+     *
+     * @throws UserCoreLogicException If the journal is invalid.
+     * @throws IOException            If the journal can not be read.
+     */
+    @Test
+    public void testTruncatedJournalEndsAtLastEvent() throws UserCoreLogicException, IOException {
+        d_journal.mapLoaded("solar.map");
+        d_journal.cardAwarded(d_player1, CardType.AIRLIFT);
+        d_journal.close();
+        byte[] l_bytes = d_outputStream.toByteArray();
+
+        JournalReader l_reader = new JournalReader(new ByteArrayInputStream(Arrays.copyOf(l_bytes, l_bytes.length - 1)));
+        assertEquals(JournalEventType.MAP_LOADED, l_reader.next().getType());
+        assertEquals(JournalEventType.PLAYER_DEFINED, l_reader.next().getType());
+        assertNull(l_reader.next());
+        assertTrue(l_reader.isTruncated());
+    }
+
+    /**
+     * Tests that a stream not written by <code>EventJournal</code> is rejected.
+     *
+     * @throws IOException If the stream can not be read.
+     */
+    @Test(expected = InvalidGameException.class)
+    public void testInvalidHeaderIsRejected() throws IOException, InvalidGameException {
+        new JournalReader(new ByteArrayInputStream("{\"map\":1}".getBytes()));
+    }
+
+    /**
+     * Reads all the events of the journal written by the test case.
+     *
+     * @return List of the events.
+     * @throws UserCoreLogicException If the journal is invalid.
+     * @throws IOException            If the journal can not be read.
+     */
+    private List<JournalEvent> readAll() throws UserCoreLogicException, IOException {
+        List<JournalEvent> l_events = new ArrayList<>();
+        try (JournalReader l_reader = new JournalReader(new ByteArrayInputStream(d_outputStream.toByteArray()))) {
+            JournalEvent l_event;
+            while ((l_event = l_reader.next()) != null) {
+                l_events.add(l_event);
+            }
+        }
+        return l_events;
+    }
+}
@@ -0,0 +1,132 @@
+package com.APP.Project.UserCoreLogic.logger;
+
+import com.APP.Project.UserCoreLogic.constants.enums.LogCategory;
+import com.APP.Project.UserCoreLogic.constants.enums.LogLevel;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * This class tests that <code>LogEntryBuffer</code> builds and sends the entries only to the observers using them.
+ *
+ * @author Rikin Dipakkumar Chauhan
+ * @version 1.0
+ */
+public class LogEntryBufferTest {
+    private LogEntryBuffer d_logEntryBuffer;
+    private List<String> d_receivedMessages;
+    private Observer d_observer;
+
+    /**
+     * Attaches an observer using only the error entries of the orders.
+     */
+    @Before
+    public void before() {
+        d_logEntryBuffer = LogEntryBuffer.getApplicationLogger();
+        d_receivedMessages = new ArrayList<>();
+        d_observer = new Observer(d_logEntryBuffer) {
+            @Override
+            public void update(Observable p_observable) {
+                d_receivedMessages.add(((LogEntryBuffer) p_observable).getMessage());
+            }
+
+            @Override
+            public boolean isEnabled(LogLevel p_level, LogCategory p_category) {
+                return p_level.isAtLeast(LogLevel.ERROR) && p_category == LogCategory.ORDER;
+            }
+        };
+    }
+
+    /**
+     * Detaches the observer of the test case.
+     */
+    @After
+    public void after() {
+        d_logEntryBuffer.detach(d_observer);
+    }
+
+    /**
+     * Tests that the message of an entry no observer uses is not built.
+     */
+    @Test
+    public void testDisabledEntryIsNotBuilt() {
+        assertFalse(d_logEntryBuffer.isEnabled(LogLevel.DEBUG, LogCategory.ORDER));
+        d_logEntryBuffer.dataChanged(LogLevel.DEBUG, LogCategory.ORDER, "deploy", () -> {
+            throw new AssertionError("Message of a disabled entry was built.");
+        });
+        assertTrue(d_receivedMessages.isEmpty());
+    }
+
+    /**
+     * Tests that the observer receives only the entries it has enabled.
+     */
+    @Test
+    public void testObserverReceivesEnabledEntries() {
+        assertTrue(d_logEntryBuffer.isEnabled(LogLevel.ERROR, LogCategory.ORDER));
+        d_logEntryBuffer.dataChanged(LogLevel.ERROR, LogCategory.ORDER, "execute_order_error", () -> "Invalid order");
+        d_logEntryBuffer.dataChanged(LogLevel.ERROR, LogCategory.MAP_EDITOR, "error", () -> "Invalid map");
+        d_logEntryBuffer.dataChanged("deploy", "Deployed");
+        assertEquals(1, d_receivedMessages.size());
+        assertEquals("---execute_order_error---\nInvalid order\n", d_receivedMessages.get(0));
+    }
+
+    /**
+     * Tests that the entries written by two threads to their own channels reach only the observers of that channel,
+     * each entry in one piece.
+     *
+     * @throws InterruptedException If the test thread was interrupted.
+     */
+    @Test
+    public void testChannelsAreSeparate() throws InterruptedException {
+        LogEntryBuffer l_firstChannel = LogEntryBuffer.newChannel("game1_map1");
+        LogEntryBuffer l_secondChannel = LogEntryBuffer.newChannel("game2_map1");
+        assertNotSame(d_logEntryBuffer, l_firstChannel);
+        assertEquals("game1_map1", l_firstChannel.getChannelName());
+
+        List<String> l_firstMessages = new ArrayList<>();
+        List<String> l_secondMessages = new ArrayList<>();
+        new Observer(l_firstChannel) {
+            @Override
+            public void update(Observable p_observable) {
+                l_firstMessages.add(((LogEntryBuffer) p_observable).getMessage());
+            }
+        };
+        new Observer(l_secondChannel) {
+            @Override
+            public void update(Observable p_observable) {
+                l_secondMessages.add(((LogEntryBuffer) p_observable).getMessage());
+            }
+        };
+
+        Thread l_firstThread = new Thread(() -> {
+            for (int l_index = 0; l_index < 1000; l_index++) {
+                l_firstChannel.dataChanged("first", String.valueOf(l_index));
+            }
+        });
+        Thread l_secondThread = new Thread(() -> {
+            for (int l_index = 0; l_index < 1000; l_index++) {
+                l_secondChannel.dataChanged("second", String.valueOf(l_index));
+            }
+        });
+        l_firstThread.start();
+        l_secondThread.start();
+        l_firstThread.join();
+        l_secondThread.join();
+
+        assertEquals(1000, l_firstMessages.size());
+        assertEquals(1000, l_secondMessages.size());
+        for (int l_index = 0; l_index < 1000; l_index++) {
+            assertEquals("---first---\n" + l_index + "\n", l_firstMessages.get(l_index));
+            assertEquals("---second---\n" + l_index + "\n", l_secondMessages.get(l_index));
+        }
+        assertTrue(d_receivedMessages.isEmpty());
+    }
+}
@@ -0,0 +1,19 @@
+package com.APP.Project.UserCoreLogic.logger;
+
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+
+/**
+ * Test suite for the log messages and the game journal.
+ *
+ * @author Rikin Dipakkumar Chauhan
+ */
+@RunWith(Suite.class)
+@Suite.SuiteClasses({
+        AsyncLogSinkTest.class,
+        LogEntryBufferTest.class,
+        EventJournalTest.class
+})
+public class LoggerTestSuite {
+    // This class remains empty, it is used only as a holder for the above annotations
+}
@@ -19,7 +19,10 @@ import org.junit.runners.Suite;
         CountryAdapterTest.class,
         CountryNeighborAdapterTest.class,
         SaveMapAdapterTest.class,
-        EditMapAdapterTest.class
+        EditMapAdapterTest.class,
+        MappedMapLoaderTest.class,
+        MapTemplateCacheTest.class,
+        CompileMapServiceTest.class
 })
 public class MapEditorTestSuite {
     
@@ -0,0 +1,111 @@
+package com.APP.Project.UserCoreLogic.map_features;
+
+import com.APP.Project.Main;
+import com.APP.Project.UserCoreLogic.UserCoreLogic;
+import com.APP.Project.UserCoreLogic.game_entities.Country;
+import com.APP.Project.UserCoreLogic.map_features.adapters.EditMapService;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.net.URI;
+import java.net.URL;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that a map template creates the parsed map again, and that the cache finds the templates by the version of
+ * their files.
+ *
+ * @author Rikin Dipakkumar Chauhan
+ * @version 1.0
+ */
+public class MapTemplateCacheTest {
+    private static URL d_testFilePath;
+    private MapEditorEngine d_mapEditorEngine;
+
+    /**
+     * Temporary folder of the map files of the cache.
+     */
+    @Rule
+    public TemporaryFolder d_tempFolder = new TemporaryFolder();
+
+    /**
+     * Performs setup operations before the test class runs.
+     */
+    @BeforeClass
+    public static void beforeClass() {
+        Main l_application = new Main();
+        l_application.handleApplicationStartup();
+        UserCoreLogic.getGameEngine().initialise();
+        d_testFilePath = MapTemplateCacheTest.class.getClassLoader().getResource("map_files/solar.map");
+    }
+
+    /**
+     * Loads the map to take the templates from.
+     *
+     * @throws Exception If the map can not be loaded.
+     */
+    @Before
+    public void before() throws Exception {
+        d_mapEditorEngine = UserCoreLogic.getGameEngine().getMapEditorEngine();
+        new EditMapService().handleLoadMap(new URI(d_testFilePath.getPath()).getPath(), false);
+    }
+
+    /**
+     * Tests that each map created from the template is the parsed map, in the same order, with its own countries.
+     */
+    @Test
+    public void testTemplateCreatesSameMap() {
+        MapTemplate l_template = new MapTemplate(d_mapEditorEngine);
+        assertEquals(d_mapEditorEngine.getCountryList().size(), l_template.getCountryCount());
+
+        MapEditorEngine l_firstMap = new MapEditorEngine();
+        l_template.createMap(l_firstMap);
+        assertTrue(l_firstMap.toJSON().similar(d_mapEditorEngine.toJSON()));
+        for (int l_index = 0; l_index < l_firstMap.getCountryList().size(); l_index++) {
+            Country l_country = l_firstMap.getCountryList().get(l_index);
+            Country l_parsedCountry = d_mapEditorEngine.getCountryList().get(l_index);
+            assertEquals(l_parsedCountry.getCountryId(), l_country.getCountryId());
+            assertEquals(l_parsedCountry.getContinent().getContinentName(), l_country.getContinent().getContinentName());
+            assertNotSame(l_parsedCountry, l_country);
+        }
+
+        l_firstMap.getCountryList().get(0).setNumberOfArmies(5);
+        MapEditorEngine l_secondMap = new MapEditorEngine();
+        l_template.createMap(l_secondMap);
+        assertEquals(0, l_secondMap.getCountryList().get(0).getNumberOfArmies());
+    }
+
+    /**
+     * Tests that a changed file is parsed again, and that the template used least recently is evicted.
+     *
+     * @throws Exception If the files can not be created.
+     */
+    @Test
+    public void testCacheFindsCurrentVersionOfFile() throws Exception {
+        MapTemplateCache l_cache = new MapTemplateCache(2);
+        MapTemplate l_template = new MapTemplate(d_mapEditorEngine);
+        File l_firstFile = d_tempFolder.newFile("first.map");
+        File l_secondFile = d_tempFolder.newFile("second.map");
+        File l_thirdFile = d_tempFolder.newFile("third.map");
+
+        l_cache.put(l_firstFile, l_template);
+        l_cache.put(l_secondFile, l_template);
+        assertSame(l_template, l_cache.get(l_firstFile));
+        l_cache.put(l_thirdFile, l_template);
+        assertEquals(2, l_cache.size());
+        assertNull(l_cache.get(l_secondFile));
+        assertSame(l_template, l_cache.get(l_firstFile));
+
+        assertTrue(l_firstFile.setLastModified(l_firstFile.lastModified() - 60000));
+        assertNull(l_cache.get(l_firstFile));
+    }
+}
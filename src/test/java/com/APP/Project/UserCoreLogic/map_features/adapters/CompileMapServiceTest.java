@@ -0,0 +1,192 @@
+package com.APP.Project.UserCoreLogic.map_features.adapters;
+
+import com.APP.Project.Main;
+import com.APP.Project.UserCoreLogic.GameContext;
+import com.APP.Project.UserCoreLogic.GameEngine;
+import com.APP.Project.UserCoreLogic.UserCoreLogic;
+import com.APP.Project.UserCoreLogic.gamePlay.GamePlayEngine;
+import com.APP.Project.UserCoreLogic.game_entities.Continent;
+import com.APP.Project.UserCoreLogic.game_entities.Country;
+import com.APP.Project.UserCoreLogic.map_features.CompiledMapFile;
+import com.APP.Project.UserCoreLogic.map_features.MapEditorEngine;
+import com.APP.Project.UserCoreLogic.map_features.MapTemplate;
+import org.json.JSONObject;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests that a compiled map is loaded as the map parsed from its file, and only while it is newer than the file.
+ *
+ * @author Rikin Dipakkumar Chauhan
+ * @version 1.0
+ */
+public class CompileMapServiceTest {
+    private static URL d_testDominationFilePath;
+    private static URL d_testConquestFilePath;
+    private MapEditorEngine d_mapEditorEngine;
+
+    /**
+     * Temporary folder of the map files and their compiled maps.
+     */
+    @Rule
+    public TemporaryFolder d_tempFolder = new TemporaryFolder();
+
+    /**
+     * Performs setup operations before the test class runs.
+     */
+    @BeforeClass
+    public static void beforeClass() {
+        Main l_application = new Main();
+        l_application.handleApplicationStartup();
+        d_testDominationFilePath = CompileMapServiceTest.class.getClassLoader().getResource("map_files/solar.map");
+        d_testConquestFilePath = CompileMapServiceTest.class.getClassLoader().getResource("map_files/conquest1.map");
+    }
+
+    /**
+     * Gets the map editor engine of the application.
+     */
+    @Before
+    public void before() {
+        UserCoreLogic.getGameEngine().initialise();
+        d_mapEditorEngine = UserCoreLogic.getGameEngine().getMapEditorEngine();
+    }
+
+    /**
+     * Tests that the compiled Domination map is loaded in place of its file, which is not parsed any more.
+     *
+     * @throws Exception If the map can not be compiled or loaded.
+     */
+    @Test
+    public void testLoadCompiledDominationMap() throws Exception {
+        File l_mapFile = this.copyMap(d_testDominationFilePath, "solar.map");
+        new EditMapService().handleLoadMap(l_mapFile.getPath(), false);
+        JSONObject l_parsedMap = d_mapEditorEngine.toJSON();
+
+        File l_compiledFile = new CompileMapService().compileMap(l_mapFile.getPath());
+        assertEquals("solar.wzb", l_compiledFile.getName());
+        this.corruptOlderMap(l_mapFile, l_compiledFile);
+
+        new EditMapService().handleLoadMap(l_mapFile.getPath(), false);
+        assertTrue(d_mapEditorEngine.toJSON().similar(l_parsedMap));
+    }
+
+    /**
+     * Tests that the compiled Conquest map is loaded in place of its file, with its details.
+     *
+     * @throws Exception If the map can not be compiled or loaded.
+     */
+    @Test
+    public void testLoadCompiledConquestMap() throws Exception {
+        File l_mapFile = this.copyMap(d_testConquestFilePath, "conquest1.map");
+        new EditConquestMapService().loadConquestMap(l_mapFile.getPath(), false);
+        JSONObject l_parsedMap = d_mapEditorEngine.toJSON();
+        Map<String, String> l_parsedDetails = new HashMap<>(d_mapEditorEngine.getMapDetails());
+
+        File l_compiledFile = new CompileMapService().compileMap(l_mapFile.getPath());
+        this.corruptOlderMap(l_mapFile, l_compiledFile);
+
+        new EditConquestMapService().loadConquestMap(l_mapFile.getPath(), false);
+        assertTrue(d_mapEditorEngine.toJSON().similar(l_parsedMap));
+        assertEquals(l_parsedDetails, d_mapEditorEngine.getMapDetails());
+    }
+
+    /**
+     * Tests that the map file is parsed if its compiled map is older than the file or can not be read.
+     *
+     * @throws Exception If the map can not be compiled or loaded.
+     */
+    @Test
+    public void testStaleOrCorruptedCompiledMapIsIgnored() throws Exception {
+        File l_mapFile = this.copyMap(d_testDominationFilePath, "solar.map");
+        new EditMapService().handleLoadMap(l_mapFile.getPath(), false);
+        JSONObject l_parsedMap = d_mapEditorEngine.toJSON();
+
+        File l_compiledFile = new CompileMapService().compileMap(l_mapFile.getPath());
+        assertTrue(CompiledMapFile.isUpToDate(l_mapFile));
+        // An empty map compiled under the name of the map file, then made older than the file.
+        CompiledMapFile.write(new MapTemplate(new MapEditorEngine()), l_compiledFile);
+        assertTrue(l_compiledFile.setLastModified(l_mapFile.lastModified() - 60000));
+        assertFalse(CompiledMapFile.isUpToDate(l_mapFile));
+        new EditMapService().handleLoadMap(l_mapFile.getPath(), false);
+        assertTrue(d_mapEditorEngine.toJSON().similar(l_parsedMap));
+
+        Files.write(l_compiledFile.toPath(), "[continents]".getBytes(StandardCharsets.UTF_8));
+        assertTrue(l_compiledFile.setLastModified(l_mapFile.lastModified() + 60000));
+        try {
+            CompiledMapFile.read(l_compiledFile);
+            fail("A file which is not a compiled map was read.");
+        } catch (IOException p_ioException) {
+            // The map file is parsed instead.
+        }
+        new EditMapService().handleLoadMap(l_mapFile.getPath(), false);
+        assertTrue(d_mapEditorEngine.toJSON().similar(l_parsedMap));
+    }
+
+    /**
+     * Tests that compiling a map keeps the context bound to the thread and the serial numbers of the map being edited.
+     *
+     * @throws Exception If the map can not be compiled or loaded.
+     */
+    @Test
+    public void testCompileKeepsEditedMap() throws Exception {
+        File l_mapFile = this.copyMap(d_testDominationFilePath, "solar.map");
+        GameContext l_editorContext = new GameContext(new GameEngine(new MapEditorEngine(), new GamePlayEngine()));
+        l_editorContext.bind();
+        try {
+            new EditMapService().handleLoadMap(l_mapFile.getPath(), false);
+            int l_continentSerialNumber = Continent.d_SerialNumber;
+            int l_countrySerialNumber = Country.d_SerialNumber;
+
+            new CompileMapService().compileMap(this.copyMap(d_testConquestFilePath, "conquest1.map").getPath());
+            assertSame(l_editorContext, GameContext.current());
+            assertEquals(l_continentSerialNumber, Continent.d_SerialNumber);
+            assertEquals(l_countrySerialNumber, Country.d_SerialNumber);
+        } finally {
+            GameContext.unbind();
+        }
+    }
+
+    /**
+     * Copies the map of the resources to the temporary folder.
+     *
+     * @param p_resource Map of the resources.
+     * @param p_fileName Name of the copy.
+     * @return Value of the copy.
+     * @throws Exception If the map can not be copied.
+     */
+    private File copyMap(URL p_resource, String p_fileName) throws Exception {
+        File l_mapFile = new File(d_tempFolder.getRoot(), p_fileName);
+        Files.copy(new File(new URI(p_resource.getPath()).getPath()).toPath(), l_mapFile.toPath());
+        return l_mapFile;
+    }
+
+    /**
+     * Replaces the map file by text which can not be parsed, keeping it older than its compiled map.
+     *
+     * @param p_mapFile      The map file.
+     * @param p_compiledFile The compiled map.
+     * @throws IOException If the map file can not be written.
+     */
+    private void corruptOlderMap(File p_mapFile, File p_compiledFile) throws IOException {
+        Files.write(p_mapFile.toPath(), "[continents]\nnot a map\n".getBytes(StandardCharsets.UTF_8));
+        assertTrue(p_mapFile.setLastModified(p_compiledFile.lastModified() - 60000));
+    }
+}
@@ -2,6 +2,8 @@ package com.APP.Project.UserCoreLogic.map_features.adapters;
 
 import com.APP.Project.Main;
 import com.APP.Project.UserCoreLogic.UserCoreLogic;
+import com.APP.Project.UserCoreLogic.Container.CountryContainer;
+import com.APP.Project.UserCoreLogic.game_entities.Country;
 import com.APP.Project.UserCoreLogic.game_entities.Continent;
 import com.APP.Project.UserCoreLogic.exceptions.*;
 import org.junit.Before;
@@ -13,7 +15,11 @@ import java.net.URISyntaxException;
 import java.net.URL;
 import java.util.List;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 /**
  * This class contains test cases for the CountryAdapter class.
@@ -84,4 +90,24 @@ public class CountryAdapterTest {
         String l_responseStringRemoveOp = d_CountryService.remove("India");
         assertNotNull(l_responseStringRemoveOp);
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests that the added country can be found by its name and ID, and cannot be found once it is removed.
+     *
+     * @throws EntityNotFoundException if the specified entity is not found.
+     */
+    @Test
+    public void testCountryLookupAfterAddRemove() throws EntityNotFoundException {
+        CountryContainer l_countryRepository = new CountryContainer();
+        String l_continentName = d_continentList.get(0).getContinentName();
+        d_CountryService.add("India", l_continentName);
+
+        Country l_country = l_countryRepository.findFirstByCountryName("India");
+        assertEquals("India", l_country.getCountryName());
+        assertSame(l_country, l_countryRepository.findByCountryId(l_country.getCountryId()));
+
+        d_CountryService.remove("India");
+        assertTrue(l_countryRepository.findByCountryName("India").isEmpty());
+        assertNull(l_countryRepository.findByCountryId(l_country.getCountryId()));
+    }
+}
@@ -3,7 +3,9 @@ package com.APP.Project.UserCoreLogic.map_features.adapters;
 import com.APP.Project.Main;
 import com.APP.Project.UserCoreLogic.UserCoreLogic;
 import com.APP.Project.UserCoreLogic.exceptions.AbsentTagException;
+import com.APP.Project.UserCoreLogic.game_entities.Country;
 import com.APP.Project.UserCoreLogic.gamePlay.GamePlayEngine;
+import com.APP.Project.UserCoreLogic.map_features.MapEditorEngine;
 import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -11,6 +13,10 @@ import org.junit.Test;
 import java.net.URI;
 import java.net.URL;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
 /**
  * This class represents a test suite for the EditMapAdapter class.
  * It contains unit tests to verify the functionality of the EditMapAdapter class.
@@ -75,4 +81,26 @@ public class EditMapAdapterTest {
         String l_url = new URI(d_testCorrectFilePath.getPath()).getPath();
         d_editConquestMapService.loadConquestMap(l_url);
     }
-}
\ No newline at end of file
+
+    /**
+     * Test case to verify that the neighbours of the territories, including those defined later in the file, are the
+     * countries of the map.
+     *
+     * @throws Exception if an error occurs during the test execution.
+     */
+    @Test
+    public void testNeighboursAreCountriesOfMap() throws Exception {
+        String l_url = new URI(d_testCorrectFilePath.getPath()).getPath();
+        d_editConquestMapService.loadConquestMap(l_url);
+
+        MapEditorEngine l_mapEditorEngine = UserCoreLogic.getGameEngine().getMapEditorEngine();
+        Country l_firstCountry = l_mapEditorEngine.getCountryList().get(0);
+        assertEquals(Integer.valueOf(1), l_firstCountry.getCountryId());
+        assertFalse(l_firstCountry.getNeighbourCountries().isEmpty());
+        for (Country l_country : l_mapEditorEngine.getCountryList()) {
+            for (Country l_neighbourCountry : l_country.getNeighbourCountries()) {
+                assertSame(l_mapEditorEngine.findCountryByName(l_neighbourCountry.getCountryName()), l_neighbourCountry);
+            }
+        }
+    }
+}
@@ -3,13 +3,23 @@ package com.APP.Project.UserCoreLogic.map_features.adapters;
 import com.APP.Project.Main;
 import com.APP.Project.UserCoreLogic.UserCoreLogic;
 import com.APP.Project.UserCoreLogic.exceptions.AbsentTagException;
+import com.APP.Project.UserCoreLogic.game_entities.Country;
+import com.APP.Project.UserCoreLogic.map_features.MapEditorEngine;
 import org.junit.Before;
 import org.junit.BeforeClass;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.PrintWriter;
 import java.net.URI;
 import java.net.URL;
 
+import static org.junit.Assert.assertEquals;
+
 /**
  * This class contains unit tests for the LoadMapAdapter class.
  *
@@ -21,6 +31,12 @@ public class LoadMapAdapterTest {
     private static URL d_testCorruptedFilePath;
     private static URL d_testCorrectFilePath;
 
+    /**
+     * Temporary folder of the generated map files.
+     */
+    @Rule
+    public TemporaryFolder d_tempFolder = new TemporaryFolder();
+
     /**
      * Performs setup operations before the test class runs.
      */    
@@ -65,4 +81,38 @@ public class LoadMapAdapterTest {
         String l_url = new URI(d_testCorrectFilePath.getPath()).getPath();
         d_editMapService.handleLoadMap(l_url);
     }
+
+    /**
+     * Tests loading a large map: every country is added to its continent and gets the neighbours of its border line.
+     *
+     * @throws Exception If an exception occurs during the test.
+     */
+    @Test
+    public void testLoadLargeMap() throws Exception {
+        int l_countryCount = 50000;
+        File l_mapFile = d_tempFolder.newFile("large.map");
+        try (PrintWriter l_writer = new PrintWriter(new BufferedWriter(new FileWriter(l_mapFile)))) {
+            l_writer.println("[continents]");
+            for (int l_continentId = 1; l_continentId <= 100; l_continentId++) {
+                l_writer.println("Continent" + l_continentId + " " + l_continentId + " yellow ");
+            }
+            l_writer.println("[countries]");
+            for (int l_countryId = 1; l_countryId <= l_countryCount; l_countryId++) {
+                l_writer.println(l_countryId + " Country" + l_countryId + " " + (l_countryId % 100 + 1) + " 0 0");
+            }
+            l_writer.println("[borders]");
+            for (int l_countryId = 1; l_countryId <= l_countryCount; l_countryId++) {
+                l_writer.println(l_countryId + " " + (l_countryId % l_countryCount + 1) + " " + ((l_countryId + 1) % l_countryCount + 1));
+            }
+        }
+
+        d_editMapService.handleLoadMap(l_mapFile.getAbsolutePath(), false);
+        MapEditorEngine l_mapEditorEngine = UserCoreLogic.getGameEngine().getMapEditorEngine();
+        assertEquals(l_countryCount, l_mapEditorEngine.getCountryList().size());
+        Country l_lastCountry = l_mapEditorEngine.findCountryById(l_countryCount);
+        assertEquals("Country" + l_countryCount, l_lastCountry.getCountryName());
+        assertEquals(2, l_lastCountry.getNeighbourCountries().size());
+        assertEquals("Country1", l_lastCountry.getNeighbourCountries().get(0).getCountryName());
+        assertEquals("Country2", l_lastCountry.getNeighbourCountries().get(1).getCountryName());
+    }
 }
@@ -0,0 +1,97 @@
+package com.APP.Project.UserCoreLogic.map_features.adapters;
+
+import com.APP.Project.Main;
+import com.APP.Project.UserCoreLogic.UserCoreLogic;
+import com.APP.Project.UserCoreLogic.exceptions.AbsentTagException;
+import com.APP.Project.UserCoreLogic.map_features.MapEditorEngine;
+import org.json.JSONObject;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.net.URI;
+import java.net.URL;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * This class contains unit tests for the MappedMapLoader class.
+ *
+ * @author Rikin Dipakkumar Chauhan
+ * @version 1.0
+ */
+public class MappedMapLoaderTest {
+    private static URL d_testDominationFilePath;
+    private static URL d_testConquestFilePath;
+    private static URL d_testCorruptedFilePath;
+    private MapEditorEngine d_mapEditorEngine;
+
+    /**
+     * Performs setup operations before the test class runs.
+     */
+    @BeforeClass
+    public static void beforeClass() {
+        Main l_application = new Main();
+        l_application.handleApplicationStartup();
+        UserCoreLogic.getGameEngine().initialise();
+        d_testDominationFilePath = MappedMapLoaderTest.class.getClassLoader().getResource("map_files/solar.map");
+        d_testConquestFilePath = MappedMapLoaderTest.class.getClassLoader().getResource("map_files/conquest1.map");
+        d_testCorruptedFilePath = MappedMapLoaderTest.class.getClassLoader().getResource("test_map_files/test_blank_data_fields.map");
+    }
+
+    /**
+     * Performs setup operations before each test method runs.
+     */
+    @Before
+    public void before() {
+        d_mapEditorEngine = UserCoreLogic.getGameEngine().getMapEditorEngine();
+        d_mapEditorEngine.initialise();
+    }
+
+    /**
+     * Tests that a Domination map is loaded as the same map as by <code>EditMapService</code>.
+     *
+     * @throws Exception If an exception occurs during the test.
+     */
+    @Test
+    public void testLoadDominationMap() throws Exception {
+        String l_url = new URI(d_testDominationFilePath.getPath()).getPath();
+        new EditMapService().handleLoadMap(l_url, false);
+        JSONObject l_expectedJSONObject = d_mapEditorEngine.toJSON();
+
+        d_mapEditorEngine.initialise();
+        new MappedMapLoader(d_mapEditorEngine).loadDominationMap(l_url);
+        assertTrue(d_mapEditorEngine.toJSON().similar(l_expectedJSONObject));
+    }
+
+    /**
+     * Tests that a Conquest map is loaded with the same continents, territories and neighbours as by
+     * <code>EditConquestMapService</code>.
+     *
+     * @throws Exception If an exception occurs during the test.
+     */
+    @Test
+    public void testLoadConquestMap() throws Exception {
+        String l_url = new URI(d_testConquestFilePath.getPath()).getPath();
+        new EditConquestMapService().loadConquestMap(l_url, false);
+        JSONObject l_expectedJSONObject = d_mapEditorEngine.toJSON();
+        String l_expectedAuthor = d_mapEditorEngine.getMapDetails().get("author");
+
+        d_mapEditorEngine.initialise();
+        new MappedMapLoader(d_mapEditorEngine).loadConquestMap(l_url);
+        assertTrue(d_mapEditorEngine.toJSON().similar(l_expectedJSONObject));
+        assertEquals(l_expectedAuthor, d_mapEditorEngine.getMapDetails().get("author"));
+    }
+
+    /**
+     * Tests that a map with a blank field is rejected.
+     *
+     * @throws Exception If an exception occurs during the test.
+     */
+    @Test(expected = AbsentTagException.class)
+    public void testLoadCorruptedMap() throws Exception {
+        String l_url = new URI(d_testCorruptedFilePath.getPath()).getPath();
+        new MappedMapLoader(d_mapEditorEngine).loadDominationMap(l_url);
+    }
+}